@@ -17,6 +17,8 @@ package de.cuioss.test.jsf.component;
 
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.state.PartialStateProfiler;
+import de.cuioss.test.jsf.state.PartialStateReport;
 import de.cuioss.test.valueobjects.contract.BeanPropertyContractImpl;
 import de.cuioss.test.valueobjects.junit5.EnableGeneratorRegistry;
 import de.cuioss.test.valueobjects.objects.ConfigurationCallBackHandler;
@@ -57,6 +59,11 @@ import java.util.List;
  * You can access pre-configured instance by calling
  * {@link #anyComponent()}.
  * </p>
+ * <p>
+ * The support of partial state saving can be verified by calling
+ * {@link #assertPartialStateDeltaAtMost(FacesContext, long)} from a concrete
+ * test.
+ * </p>
  *
  * @param <T> identifying the type to be tested, at least an {@link UIComponent}
  * @author Oliver Wolff
@@ -118,4 +125,31 @@ public abstract class AbstractComponentTest<T extends UIComponent>
         return getInstantiator().newInstanceMinimal();
     }
 
+    /**
+     * Profiles the delta saved by {@link #anyComponent()} after
+     * {@link UIComponent#markInitialState()}, with the generated values of the
+     * configured properties applied.
+     *
+     * @param facesContext to be used for saving the state
+     * @return the created report
+     */
+    protected PartialStateReport profilePartialState(final FacesContext facesContext) {
+        return PartialStateProfiler.profile(this::anyComponent, filteredMetadata, facesContext);
+    }
+
+    /**
+     * Asserts that the component saves nothing after
+     * {@link UIComponent#markInitialState()} as long as nothing changes, and that
+     * the delta with all configured properties changed does not exceed the given
+     * budget.
+     *
+     * @param facesContext to be used for saving the state
+     * @param budget       in bytes
+     */
+    protected void assertPartialStateDeltaAtMost(final FacesContext facesContext, final long budget) {
+        var report = profilePartialState(facesContext);
+        report.assertNoStateWhenUnchanged();
+        report.assertDeltaBytesAtMost(budget);
+    }
+
 }
@@ -22,7 +22,6 @@ import de.cuioss.tools.logging.CuiLogger;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
 import lombok.Getter;
-import org.apache.myfaces.test.el.MockValueExpression;
 
 import java.util.List;
 
@@ -100,7 +99,9 @@ public class ValueExpressionPropertyContract<T extends UIComponent> implements T
         final UIComponent target = getInstantiator().newInstanceMinimal();
 
         for (final PropertySupport support : supportList) {
-            var expression = new MockValueExpression(checkManagedBeanKey(support.getName()),
+            // Created by the application, so a real expression language is used if enabled
+            var expression = facesContext.getApplication().getExpressionFactory().createValueExpression(
+                facesContext.getELContext(), checkManagedBeanKey(support.getName()),
                 support.getPropertyMetadata().resolveActualClass());
             target.setValueExpression(support.getName(), expression);
             expression.setValue(facesContext.getELContext(), support.generateTestValue());
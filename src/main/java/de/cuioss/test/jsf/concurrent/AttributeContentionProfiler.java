@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in profiler for the contention on scoped attributes, set on a
+ * {@link ConcurrentAttributeMap}, e.g. via
+ * {@link de.cuioss.test.jsf.mocks.CuiMockHttpSession#setContentionProfiler(AttributeContentionProfiler)}.
+ * It records per scope and key
+ * <ul>
+ * <li>the number of reads and writes and</li>
+ * <li>the number of overlaps, saying accesses starting while another access to
+ * the same key is in progress.</li>
+ * </ul>
+ * In addition, {@link #startMonitorProfiling(Class...)} records the time threads
+ * are blocked entering a monitor of the given classes, e.g. user code
+ * synchronizing on the session, using the JFR event
+ * {@value #MONITOR_ENTER_EVENT}.
+ *
+ * <pre>
+ * var profiler = new AttributeContentionProfiler();
+ * session.setContentionProfiler(profiler);
+ * profiler.startMonitorProfiling(CuiMockHttpSession.class);
+ * // run concurrent requests
+ * profiler.stopMonitorProfiling();
+ * LOGGER.info(profiler.createSummary());
+ * </pre>
+ *
+ * @author Oliver Wolff
+ */
+public final class AttributeContentionProfiler {
+
+    /** The JFR event recorded for blocked monitor entries. */
+    public static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+
+    private final Map<AttributeKey, KeyStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> blockedNanos = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> blockedEntries = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    /**
+     * Records a single access while executing it.
+     *
+     * @param scope     of the attribute
+     * @param name      of the attribute
+     * @param write     whether the access modifies the attribute
+     * @param operation the actual access
+     * @param <T>       the result type
+     * @return the result of the operation
+     */
+    <T> T record(final String scope, final String name, final boolean write, final Supplier<T> operation) {
+        var key = statistics.computeIfAbsent(new AttributeKey(scope, name), k -> new KeyStatistics());
+        (write ? key.writes : key.reads).increment();
+        if (key.inFlight.getAndIncrement() > 0) {
+            key.overlaps.increment();
+        }
+        try {
+            return operation.get();
+        } finally {
+            key.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Starts recording the time blocked on monitors of the given classes.
+     *
+     * @param monitorClasses whose monitors are of interest, at least one
+     * @throws IllegalStateException if already started or Flight Recorder is not
+     *                               available
+     */
+    public synchronized void startMonitorProfiling(final Class<?>... monitorClasses) {
+        if (monitorClasses.length == 0) {
+            throw new IllegalArgumentException("At least one monitor class must be given");
+        }
+        if (null != recordingStream) {
+            throw new IllegalStateException("Monitor profiling has already been started");
+        }
+        Set<String> names = Arrays.stream(monitorClasses).map(Class::getName).collect(Collectors.toSet());
+        var stream = new RecordingStream();
+        stream.enable(MONITOR_ENTER_EVENT).withThreshold(Duration.ZERO);
+        stream.onEvent(MONITOR_ENTER_EVENT, event -> {
+            RecordedClass monitorClass = event.getClass("monitorClass");
+            if (null != monitorClass && names.contains(monitorClass.getName())) {
+                blockedEntries.computeIfAbsent(monitorClass.getName(), k -> new LongAdder()).increment();
+                blockedNanos.computeIfAbsent(monitorClass.getName(), k -> new LongAdder())
+                    .add(event.getDuration().toNanos());
+            }
+        });
+        stream.startAsync();
+        recordingStream = stream;
+    }
+
+    /**
+     * Stops recording the time blocked on monitors, after all recorded events have
+     * been consumed. Does nothing if not started.
+     */
+    public synchronized void stopMonitorProfiling() {
+        if (null != recordingStream) {
+            recordingStream.stop();
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    /**
+     * @param monitorClass as given to {@link #startMonitorProfiling(Class...)}
+     * @return the time threads have been blocked entering monitors of the given
+     *         class
+     */
+    public long getBlockedNanos(final Class<?> monitorClass) {
+        var nanos = blockedNanos.get(monitorClass.getName());
+        return null == nanos ? 0 : nanos.sum();
+    }
+
+    /**
+     * @param monitorClass as given to {@link #startMonitorProfiling(Class...)}
+     * @return the number of blocked entries into monitors of the given class
+     */
+    public long getBlockedEntries(final Class<?> monitorClass) {
+        var entries = blockedEntries.get(monitorClass.getName());
+        return null == entries ? 0 : entries.sum();
+    }
+
+    /**
+     * @return the recorded accesses, the most accessed first
+     */
+    public List<AttributeAccess> getAccesses() {
+        return statistics.entrySet().stream()
+            .map(entry -> new AttributeAccess(entry.getKey().scope(), entry.getKey().name(),
+                entry.getValue().reads.sum(), entry.getValue().writes.sum(), entry.getValue().overlaps.sum()))
+            .sorted(Comparator.comparingLong(AttributeAccess::total).reversed()).toList();
+    }
+
+    /**
+     * @param scope of the attribute, e.g. {@code session}
+     * @param name  of the attribute
+     * @return the recorded accesses of the given attribute, if any
+     */
+    public Optional<AttributeAccess> getAccess(final String scope, final String name) {
+        return getAccesses().stream().filter(access -> access.scope().equals(scope) && access.name().equals(name))
+            .findFirst();
+    }
+
+    /**
+     * Discards all recorded accesses and blocked times.
+     */
+    public void reset() {
+        statistics.clear();
+        blockedNanos.clear();
+        blockedEntries.clear();
+    }
+
+    /**
+     * @return a human-readable table of the accesses and blocked times
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("%10s %10s %10s  attribute%n".formatted("reads", "writes", "overlaps"));
+        getAccesses().forEach(access -> builder.append("%10d %10d %10d  %s:%s%n".formatted(access.reads(),
+            access.writes(), access.overlaps(), access.scope(), access.name())));
+        blockedNanos.forEach((monitorClass, nanos) -> builder.append("Blocked on %s: %s entries, %s ms%n"
+            .formatted(monitorClass, blockedEntries.get(monitorClass).sum(), nanos.sum() / 1_000_000)));
+        return builder.toString();
+    }
+
+    /**
+     * The recorded accesses of a single attribute.
+     *
+     * @param scope    of the attribute, e.g. {@code session}
+     * @param name     of the attribute
+     * @param reads    the number of reads
+     * @param writes   the number of writes, including removals
+     * @param overlaps the number of accesses overlapping another one
+     */
+    public record AttributeAccess(String scope, String name, long reads, long writes, long overlaps) {
+
+        /**
+         * @return the sum of reads and writes
+         */
+        public long total() {
+            return reads + writes;
+        }
+    }
+
+    private record AttributeKey(String scope, String name) {
+    }
+
+    private static final class KeyStatistics {
+
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder overlaps = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Thread-safe attribute storage of the scoped mocks, like
+ * {@link de.cuioss.test.jsf.mocks.CuiMockHttpSession},
+ * {@link de.cuioss.test.jsf.mocks.CuiMockServletContext} and the view map of
+ * {@link de.cuioss.test.jsf.mocks.CuiMockUIViewRoot}, backed by a
+ * {@link ConcurrentHashMap}.
+ * <p>
+ * In contrast to the {@link ConcurrentHashMap}, it behaves like the scope maps of
+ * a container: Putting a {@code null} value removes the attribute and looking up
+ * a {@code null} key returns {@code null}. Iteration is weakly consistent and
+ * never throws a {@link java.util.ConcurrentModificationException}.
+ * </p>
+ * <p>
+ * Accesses by key are recorded if an {@link AttributeContentionProfiler} is set,
+ * including writes via {@link Entry#setValue(Object)} and removals via the
+ * iterator of the {@link #entrySet()}. {@link #containsKey(Object)} is not
+ * recorded, as it does not access the value.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class ConcurrentAttributeMap extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> delegate = new ConcurrentHashMap<>();
+
+    /** The scope used for recording, e.g. {@code session}. */
+    @Getter
+    private final String scope;
+
+    /** Records the accesses if set, may be null. */
+    @Getter
+    @Setter
+    private volatile AttributeContentionProfiler profiler;
+
+    /**
+     * @param scope used for recording, must not be null
+     */
+    public ConcurrentAttributeMap(final String scope) {
+        this.scope = requireNonNull(scope, "scope must not be null");
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        var current = profiler;
+        if (null == current) {
+            return delegate.get(name);
+        }
+        return current.record(scope, name, false, () -> delegate.get(name));
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String name && delegate.containsKey(name);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        requireNonNull(key, "key must not be null");
+        if (null == value) {
+            return remove(key);
+        }
+        var current = profiler;
+        if (null == current) {
+            return delegate.put(key, value);
+        }
+        return current.record(scope, key, true, () -> delegate.put(key, value));
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        var current = profiler;
+        if (null == current) {
+            return delegate.remove(name);
+        }
+        return current.record(scope, name, true, () -> delegate.remove(name));
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * View of the entries routing modifications through the map, so that they are
+     * recorded and a {@code null} value removes the attribute.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            var entries = delegate.entrySet().iterator();
+            return new Iterator<>() {
+
+                private String lastKey;
+
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    var next = entries.next();
+                    lastKey = next.getKey();
+                    return new AttributeEntry(next.getKey(), next.getValue());
+                }
+
+                @Override
+                public void remove() {
+                    if (null == lastKey) {
+                        throw new IllegalStateException("next() has not been called");
+                    }
+                    ConcurrentAttributeMap.this.remove(lastKey);
+                    lastKey = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+    }
+
+    private final class AttributeEntry extends SimpleEntry<String, Object> {
+
+        @Serial
+        private static final long serialVersionUID = 8217301586924207517L;
+
+        AttributeEntry(final String key, final Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The result of {@link ConcurrentRequestSimulator}: Throughput, latency
+ * percentiles and the failed requests.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode
+@ToString
+public final class ConcurrentRequestReport {
+
+    /** The number of simulated requests. */
+    @Getter
+    private final int requests;
+
+    /** The time from starting the first until finishing the last request. */
+    @Getter
+    private final long wallNanos;
+
+    private final long[] latencies;
+
+    /** The failed requests in the order of their failure. */
+    @Getter
+    private final List<Failure> failures;
+
+    ConcurrentRequestReport(final int requests, final long wallNanos, final long[] latencies,
+        final List<Failure> failures) {
+        this.requests = requests;
+        this.wallNanos = wallNanos;
+        this.latencies = latencies.clone();
+        Arrays.sort(this.latencies);
+        this.failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return the finished requests per second
+     */
+    public double getThroughputPerSecond() {
+        return wallNanos == 0 ? 0 : requests * 1_000_000_000.0 / wallNanos;
+    }
+
+    /**
+     * @param percentile between 0 (exclusive) and 100 (inclusive), e.g. 99
+     * @return the latency of the given percentile using the nearest-rank method
+     */
+    public long getLatencyNanos(final double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100], but was " + percentile);
+        }
+        var rank = (int) Math.ceil(percentile / 100 * latencies.length);
+        return latencies[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * @return the longest latency
+     */
+    public long getMaxLatencyNanos() {
+        return latencies[latencies.length - 1];
+    }
+
+    /**
+     * @return the number of failures per exception type
+     */
+    public Map<String, Long> getFailuresByType() {
+        return failures.stream().collect(Collectors.groupingBy(failure -> failure.cause().getClass().getName(),
+            TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * @throws AssertionFailedError with the first failure as cause, if any request
+     *                              has failed
+     */
+    public void assertNoFailures() {
+        if (!failures.isEmpty()) {
+            var first = failures.getFirst();
+            throw new AssertionFailedError("%s of %s requests failed %s, first: request %s: %s".formatted(
+                failures.size(), requests, getFailuresByType(), first.index(), first.cause()), first.cause());
+        }
+    }
+
+    /**
+     * @return a human-readable summary
+     */
+    public String createSummary() {
+        return String.format(Locale.ROOT,
+            "%d requests in %.3f ms, %.1f requests/s, latency p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, "
+                + "max %.3f ms, failures %s",
+            requests, millis(wallNanos), getThroughputPerSecond(), millis(getLatencyNanos(50)),
+            millis(getLatencyNanos(90)), millis(getLatencyNanos(99)), millis(getMaxLatencyNanos()),
+            getFailuresByType());
+    }
+
+    private static double millis(final long nanoseconds) {
+        return nanoseconds / 1_000_000.0;
+    }
+
+    /**
+     * A failed request.
+     *
+     * @param index of the request
+     * @param cause thrown by the request
+     */
+    public record Failure(int index, Throwable cause) {
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import de.cuioss.test.jsf.concurrent.ConcurrentRequestReport.Failure;
+import de.cuioss.test.jsf.mocks.CuiMockHttpServletRequest;
+import de.cuioss.test.jsf.mocks.CuiMockUIViewRoot;
+import jakarta.faces.FactoryFinder;
+import jakarta.faces.application.Application;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.lifecycle.Lifecycle;
+import jakarta.faces.lifecycle.LifecycleFactory;
+import jakarta.faces.render.RenderKitFactory;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.myfaces.test.mock.MockExternalContext;
+import org.apache.myfaces.test.mock.MockFacesContext;
+import org.apache.myfaces.test.mock.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Simulates concurrent requests against the {@link Application} and
+ * {@link ServletContext} of a configured environment, usually the
+ * {@link FacesContext} of the test. Each request runs on its own virtual thread
+ * with its own {@link MockFacesContext}, being the current instance of that
+ * thread, {@link CuiMockHttpServletRequest}, response and
+ * {@link CuiMockUIViewRoot}, using the locale of the template's view-root. The
+ * session is created per request on demand, unless a
+ * {@link #setSharedSession(HttpSession)} is set.
+ *
+ * <pre>
+ * var report = new ConcurrentRequestSimulator(facesContext).run(1_000, (index, context) -&gt; {
+ *     var converter = context.getApplication().createConverter(LocalDate.class);
+ *     converter.getAsObject(context, null, "2024-01-0" + (index % 9 + 1));
+ * });
+ * report.assertNoFailures();
+ * LOGGER.info(report.createSummary());
+ * </pre>
+ *
+ * @author Oliver Wolff
+ */
+public final class ConcurrentRequestSimulator {
+
+    /** The view-id of the view-root created for each request. */
+    public static final String VIEW_ID = "/viewId";
+
+    private final Application application;
+
+    private final ServletContext servletContext;
+
+    private final Lifecycle lifecycle;
+
+    private final Locale locale;
+
+    /** Shared by all requests if set, defaults to {@code null}. */
+    @Getter
+    @Setter
+    private HttpSession sharedSession;
+
+    /** The maximum number of requests in progress at once, {@code 0} for unbounded. */
+    @Getter
+    @Setter
+    private int maxConcurrency;
+
+    /** The time all requests must have finished in, defaults to one minute. */
+    @Getter
+    @Setter
+    private Duration timeout = Duration.ofMinutes(1);
+
+    /**
+     * @param template providing {@link Application} and {@link ServletContext},
+     *                 must not be null
+     */
+    public ConcurrentRequestSimulator(final FacesContext template) {
+        requireNonNull(template, "template must not be null");
+        this.application = requireNonNull(template.getApplication(), "template must provide an application");
+        this.servletContext = (ServletContext) requireNonNull(template.getExternalContext().getContext(),
+            "template must provide a servlet context");
+        this.lifecycle = ((LifecycleFactory) FactoryFinder.getFactory(FactoryFinder.LIFECYCLE_FACTORY))
+            .getLifecycle(LifecycleFactory.DEFAULT_LIFECYCLE);
+        var templateViewRoot = template.getViewRoot();
+        this.locale = null == templateViewRoot ? null : templateViewRoot.getLocale();
+    }
+
+    /**
+     * Runs the given number of requests, all started at once.
+     *
+     * @param requests the number of requests, at least 1
+     * @param request  executed for each request, must not be null
+     * @return the created report
+     * @throws IllegalStateException if the requests have not finished within the
+     *                               {@link #getTimeout()}
+     */
+    public ConcurrentRequestReport run(final int requests, final SimulatedRequest request) {
+        if (requests < 1) {
+            throw new IllegalArgumentException("requests must be at least 1, but was " + requests);
+        }
+        requireNonNull(request, "request must not be null");
+        var latencies = new AtomicLongArray(requests);
+        Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+        var permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        var start = new CountDownLatch(1);
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        long startNanos;
+        try {
+            for (var index = 0; index < requests; index++) {
+                var current = index;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        if (null != permits) {
+                            permits.acquire();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.add(new Failure(current, e));
+                        return;
+                    }
+                    try {
+                        latencies.set(current, execute(current, request, failures));
+                    } finally {
+                        if (null != permits) {
+                            permits.release();
+                        }
+                    }
+                });
+            }
+            startNanos = System.nanoTime();
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        awaitTermination(executor);
+        var wallNanos = System.nanoTime() - startNanos;
+        var latencyValues = new long[requests];
+        for (var index = 0; index < requests; index++) {
+            latencyValues[index] = latencies.get(index);
+        }
+        return new ConcurrentRequestReport(requests, wallNanos, latencyValues, List.copyOf(failures));
+    }
+
+    private long execute(final int index, final SimulatedRequest request, final Queue<Failure> failures) {
+        var facesContext = createFacesContext();
+        var started = System.nanoTime();
+        try {
+            request.execute(index, facesContext);
+        } catch (Exception | AssertionError e) {
+            failures.add(new Failure(index, e));
+        } finally {
+            facesContext.release();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private MockFacesContext createFacesContext() {
+        var servletRequest = new CuiMockHttpServletRequest();
+        servletRequest.setServletContext(servletContext);
+        if (null != sharedSession) {
+            servletRequest.setHttpSession(sharedSession);
+        }
+        var externalContext = new MockExternalContext(servletContext, servletRequest, new MockHttpServletResponse());
+        // Registers itself as the current instance of this thread
+        var facesContext = new MockFacesContext(externalContext, lifecycle);
+        facesContext.setApplication(application);
+        var viewRoot = new CuiMockUIViewRoot();
+        viewRoot.setViewId(VIEW_ID);
+        viewRoot.setRenderKitId(RenderKitFactory.HTML_BASIC_RENDER_KIT);
+        if (null != locale) {
+            viewRoot.setLocale(locale);
+        }
+        facesContext.setViewRoot(viewRoot);
+        return facesContext;
+    }
+
+    private void awaitTermination(final ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+                throw new IllegalStateException("Requests have not finished within " + timeout);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the requests", e);
+        }
+    }
+
+    /**
+     * A single simulated request, e.g. rendering a component, converting a value
+     * or invoking an action.
+     */
+    @FunctionalInterface
+    public interface SimulatedRequest {
+
+        /**
+         * @param index        of the request, starting with 0
+         * @param facesContext of the request, being the current instance
+         * @throws Exception recorded as failure of the request
+         */
+        @SuppressWarnings("java:S112") // owolff: Requests may throw anything
+        void execute(int index, FacesContext facesContext) throws Exception;
+    }
+}
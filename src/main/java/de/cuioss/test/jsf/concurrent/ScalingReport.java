@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The result of {@link SharedInstanceVerifier#verifyScaling(int, int, List)}:
+ * One {@link SharedInstanceReport} per number of threads, ascending.
+ *
+ * @param levels the reports per number of threads, the first one with a single
+ *               thread
+ * @author Oliver Wolff
+ */
+public record ScalingReport(List<SharedInstanceReport> levels) {
+
+    /**
+     * Defensive copy
+     */
+    public ScalingReport {
+        levels = List.copyOf(levels);
+        if (levels.isEmpty()) {
+            throw new IllegalArgumentException("At least one level must be given");
+        }
+    }
+
+    /**
+     * @param level one of {@link #levels()}
+     * @return the throughput of the given level relative to the single-threaded
+     *         one, ideally equal to its number of threads
+     */
+    public double getSpeedup(final SharedInstanceReport level) {
+        var base = levels.getFirst().getThroughputPerSecond();
+        return base == 0 ? 0 : level.getThroughputPerSecond() / base;
+    }
+
+    /**
+     * Asserts that no level has diverged from the single-threaded baseline.
+     */
+    public void assertNoDivergence() {
+        levels.forEach(SharedInstanceReport::assertNoDivergence);
+    }
+
+    /**
+     * @return a human-readable table of throughput and speedup per number of
+     *         threads
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("%8s %15s %8s %12s%n".formatted("threads", "operations/s", "speedup",
+            "divergences"));
+        levels.forEach(level -> builder.append(String.format(Locale.ROOT, "%8d %15.1f %8.2f %12d%n",
+            level.getThreads(), level.getThroughputPerSecond(), getSpeedup(level), level.getDivergenceCount())));
+        return builder.toString();
+    }
+}
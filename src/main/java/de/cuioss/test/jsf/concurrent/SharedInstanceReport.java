@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The result of {@link SharedInstanceVerifier}: The divergences from the
+ * single-threaded baseline and the throughput per thread.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode
+@ToString
+public final class SharedInstanceReport {
+
+    /** The number of concurrent threads. */
+    @Getter
+    private final int threads;
+
+    /** The number of operations executed by all threads together. */
+    @Getter
+    private final long operations;
+
+    /** The time from starting the first until finishing the last thread. */
+    @Getter
+    private final long wallNanos;
+
+    /** The operations per second of each thread. */
+    @Getter
+    private final List<Double> threadThroughput;
+
+    /** The number of all divergences from the baseline. */
+    @Getter
+    private final long divergenceCount;
+
+    /** The divergences from the baseline, limited to the first 100. */
+    @Getter
+    private final List<Divergence> divergences;
+
+    SharedInstanceReport(final int threads, final long operations, final long wallNanos,
+        final List<Double> threadThroughput, final long divergenceCount, final List<Divergence> divergences) {
+        this.threads = threads;
+        this.operations = operations;
+        this.wallNanos = wallNanos;
+        this.threadThroughput = List.copyOf(threadThroughput);
+        this.divergenceCount = divergenceCount;
+        this.divergences = List.copyOf(divergences);
+    }
+
+    /**
+     * @return the operations per second of all threads together
+     */
+    public double getThroughputPerSecond() {
+        return wallNanos == 0 ? 0 : operations * 1_000_000_000.0 / wallNanos;
+    }
+
+    /**
+     * @throws AssertionFailedError listing the first divergences, if any
+     */
+    public void assertNoDivergence() {
+        if (divergenceCount > 0) {
+            throw new AssertionFailedError("Shared instance is not thread-safe, %s divergences with %s threads:%n%s"
+                .formatted(divergenceCount, threads, divergences.stream().limit(10).map(Divergence::toString)
+                    .collect(Collectors.joining(System.lineSeparator()))));
+        }
+    }
+
+    /**
+     * @return a human-readable summary including the throughput per thread
+     */
+    public String createSummary() {
+        return String.format(Locale.ROOT, "%d threads, %d operations, %.1f operations/s, per thread: %s, "
+            + "divergences: %d", threads, operations, getThroughputPerSecond(),
+            threadThroughput.stream().map(value -> String.format(Locale.ROOT, "%.1f", value))
+                .collect(Collectors.joining(", ")),
+            divergenceCount);
+    }
+
+    /**
+     * An outcome differing from the baseline.
+     *
+     * @param thread    the index of the thread
+     * @param iteration in which the divergence occurred
+     * @param replay    the name of the replayed operation
+     * @param expected  the outcome of the baseline
+     * @param actual    the diverging outcome
+     */
+    public record Divergence(int thread, int iteration, String replay, String expected, String actual) {
+
+        @Override
+        public String toString() {
+            return "thread %s, iteration %s, %s: expected <%s> but was <%s>".formatted(thread, iteration, replay,
+                expected, actual);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import de.cuioss.test.jsf.concurrent.SharedInstanceReport.Divergence;
+import jakarta.faces.application.FacesMessage;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.ConverterException;
+import jakarta.faces.validator.ValidatorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Verifies that a single instance shared across requests, like a converter,
+ * validator or renderer, behaves the same under concurrent access. First the
+ * outcome of each {@link Replay} is recorded within a single request as
+ * baseline. Then each thread, using its own {@link FacesContext} created by
+ * {@link ConcurrentRequestSimulator}, replays all of them repeatedly. Every
+ * outcome differing from the baseline, be it another result or an unexpected
+ * exception, is reported as {@link Divergence}.
+ * <p>
+ * Results are compared using {@link Objects#deepEquals(Object, Object)}, so
+ * arrays are compared by content, unless the {@link Replay} defines its own
+ * {@link Replay#equivalence()}. Exceptions are compared by type and, for
+ * {@link ConverterException} and {@link ValidatorException}, by the summary of
+ * their {@link FacesMessage}.
+ * </p>
+ * <p>
+ * All divergences are counted, only the first 100 are recorded in detail.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class SharedInstanceVerifier {
+
+    private static final int MAX_RECORDED_DIVERGENCES = 100;
+
+    private final FacesContext template;
+
+    /**
+     * @param template providing application and servlet context, must not be
+     *                 null
+     */
+    public SharedInstanceVerifier(final FacesContext template) {
+        this.template = requireNonNull(template, "template must not be null");
+    }
+
+    /**
+     * @param threads    the number of threads, at least 1
+     * @param iterations the number of times each thread replays all given
+     *                   replays, at least 1
+     * @param replays    the operations on the shared instance, must not be empty
+     * @return the created report
+     */
+    public SharedInstanceReport verify(final int threads, final int iterations, final List<Replay> replays) {
+        if (threads < 1 || iterations < 1) {
+            throw new IllegalArgumentException("threads and iterations must be at least 1, but were %s and %s"
+                .formatted(threads, iterations));
+        }
+        requireNonNull(replays, "replays must not be null");
+        if (replays.isEmpty()) {
+            throw new IllegalArgumentException("At least one replay must be given");
+        }
+        var baseline = createBaseline(replays);
+
+        Queue<Divergence> divergences = new ConcurrentLinkedQueue<>();
+        var divergenceCount = new AtomicLong();
+        var threadNanos = new AtomicLongArray(threads);
+        var simulator = new ConcurrentRequestSimulator(template);
+        var report = simulator.run(threads, (thread, facesContext) -> {
+            var started = System.nanoTime();
+            for (var iteration = 0; iteration < iterations; iteration++) {
+                for (var index = 0; index < replays.size(); index++) {
+                    var replay = replays.get(index);
+                    var outcome = Outcome.of(replay, facesContext);
+                    if (!baseline.get(index).matches(outcome, replay.equivalence())
+                        && divergenceCount.incrementAndGet() <= MAX_RECORDED_DIVERGENCES) {
+                        divergences.add(new Divergence(thread, iteration, replay.name(),
+                            baseline.get(index).toString(), outcome.toString()));
+                    }
+                }
+            }
+            threadNanos.set(thread, System.nanoTime() - started);
+        });
+        report.assertNoFailures();
+
+        List<Double> throughput = new ArrayList<>(threads);
+        long operations = (long) iterations * replays.size();
+        for (var thread = 0; thread < threads; thread++) {
+            throughput.add(operations * 1_000_000_000.0 / Math.max(1, threadNanos.get(thread)));
+        }
+        return new SharedInstanceReport(threads, operations * threads, report.getWallNanos(), throughput,
+            divergenceCount.get(), List.copyOf(divergences));
+    }
+
+    /**
+     * Runs {@link #verify(int, int, List)} with an increasing number of threads:
+     * 1, 2, 4 and so on, up to the given maximum.
+     *
+     * @param maxThreads the maximum number of threads, at least 1
+     * @param iterations the number of times each thread replays all given
+     *                   replays, at least 1
+     * @param replays    the operations on the shared instance, must not be empty
+     * @return the report per number of threads
+     */
+    public ScalingReport verifyScaling(final int maxThreads, final int iterations, final List<Replay> replays) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("maxThreads must be at least 1, but was " + maxThreads);
+        }
+        List<SharedInstanceReport> levels = new ArrayList<>();
+        for (var threads = 1; threads < maxThreads; threads *= 2) {
+            levels.add(verify(threads, iterations, replays));
+        }
+        levels.add(verify(maxThreads, iterations, replays));
+        return new ScalingReport(levels);
+    }
+
+    private List<Outcome> createBaseline(final List<Replay> replays) {
+        List<Outcome> baseline = new ArrayList<>(replays.size());
+        new ConcurrentRequestSimulator(template)
+            .run(1, (index, facesContext) -> replays.forEach(replay -> baseline.add(Outcome.of(replay, facesContext))))
+            .assertNoFailures();
+        return baseline;
+    }
+
+    /**
+     * A single operation on the shared instance.
+     *
+     * @param name        describing the operation, e.g. the test-item
+     * @param action      executing the operation and returning its result, may
+     *                    throw any exception
+     * @param equivalence deciding whether a result equals the one of the
+     *                    baseline, given first, e.g. for results not implementing
+     *                    {@link Object#equals(Object)}
+     */
+    public record Replay(String name, Action action, BiPredicate<Object, Object> equivalence) {
+
+        /**
+         * Null checks
+         */
+        public Replay {
+            requireNonNull(name, "name must not be null");
+            requireNonNull(action, "action must not be null");
+            requireNonNull(equivalence, "equivalence must not be null");
+        }
+
+        /**
+         * Compares the results using {@link Objects#deepEquals(Object, Object)}.
+         *
+         * @param name   describing the operation, e.g. the test-item
+         * @param action executing the operation and returning its result, may
+         *               throw any exception
+         */
+        public Replay(final String name, final Action action) {
+            this(name, action, Objects::deepEquals);
+        }
+    }
+
+    /**
+     * The actual operation of a {@link Replay}.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        /**
+         * @param facesContext of the current thread
+         * @return the result to be compared, may be null
+         * @throws Exception compared by type and message
+         */
+        @SuppressWarnings("java:S112") // owolff: Compared as outcome
+        Object execute(FacesContext facesContext) throws Exception;
+    }
+
+    private record Outcome(Object result, String failure) {
+
+        boolean matches(final Outcome other, final BiPredicate<Object, Object> equivalence) {
+            if (null != failure || null != other.failure) {
+                return Objects.equals(failure, other.failure);
+            }
+            return equivalence.test(result, other.result);
+        }
+
+        static Outcome of(final Replay replay, final FacesContext facesContext) {
+            try {
+                return new Outcome(replay.action().execute(facesContext), null);
+            } catch (ConverterException e) {
+                return new Outcome(null, describe(e, e.getFacesMessage()));
+            } catch (ValidatorException e) {
+                return new Outcome(null, describe(e, e.getFacesMessage()));
+            } catch (Exception | LinkageError | AssertionError e) {
+                return new Outcome(null, e.getClass().getName() + ": " + e.getMessage());
+            }
+        }
+
+        private static String describe(final Exception exception, final FacesMessage message) {
+            return exception.getClass().getName() + ": "
+                + (null == message ? exception.getMessage() : message.getSummary());
+        }
+
+        @Override
+        public String toString() {
+            return null == failure ? String.valueOf(result) : "threw " + failure;
+        }
+    }
+}
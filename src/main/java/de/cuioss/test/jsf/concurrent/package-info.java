@@ -0,0 +1,23 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Provides support for testing the behavior of JSF artifacts under concurrent
+ * access, like the thread-safe attribute storage of the scoped mocks, see
+ * {@link ConcurrentAttributeMap}, and the {@link AttributeContentionProfiler}.
+ *
+ * @author Oliver Wolff
+ */
+package de.cuioss.test.jsf.concurrent;
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.config;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Enables the verification of a single, shared instance under concurrent
+ * access, like JSF shares converters, validators and renderers across requests.
+ * It is evaluated by {@link de.cuioss.test.jsf.converter.AbstractConverterTest},
+ * {@link de.cuioss.test.jsf.validator.AbstractValidatorTest} and
+ * {@link de.cuioss.test.jsf.renderer.AbstractRendererTestBase}. Without it the
+ * corresponding test is disabled, see
+ * {@link de.cuioss.test.jsf.junit5.ConcurrentAccessCondition}.
+ *
+ * @author Oliver Wolff
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface VerifyConcurrentAccess {
+
+    /**
+     * @return the number of threads accessing the shared instance at once,
+     * defaults to 8
+     */
+    int threads() default 8;
+
+    /**
+     * @return the number of times each thread replays all test-items, defaults
+     * to 50
+     */
+    int iterations() default 50;
+}
@@ -18,6 +18,7 @@ package de.cuioss.test.jsf.config.decorator;
 import de.cuioss.test.jsf.mocks.CuiMockConfigurableNavigationHandler;
 import de.cuioss.test.jsf.mocks.CuiMockResourceHandler;
 import de.cuioss.test.jsf.mocks.CuiMockSearchExpressionHandler;
+import de.cuioss.test.jsf.util.ConfigurableApplication;
 import de.cuioss.tools.reflect.FieldWrapper;
 import jakarta.faces.application.*;
 import jakarta.faces.context.ExternalContext;
@@ -58,7 +59,11 @@ public class ApplicationConfigDecorator {
     }
 
     /**
-     * Registers a {@link ResourceBundle} to a given name
+     * Registers a {@link ResourceBundle} to a given name. In case the application is
+     * a {@link ConfigurableApplication} the bundle is registered to this instance,
+     * which isolates parallel running tests, otherwise to the JVM-global
+     * {@link ResourceBundleVarNames}, where it is not isolated and is only cleared
+     * when the runtime resets all global names, i.e. outside parallel execution.
      *
      * @param bundleName the name of the bundle to be registered to
      * @param bundlePath the path to the {@link ResourceBundle}
@@ -66,7 +71,13 @@ public class ApplicationConfigDecorator {
      * fluent-api style usage
      */
     public ApplicationConfigDecorator registerResourceBundle(final String bundleName, final String bundlePath) {
-        ResourceBundleVarNames.addVarName(bundleName, bundlePath);
+        if (application instanceof ConfigurableApplication configurableApplication) {
+            configurableApplication.registerResourceBundle(bundleName, bundlePath);
+            return this;
+        }
+        synchronized (ResourceBundleVarNames.class) {
+            ResourceBundleVarNames.addVarName(bundleName, bundlePath);
+        }
         return this;
     }
 
@@ -39,4 +39,14 @@ public @interface VerifyComponentRendererConfig {
      * {@code false}, The form itself will not be rendered
      */
     boolean wrapComponentInForm() default false;
+
+    /**
+     * @return boolean indicating whether the active
+     * {@link de.cuioss.test.jsf.renderer.RendererAttributeAssert}s should be
+     * applied to a single component and verified with a single rendering,
+     * instead of rendering once per assert. Asserts that are not combinable, see
+     * {@link de.cuioss.test.jsf.renderer.RendererAttributeAssert#isCombinable()},
+     * e.g. 'rendered', are still rendered separately. Defaults to {@code false}
+     */
+    boolean renderAttributeAssertsTogether() default false;
 }
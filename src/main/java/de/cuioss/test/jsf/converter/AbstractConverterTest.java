@@ -16,7 +16,11 @@
 package de.cuioss.test.jsf.converter;
 
 import de.cuioss.test.generator.junit.EnableGeneratorController;
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier;
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier.Replay;
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.junit5.ConcurrentAccessCondition;
 import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
 import de.cuioss.test.valueobjects.objects.ConfigurationCallBackHandler;
 import de.cuioss.test.valueobjects.objects.impl.DefaultInstantiator;
@@ -31,6 +35,11 @@ import lombok.Getter;
 import lombok.Setter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -71,6 +80,11 @@ import static org.junit.jupiter.api.Assertions.*;
  * <li>{@link #shouldFailOnNullFacesContextOnGetAsString()}</li>
  * <li>{@link #shouldReturnEmptyStringOnNullValue(FacesContext facesContext)}</li>
  * </ul>
+ * <h3>Concurrency-Test</h3> If the test-class is annotated with
+ * {@link VerifyConcurrentAccess},
+ * {@link #shouldHandleConcurrentAccess(FacesContext, TestReporter)} replays all
+ * {@link TestItems} concurrently on the single {@link #getConverter()} instance,
+ * like JSF shares it across requests.
  * <h3>Example</h3> Shows all variants of dealing with {@link TestItems}
  *
  * <pre>
@@ -303,4 +317,51 @@ public abstract class AbstractConverterTest<C extends Converter, T>
         }
     }
 
+    /**
+     * Replays all {@link TestItems} concurrently on the instance returned by
+     * {@link #getConverter()}, each thread with its own {@link FacesContext}, and
+     * fails on any result differing from the single-threaded one. The throughput
+     * per thread is published to the {@link TestReporter}. Disabled unless the
+     * test-class is annotated with {@link VerifyConcurrentAccess}, see
+     * {@link ConcurrentAccessCondition}.
+     */
+    @Test
+    @ExtendWith(ConcurrentAccessCondition.class)
+    void shouldHandleConcurrentAccess(FacesContext facesContext, TestReporter testReporter) {
+        var config = MoreReflection.extractAnnotation(getClass(), VerifyConcurrentAccess.class).orElseThrow();
+        final var replays = createConcurrentReplays();
+        if (replays.isEmpty()) {
+            // Nothing to be verified
+            return;
+        }
+
+        var report = new SharedInstanceVerifier(facesContext).verify(config.threads(), config.iterations(),
+            replays);
+        testReporter.publishEntry("concurrentAccess", report.createSummary());
+        report.assertNoDivergence();
+    }
+
+    private List<Replay> createConcurrentReplays() {
+        final Converter shared = getConverter();
+        final var uiComponent = getComponent();
+        final List<Replay> replays = new ArrayList<>();
+        for (final String value : getTestItems().getRoundtripValues()) {
+            replays.add(new Replay("roundtrip '" + value + "'", context -> shared.getAsString(context, uiComponent,
+                shared.getAsObject(context, uiComponent, value))));
+        }
+        final List<ConverterTestItem<T>> stringItems = new ArrayList<>(getTestItems().getValidStringTestItems());
+        stringItems.addAll(getTestItems().getInvalidStringTestItems());
+        for (final ConverterTestItem<T> item : stringItems) {
+            replays.add(new Replay("getAsObject '" + item.getStringValue() + "'",
+                context -> shared.getAsObject(context, uiComponent, item.getStringValue())));
+        }
+        final List<ConverterTestItem<T>> objectItems = new ArrayList<>(getTestItems().getValidObjectTestItems());
+        objectItems.addAll(getTestItems().getInvalidObjectTestItems());
+        for (final ConverterTestItem<T> item : objectItems) {
+            replays.add(new Replay("getAsString '" + item.getTestValue() + "'",
+                context -> shared.getAsString(context, uiComponent, item.getTestValue())));
+        }
+        return replays;
+    }
+
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELException;
+import jakarta.el.ELResolver;
+import jakarta.el.ExpressionFactory;
+import jakarta.el.FunctionMapper;
+import jakarta.el.MethodExpression;
+import jakarta.el.ValueExpression;
+import jakarta.el.VariableMapper;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ExpressionFactory} caching the {@link ValueExpression}s created by the
+ * wrapped factory, keyed by expression-string, expected type and the mappers of
+ * the {@link ELContext}. Parsing is
+ * therefore done once per distinct expression, not on each creation. The cache is
+ * bounded, the least recently used entries are evicted. The instance is
+ * thread-safe, provided the wrapped factory is.
+ * <p>
+ * A {@link ValueExpression} captures the {@link jakarta.el.FunctionMapper} and
+ * {@link jakarta.el.VariableMapper} of the {@link ELContext} it is created with.
+ * Therefore the mappers are part of the key, compared by identity, so different
+ * {@link ELContext}s never share an expression. Variables re-assigned in the same
+ * {@link jakarta.el.VariableMapper} are not detected. An instance must not outlive
+ * the environment it is used in, so that cached expressions never refer to the
+ * mappers of a previous test.
+ * </p>
+ * <p>
+ * {@link #forEnvironment()} provides a new instance wrapping the Jakarta EL
+ * implementation found on the classpath, see
+ * {@link de.cuioss.test.jsf.junit5.EnableJsfEnvironment#useRealExpressionLanguage()}.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public class CachingExpressionFactory extends ExpressionFactory {
+
+    /**
+     * Default for the maximum number of cached expressions
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static ExpressionFactory implementation;
+
+    @Getter
+    private final ExpressionFactory wrapped;
+
+    private final int maximumSize;
+
+    private final Map<Key, ValueExpression> valueExpressions;
+
+    private long hits;
+    private long misses;
+
+    private record Key(String expression, Class<?> expectedType, FunctionMapper functionMapper,
+        VariableMapper variableMapper) {
+
+        static Key of(final ELContext context, final String expression, final Class<?> expectedType) {
+            if (null == context) {
+                return new Key(expression, expectedType, null, null);
+            }
+            return new Key(expression, expectedType, context.getFunctionMapper(), context.getVariableMapper());
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Key key && Objects.equals(expression, key.expression)
+                && expectedType == key.expectedType && functionMapper == key.functionMapper
+                && variableMapper == key.variableMapper;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, expectedType, System.identityHashCode(functionMapper),
+                System.identityHashCode(variableMapper));
+        }
+    }
+
+    /**
+     * Snapshot of the usage of a {@link CachingExpressionFactory}.
+     *
+     * @param hits   number of expressions served from the cache
+     * @param misses number of expressions parsed by the wrapped factory
+     * @param size   number of cached expressions
+     */
+    public record Statistics(long hits, long misses, int size) {
+    }
+
+    /**
+     * @param wrapped     to be delegated to, must not be null
+     * @param maximumSize the maximum number of cached expressions, must be positive
+     */
+    public CachingExpressionFactory(final ExpressionFactory wrapped, final int maximumSize) {
+        this.wrapped = requireNonNull(wrapped, "wrapped must not be null");
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive, but was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        valueExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Serial
+            private static final long serialVersionUID = -4106436155392305520L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, ValueExpression> eldest) {
+                return size() > CachingExpressionFactory.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return a new, empty instance to be used by a single environment. It wraps
+     * the Jakarta EL implementation found by {@link ExpressionFactory#newInstance()},
+     * which is looked up once and shared, as it is stateless.
+     * @throws IllegalStateException if there is no implementation on the classpath
+     */
+    public static CachingExpressionFactory forEnvironment() {
+        return new CachingExpressionFactory(resolveImplementation(), DEFAULT_MAXIMUM_SIZE);
+    }
+
+    private static synchronized ExpressionFactory resolveImplementation() {
+        if (null == implementation) {
+            try {
+                implementation = ExpressionFactory.newInstance();
+            } catch (ELException | IllegalArgumentException e) {
+                throw new IllegalStateException("No Jakarta EL implementation found, add one to the test "
+                    + "classpath, e.g. org.glassfish.expressly:expressly", e);
+            }
+        }
+        return implementation;
+    }
+
+    @Override
+    public ValueExpression createValueExpression(final ELContext context, final String expression,
+        final Class<?> expectedType) {
+        var key = Key.of(context, expression, expectedType);
+        synchronized (this) {
+            var cached = valueExpressions.get(key);
+            if (null != cached) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        // Parsed outside the lock, concurrent misses for the same key create equal
+        // expressions anyway
+        var created = wrapped.createValueExpression(context, expression, expectedType);
+        synchronized (this) {
+            valueExpressions.putIfAbsent(key, created);
+        }
+        return created;
+    }
+
+    @Override
+    public ValueExpression createValueExpression(final Object instance, final Class<?> expectedType) {
+        return wrapped.createValueExpression(instance, expectedType);
+    }
+
+    @Override
+    public MethodExpression createMethodExpression(final ELContext context, final String expression,
+        final Class<?> expectedReturnType, final Class<?>[] expectedParamTypes) {
+        return wrapped.createMethodExpression(context, expression, expectedReturnType, expectedParamTypes);
+    }
+
+    @Override
+    public <T> T coerceToType(final Object obj, final Class<T> targetType) {
+        return wrapped.coerceToType(obj, targetType);
+    }
+
+    @Override
+    public ELResolver getStreamELResolver() {
+        return wrapped.getStreamELResolver();
+    }
+
+    @Override
+    public Map<String, Method> getInitFunctionMap() {
+        return wrapped.getInitFunctionMap();
+    }
+
+    /**
+     * @return a snapshot of the current statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, valueExpressions.size());
+    }
+
+    /**
+     * Removes all cached expressions, the statistics are retained.
+     */
+    public synchronized void clear() {
+        valueExpressions.clear();
+    }
+}
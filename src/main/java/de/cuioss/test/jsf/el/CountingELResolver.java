@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import jakarta.el.CompositeELResolver;
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import lombok.Getter;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reports every property resolved by the wrapped {@link ELResolver} to an
+ * {@link ElEvaluationCounter}. Extending {@link CompositeELResolver} with the
+ * wrapped resolver as single element delegates all other methods.
+ *
+ * @author Oliver Wolff
+ */
+public class CountingELResolver extends CompositeELResolver {
+
+    @Getter
+    private final ELResolver wrapped;
+
+    private final ElEvaluationCounter counter;
+
+    /**
+     * @param wrapped to be delegated to, must not be null
+     * @param counter to be reported to, must not be null
+     */
+    public CountingELResolver(final ELResolver wrapped, final ElEvaluationCounter counter) {
+        this.wrapped = requireNonNull(wrapped, "wrapped must not be null");
+        this.counter = requireNonNull(counter, "counter must not be null");
+        add(wrapped);
+    }
+
+    @Override
+    public Object getValue(final ELContext context, final Object base, final Object property) {
+        var value = super.getValue(context, base, property);
+        if (context.isPropertyResolved()) {
+            counter.countResolved(base, property);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.ExpressionFactory;
+import jakarta.el.MethodExpression;
+import jakarta.el.ValueExpression;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ExpressionFactory} wrapping the {@link ValueExpression}s created by the
+ * wrapped factory into {@link CountingValueExpression}s. All other calls are
+ * delegated.
+ *
+ * @author Oliver Wolff
+ */
+public class CountingExpressionFactory extends ExpressionFactory {
+
+    @Getter
+    private final ExpressionFactory wrapped;
+
+    private final ElEvaluationCounter counter;
+
+    /**
+     * @param wrapped to be delegated to, must not be null
+     * @param counter to be reported to, must not be null
+     */
+    public CountingExpressionFactory(final ExpressionFactory wrapped, final ElEvaluationCounter counter) {
+        this.wrapped = requireNonNull(wrapped, "wrapped must not be null");
+        this.counter = requireNonNull(counter, "counter must not be null");
+    }
+
+    @Override
+    public ValueExpression createValueExpression(final ELContext context, final String expression,
+        final Class<?> expectedType) {
+        return new CountingValueExpression(wrapped.createValueExpression(context, expression, expectedType),
+            counter);
+    }
+
+    @Override
+    public ValueExpression createValueExpression(final Object instance, final Class<?> expectedType) {
+        return new CountingValueExpression(wrapped.createValueExpression(instance, expectedType), counter);
+    }
+
+    @Override
+    public MethodExpression createMethodExpression(final ELContext context, final String expression,
+        final Class<?> expectedReturnType, final Class<?>[] expectedParamTypes) {
+        return wrapped.createMethodExpression(context, expression, expectedReturnType, expectedParamTypes);
+    }
+
+    @Override
+    public <T> T coerceToType(final Object obj, final Class<T> targetType) {
+        return wrapped.coerceToType(obj, targetType);
+    }
+
+    @Override
+    public ELResolver getStreamELResolver() {
+        return wrapped.getStreamELResolver();
+    }
+
+    @Override
+    public Map<String, Method> getInitFunctionMap() {
+        return wrapped.getInitFunctionMap();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import jakarta.el.ELContext;
+import jakarta.el.ValueExpression;
+import jakarta.el.ValueReference;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serial;
+
+/**
+ * {@link ValueExpression} reporting each {@link #getValue(ELContext)} to an
+ * {@link ElEvaluationCounter}, all calls are delegated to the wrapped expression.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode(callSuper = false, of = "wrapped")
+public class CountingValueExpression extends ValueExpression {
+
+    @Serial
+    private static final long serialVersionUID = 3807914538410547752L;
+
+    @Getter
+    private final ValueExpression wrapped;
+
+    private final transient ElEvaluationCounter counter;
+
+    CountingValueExpression(final ValueExpression wrapped, final ElEvaluationCounter counter) {
+        this.wrapped = wrapped;
+        this.counter = counter;
+    }
+
+    @Override
+    public <T> T getValue(final ELContext context) {
+        if (null != counter) {
+            counter.countExpression(wrapped.getExpressionString());
+        }
+        return wrapped.getValue(context);
+    }
+
+    @Override
+    public void setValue(final ELContext context, final Object value) {
+        wrapped.setValue(context, value);
+    }
+
+    @Override
+    public boolean isReadOnly(final ELContext context) {
+        return wrapped.isReadOnly(context);
+    }
+
+    @Override
+    public Class<?> getType(final ELContext context) {
+        return wrapped.getType(context);
+    }
+
+    @Override
+    public Class<?> getExpectedType() {
+        return wrapped.getExpectedType();
+    }
+
+    @Override
+    public ValueReference getValueReference(final ELContext context) {
+        return wrapped.getValueReference(context);
+    }
+
+    @Override
+    public String getExpressionString() {
+        return wrapped.getExpressionString();
+    }
+
+    @Override
+    public boolean isLiteralText() {
+        return wrapped.isLiteralText();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import de.cuioss.test.jsf.util.ConfigurableApplication;
+import jakarta.faces.context.FacesContext;
+import org.apache.myfaces.test.mock.MockFacesContext;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the evaluations of expressions while the counter is installed at the
+ * {@link ConfigurableApplication}, see {@link #install(FacesContext)}:
+ * <ul>
+ * <li>Expressions: each call of
+ * {@link jakarta.el.ValueExpression#getValue(jakarta.el.ELContext)} for
+ * {@link jakarta.el.ValueExpression}s created by the
+ * {@link jakarta.el.ExpressionFactory} of the application, keyed by the
+ * expression-string, e.g. {@code #{bean.name}}</li>
+ * <li>Properties: each property resolved by the {@link jakarta.el.ELResolver} of the
+ * application, keyed by the type of the base object and the property name. This
+ * covers expressions created directly as well, e.g.
+ * {@link org.apache.myfaces.test.el.MockValueExpression}</li>
+ * <li>Variables: each top-level identifier resolved, e.g. {@code bean}</li>
+ * </ul>
+ * <p>
+ * Expensive getters that are evaluated many times per render can be detected this
+ * way:
+ * </p>
+ *
+ * <pre>
+ * var counter = ElEvaluationCounter.install(facesContext);
+ * renderToString(component, facesContext);
+ * counter.assertPropertyEvaluatedAtMost(ReportBean.class, "rows", 1);
+ * </pre>
+ * <p>
+ * The instance is thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class ElEvaluationCounter {
+
+    private final Map<String, LongAdder> expressions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> properties = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> variables = new ConcurrentHashMap<>();
+
+    /**
+     * Installs a counter at the {@link ConfigurableApplication} of the given context,
+     * see {@link ConfigurableApplication#setEvaluationCounter(ElEvaluationCounter)}.
+     * An already installed counter is kept.
+     *
+     * @param facesContext of the current environment, must be a
+     *                     {@link MockFacesContext}
+     * @return the installed counter
+     */
+    public static ElEvaluationCounter install(final FacesContext facesContext) {
+        requireNonNull(facesContext, "facesContext must not be null");
+        if (!(facesContext instanceof MockFacesContext mockFacesContext)) {
+            throw new IllegalArgumentException("Expected a MockFacesContext, but was " + facesContext.getClass());
+        }
+        var application = ConfigurableApplication.createWrapAndRegister(mockFacesContext);
+        if (null == application.getEvaluationCounter()) {
+            application.setEvaluationCounter(new ElEvaluationCounter());
+        }
+        return application.getEvaluationCounter();
+    }
+
+    void countExpression(final String expressionString) {
+        expressions.computeIfAbsent(String.valueOf(expressionString), key -> new LongAdder()).increment();
+    }
+
+    void countResolved(final Object base, final Object property) {
+        if (null == base) {
+            variables.computeIfAbsent(String.valueOf(property), key -> new LongAdder()).increment();
+        } else {
+            properties.computeIfAbsent(propertyKey(base.getClass(), String.valueOf(property)),
+                key -> new LongAdder()).increment();
+        }
+    }
+
+    static String propertyKey(final Class<?> beanType, final String property) {
+        return beanType.getName() + "#" + property;
+    }
+
+    /**
+     * @param expression the expression-string, e.g. {@code #{bean.name}}
+     * @return the number of evaluations of the expression
+     */
+    public long getExpressionCount(final String expression) {
+        return count(expressions, expression);
+    }
+
+    /**
+     * @param beanType the exact type of the object the property is resolved on
+     * @param property the name of the property
+     * @return the number of resolutions of the property
+     */
+    public long getPropertyCount(final Class<?> beanType, final String property) {
+        requireNonNull(beanType, "beanType must not be null");
+        return count(properties, propertyKey(beanType, property));
+    }
+
+    /**
+     * @param name of the top-level identifier, e.g. the name of a bean
+     * @return the number of resolutions of the identifier
+     */
+    public long getVariableCount(final String name) {
+        return count(variables, name);
+    }
+
+    /**
+     * @param expression the expression-string, e.g. {@code #{bean.name}}
+     * @param maximum    the number of evaluations allowed
+     */
+    public void assertExpressionEvaluatedAtMost(final String expression, final long maximum) {
+        var count = getExpressionCount(expression);
+        assertTrue(count <= maximum, "Expression '%s' was evaluated %s times, expected at most %s"
+            .formatted(expression, count, maximum));
+    }
+
+    /**
+     * @param beanType the exact type of the object the property is resolved on
+     * @param property the name of the property
+     * @param maximum  the number of resolutions allowed
+     */
+    public void assertPropertyEvaluatedAtMost(final Class<?> beanType, final String property, final long maximum) {
+        var count = getPropertyCount(beanType, property);
+        assertTrue(count <= maximum, "Property '%s' of %s was evaluated %s times, expected at most %s"
+            .formatted(property, beanType.getName(), count, maximum));
+    }
+
+    /**
+     * @param name    of the top-level identifier, e.g. the name of a bean
+     * @param maximum the number of resolutions allowed
+     */
+    public void assertVariableResolvedAtMost(final String name, final long maximum) {
+        var count = getVariableCount(name);
+        assertTrue(count <= maximum, "Variable '%s' was resolved %s times, expected at most %s"
+            .formatted(name, count, maximum));
+    }
+
+    /**
+     * @return the counts as table, expressions, properties and variables, each one
+     * sorted by count, descending
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("EL evaluations");
+        appendSection(builder, "Expressions", expressions);
+        appendSection(builder, "Properties", properties);
+        appendSection(builder, "Variables", variables);
+        return builder.toString();
+    }
+
+    /**
+     * Discards all counts, e.g. between two renderings
+     */
+    public void reset() {
+        expressions.clear();
+        properties.clear();
+        variables.clear();
+    }
+
+    private static void appendSection(final StringBuilder builder, final String title,
+        final Map<String, LongAdder> counts) {
+        builder.append(System.lineSeparator()).append(title).append(':');
+        // Sorted by name first, for a stable order of equal counts
+        new TreeMap<>(counts).entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                .reversed())
+            .forEach(entry -> builder.append(System.lineSeparator())
+                .append("%8d  %s".formatted(entry.getValue().sum(), entry.getKey())));
+    }
+
+    private static long count(final Map<String, LongAdder> counts, final String key) {
+        var adder = counts.get(key);
+        return null == adder ? 0 : adder.sum();
+    }
+}
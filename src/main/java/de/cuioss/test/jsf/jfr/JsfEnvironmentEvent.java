@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Emitted for the lifecycle operations of a
+ * {@link de.cuioss.test.jsf.util.JsfRuntimeSetup}, e.g. setUp and tearDown, and for
+ * the configuration of the environment by
+ * {@link de.cuioss.test.jsf.junit5.JsfSetupExtension}.
+ *
+ * @author Oliver Wolff
+ */
+@Name(JsfEvents.NAME_PREFIX + "Environment")
+@Label("JSF Environment")
+@Description("Setting up, resetting and tearing down the JSF test environment")
+@Category({JsfEvents.CATEGORY, "Environment"})
+@StackTrace(false)
+@Setter
+public final class JsfEnvironmentEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Profile")
+    private String profile;
+
+    @Label("Test Class")
+    private String testClass;
+}
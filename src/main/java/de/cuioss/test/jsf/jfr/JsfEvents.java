@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.jfr;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Constants shared by the JFR events of this package.
+ *
+ * @author Oliver Wolff
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsfEvents {
+
+    /** Prefix of the names of all events, see {@link jdk.jfr.Name}. */
+    public static final String NAME_PREFIX = "de.cuioss.test.jsf.";
+
+    /** The top-level category of all events. */
+    public static final String CATEGORY = "CUI JSF Test";
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * Emitted by
+ * {@link de.cuioss.test.jsf.mocks.CuiMockConfigurableNavigationHandler#handleNavigation(jakarta.faces.context.FacesContext, String, String)}.
+ *
+ * @author Oliver Wolff
+ */
+@Name(JsfEvents.NAME_PREFIX + "Navigation")
+@Label("JSF Navigation")
+@Description("Navigation handled by the mock navigation-handler")
+@Category({JsfEvents.CATEGORY, "Mocks"})
+@Setter
+public final class JsfNavigationEvent extends Event {
+
+    @Label("From Action")
+    private String fromAction;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("To View-Id")
+    private String toViewId;
+
+    @Label("Matched")
+    private boolean matched;
+
+    @Label("Redirect")
+    private boolean redirect;
+}
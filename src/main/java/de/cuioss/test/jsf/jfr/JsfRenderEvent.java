@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * Emitted for rendering a component by
+ * {@link de.cuioss.test.jsf.renderer.AbstractRendererTestBase#renderToString(jakarta.faces.component.UIComponent, jakarta.faces.context.FacesContext)},
+ * covering encodeBegin, encodeChildren and encodeEnd.
+ *
+ * @author Oliver Wolff
+ */
+@Name(JsfEvents.NAME_PREFIX + "Render")
+@Label("JSF Render")
+@Description("Encoding a component with the renderer under test")
+@Category({JsfEvents.CATEGORY, "Rendering"})
+@Setter
+public final class JsfRenderEvent extends Event {
+
+    @Label("Renderer")
+    private Class<?> renderer;
+
+    @Label("Component")
+    private Class<?> component;
+
+    @Label("Output Length")
+    @DataAmount(DataAmount.BYTES)
+    private long outputLength;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Emitted by
+ * {@link de.cuioss.test.jsf.mocks.CuiMockResourceHandler#createResource(String, String, String)}.
+ *
+ * @author Oliver Wolff
+ */
+@Name(JsfEvents.NAME_PREFIX + "ResourceLookup")
+@Label("JSF Resource Lookup")
+@Description("Resource lookup at the mock resource-handler")
+@Category({JsfEvents.CATEGORY, "Mocks"})
+@StackTrace(false)
+@Setter
+public final class JsfResourceLookupEvent extends Event {
+
+    @Label("Resource Name")
+    private String resourceName;
+
+    @Label("Library Name")
+    private String libraryName;
+
+    @Label("Found")
+    private boolean found;
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Provides Java Flight Recorder events emitted by the JSF test environment, e.g.
+ * for setting up the runtime, executing configurators, rendering, navigation and
+ * resource lookups. The events are disabled unless a recording is active, the
+ * call sites only commit them in case {@link jdk.jfr.Event#shouldCommit()}
+ * returns {@code true}. All events share the category {@link JsfEvents#CATEGORY}.
+ *
+ * @author Oliver Wolff
+ */
+package de.cuioss.test.jsf.jfr;
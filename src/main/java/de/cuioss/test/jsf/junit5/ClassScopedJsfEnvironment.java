@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.util.JsfEnvironmentHolder;
+import de.cuioss.test.jsf.util.JsfRuntimeSetup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Holds a JSF environment shared by all test-methods of a test-class, see
+ * {@link JsfEnvironmentLifecycle#PER_CLASS}. Being stored within the class-level
+ * {@link org.junit.jupiter.api.extension.ExtensionContext.Store}, the runtime is torn
+ * down by {@link #close()} after all tests of the class have been run.
+ *
+ * @author Oliver Wolff
+ */
+@RequiredArgsConstructor
+@Getter
+final class ClassScopedJsfEnvironment implements AutoCloseable {
+
+    private final JsfRuntimeSetup runtimeSetup;
+
+    private final JsfEnvironmentHolder environment;
+
+    /**
+     * The class-level configurators, needed for applying the request-configuration
+     * for each test-method.
+     */
+    private final List<JsfTestSetup> configurators;
+
+    /**
+     * The thread the environment was created on. The factories are bound to its
+     * thread-context classloader.
+     */
+    private final Thread ownerThread;
+
+    @Override
+    public void close() {
+        runtimeSetup.tearDown();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
+import de.cuioss.tools.reflect.MoreReflection;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Enables a test-method only if its test-class, or one of its super-classes, is
+ * annotated with {@link VerifyConcurrentAccess}. Used for the concurrency tests
+ * inherited from the base classes, like
+ * {@link de.cuioss.test.jsf.converter.AbstractConverterTest}, so that tests not
+ * opting in do not report them as aborted.
+ *
+ * @author Oliver Wolff
+ */
+public final class ConcurrentAccessCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(final ExtensionContext context) {
+        var testClass = context.getTestClass();
+        if (testClass.isPresent()
+            && MoreReflection.extractAnnotation(testClass.get(), VerifyConcurrentAccess.class).isPresent()) {
+            return ConditionEvaluationResult.enabled("Annotated with @VerifyConcurrentAccess");
+        }
+        return ConditionEvaluationResult.disabled("Concurrent access is only verified with @VerifyConcurrentAccess");
+    }
+}
@@ -20,6 +20,7 @@ import de.cuioss.test.jsf.config.ComponentConfigurator;
 import de.cuioss.test.jsf.config.JsfTestConfiguration;
 import de.cuioss.test.jsf.config.RequestConfigurator;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.util.JsfEnvironmentProfile;
 import de.cuioss.test.valueobjects.util.IdentityResourceBundle;
 import jakarta.faces.context.FacesContext;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -179,6 +180,24 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * {@link EnableJsfEnvironment} are in the type hierarchy, the one on the most
  * concrete Type will be chosen, usually on the actual unit-test.
  * </p>
+ * <p>
+ * Runtime reuse: Setting {@link #reuseRuntime()} (or the configuration parameter
+ * {@value JsfSetupExtension#REUSE_RUNTIME_PARAMETER} for the whole suite) builds
+ * the {@link de.cuioss.test.jsf.util.JsfRuntimeSetup} once per worker thread and
+ * only resets its mutable state between tests instead of rebuilding it. The
+ * isolation between tests is the same as with a full rebuild.
+ * </p>
+ * <p>
+ * Class-scoped environment: With {@code lifecycle = JsfEnvironmentLifecycle.PER_CLASS}
+ * application- and component-configuration are built once per test-class, only the
+ * request-scoped state is rebuilt for each test-method, see
+ * {@link JsfEnvironmentLifecycle#PER_CLASS}.
+ * </p>
+ * <p>
+ * Profiles: Tests that only need a {@link FacesContext} can reduce the setup cost
+ * by choosing a lighter {@link #profile()}, e.g.
+ * {@code @EnableJsfEnvironment(profile = JsfEnvironmentProfile.MINIMAL)}.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -199,4 +218,53 @@ public @interface EnableJsfEnvironment {
      */
     boolean useIdentityResourceBundle() default true;
 
+
+    /**
+     * Determines whether the underlying {@link de.cuioss.test.jsf.util.JsfRuntimeSetup}
+     * is reused between tests running on the same thread. If true, classloader and
+     * factory registrations are created only once and the mutable state (request,
+     * response, session, view-root, application, render-kit and registered
+     * resource-bundle names) is reset before each test. Can be activated for the
+     * whole suite with the configuration parameter
+     * {@value JsfSetupExtension#REUSE_RUNTIME_PARAMETER}.
+     *
+     * @return true if the runtime should be reused, false otherwise
+     */
+    boolean reuseRuntime() default false;
+
+    /**
+     * Determines the scope of the environment. With
+     * {@link JsfEnvironmentLifecycle#PER_CLASS} application- and
+     * component-configuration are applied once per test-class and only the
+     * request-scoped state is rebuilt for each test-method. In that mode
+     * {@link #reuseRuntime()} is ignored.
+     *
+     * @return the lifecycle of the environment, defaults to
+     * {@link JsfEnvironmentLifecycle#PER_METHOD}
+     */
+    JsfEnvironmentLifecycle lifecycle() default JsfEnvironmentLifecycle.PER_METHOD;
+
+    /**
+     * Determines which parts of the environment are created upfront. With
+     * {@link JsfEnvironmentProfile#MINIMAL} or {@link JsfEnvironmentProfile#STANDARD}
+     * render-kit, session and the mock handlers are created on first access only.
+     *
+     * @return the profile of the environment, defaults to
+     * {@link JsfEnvironmentProfile#FULL}
+     */
+    JsfEnvironmentProfile profile() default JsfEnvironmentProfile.FULL;
+
+    /**
+     * Determines whether expressions are evaluated by a real Jakarta EL
+     * implementation instead of the mock one of myfaces-test. This way evaluation
+     * semantics and timings correspond to production. The parsed expressions are
+     * cached by a {@link de.cuioss.test.jsf.el.CachingExpressionFactory} scoped to
+     * the environment.
+     * An implementation, e.g. {@code org.glassfish.expressly:expressly}, must be
+     * present on the test classpath.
+     *
+     * @return true if a real Jakarta EL implementation should be used, defaults to
+     * false
+     */
+    boolean useRealExpressionLanguage() default false;
 }
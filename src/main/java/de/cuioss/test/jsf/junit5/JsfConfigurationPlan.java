@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.JsfTestConfiguration;
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.util.JsfEnvironmentProfile;
+import lombok.Getter;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The configuration of a test-class resolved by {@link JsfSetupExtension}: The
+ * effective {@link EnableJsfEnvironment} settings and the ordered
+ * {@link JsfTestSetup} classes derived from {@link JsfTestConfiguration}, including
+ * their constructors. It is computed once per test-class and cached by
+ * {@link #forClass(Class)}, so walking the class-, enclosing-class- and
+ * superclass-hierarchy is not repeated for each test.
+ *
+ * @author Oliver Wolff
+ */
+final class JsfConfigurationPlan {
+
+    private static final ClassValue<JsfConfigurationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected JsfConfigurationPlan computeValue(Class<?> type) {
+            return new JsfConfigurationPlan(type);
+        }
+    };
+
+    /**
+     * Derived from the most concrete {@link EnableJsfEnvironment}, false if there
+     * is none.
+     */
+    @Getter
+    private final boolean useIdentityResourceBundle;
+
+    @Getter
+    private final boolean reuseRuntime;
+
+    @Getter
+    private final boolean useRealExpressionLanguage;
+
+    @Getter
+    private final JsfEnvironmentLifecycle lifecycle;
+
+    @Getter
+    private final JsfEnvironmentProfile profile;
+
+    /**
+     * The configuration classes in order of declaration, already resolved to their
+     * no-argument constructor.
+     */
+    private final List<Constructor<? extends JsfTestSetup>> configurators;
+
+    private JsfConfigurationPlan(Class<?> testClass) {
+        var environment = findEnableJsfEnvironment(testClass);
+        useIdentityResourceBundle = null != environment && environment.useIdentityResourceBundle();
+        reuseRuntime = null != environment && environment.reuseRuntime();
+        useRealExpressionLanguage = null != environment && environment.useRealExpressionLanguage();
+        lifecycle = null == environment ? JsfEnvironmentLifecycle.PER_METHOD : environment.lifecycle();
+        profile = null == environment ? JsfEnvironmentProfile.FULL : environment.profile();
+
+        List<Constructor<? extends JsfTestSetup>> resolved = new ArrayList<>();
+        for (JsfTestConfiguration configuration : findJsfTestConfigurations(testClass)) {
+            for (Class<? extends JsfTestSetup> type : configuration.value()) {
+                resolved.add(resolveConstructor(type));
+            }
+        }
+        configurators = List.copyOf(resolved);
+    }
+
+    /**
+     * @param testClass to be resolved, must not be null
+     * @return the cached plan for the given class
+     */
+    static JsfConfigurationPlan forClass(Class<?> testClass) {
+        return PLANS.get(testClass);
+    }
+
+    /**
+     * Creates a new instance of each configuration class, to be used for all
+     * configuration phases of a single test.
+     *
+     * @return mutable list of the created configurators in order of declaration
+     */
+    List<JsfTestSetup> instantiateConfigurators() {
+        List<JsfTestSetup> instances = new ArrayList<>(configurators.size());
+        for (Constructor<? extends JsfTestSetup> constructor : configurators) {
+            try {
+                instances.add(constructor.newInstance());
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new ExtensionConfigurationException(
+                    "Unable to instantiate configuration " + constructor.getDeclaringClass().getName(), e);
+            } catch (InvocationTargetException e) {
+                throw new ExtensionConfigurationException(
+                    "Unable to instantiate configuration " + constructor.getDeclaringClass().getName(),
+                    e.getCause());
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * @return the number of configuration classes
+     */
+    int getConfiguratorCount() {
+        return configurators.size();
+    }
+
+    private static Constructor<? extends JsfTestSetup> resolveConstructor(Class<? extends JsfTestSetup> type) {
+        try {
+            var constructor = type.getDeclaredConstructor();
+            constructor.trySetAccessible();
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new ExtensionConfigurationException(
+                "Configuration " + type.getName() + " must provide a no-argument constructor", e);
+        }
+    }
+
+    /**
+     * Resolves the {@link EnableJsfEnvironment} closest to the given type: the type
+     * itself, followed by enclosing classes and finally superclasses.
+     */
+    private static EnableJsfEnvironment findEnableJsfEnvironment(Class<?> type) {
+        if (null == type || Object.class.equals(type)) {
+            return null;
+        }
+        var found = AnnotationSupport.findRepeatableAnnotations(type, EnableJsfEnvironment.class);
+        if (!found.isEmpty()) {
+            return found.getFirst();
+        }
+        if (null != type.getEnclosingClass()) {
+            return findEnableJsfEnvironment(type.getEnclosingClass());
+        }
+        return findEnableJsfEnvironment(type.getSuperclass());
+    }
+
+    /**
+     * Resolves the {@link JsfTestConfiguration}s closest to the given type, see
+     * {@link #findEnableJsfEnvironment(Class)}. Annotations at a closer level replace
+     * the ones declared further away.
+     */
+    private static List<JsfTestConfiguration> findJsfTestConfigurations(Class<?> type) {
+        if (null == type || Object.class.equals(type)) {
+            return List.of();
+        }
+        var found = AnnotationSupport.findRepeatableAnnotations(type, JsfTestConfiguration.class);
+        if (!found.isEmpty()) {
+            // Equal annotations found on different levels are applied only once
+            return List.copyOf(new LinkedHashSet<>(found));
+        }
+        if (null != type.getEnclosingClass()) {
+            return findJsfTestConfigurations(type.getEnclosingClass());
+        }
+        return findJsfTestConfigurations(type.getSuperclass());
+    }
+}
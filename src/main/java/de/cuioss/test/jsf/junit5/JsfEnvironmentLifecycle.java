@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+/**
+ * Defines the scope of the JSF environment created by {@link JsfSetupExtension},
+ * see {@link EnableJsfEnvironment#lifecycle()}.
+ *
+ * @author Oliver Wolff
+ */
+public enum JsfEnvironmentLifecycle {
+
+    /**
+     * The complete environment is created and configured for each test-method.
+     * This is the default.
+     */
+    PER_METHOD,
+
+    /**
+     * The environment is created once per test-class: Application- and
+     * component-configuration are applied once and shared by all test-methods
+     * of the class. Only the request-scoped state, namely request, response,
+     * session, view-root and the request-configuration, is rebuilt for each
+     * test-method. Method-level {@link de.cuioss.test.jsf.config.JsfTestConfiguration}
+     * or {@link EnableJsfEnvironment} can not be honoured in this mode and are
+     * rejected. All test-methods of the class must be run on the same thread.
+     */
+    PER_CLASS
+}
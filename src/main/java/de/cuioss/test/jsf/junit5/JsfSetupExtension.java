@@ -16,17 +16,25 @@
 package de.cuioss.test.jsf.junit5;
 
 import de.cuioss.test.jsf.config.JsfTestConfiguration;
+import de.cuioss.test.jsf.config.JsfTestConfigurations;
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.el.CachingExpressionFactory;
+import de.cuioss.test.jsf.jfr.JsfEnvironmentEvent;
 import de.cuioss.test.jsf.util.ConfigurableApplication;
 import de.cuioss.test.jsf.util.JsfEnvironmentConsumer;
 import de.cuioss.test.jsf.util.JsfEnvironmentHolder;
+import de.cuioss.test.jsf.util.JsfEnvironmentProfile;
 import de.cuioss.test.jsf.util.JsfRuntimeSetup;
+import de.cuioss.test.jsf.util.SetupTimingRecorder;
 import de.cuioss.tools.logging.CuiLogger;
+import jakarta.el.ExpressionFactory;
 import org.apache.myfaces.test.mock.MockFacesContext;
 import org.junit.jupiter.api.extension.*;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.platform.commons.support.AnnotationSupport;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static de.cuioss.test.jsf.util.ConfigurationHelper.*;
 
@@ -55,12 +63,39 @@ import static de.cuioss.test.jsf.util.ConfigurationHelper.*;
  * }
  * </pre>
  * <p>
- * <em>Note:</em> {@code @TestInstance(TestInstance.Lifecycle.PER_CLASS)} is not
- * supported. The JSF runtime is set up once per test instance in
- * {@code postProcessTestInstance} but {@link #afterEach(ExtensionContext)} tears it
- * down after every test method, so a single shared instance would run against a
- * released runtime for the second and subsequent tests. Use the default
- * {@code PER_METHOD} lifecycle.
+ * <em>Note:</em> {@code @TestInstance(TestInstance.Lifecycle.PER_CLASS)} is only
+ * supported in combination with {@link JsfEnvironmentLifecycle#PER_CLASS}. With the
+ * default {@link JsfEnvironmentLifecycle#PER_METHOD} the JSF runtime is set up once
+ * per test instance in {@code postProcessTestInstance} but
+ * {@link #afterEach(ExtensionContext)} tears it down after every test method, so a
+ * single shared instance would run against a released runtime for the second and
+ * subsequent tests.
+ * <p>
+ * With {@link JsfEnvironmentLifecycle#PER_CLASS} the environment is created and
+ * configured once per test-class and closed together with the class-level
+ * {@link ExtensionContext}. {@link #beforeEach(ExtensionContext)} only rebuilds the
+ * request-scoped state and applies the request-configuration.
+ * <p>
+ * Parallel execution: Each {@link JsfRuntimeSetup} is confined to the thread it
+ * was created on and the per-method state is kept within the
+ * {@link ExtensionContext} of the test-method, see
+ * {@link #getTestInstantiationExtensionContextScope(ExtensionContext)}. Therefore,
+ * test-methods and -classes can be executed concurrently. Class-scoped environments
+ * require their test-methods to run on the same thread, e.g. by using
+ * {@code @Execution(ExecutionMode.SAME_THREAD)} on the class.
+ * <p>
+ * In case runtime reuse is enabled, see {@link EnableJsfEnvironment#reuseRuntime()}
+ * or {@link #REUSE_RUNTIME_PARAMETER}, the {@link JsfRuntimeSetup} is kept per
+ * thread: {@link JsfRuntimeSetup#reset()} prepares it for the next test and
+ * {@link JsfRuntimeSetup#suspend()} replaces the {@link JsfRuntimeSetup#tearDown()}
+ * after each test. The runtimes are finally torn down together with the root
+ * {@link ExtensionContext}, meaning at the end of the test-run.
+ * <p>
+ * In case {@link #TIMING_PARAMETER} is enabled, the duration of the individual
+ * steps of {@link JsfRuntimeSetup} and of each {@link JsfTestSetup} is published
+ * as report-entry of the test, see
+ * {@link ExtensionContext#publishReportEntry(Map)}, and logged as aggregated
+ * summary at the end of the run.
  *
  * @author Oliver Wolff
  */
@@ -83,8 +118,54 @@ public class JsfSetupExtension implements TestInstancePostProcessor, BeforeEachC
      */
     public static final Namespace TEST_INSTANCE_NAMESPACE = Namespace.create("test", "jsf", "TestInstance");
 
+    /**
+     * Configuration parameter for enabling the reuse of the {@link JsfRuntimeSetup}
+     * for all tests, see {@link EnableJsfEnvironment#reuseRuntime()}.
+     */
+    public static final String REUSE_RUNTIME_PARAMETER = "cui.jsf.environment.reuse";
+
+    private static final String REUSE_RUNTIME_KEY = "reuseRuntime";
+
+    /**
+     * JUnit configuration parameter enabling parallel execution. If set, the JVM-global
+     * resource-bundle names are isolated, see
+     * {@link JsfRuntimeSetup#setIsolateResourceBundleVarNames(boolean)}.
+     */
+    private static final String PARALLEL_EXECUTION_ENABLED = "junit.jupiter.execution.parallel.enabled";
+
+    /**
+     * Configuration parameter for enabling the timing of the individual setup steps,
+     * see {@link SetupTimingRecorder}.
+     */
+    public static final String TIMING_PARAMETER = "cui.jsf.environment.timing";
+
+    /**
+     * Prefix of the keys of the report-entries published in case
+     * {@link #TIMING_PARAMETER} is enabled.
+     */
+    public static final String TIMING_REPORT_PREFIX = "jsf.timing.";
+
+    /**
+     * The reusable runtime per worker thread. The factories are bound to the
+     * thread-context classloader, therefore it can not be shared across threads.
+     */
+    private static final ThreadLocal<JsfRuntimeSetup> REUSABLE_RUNTIME = new ThreadLocal<>();
+
     private static final CuiLogger LOGGER = new CuiLogger(JsfSetupExtension.class);
 
+    private static final String INSTANTIATE_STEP = SetupTimingRecorder.CONFIGURATION_PREFIX + "instantiate";
+    private static final String HANDLERS_STEP = SetupTimingRecorder.CONFIGURATION_PREFIX + "mockHandlers";
+
+    /**
+     * Post-processing the test instance within the {@link ExtensionContext} of the
+     * actual test-method keeps the environments of test-methods running in parallel
+     * apart, see {@code junit.jupiter.execution.parallel.enabled}.
+     */
+    @Override
+    public ExtensionContextScope getTestInstantiationExtensionContextScope(ExtensionContext rootContext) {
+        return ExtensionContextScope.TEST_METHOD;
+    }
+
     private static void put(JsfRuntimeSetup runtimeSetup, ExtensionContext context) {
         context.getStore(NAMESPACE).put(JsfRuntimeSetup.class.getName(), runtimeSetup);
     }
@@ -94,6 +175,10 @@ public class JsfSetupExtension implements TestInstancePostProcessor, BeforeEachC
     }
 
     private static Optional<JsfEnvironmentHolder> getEnvironment(ExtensionContext context) {
+        var classEnvironment = getClassEnvironment(context);
+        if (classEnvironment.isPresent()) {
+            return classEnvironment.map(ClassScopedJsfEnvironment::getEnvironment);
+        }
         return Optional.ofNullable((JsfEnvironmentHolder) context.getStore(ENVIRONMENT_NAMESPACE)
             .get(JsfEnvironmentHolder.class.getName()));
     }
@@ -107,164 +192,198 @@ public class JsfSetupExtension implements TestInstancePostProcessor, BeforeEachC
     }
 
     @Override
-    @SuppressWarnings("squid:S3655")
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) throws Exception {
         // Store the test instance for later use in beforeEach
         putTestInstance(testInstance, context);
 
-        var setup = new JsfRuntimeSetup();
-        LOGGER.debug(() -> "Starting JSF-Environment");
-        setup.setUp();
-        put(setup, context);
-
-        var useIdentityResourceBundle = false;
-        List<EnableJsfEnvironment> environments = new ArrayList<>();
-        retrieveEnableJSFAnnotations(testInstance.getClass(), environments);
-        if (!environments.isEmpty()) {
-            // Use the innermost (most specific) annotation: retrieveEnableJSFAnnotations
-            // collects them method > nested class > enclosing/superclass, so the first
-            // entry is the closest declaration to the test.
-            useIdentityResourceBundle = environments.getFirst().useIdentityResourceBundle();
+        // Resolved once per test-class, the annotation lookup is not repeated per test
+        var plan = JsfConfigurationPlan.forClass(testInstance.getClass());
+        var reuseRuntime = plan.isReuseRuntime()
+            || context.getConfigurationParameter(REUSE_RUNTIME_PARAMETER, Boolean::parseBoolean).orElse(false);
+
+        var recorder = getTimingRecorder(context);
+        var event = new JsfEnvironmentEvent();
+        event.begin();
+
+        JsfEnvironmentHolder environment;
+        if (JsfEnvironmentLifecycle.PER_CLASS == plan.getLifecycle()) {
+            environment = getOrCreateClassEnvironment(testInstance, context, plan, recorder).getEnvironment();
+        } else {
+            LOGGER.debug(() -> "Starting JSF-Environment");
+            var setup = startRuntime(reuseRuntime, plan.getProfile(), recorder, context);
+            put(setup, context);
+            context.getStore(NAMESPACE).put(REUSE_RUNTIME_KEY, reuseRuntime);
+
+            // Each configuration class is instantiated once and used for all phases
+            var configurators = SetupTimingRecorder.measure(recorder, INSTANTIATE_STEP,
+                plan::instantiateConfigurators);
+            environment = createConfiguredEnvironment(testInstance, setup, plan, configurators);
+            applyRequestConfiguration(testInstance, environment.getRequestConfigDecorator(), configurators,
+                recorder);
+            // Store the environment in the context for parameter resolution
+            putEnvironment(environment, context);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation("configureEnvironment");
+            event.setProfile(plan.getProfile().name());
+            event.setTestClass(testInstance.getClass().getName());
+            event.commit();
+        }
+
+        if (testInstance instanceof JsfEnvironmentConsumer consumer) {
+            consumer.setEnvironmentHolder(environment);
         }
+    }
 
+    /**
+     * Wraps the application and applies the application- and component-configuration.
+     * The request-configuration is left to the caller, because its scope depends on
+     * the {@link JsfEnvironmentLifecycle}.
+     */
+    private static JsfEnvironmentHolder createConfiguredEnvironment(Object testInstance, JsfRuntimeSetup setup,
+        JsfConfigurationPlan plan, List<JsfTestSetup> configurators) {
+        var recorder = setup.getTimingRecorder();
         var environment = new JsfEnvironmentHolder(setup);
-        // Store the environment in the context for parameter resolution
-        putEnvironment(environment, context);
 
-        ConfigurableApplication.createWrapAndRegister((MockFacesContext) environment.getFacesContext())
-            .setUseIdentityResourceBundle(useIdentityResourceBundle);
+        var configurableApplication = ConfigurableApplication
+            .createWrapAndRegister((MockFacesContext) environment.getFacesContext());
+        configurableApplication.setUseIdentityResourceBundle(plan.isUseIdentityResourceBundle());
+        configurableApplication.setInstallMockHandlersLazily(!plan.getProfile().isEager());
+        configurableApplication.setExpressionFactory(realExpressionFactory(plan.isUseRealExpressionLanguage()));
 
         // Ensure that the ConfigurableApplication is set for
         // JsfRuntimeSetup#getApplication
         setup.setApplication(environment.getFacesContext().getApplication());
 
         LOGGER.debug(() -> "Registering Decorators");
-        // Purpose-built LinkedHashSet preserves the deliberate configuration ordering
-        // (last-wins for conflicting registrations), so it must not be re-collected into
-        // an unordered set.
-        Set<JsfTestConfiguration> decoratorAnnotations = LinkedHashSet.newLinkedHashSet(16);
-
-        retrieveDecoratorAnnotations(testInstance.getClass(), decoratorAnnotations);
-
-        configureApplication(testInstance, environment.getApplicationConfigDecorator(), decoratorAnnotations);
-        configureComponents(testInstance, environment.getComponentConfigDecorator(), decoratorAnnotations);
-        configureRequestConfig(testInstance, environment.getRequestConfigDecorator(), decoratorAnnotations);
-
-        // Install default CuiMock implementations, matching ConfigurableFacesTest (issue #104)
-        var appConfig = environment.getApplicationConfigDecorator();
-        appConfig.getMockNavigationHandler();
-        appConfig.getMockSearchExpressionHandler();
-        appConfig.getMockResourceHandler();
-
-        if (testInstance instanceof JsfEnvironmentConsumer consumer) {
-            consumer.setEnvironmentHolder(environment);
+        applyApplicationConfiguration(testInstance, environment.getApplicationConfigDecorator(), configurators,
+            recorder);
+        applyComponentConfiguration(testInstance, environment.getComponentConfigDecorator(), configurators,
+            recorder);
+
+        if (plan.getProfile().isEager()) {
+            // Install default CuiMock implementations, matching ConfigurableFacesTest (issue #104)
+            var appConfig = environment.getApplicationConfigDecorator();
+            SetupTimingRecorder.record(recorder, HANDLERS_STEP, () -> {
+                appConfig.getMockNavigationHandler();
+                appConfig.getMockSearchExpressionHandler();
+                appConfig.getMockResourceHandler();
+            });
         }
+        return environment;
     }
 
     /**
-     * Retrieves all JsfTestConfiguration annotations from the class hierarchy, including nested classes.
-     * The annotations are added to the result set in order of priority (method > nested class > parent class).
-     *
-     * @param type   the class to check for annotations
-     * @param result the set to add the annotations to
-     * @param method the method to check for annotations, or null if not checking a method
+     * @return a new {@link CachingExpressionFactory}, scoped to the environment, if
+     * the real expression language is enabled, {@code null} otherwise, meaning the
+     * mock one
      */
-    private void retrieveDecoratorAnnotations(Class<?> type, Set<JsfTestConfiguration> result, java.lang.reflect.Method method) {
-        if (null == type || Object.class.equals(type)) {
-            return;
-        }
-
-        // Check method-level annotations first (highest priority)
-        if (method != null) {
-            Set<JsfTestConfiguration> methodAnnotations = new LinkedHashSet<>(
-                AnnotationSupport.findRepeatableAnnotations(method, JsfTestConfiguration.class));
-
-            // If method-level annotations are found, they take precedence over all others
-            if (!methodAnnotations.isEmpty()) {
-                result.clear();
-                result.addAll(methodAnnotations);
-                return;
-            }
-        }
-
-        // Check class-level annotations
-        Set<JsfTestConfiguration> classAnnotations = new LinkedHashSet<>(
-            AnnotationSupport.findRepeatableAnnotations(type, JsfTestConfiguration.class));
-
-        // If class-level annotations are found, they take precedence over parent/enclosing classes
-        if (!classAnnotations.isEmpty()) {
-            result.clear();
-            result.addAll(classAnnotations);
-            return;
-        }
-
-        // If no annotations found at this level, check enclosing classes or superclass
-        Class<?> enclosingClass = type.getEnclosingClass();
-        if (enclosingClass != null) {
-            retrieveDecoratorAnnotations(enclosingClass, result, null);
-        } else if (type.getSuperclass() != null) {
-            retrieveDecoratorAnnotations(type.getSuperclass(), result, null);
-        }
+    private static ExpressionFactory realExpressionFactory(boolean useRealExpressionLanguage) {
+        return realExpressionFactory(useRealExpressionLanguage, CachingExpressionFactory::forEnvironment);
     }
 
     /**
-     * Backward compatibility method that calls retrieveDecoratorAnnotations without a method parameter.
+     * Variant of {@link #realExpressionFactory(boolean)} with the source of the
+     * factory given, allowing to verify the handling of a missing implementation.
      *
-     * @param type   the class to check for annotations
-     * @param result the set to add the annotations to
+     * @throws ExtensionConfigurationException if the factory can not be provided
      */
-    private void retrieveDecoratorAnnotations(Class<?> type, Set<JsfTestConfiguration> result) {
-        retrieveDecoratorAnnotations(type, result, null);
+    static ExpressionFactory realExpressionFactory(boolean useRealExpressionLanguage,
+        Supplier<CachingExpressionFactory> factorySource) {
+        if (!useRealExpressionLanguage) {
+            return null;
+        }
+        try {
+            return factorySource.get();
+        } catch (IllegalStateException e) {
+            throw new ExtensionConfigurationException(e.getMessage(), e);
+        }
     }
 
     /**
-     * Retrieves all EnableJsfEnvironment annotations from the class hierarchy, including nested classes.
-     * The annotations are added to the result list in order of priority (method > nested class > parent class).
-     *
-     * @param type   the class to check for annotations
-     * @param result the list to add the annotations to
-     * @param method the method to check for annotations, or null if not checking a method
+     * Resolves the environment shared by all test-methods of the class of the given
+     * test instance, see {@link JsfEnvironmentLifecycle#PER_CLASS}. It is created on
+     * first access and stored within the class-level {@link ExtensionContext}, that
+     * closes it after all tests of the class have been run.
      */
-    private void retrieveEnableJSFAnnotations(Class<?> type, List<EnableJsfEnvironment> result, java.lang.reflect.Method method) {
-        if (null == type || Object.class.equals(type)) {
-            return;
+    private static ClassScopedJsfEnvironment getOrCreateClassEnvironment(Object testInstance,
+        ExtensionContext context, JsfConfigurationPlan plan, SetupTimingRecorder recorder) {
+        var testClass = testInstance.getClass();
+        var existing = getClassEnvironment(context, testClass);
+        if (existing.isPresent()) {
+            return existing.get();
         }
+        LOGGER.debug(() -> "Starting class-scoped JSF-Environment for " + testClass.getName());
+        // Class-scoped environments are created only once per class, therefore there is
+        // no point in reusing the per-thread runtime, see startRuntime(boolean, JsfEnvironmentProfile,
+        // SetupTimingRecorder, ExtensionContext)
+        var setup = new JsfRuntimeSetup();
+        setup.setIsolateResourceBundleVarNames(isParallelExecution(context));
+        setup.setProfile(plan.getProfile());
+        setup.setTimingRecorder(recorder);
+        setup.setUp();
+        var configurators = SetupTimingRecorder.measure(recorder, INSTANTIATE_STEP, plan::instantiateConfigurators);
+        var environment = createConfiguredEnvironment(testInstance, setup, plan, configurators);
+        var classEnvironment = new ClassScopedJsfEnvironment(setup, environment, configurators,
+            Thread.currentThread());
+
+        var classContext = context;
+        while (classContext.getTestMethod().isPresent() && classContext.getParent().isPresent()) {
+            classContext = classContext.getParent().get();
+        }
+        classContext.getStore(NAMESPACE).put(classEnvironmentKey(testClass), classEnvironment);
+        return classEnvironment;
+    }
 
-        // Create a new list to hold all annotations
-        List<EnableJsfEnvironment> allAnnotations = new ArrayList<>();
+    private static Optional<ClassScopedJsfEnvironment> getClassEnvironment(ExtensionContext context,
+        Class<?> testClass) {
+        return Optional.ofNullable(context.getStore(NAMESPACE).get(classEnvironmentKey(testClass),
+            ClassScopedJsfEnvironment.class));
+    }
 
-        // Check method-level annotations first (highest priority)
-        if (method != null) {
-            allAnnotations.addAll(AnnotationSupport.findRepeatableAnnotations(method, EnableJsfEnvironment.class));
-        }
+    private static Optional<ClassScopedJsfEnvironment> getClassEnvironment(ExtensionContext context) {
+        return context.getTestClass().flatMap(testClass -> getClassEnvironment(context, testClass));
+    }
 
-        // Then check class-level annotations
-        allAnnotations.addAll(AnnotationSupport.findRepeatableAnnotations(type, EnableJsfEnvironment.class));
+    private static String classEnvironmentKey(Class<?> testClass) {
+        return ClassScopedJsfEnvironment.class.getName() + ":" + testClass.getName();
+    }
 
-        // If we found annotations at this level, clear the result set and add these annotations
-        if (!allAnnotations.isEmpty()) {
-            result.clear();
-            result.addAll(allAnnotations);
-            return;
+    private static JsfRuntimeSetup startRuntime(boolean reuseRuntime, JsfEnvironmentProfile profile,
+        SetupTimingRecorder recorder, ExtensionContext context) {
+        if (!reuseRuntime) {
+            var setup = new JsfRuntimeSetup();
+            setup.setIsolateResourceBundleVarNames(isParallelExecution(context));
+            setup.setProfile(profile);
+            setup.setTimingRecorder(recorder);
+            setup.setUp();
+            return setup;
         }
-
-        // If no annotations found at this level, check enclosing classes or superclass
-        Class<?> enclosingClass = type.getEnclosingClass();
-        if (enclosingClass != null) {
-            retrieveEnableJSFAnnotations(enclosingClass, result, null);
-        } else if (type.getSuperclass() != null) {
-            retrieveEnableJSFAnnotations(type.getSuperclass(), result, null);
+        var setup = REUSABLE_RUNTIME.get();
+        if (null == setup) {
+            setup = new JsfRuntimeSetup();
+            REUSABLE_RUNTIME.set(setup);
         }
+        // Closes the classloader and releases the factories at the end of the run. Registered per
+        // run, because the thread and therefore its runtime may outlive it, e.g. within an IDE
+        var reused = setup;
+        context.getRoot().getStore(NAMESPACE).computeIfAbsent(reused,
+            key -> (AutoCloseable) reused::tearDown, AutoCloseable.class);
+        setup.setIsolateResourceBundleVarNames(isParallelExecution(context));
+        setup.setProfile(profile);
+        setup.setTimingRecorder(recorder);
+        // Falls back to setUp() on first usage
+        setup.reset();
+        return setup;
     }
 
     /**
-     * Backward compatibility method that calls retrieveEnableJSFAnnotations without a method parameter.
-     *
-     * @param type   the class to check for annotations
-     * @param result the list to add the annotations to
+     * @return true if tests may run on several threads at once, in which case
+     * clearing JVM-global state would affect tests running on other threads
      */
-    private void retrieveEnableJSFAnnotations(Class<?> type, List<EnableJsfEnvironment> result) {
-        retrieveEnableJSFAnnotations(type, result, null);
+    private static boolean isParallelExecution(ExtensionContext context) {
+        return context.getConfigurationParameter(PARALLEL_EXECUTION_ENABLED, Boolean::parseBoolean).orElse(false);
     }
 
     @Override
@@ -274,6 +393,12 @@ public class JsfSetupExtension implements TestInstancePostProcessor, BeforeEachC
             return;
         }
 
+        Optional<ClassScopedJsfEnvironment> classEnvironment = getClassEnvironment(context);
+        if (classEnvironment.isPresent()) {
+            prepareClassEnvironment(testInstanceOpt.get(), context, classEnvironment.get());
+            return;
+        }
+
         Object testInstance = testInstanceOpt.get();
         Optional<JsfEnvironmentHolder> environmentOpt = getEnvironment(context);
         if (environmentOpt.isEmpty()) {
@@ -302,24 +427,111 @@ public class JsfSetupExtension implements TestInstancePostProcessor, BeforeEachC
             // Method-level annotation found, apply it
             EnableJsfEnvironment annotation = methodAnnotations.getFirst();
 
-            // Update the identity resource bundle setting
-            ConfigurableApplication.createWrapAndRegister((MockFacesContext) environment.getFacesContext())
-                .setUseIdentityResourceBundle(annotation.useIdentityResourceBundle());
+            // Update the identity resource bundle and expression language settings
+            var configurableApplication = ConfigurableApplication
+                .createWrapAndRegister((MockFacesContext) environment.getFacesContext());
+            configurableApplication.setUseIdentityResourceBundle(annotation.useIdentityResourceBundle());
+            configurableApplication
+                .setExpressionFactory(realExpressionFactory(annotation.useRealExpressionLanguage()));
         }
 
         // Apply method-level JsfTestConfiguration annotations if present
         if (!decoratorAnnotations.isEmpty()) {
-            // Apply method-level configurations
-            configureApplication(testInstance, environment.getApplicationConfigDecorator(), decoratorAnnotations);
-            configureComponents(testInstance, environment.getComponentConfigDecorator(), decoratorAnnotations);
-            configureRequestConfig(testInstance, environment.getRequestConfigDecorator(), decoratorAnnotations);
+            // Apply method-level configurations, instantiated once for all phases
+            var configurators = instantiateConfigurations(decoratorAnnotations);
+            applyApplicationConfiguration(testInstance, environment.getApplicationConfigDecorator(), configurators);
+            applyComponentConfiguration(testInstance, environment.getComponentConfigDecorator(), configurators);
+            applyRequestConfiguration(testInstance, environment.getRequestConfigDecorator(), configurators);
+        }
+    }
+
+    /**
+     * Rebuilds the request-scoped state of a class-scoped environment and applies the
+     * request-configuration for the current test-method.
+     */
+    private static void prepareClassEnvironment(Object testInstance, ExtensionContext context,
+        ClassScopedJsfEnvironment classEnvironment) {
+        var testMethod = context.getRequiredTestMethod();
+        if (Thread.currentThread() != classEnvironment.getOwnerThread()) {
+            throw new ExtensionConfigurationException(
+                "JsfEnvironmentLifecycle.PER_CLASS requires all test-methods of %s to run on the same thread, offending method: %s. Use @Execution(ExecutionMode.SAME_THREAD) for the class"
+                    .formatted(context.getRequiredTestClass().getName(), testMethod.getName()));
+        }
+        rejectMethodLevelConfiguration(testMethod);
+        var recorder = getTimingRecorder(context);
+        var setup = classEnvironment.getRuntimeSetup();
+        setup.setTimingRecorder(recorder);
+        setup.resetRequest();
+        var environment = classEnvironment.getEnvironment();
+        applyRequestConfiguration(testInstance, environment.getRequestConfigDecorator(),
+            classEnvironment.getConfigurators(), recorder);
+    }
+
+    /**
+     * Method-level configuration would alter the environment shared by all
+     * test-methods of the class, see {@link JsfEnvironmentLifecycle#PER_CLASS}.
+     *
+     * @param testMethod to be checked
+     * @throws ExtensionConfigurationException in case the method is annotated with
+     *                                         {@link JsfTestConfiguration} or
+     *                                         {@link EnableJsfEnvironment}
+     */
+    static void rejectMethodLevelConfiguration(java.lang.reflect.Method testMethod) {
+        if (AnnotationSupport.isAnnotated(testMethod, JsfTestConfiguration.class)
+            || AnnotationSupport.isAnnotated(testMethod, JsfTestConfigurations.class)
+            || AnnotationSupport.isAnnotated(testMethod, EnableJsfEnvironment.class)
+            || AnnotationSupport.isAnnotated(testMethod, EnableJsfEnvironments.class)) {
+            throw new ExtensionConfigurationException(
+                "Method-level @JsfTestConfiguration / @EnableJsfEnvironment can not be honoured by the environment shared with JsfEnvironmentLifecycle.PER_CLASS, offending method: %s#%s. Move the configuration to the class or use JsfEnvironmentLifecycle.PER_METHOD"
+                    .formatted(testMethod.getDeclaringClass().getName(), testMethod.getName()));
         }
     }
 
     @Override
     public void afterEach(ExtensionContext context) {
-        LOGGER.debug(() -> "Tear-Down JSF-Environment");
-        get(context).ifPresent(JsfRuntimeSetup::tearDown);
+        if (getClassEnvironment(context).isEmpty()) {
+            LOGGER.debug(() -> "Tear-Down JSF-Environment");
+            if (Boolean.TRUE.equals(context.getStore(NAMESPACE).get(REUSE_RUNTIME_KEY))) {
+                get(context).ifPresent(JsfRuntimeSetup::suspend);
+            } else {
+                get(context).ifPresent(JsfRuntimeSetup::tearDown);
+            }
+        }
+        // Class-scoped environments are torn down together with the class-level ExtensionContext
+        publishTimings(context);
+    }
+
+    /**
+     * @return the {@link SetupTimingRecorder} of the given context, created on
+     * first access, or {@code null} in case {@link #TIMING_PARAMETER} is not enabled
+     */
+    private static SetupTimingRecorder getTimingRecorder(ExtensionContext context) {
+        if (!context.getConfigurationParameter(TIMING_PARAMETER, Boolean::parseBoolean).orElse(false)) {
+            return null;
+        }
+        return context.getStore(NAMESPACE).computeIfAbsent(SetupTimingRecorder.class.getName(),
+            key -> new SetupTimingRecorder(), SetupTimingRecorder.class);
+    }
+
+    /**
+     * Publishes the timings recorded for the current test as report-entries and adds
+     * them to the {@link SetupTimingSummary} of the run.
+     */
+    private static void publishTimings(ExtensionContext context) {
+        var recorder = context.getStore(NAMESPACE).get(SetupTimingRecorder.class.getName(),
+            SetupTimingRecorder.class);
+        if (null == recorder || recorder.isEmpty()) {
+            return;
+        }
+        var timings = recorder.drain();
+        Map<String, String> entries = new LinkedHashMap<>();
+        timings.forEach((step, duration) -> entries.put(TIMING_REPORT_PREFIX + step,
+            SetupTimingSummary.toMillis(duration.toNanos()) + " ms"));
+        context.publishReportEntry(entries);
+        context.getRoot().getStore(NAMESPACE)
+            .computeIfAbsent(SetupTimingSummary.class.getName(), key -> new SetupTimingSummary(),
+                SetupTimingSummary.class)
+            .add(timings);
     }
 
     private Optional<JsfRuntimeSetup> get(ExtensionContext context) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
+/**
+ * Aggregates the timings recorded by {@link de.cuioss.test.jsf.util.SetupTimingRecorder}
+ * over all tests of a run, see {@link JsfSetupExtension#TIMING_PARAMETER}. It is
+ * stored within the root {@link org.junit.jupiter.api.extension.ExtensionContext}
+ * and logs the summary when being closed at the end of the run.
+ *
+ * @author Oliver Wolff
+ */
+final class SetupTimingSummary implements AutoCloseable {
+
+    private static final CuiLogger LOGGER = new CuiLogger(SetupTimingSummary.class);
+
+    private final Map<String, LongSummaryStatistics> statistics = new HashMap<>();
+
+    /**
+     * @param timings of a single test to be added
+     */
+    synchronized void add(Map<String, Duration> timings) {
+        timings.forEach((step, duration) -> statistics
+            .computeIfAbsent(step, key -> new LongSummaryStatistics()).accept(duration.toNanos()));
+    }
+
+    /**
+     * @return the summary as table, one line per step sorted by the total duration,
+     * descending.
+     */
+    synchronized String createReport() {
+        var builder = new StringBuilder("JSF-Environment setup timings (total / count / mean / max in ms)");
+        statistics.entrySet().stream()
+            .sorted(Comparator.comparingLong(
+                (Map.Entry<String, LongSummaryStatistics> entry) -> entry.getValue().getSum()).reversed())
+            .forEach(entry -> {
+                var stats = entry.getValue();
+                builder.append(System.lineSeparator())
+                    .append("%10s %6d %10s %10s  %s".formatted(toMillis(stats.getSum()), stats.getCount(),
+                        toMillis((long) stats.getAverage()), toMillis(stats.getMax()), entry.getKey()));
+            });
+        return builder.toString();
+    }
+
+    static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public void close() {
+        if (!statistics.isEmpty()) {
+            LOGGER.info(createReport());
+        }
+    }
+}
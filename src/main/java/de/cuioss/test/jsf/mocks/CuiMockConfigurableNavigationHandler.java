@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.jfr.JsfNavigationEvent;
 import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.string.Joiner;
 import jakarta.faces.application.ConfigurableNavigationHandler;
@@ -83,12 +84,15 @@ public class CuiMockConfigurableNavigationHandler extends ConfigurableNavigation
             throw new UnsupportedOperationException("handleNavigation is working only with MockExternalContext");
 
         }
+        var event = new JsfNavigationEvent();
+        event.begin();
         final var navigationCase = getNavigationCase(context, fromAction, outcome);
 
         // JSF spec: with no matching navigation case the current view is retained.
         // Do not redirect and do not set the tracking flags, so an unregistered
         // outcome does not count as navigation.
         if (null == navigationCase) {
+            commit(event, fromAction, outcome, null, false);
             return;
         }
 
@@ -104,6 +108,20 @@ public class CuiMockConfigurableNavigationHandler extends ConfigurableNavigation
         context.getViewRoot().setViewId(newViewId);
         calledOutcome = outcome;
         handleNavigationCalled = true;
+        commit(event, fromAction, outcome, newViewId, navigationCase.isRedirect());
+    }
+
+    private static void commit(JsfNavigationEvent event, String fromAction, String outcome, String toViewId,
+        boolean redirect) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFromAction(fromAction);
+            event.setOutcome(outcome);
+            event.setMatched(null != toViewId);
+            event.setToViewId(toViewId);
+            event.setRedirect(redirect);
+            event.commit();
+        }
     }
 
     /**
@@ -15,14 +15,35 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.concurrent.AttributeContentionProfiler;
+import de.cuioss.test.jsf.concurrent.ConcurrentAttributeMap;
+import de.cuioss.test.jsf.session.SessionAttributeTracker;
+import de.cuioss.test.jsf.session.SessionReplicationReport;
 import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionBindingListener;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.myfaces.test.mock.MockHttpSession;
 
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
 /**
  * Extension to {@link MockHttpSession} that provides the programmatic setting
- * of 'maxInactiveInterval'
+ * of 'maxInactiveInterval'. In addition, it tracks the writes of attributes, see
+ * {@link #createReplicationReport()}.
+ * <p>
+ * The attributes are stored in a {@link ConcurrentAttributeMap}, so the session
+ * can be shared by concurrent requests. Their accesses can be recorded by
+ * setting an {@link AttributeContentionProfiler}. Like a container, the session
+ * notifies {@link HttpSessionBindingListener} values and
+ * {@link HttpSessionAttributeListener}s, including on {@link #invalidate()}.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -32,6 +53,16 @@ public class CuiMockHttpSession extends MockHttpSession {
     @Setter
     private int maxInactiveInterval;
 
+    /** Records every {@link #setAttribute(String, Object)}. */
+    @Getter
+    private final SessionAttributeTracker attributeTracker = new SessionAttributeTracker();
+
+    private final ConcurrentAttributeMap attributes = new ConcurrentAttributeMap("session");
+
+    private final List<HttpSessionAttributeListener> attributeListeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean invalid;
+
     /**
      * Constructor.
      *
@@ -43,10 +74,118 @@ public class CuiMockHttpSession extends MockHttpSession {
 
     @Override
     public void invalidate() {
-        // Delegate to the base implementation which clears the attributes and, more
-        // importantly, sets the 'invalid' flag so subsequent get/setAttribute calls
-        // throw IllegalStateException as required by the servlet contract.
+        // Delegate to the base implementation which rejects invalidating twice. The
+        // attributes are stored here, so they are unbound with notification like a
+        // container does, and the own 'invalid' flag makes subsequent get/setAttribute
+        // calls throw IllegalStateException as required by the servlet contract.
         super.invalidate();
+        for (String name : List.copyOf(attributes.keySet())) {
+            removeAttribute(name);
+        }
+        invalid = true;
+    }
+
+    /**
+     * @param listener to be notified on added, replaced and removed attributes, in
+     *                 addition to the ones registered at the
+     *                 {@link CuiMockServletContext}
+     */
+    public void addAttributeListener(final HttpSessionAttributeListener listener) {
+        attributeListeners.add(listener);
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        assertNotInvalid();
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        assertNotInvalid();
+        return Collections.enumeration(List.copyOf(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object value) {
+        assertNotInvalid();
+        if (null == name) {
+            throw new IllegalArgumentException("Attribute name must not be null");
+        }
+        if (null == value) {
+            removeAttribute(name);
+            return;
+        }
+        // As required by the servlet contract, the value is bound before it is made
+        // available, rebinding the same instance does not notify again
+        if (value instanceof HttpSessionBindingListener bindingListener && value != attributes.get(name)) {
+            bindingListener.valueBound(new HttpSessionBindingEvent(this, name, value));
+        }
+        var previousValue = attributes.put(name, value);
+        attributeTracker.recordWrite(name, previousValue, value);
+        if (previousValue != value && previousValue instanceof HttpSessionBindingListener bindingListener) {
+            bindingListener.valueUnbound(new HttpSessionBindingEvent(this, name, previousValue));
+        }
+        if (null == previousValue) {
+            fireAttributeEvent(new HttpSessionBindingEvent(this, name, value),
+                HttpSessionAttributeListener::attributeAdded);
+        } else {
+            fireAttributeEvent(new HttpSessionBindingEvent(this, name, previousValue),
+                HttpSessionAttributeListener::attributeReplaced);
+        }
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        assertNotInvalid();
+        var previousValue = attributes.remove(name);
+        attributeTracker.recordRemoval(name);
+        if (null == previousValue) {
+            return;
+        }
+        var event = new HttpSessionBindingEvent(this, name, previousValue);
+        if (previousValue instanceof HttpSessionBindingListener bindingListener) {
+            bindingListener.valueUnbound(event);
+        }
+        fireAttributeEvent(event, HttpSessionAttributeListener::attributeRemoved);
+    }
+
+    private void fireAttributeEvent(final HttpSessionBindingEvent event,
+        final BiConsumer<HttpSessionAttributeListener, HttpSessionBindingEvent> notification) {
+        attributeListeners.forEach(listener -> notification.accept(listener, event));
+        if (getServletContext() instanceof CuiMockServletContext context) {
+            context.getSessionAttributeListeners().forEach(listener -> notification.accept(listener, event));
+        }
+    }
+
+    /**
+     * @param profiler recording the accesses of the attributes, {@code null} for
+     *                 disabling
+     */
+    public void setContentionProfiler(final AttributeContentionProfiler profiler) {
+        attributes.setProfiler(profiler);
+    }
+
+    private void assertNotInvalid() {
+        if (invalid) {
+            throw new IllegalStateException("Session has been invalidated");
+        }
+    }
+
+    /**
+     * Serializes the current attributes separately, like a replicating container
+     * would, e.g. for asserting a budget after an interaction:
+     *
+     * <pre>
+     * session.getAttributeTracker().reset();
+     * underTest.search();
+     * session.createReplicationReport().assertTotalBytesAtMost(20 * 1024);
+     * </pre>
+     *
+     * @return the serialized size, serialization time and writes per attribute
+     */
+    public SessionReplicationReport createReplicationReport() {
+        return attributeTracker.createReport(this);
     }
 
 }
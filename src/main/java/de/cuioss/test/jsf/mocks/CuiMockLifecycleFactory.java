@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.mocks;
+
+import jakarta.faces.FactoryFinder;
+import jakarta.faces.lifecycle.Lifecycle;
+import jakarta.faces.lifecycle.LifecycleFactory;
+import org.apache.myfaces.test.mock.lifecycle.MockLifecycle;
+import org.apache.myfaces.test.mock.lifecycle.MockLifecycleFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Mock for {@link LifecycleFactory}. In contrast to the variant provided by
+ * myfaces-test, it can be {@link #reset()} to its initial state, namely a fresh
+ * {@link MockLifecycle} for {@link LifecycleFactory#DEFAULT_LIFECYCLE} only. This
+ * allows a reused {@link de.cuioss.test.jsf.util.JsfRuntimeSetup} to drop the
+ * lifecycles and phase-listeners of the previous test without re-registering the
+ * factories.
+ *
+ * @author Oliver Wolff
+ */
+public class CuiMockLifecycleFactory extends MockLifecycleFactory {
+
+    private final Map<String, Lifecycle> lifecycles = new ConcurrentHashMap<>();
+
+    /**
+     * Default Constructor.
+     */
+    public CuiMockLifecycleFactory() {
+        lifecycles.put(LifecycleFactory.DEFAULT_LIFECYCLE, new MockLifecycle());
+    }
+
+    /**
+     * Shorthand for accessing the configured {@link CuiMockLifecycleFactory}
+     *
+     * @return the currently active instance of LifecycleFactory
+     */
+    public static CuiMockLifecycleFactory retrieve() {
+        return (CuiMockLifecycleFactory) FactoryFinder.getFactory(FactoryFinder.LIFECYCLE_FACTORY);
+    }
+
+    @Override
+    public void addLifecycle(final String lifecycleId, final Lifecycle lifecycle) {
+        requireNonNull(lifecycleId, "lifecycleId must not be null");
+        requireNonNull(lifecycle, "lifecycle must not be null");
+        if (null != lifecycles.putIfAbsent(lifecycleId, lifecycle)) {
+            throw new IllegalArgumentException("Lifecycle already registered: " + lifecycleId);
+        }
+    }
+
+    @Override
+    public Lifecycle getLifecycle(final String lifecycleId) {
+        requireNonNull(lifecycleId, "lifecycleId must not be null");
+        var lifecycle = lifecycles.get(lifecycleId);
+        if (null == lifecycle) {
+            throw new IllegalArgumentException("Unknown lifecycle: " + lifecycleId);
+        }
+        return lifecycle;
+    }
+
+    @Override
+    public Iterator<String> getLifecycleIds() {
+        return new LinkedHashSet<>(lifecycles.keySet()).iterator();
+    }
+
+    /**
+     * Removes all registered lifecycles and registers a fresh {@link MockLifecycle}
+     * for {@link LifecycleFactory#DEFAULT_LIFECYCLE}.
+     */
+    public void reset() {
+        lifecycles.clear();
+        lifecycles.put(LifecycleFactory.DEFAULT_LIFECYCLE, new MockLifecycle());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.mocks;
+
+import jakarta.faces.FactoryFinder;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.render.RenderKit;
+import jakarta.faces.render.RenderKitFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Mock for {@link RenderKitFactory}. In contrast to the variant provided by
+ * myfaces-test, a {@link RenderKit} registered for an already known
+ * renderKitId <em>replaces</em> the previous one. This allows a reused
+ * {@link de.cuioss.test.jsf.util.JsfRuntimeSetup} to install a fresh
+ * {@link RenderKit} for every test without re-registering the factories.
+ * <p>
+ * In addition a {@link RenderKit} can be registered lazily by
+ * {@link #registerRenderKitSupplier(String, Supplier)}: it is created on first
+ * access only.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public class CuiMockRenderKitFactory extends RenderKitFactory {
+
+    private final Map<String, RenderKit> renderKits = new ConcurrentHashMap<>();
+
+    private final Map<String, Supplier<? extends RenderKit>> renderKitSuppliers = new ConcurrentHashMap<>();
+
+    /**
+     * Default Constructor.
+     */
+    public CuiMockRenderKitFactory() {
+        super(null);
+    }
+
+    /**
+     * Shorthand for accessing the configured {@link CuiMockRenderKitFactory}
+     *
+     * @return the currently active instance of RenderKitFactory
+     */
+    public static CuiMockRenderKitFactory retrieve() {
+        return (CuiMockRenderKitFactory) FactoryFinder.getFactory(FactoryFinder.RENDER_KIT_FACTORY);
+    }
+
+    @Override
+    public void addRenderKit(final String renderKitId, final RenderKit renderKit) {
+        requireNonNull(renderKitId, "renderKitId must not be null");
+        requireNonNull(renderKit, "renderKit must not be null");
+        renderKitSuppliers.remove(renderKitId);
+        renderKits.put(renderKitId, renderKit);
+    }
+
+    /**
+     * Registers a {@link RenderKit} to be created on first access by
+     * {@link #getRenderKit(FacesContext, String)}. Replaces an already registered
+     * {@link RenderKit} for the same renderKitId.
+     *
+     * @param renderKitId identifying the {@link RenderKit}, must not be null
+     * @param supplier    creating the {@link RenderKit}, must not be null
+     */
+    public void registerRenderKitSupplier(final String renderKitId, final Supplier<? extends RenderKit> supplier) {
+        requireNonNull(renderKitId, "renderKitId must not be null");
+        requireNonNull(supplier, "supplier must not be null");
+        renderKits.remove(renderKitId);
+        renderKitSuppliers.put(renderKitId, supplier);
+    }
+
+    /**
+     * Removes all registered render-kits, including the lazily registered ones.
+     * Used by a reused {@link de.cuioss.test.jsf.util.JsfRuntimeSetup} for dropping
+     * the render-kits of the previous test.
+     */
+    public void clear() {
+        renderKitSuppliers.clear();
+        renderKits.clear();
+    }
+
+    @Override
+    public RenderKit getRenderKit(final FacesContext context, final String renderKitId) {
+        requireNonNull(renderKitId, "renderKitId must not be null");
+        var renderKit = renderKits.get(renderKitId);
+        if (null == renderKit) {
+            var supplier = renderKitSuppliers.remove(renderKitId);
+            if (null != supplier) {
+                renderKit = supplier.get();
+                renderKits.put(renderKitId, renderKit);
+            }
+        }
+        return renderKit;
+    }
+
+    @Override
+    public Iterator<String> getRenderKitIds() {
+        Set<String> ids = new LinkedHashSet<>(renderKits.keySet());
+        ids.addAll(renderKitSuppliers.keySet());
+        return ids.iterator();
+    }
+
+    @Override
+    public RenderKitFactory getWrapped() {
+        return null;
+    }
+}
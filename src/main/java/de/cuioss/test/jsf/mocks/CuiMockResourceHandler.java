@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.jfr.JsfResourceLookupEvent;
 import de.cuioss.tools.string.MoreStrings;
 import jakarta.faces.application.Resource;
 import jakarta.faces.application.ResourceHandler;
@@ -128,7 +129,17 @@ public class CuiMockResourceHandler extends ResourceHandler {
 
     @Override
     public Resource createResource(final String resourceName, final String libraryName, final String contentType) {
-        return availableResources.get(createResourceMapKey(resourceName, libraryName));
+        var event = new JsfResourceLookupEvent();
+        event.begin();
+        final Resource resource = availableResources.get(createResourceMapKey(resourceName, libraryName));
+        event.end();
+        if (event.shouldCommit()) {
+            event.setResourceName(resourceName);
+            event.setLibraryName(libraryName);
+            event.setFound(null != resource);
+            event.commit();
+        }
+        return resource;
     }
 
     @Override
@@ -15,17 +15,52 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.concurrent.AttributeContentionProfiler;
+import de.cuioss.test.jsf.concurrent.ConcurrentAttributeMap;
+import jakarta.servlet.ServletContextAttributeEvent;
+import jakarta.servlet.ServletContextAttributeListener;
 import jakarta.servlet.ServletRegistration.Dynamic;
 import jakarta.servlet.SessionCookieConfig;
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.myfaces.test.mock.MockServletContext;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.EventListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Extension to {@link MockServletContext} providing configurable defaults. The
+ * attributes are stored in a {@link ConcurrentAttributeMap}, so the context can
+ * be shared by concurrent requests. Their accesses can be recorded by setting an
+ * {@link AttributeContentionProfiler}.
+ * <p>
+ * {@link ServletContextAttributeListener}s and {@link HttpSessionAttributeListener}s
+ * registered via {@link #addListener(EventListener)}, like a container does for
+ * the listeners of an application, are notified by the context and by the
+ * {@link CuiMockHttpSession}s created for it.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
 @Getter
 public class CuiMockServletContext extends MockServletContext {
 
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentAttributeMap attributes = new ConcurrentAttributeMap("application");
+
+    @Getter(AccessLevel.NONE)
+    private final List<ServletContextAttributeListener> attributeListeners = new CopyOnWriteArrayList<>();
+
+    /** Notified by the sessions of this context, in addition to their own ones. */
+    @Getter(AccessLevel.PACKAGE)
+    private final List<HttpSessionAttributeListener> sessionAttributeListeners = new CopyOnWriteArrayList<>();
+
     @Setter
     private int sessionTimeout = 200;
     @Setter
@@ -39,6 +74,75 @@ public class CuiMockServletContext extends MockServletContext {
     @Setter
     private SessionCookieConfig sessionCookieConfig;
 
+    /**
+     * @param listener to be notified on added, replaced and removed attributes
+     */
+    public void addAttributeListener(final ServletContextAttributeListener listener) {
+        addListener(listener);
+    }
+
+    @Override
+    public <T extends EventListener> void addListener(final T listener) {
+        var handled = false;
+        if (listener instanceof ServletContextAttributeListener attributeListener) {
+            attributeListeners.add(attributeListener);
+            handled = true;
+        }
+        if (listener instanceof HttpSessionAttributeListener sessionAttributeListener) {
+            sessionAttributeListeners.add(sessionAttributeListener);
+            handled = true;
+        }
+        if (!handled) {
+            super.addListener(listener);
+        }
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(List.copyOf(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object value) {
+        if (null == name) {
+            throw new IllegalArgumentException("Attribute name must not be null");
+        }
+        if (null == value) {
+            removeAttribute(name);
+            return;
+        }
+        var previousValue = attributes.put(name, value);
+        if (null == previousValue) {
+            attributeListeners.forEach(listener -> listener
+                .attributeAdded(new ServletContextAttributeEvent(this, name, value)));
+        } else {
+            attributeListeners.forEach(listener -> listener
+                .attributeReplaced(new ServletContextAttributeEvent(this, name, previousValue)));
+        }
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        var previousValue = attributes.remove(name);
+        if (null != previousValue) {
+            attributeListeners.forEach(listener -> listener
+                .attributeRemoved(new ServletContextAttributeEvent(this, name, previousValue)));
+        }
+    }
+
+    /**
+     * @param profiler recording the accesses of the attributes, {@code null} for
+     *                 disabling
+     */
+    public void setContentionProfiler(final AttributeContentionProfiler profiler) {
+        attributes.setProfiler(profiler);
+    }
+
     @Override
     public Dynamic addJspFile(String servletName, String jspFile) {
         throw new UnsupportedOperationException();
@@ -15,6 +15,8 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.concurrent.AttributeContentionProfiler;
+import de.cuioss.test.jsf.concurrent.ConcurrentAttributeMap;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.UIViewRoot;
 
@@ -24,14 +26,17 @@ import static de.cuioss.tools.collect.CollectionLiterals.mutableMap;
 
 /**
  * Mock variant of {@link UIViewRoot} providing a helper for adding a
- * {@link UIComponent} at runtime
+ * {@link UIComponent} at runtime. The view map is a
+ * {@link ConcurrentAttributeMap}, whose accesses can be recorded by setting an
+ * {@link AttributeContentionProfiler}.
  *
  * @author Oliver Wolff
  */
 public class CuiMockUIViewRoot extends UIViewRoot {
 
     private final Map<String, UIComponent> componentMap = mutableMap();
-    private Map<String, Object> viewMap;
+    private volatile ConcurrentAttributeMap viewMap;
+    private AttributeContentionProfiler contentionProfiler;
 
     /**
      * @param expr      must not be null
@@ -57,8 +62,25 @@ public class CuiMockUIViewRoot extends UIViewRoot {
     @Override
     public Map<String, Object> getViewMap(boolean create) {
         if (null == viewMap && create) {
-            viewMap = mutableMap();
+            synchronized (this) {
+                if (null == viewMap) {
+                    var created = new ConcurrentAttributeMap("view");
+                    created.setProfiler(contentionProfiler);
+                    viewMap = created;
+                }
+            }
         }
         return viewMap;
     }
+
+    /**
+     * @param profiler recording the accesses of the view map, {@code null} for
+     *                 disabling
+     */
+    public synchronized void setContentionProfiler(AttributeContentionProfiler profiler) {
+        contentionProfiler = profiler;
+        if (null != viewMap) {
+            viewMap.setProfiler(profiler);
+        }
+    }
 }
@@ -17,7 +17,7 @@ package de.cuioss.test.jsf.renderer;
 
 import de.cuioss.test.jsf.config.renderer.VerifyComponentRendererConfig;
 import de.cuioss.test.jsf.config.renderer.VetoRenderAttributeAssert;
-import de.cuioss.test.jsf.renderer.util.DomUtils;
+import de.cuioss.test.jsf.renderer.util.DomIndex;
 import de.cuioss.tools.reflect.FieldWrapper;
 import de.cuioss.tools.reflect.MoreReflection;
 import jakarta.faces.component.UIComponent;
@@ -30,10 +30,13 @@ import jakarta.faces.render.Renderer;
 import lombok.Getter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.AssertionFailedError;
 
 import java.util.*;
 
 import static de.cuioss.tools.collect.CollectionLiterals.mutableList;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 /**
@@ -51,12 +54,17 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
  */
 public abstract class AbstractComponentRendererTest<R extends Renderer> extends AbstractRendererTestBase<R> {
 
+    private static final String CONCURRENT_FORM_ID = "form";
+
     @Getter
     private Set<RendererAttributeAssert> activeAsserts;
 
     @Getter
     private boolean wrapComponentInForm = false;
 
+    @Getter
+    private boolean renderAttributeAssertsTogether = false;
+
     /**
      * Initializes the active {@link RendererAttributeAssert} and checks for the
      * {@link VerifyComponentRendererConfig} annotation
@@ -70,8 +78,10 @@ public abstract class AbstractComponentRendererTest<R extends Renderer> extends
     private void handleConfigAnnotation() {
         Optional<VerifyComponentRendererConfig> configOption = MoreReflection.extractAnnotation(getClass(),
             VerifyComponentRendererConfig.class);
-        configOption.ifPresent(verifyComponentRendererConfig -> wrapComponentInForm = verifyComponentRendererConfig
-            .wrapComponentInForm());
+        configOption.ifPresent(verifyComponentRendererConfig -> {
+            wrapComponentInForm = verifyComponentRendererConfig.wrapComponentInForm();
+            renderAttributeAssertsTogether = verifyComponentRendererConfig.renderAttributeAssertsTogether();
+        });
     }
 
     private void handleRenderAttributeAsserts() {
@@ -90,15 +100,57 @@ public abstract class AbstractComponentRendererTest<R extends Renderer> extends
      */
     @Test
     public void shouldHandleRendererAttributeAsserts(FacesContext facesContext) {
+        if (renderAttributeAssertsTogether) {
+            for (List<RendererAttributeAssert> group : groupRendererAttributeAsserts(activeAsserts)) {
+                var index = renderWithAttributes(group, facesContext);
+                assertAll("RendererAttributeAsserts " + group, group.stream()
+                    .map(attributeAssert -> (Executable) () -> assertAttributeSet(attributeAssert, index)));
+            }
+            return;
+        }
         for (RendererAttributeAssert attributeAssert : activeAsserts) {
-            var component = getWrappedComponent();
-            attributeAssert.applyAttribute(component);
-            component.processEvent(new PostAddToViewEvent(component));
-            var document = DomUtils.htmlStringToDocument(assertDoesNotThrow(() -> super.renderToString(component, facesContext)));
-            attributeAssert.assertAttributeSet(document.getRootElement());
+            attributeAssert.assertAttributeSet(renderWithAttributes(List.of(attributeAssert), facesContext));
+        }
+    }
+
+    private DomIndex renderWithAttributes(final List<RendererAttributeAssert> attributeAsserts,
+        final FacesContext facesContext) {
+        var component = getWrappedComponent();
+        attributeAsserts.forEach(attributeAssert -> attributeAssert.applyAttribute(component));
+        component.processEvent(new PostAddToViewEvent(component));
+        return DomIndex.of(assertDoesNotThrow(() -> super.renderToDocument(component, facesContext)));
+    }
+
+    private static void assertAttributeSet(final RendererAttributeAssert attributeAssert, final DomIndex index) {
+        try {
+            attributeAssert.assertAttributeSet(index);
+        } catch (AssertionError e) {
+            throw new AssertionFailedError(attributeAssert + ": " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Groups the given asserts for rendering them together: Combinable asserts,
+     * see {@link RendererAttributeAssert#isCombinable()}, share a group as long as
+     * they use different attributes, all others get a group of their own.
+     *
+     * @param attributeAsserts to be grouped
+     * @return the groups, in the order of the given asserts
+     */
+    static List<List<RendererAttributeAssert>> groupRendererAttributeAsserts(
+        final Collection<RendererAttributeAssert> attributeAsserts) {
+        final List<List<RendererAttributeAssert>> groups = new ArrayList<>();
+        for (RendererAttributeAssert attributeAssert : attributeAsserts) {
+            var group = attributeAssert.isCombinable() ? groups.stream()
+                .filter(candidate -> candidate.getFirst().isCombinable() && candidate.stream()
+                    .noneMatch(other -> other.getAttributeName().equals(attributeAssert.getAttributeName())))
+                .findFirst() : Optional.<List<RendererAttributeAssert>>empty();
+            group.ifPresentOrElse(found -> found.add(attributeAssert),
+                () -> groups.add(new ArrayList<>(List.of(attributeAssert))));
+        }
+        return groups;
+    }
+
     /**
      * @return the {@link UIComponent} derived by {@link #getComponent()} or the
      * same wrapped in an {@link HtmlForm} in case
@@ -113,6 +165,22 @@ public abstract class AbstractComponentRendererTest<R extends Renderer> extends
         return component;
     }
 
+    /**
+     * @return {@link #getWrappedComponent()}, so the component is rendered
+     * concurrently within the same parent as by the attribute tests. A wrapping
+     * form gets the fixed id 'form', as its generated id
+     * would differ between the replays.
+     */
+    @Override
+    protected UIComponent getConcurrentlyRenderedComponent() {
+        var component = getWrappedComponent();
+        var parent = component.getParent();
+        if (null != parent && null == parent.getId()) {
+            parent.setId(CONCURRENT_FORM_ID);
+        }
+        return component;
+    }
+
     /**
      * Helper method that extracts all queued events from {@link UIViewRoot}.
      * To use this method, the corresponding test must ensure that the
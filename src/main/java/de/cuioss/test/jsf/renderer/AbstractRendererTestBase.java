@@ -15,16 +15,24 @@
  */
 package de.cuioss.test.jsf.renderer;
 
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier;
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier.Replay;
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.jfr.JsfRenderEvent;
+import de.cuioss.test.jsf.junit5.ConcurrentAccessCondition;
 import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.renderer.util.DomCapturingResponseWriter;
 import de.cuioss.test.jsf.renderer.util.DomUtils;
 import de.cuioss.test.jsf.renderer.util.HtmlTreeAsserts;
+import de.cuioss.test.jsf.renderer.util.StreamingHtmlTreeAsserts;
 import de.cuioss.test.valueobjects.objects.ConfigurationCallBackHandler;
 import de.cuioss.test.valueobjects.objects.impl.DefaultInstantiator;
 import de.cuioss.tools.reflect.MoreReflection;
 import de.cuioss.tools.string.MoreStrings;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.ResponseWriter;
 import jakarta.faces.render.FacesRenderer;
 import jakarta.faces.render.Renderer;
 import lombok.Getter;
@@ -32,9 +40,14 @@ import org.apache.myfaces.test.mock.MockResponseWriter;
 import org.jdom2.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 import static de.cuioss.tools.string.MoreStrings.emptyToNull;
 import static java.util.Objects.requireNonNull;
@@ -73,6 +86,11 @@ import static org.junit.jupiter.api.Assertions.*;
  * {@link #assertRenderResult(UIComponent, String, FacesContext)} are the main 'business'
  * methods for explicit testing</li>
  * </ul>
+ * <h3>Concurrency-Test</h3> If the test-class is annotated with
+ * {@link VerifyConcurrentAccess},
+ * {@link #shouldRenderConcurrently(FacesContext, TestReporter)} renders
+ * {@link #getConcurrentlyRenderedComponent()} concurrently with the single
+ * renderer instance, like JSF shares it across requests.
  *
  * @param <R> The renderer being tested
  * @author Oliver Wolff
@@ -87,6 +105,8 @@ public abstract class AbstractRendererTestBase<R extends Renderer>
 
     private static final String NPE_ON_MISSING_FACES_CONTEXT_EXPECTED = "NullPointerException expected on missing FacesContext. Use inheritance or implement own check.";
 
+    private static final String CONCURRENT_ID_PREFIX = "concurrent";
+
     @Getter
     private R renderer;
 
@@ -109,6 +129,37 @@ public abstract class AbstractRendererTestBase<R extends Renderer>
      */
     protected abstract UIComponent getComponent();
 
+    /**
+     * @return the {@link UIComponent} rendered by
+     * {@link #shouldRenderConcurrently(FacesContext, TestReporter)}, defaults to
+     * {@link #getComponent()}. Like {@link #getComponent()} it must return a new
+     * instance on each call, as JSF shares renderers, but not components, across
+     * requests
+     */
+    protected UIComponent getConcurrentlyRenderedComponent() {
+        return getComponent();
+    }
+
+    /**
+     * @return a new {@link #getConcurrentlyRenderedComponent()} whose subtree has an
+     * id assigned to each component without one. Generated ids depend on the
+     * counter of the view-root, so they would differ between the replays. Parents
+     * are left untouched, see
+     * {@link AbstractComponentRendererTest#getConcurrentlyRenderedComponent()}.
+     */
+    UIComponent createConcurrentlyRenderedComponent() {
+        var component = getConcurrentlyRenderedComponent();
+        assignStableIds(component, new AtomicInteger());
+        return component;
+    }
+
+    private static void assignStableIds(final UIComponent component, final AtomicInteger counter) {
+        if (null == component.getId()) {
+            component.setId(CONCURRENT_ID_PREFIX + counter.getAndIncrement());
+        }
+        component.getFacetsAndChildren().forEachRemaining(child -> assignStableIds(child, counter));
+    }
+
     /**
      * Renders the given component / renderer into a String representation
      *
@@ -121,12 +172,47 @@ public abstract class AbstractRendererTestBase<R extends Renderer>
     public String renderToString(final UIComponent toBeRendered, FacesContext facesContext) throws IOException {
         requireNonNull(toBeRendered);
         var output = new StringWriter();
-        facesContext.setResponseWriter(new MockResponseWriter(output));
+        encode(toBeRendered, facesContext, new MockResponseWriter(output), () -> output.getBuffer().length());
+        return output.toString();
+    }
+
+    /**
+     * Renders the given component / renderer directly into a {@link Document}, see
+     * {@link DomCapturingResponseWriter}. The result is equivalent to
+     * {@link DomUtils#htmlStringToDocument(String)} on the result of
+     * {@link #renderToString(UIComponent, FacesContext)}, but usually avoids
+     * serializing and parsing the markup.
+     *
+     * @param toBeRendered the component to be passed to the renderer, must not be
+     *                     null
+     * @param facesContext the FacesContext to be used for rendering
+     * @return the {@link Document} with the rendered elements as children of the
+     * element {@code root}
+     * @throws IOException if an error occurs during rendering
+     */
+    public Document renderToDocument(final UIComponent toBeRendered, FacesContext facesContext) throws IOException {
+        requireNonNull(toBeRendered);
+        var writer = new DomCapturingResponseWriter();
+        encode(toBeRendered, facesContext, writer, writer::getOutputLength);
+        return writer.getDocument();
+    }
+
+    private void encode(final UIComponent toBeRendered, final FacesContext facesContext,
+        final ResponseWriter responseWriter, final LongSupplier outputLength) throws IOException {
+        facesContext.setResponseWriter(responseWriter);
         final Renderer testRenderer = getRenderer();
+        var event = new JsfRenderEvent();
+        event.begin();
         testRenderer.encodeBegin(facesContext, toBeRendered);
         testRenderer.encodeChildren(facesContext, toBeRendered);
         testRenderer.encodeEnd(facesContext, toBeRendered);
-        return output.toString();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setRenderer(testRenderer.getClass());
+            event.setComponent(toBeRendered.getClass());
+            event.setOutputLength(outputLength.getAsLong());
+            event.commit();
+        }
     }
 
     /**
@@ -139,14 +225,14 @@ public abstract class AbstractRendererTestBase<R extends Renderer>
      * @param facesContext the FacesContext to be used for rendering
      */
     public void assertRenderResult(final UIComponent toBeRendered, final Document expected, FacesContext facesContext) {
-        var rendered = assertDoesNotThrow(() -> renderToString(toBeRendered, facesContext));
-        assertNotNull(emptyToNull(rendered), "Render result must not be empty.");
-        HtmlTreeAsserts.assertHtmlTreeEquals(expected, DomUtils.htmlStringToDocument(rendered));
+        var rendered = assertDoesNotThrow(() -> renderToDocument(toBeRendered, facesContext));
+        assertNotEquals(0, rendered.getRootElement().getContentSize(), "Render result must not be empty.");
+        HtmlTreeAsserts.assertHtmlTreeEquals(expected, rendered);
     }
 
     /**
      * Shorthand for {@link #assertRenderResult(UIComponent, Document, FacesContext)} and
-     * {@link DomUtils#htmlStringToDocument(String)}
+     * {@link DomUtils#cachedHtmlStringToDocument(String)}
      *
      * @param toBeRendered the component to be passed to the renderer, must not be
      *                     null
@@ -155,7 +241,25 @@ public abstract class AbstractRendererTestBase<R extends Renderer>
      */
     public void assertRenderResult(final UIComponent toBeRendered, final String expected, FacesContext facesContext) {
         assertNotNull(emptyToNull(expected), "Expected HTML must not be empty");
-        assertRenderResult(toBeRendered, DomUtils.htmlStringToDocument(expected), facesContext);
+        assertRenderResult(toBeRendered, DomUtils.cachedHtmlStringToDocument(expected), facesContext);
+    }
+
+    /**
+     * Variant of {@link #assertRenderResult(UIComponent, String, FacesContext)}
+     * comparing the markup with {@link StreamingHtmlTreeAsserts}, without building
+     * JDOM documents. Meant for renderers emitting large markup, e.g. tables.
+     *
+     * @param toBeRendered the component to be passed to the renderer, must not be
+     *                     null
+     * @param expected     the expected HTML string, must not be null
+     * @param facesContext the FacesContext to be used for rendering
+     */
+    public void assertStreamedRenderResult(final UIComponent toBeRendered, final String expected,
+        FacesContext facesContext) {
+        assertNotNull(emptyToNull(expected), "Expected HTML must not be empty");
+        var rendered = assertDoesNotThrow(() -> renderToString(toBeRendered, facesContext));
+        assertNotNull(emptyToNull(rendered), "Render result must not be empty.");
+        StreamingHtmlTreeAsserts.assertHtmlTreeEquals(expected, rendered);
     }
 
     /**
@@ -170,6 +274,33 @@ public abstract class AbstractRendererTestBase<R extends Renderer>
         assertNull(MoreStrings.emptyToNull(rendered), "Render result must be empty, but is:\n" + rendered);
     }
 
+    /**
+     * Renders {@link #getConcurrentlyRenderedComponent()} concurrently with the
+     * single instance returned by {@link #getRenderer()}, each replay with a new
+     * component carrying stable ids and each thread with its own
+     * {@link FacesContext} and {@link ResponseWriter}, and fails on any output
+     * differing from the single-threaded one. This is repeated with 1, 2, 4 up to
+     * {@link VerifyConcurrentAccess#threads()} threads, the resulting throughput
+     * scaling is published to the {@link TestReporter}. Disabled unless the
+     * test-class is annotated with {@link VerifyConcurrentAccess}, see
+     * {@link ConcurrentAccessCondition}.
+     *
+     * @param facesContext providing the shared application
+     * @param testReporter receiving the throughput scaling
+     */
+    @Test
+    @ExtendWith(ConcurrentAccessCondition.class)
+    void shouldRenderConcurrently(FacesContext facesContext, TestReporter testReporter) {
+        var config = MoreReflection.extractAnnotation(getClass(), VerifyConcurrentAccess.class).orElseThrow();
+
+        var replays = List.of(new Replay("render " + getRenderer().getClass().getSimpleName(),
+            context -> renderToString(createConcurrentlyRenderedComponent(), context)));
+        var report = new SharedInstanceVerifier(facesContext).verifyScaling(config.threads(),
+            config.iterations(), replays);
+        testReporter.publishEntry("concurrentRendering", report.createSummary());
+        report.assertNoDivergence();
+    }
+
     // API tests
     /**
      * Tests that the renderer's decode method properly throws NullPointerException
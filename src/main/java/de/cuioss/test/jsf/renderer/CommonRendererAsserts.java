@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.jsf.renderer;
 
+import de.cuioss.test.jsf.renderer.util.DomIndex;
 import de.cuioss.test.jsf.renderer.util.DomUtils;
 import jakarta.faces.component.UIComponent;
 import lombok.Getter;
@@ -53,6 +54,23 @@ public enum CommonRendererAsserts implements RendererAttributeAssert {
             assertTrue(element.getTextTrim().isEmpty(),
                 "Text output found, although the rendered attribute is set to 'false'. This may be a tricky one, depending on your desired output");
         }
+
+        /**
+         * Checks the absence of output, not an attribute
+         */
+        @Override
+        public void assertAttributeSet(final DomIndex index) {
+            assertAttributeSet(index.getRoot());
+        }
+
+        /**
+         * Suppresses the output of the whole component, therefore it can not be
+         * combined with other asserts
+         */
+        @Override
+        public boolean isCombinable() {
+            return false;
+        }
     },
     /**
      * Checks the attribute 'style'
@@ -69,6 +87,13 @@ public enum CommonRendererAsserts implements RendererAttributeAssert {
             assertFalse(found.isEmpty(), "The expected attribute with name='class' and traceValue="
                 + getAttributeTraceValue() + " was not found in the resulting dom-tree.");
         }
+
+        @Override
+        public void assertAttributeSet(final DomIndex index) {
+            var found = index.attributesContaining("class", getAttributeTraceValue().toString());
+            assertFalse(found.isEmpty(), "The expected attribute with name='class' and traceValue="
+                + getAttributeTraceValue() + " was not found in the resulting dom-tree.");
+        }
     },
     /**
      * Checks the passthrough-attributes.
@@ -98,4 +123,16 @@ public enum CommonRendererAsserts implements RendererAttributeAssert {
         assertFalse(found.isEmpty(), "The expected attribute with name=" + getAttributeName() + " and traceValue="
             + getAttributeTraceValue() + " was not found in the resulting dom-tree.");
     }
+
+    @Override
+    public void assertAttributeSet(final DomIndex index) {
+        var found = index.attributesContaining(getAttributeName(), getAttributeTraceValue().toString());
+        assertFalse(found.isEmpty(), "The expected attribute with name=" + getAttributeName() + " and traceValue="
+            + getAttributeTraceValue() + " was not found in the resulting dom-tree.");
+    }
+
+    @Override
+    public boolean isCombinable() {
+        return true;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.jsf.renderer;
 
+import de.cuioss.test.jsf.renderer.util.DomIndex;
 import jakarta.faces.component.UIComponent;
 import org.jdom2.Element;
 
@@ -43,4 +44,26 @@ public interface RendererAttributeAssert {
      * @param element to be checked
      */
     void assertAttributeSet(Element element);
+
+    /**
+     * Asserts in the given indexed render-result that the attribute was set
+     * properly. Defaults to {@link #assertAttributeSet(Element)} with the
+     * root element of the index.
+     *
+     * @param index of the render-result to be checked
+     */
+    default void assertAttributeSet(DomIndex index) {
+        assertAttributeSet(index.getRoot());
+    }
+
+    /**
+     * @return {@code true} if this assert can be applied to the same component
+     * together with other combinable asserts using a different attribute, and be
+     * verified with a single rendering, see
+     * {@link de.cuioss.test.jsf.config.renderer.VerifyComponentRendererConfig#renderAttributeAssertsTogether()}.
+     * Defaults to {@code false}
+     */
+    default boolean isCombinable() {
+        return false;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.profile;
+
+import jakarta.faces.render.RenderKit;
+import jakarta.faces.render.RenderKitWrapper;
+import jakarta.faces.render.Renderer;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link RenderKitWrapper} instrumenting every {@link Renderer} it hands out, see
+ * {@link ProfilingRenderer}. Renderers added to this kit are added to the wrapped
+ * one, therefore the wrapped kit, e.g. the
+ * {@link org.apache.myfaces.test.mock.MockRenderKit} provided by
+ * {@link de.cuioss.test.jsf.util.JsfRuntimeSetup#getRenderKit()}, can still be
+ * configured directly.
+ *
+ * @author Oliver Wolff
+ */
+public class ProfilingRenderKit extends RenderKitWrapper {
+
+    @Getter
+    private final RenderProfiler profiler;
+
+    /** The wrappers are created once per renderer and type */
+    private final Map<Renderer, Map<String, ProfilingRenderer>> wrappers = new ConcurrentHashMap<>();
+
+    /**
+     * @param wrapped  the {@link RenderKit} to be wrapped, must not be null
+     * @param profiler receiving the invocations, must not be null
+     */
+    public ProfilingRenderKit(final RenderKit wrapped, final RenderProfiler profiler) {
+        super(requireNonNull(wrapped, "wrapped must not be null"));
+        this.profiler = requireNonNull(profiler, "profiler must not be null");
+    }
+
+    @Override
+    public Renderer getRenderer(final String family, final String rendererType) {
+        var renderer = getWrapped().getRenderer(family, rendererType);
+        if (null == renderer || renderer instanceof ProfilingRenderer) {
+            return renderer;
+        }
+        return wrappers.computeIfAbsent(renderer, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(String.valueOf(rendererType), type -> new ProfilingRenderer(renderer, type, profiler));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.profile;
+
+import de.cuioss.test.jsf.renderer.profile.RenderProfiler.Phase;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.render.Renderer;
+import jakarta.faces.render.RendererWrapper;
+
+import java.io.IOException;
+
+/**
+ * {@link RendererWrapper} reporting the invocations of decode, encodeBegin,
+ * encodeChildren and encodeEnd to a {@link RenderProfiler}. Created by
+ * {@link ProfilingRenderKit}.
+ *
+ * @author Oliver Wolff
+ */
+class ProfilingRenderer extends RendererWrapper {
+
+    private final String rendererType;
+
+    private final RenderProfiler profiler;
+
+    ProfilingRenderer(final Renderer wrapped, final String rendererType, final RenderProfiler profiler) {
+        super(wrapped);
+        this.rendererType = rendererType;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void decode(final FacesContext context, final UIComponent component) {
+        profiler.profileUnchecked(Phase.DECODE, context, component, rendererType,
+            () -> super.decode(context, component));
+    }
+
+    @Override
+    public void encodeBegin(final FacesContext context, final UIComponent component) throws IOException {
+        profiler.profile(Phase.ENCODE_BEGIN, context, component, rendererType,
+            () -> super.encodeBegin(context, component));
+    }
+
+    @Override
+    public void encodeChildren(final FacesContext context, final UIComponent component) throws IOException {
+        profiler.profile(Phase.ENCODE_CHILDREN, context, component, rendererType,
+            () -> super.encodeChildren(context, component));
+    }
+
+    @Override
+    public void encodeEnd(final FacesContext context, final UIComponent component) throws IOException {
+        profiler.profile(Phase.ENCODE_END, context, component, rendererType,
+            () -> super.encodeEnd(context, component));
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.profile;
+
+import de.cuioss.test.jsf.mocks.CuiMockRenderKitFactory;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.render.RenderKitFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records the invocations of instrumented renderers, see
+ * {@link ProfilingRenderKit}: Count and duration per component clientId,
+ * renderer-type and {@link Phase}. This way components that are encoded redundantly
+ * or dominate the render time can be identified.
+ * <p>
+ * Besides the summary, see {@link #createSummary()}, the profiler creates the
+ * collapsed-stack format read by flame-graph tools, see
+ * {@link #createCollapsedStacks()}. The frames reflect the component tree: One frame
+ * per component, named {@code rendererType[clientId]}, with the invoked method as
+ * leaf, e.g. {@code jakarta.faces.Form[form];encodeChildren;jakarta.faces.Text[form:name];encodeEnd 1200}.
+ * The value is the self time in nanoseconds, excluding nested renderer calls.
+ * </p>
+ * <p>
+ * Usage within a test:
+ * </p>
+ *
+ * <pre>
+ * var profiler = RenderProfiler.install(facesContext);
+ * // render the view
+ * LOGGER.info(profiler.createSummary());
+ * assertEquals(1, profiler.getCount("form:name", Phase.ENCODE_BEGIN));
+ * </pre>
+ * <p>
+ * Alternatively it can be set to {@link de.cuioss.test.jsf.util.JsfRuntimeSetup#setRenderProfiler(RenderProfiler)}
+ * before setting up the runtime. Renderers that are called directly, e.g. the one
+ * under test in {@link de.cuioss.test.jsf.renderer.AbstractRendererTestBase}, are
+ * not instrumented, only those looked up from the render-kit. The instance is
+ * thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class RenderProfiler {
+
+    /**
+     * The profiled methods of {@link jakarta.faces.render.Renderer}
+     */
+    @RequiredArgsConstructor
+    public enum Phase {
+        /** {@link jakarta.faces.render.Renderer#decode(FacesContext, UIComponent)} */
+        DECODE("decode"),
+        /** {@link jakarta.faces.render.Renderer#encodeBegin(FacesContext, UIComponent)} */
+        ENCODE_BEGIN("encodeBegin"),
+        /** {@link jakarta.faces.render.Renderer#encodeChildren(FacesContext, UIComponent)} */
+        ENCODE_CHILDREN("encodeChildren"),
+        /** {@link jakarta.faces.render.Renderer#encodeEnd(FacesContext, UIComponent)} */
+        ENCODE_END("encodeEnd");
+
+        @Getter
+        private final String methodName;
+    }
+
+    /**
+     * Aggregated invocations of one {@link Phase} for one component.
+     *
+     * @param clientId     of the component
+     * @param rendererType the renderer was looked up for
+     * @param phase        the invoked method
+     * @param count        number of invocations
+     * @param nanos        summed duration, including nested renderer calls
+     */
+    public record Timing(String clientId, String rendererType, Phase phase, long count, long nanos) {
+    }
+
+    /**
+     * A call to be profiled
+     */
+    @FunctionalInterface
+    interface RenderCall {
+        void run() throws IOException;
+    }
+
+    private record Key(String clientId, String rendererType) {
+    }
+
+    private static final int PHASES = Phase.values().length;
+
+    private final Map<Key, long[]> counts = new LinkedHashMap<>();
+    private final Map<Key, long[]> nanos = new LinkedHashMap<>();
+    private final Map<String, Long> collapsedStacks = new LinkedHashMap<>();
+
+    /** The currently open components and calls of the current thread */
+    private final ThreadLocal<Deque<Frame>> stacks = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Wraps the {@link jakarta.faces.render.RenderKit} for
+     * {@link RenderKitFactory#HTML_BASIC_RENDER_KIT} of the current environment into
+     * a {@link ProfilingRenderKit}.
+     *
+     * @param facesContext of the current environment, must not be null
+     * @return the profiler the instrumented renderers report to
+     * @throws IllegalStateException if no render-kit is registered
+     */
+    public static RenderProfiler install(final FacesContext facesContext) {
+        requireNonNull(facesContext, "facesContext must not be null");
+        var factory = CuiMockRenderKitFactory.retrieve();
+        var current = factory.getRenderKit(facesContext, RenderKitFactory.HTML_BASIC_RENDER_KIT);
+        if (null == current) {
+            throw new IllegalStateException("No render-kit registered for " + RenderKitFactory.HTML_BASIC_RENDER_KIT);
+        }
+        if (current instanceof ProfilingRenderKit profiling) {
+            return profiling.getProfiler();
+        }
+        var profiler = new RenderProfiler();
+        factory.addRenderKit(RenderKitFactory.HTML_BASIC_RENDER_KIT, new ProfilingRenderKit(current, profiler));
+        return profiler;
+    }
+
+    void profileUnchecked(final Phase phase, final FacesContext context, final UIComponent component,
+        final String rendererType, final Runnable call) {
+        try {
+            profile(phase, context, component, rendererType, call::run);
+        } catch (IOException e) {
+            // Not reachable, Runnable does not throw checked exceptions
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void profile(final Phase phase, final FacesContext context, final UIComponent component,
+        final String rendererType, final RenderCall call) throws IOException {
+        var clientId = component.getClientId(context);
+        var stack = stacks.get();
+        var componentFrame = findComponentFrame(stack);
+        var componentPushed = null == componentFrame || componentFrame.component != component;
+        if (componentPushed) {
+            componentFrame = new Frame(sanitize(rendererType + "[" + clientId + "]"), component);
+            stack.push(componentFrame);
+        }
+        var callFrame = new Frame(phase.getMethodName(), null);
+        stack.push(callFrame);
+        var completed = false;
+        var start = System.nanoTime();
+        try {
+            call.run();
+            completed = true;
+        } finally {
+            var elapsed = System.nanoTime() - start;
+            var path = toPath(stack);
+            stack.pop();
+            var parentCall = findCallFrame(stack);
+            if (null != parentCall) {
+                parentCall.childNanos += elapsed;
+            }
+            var keepComponent = completed && (Phase.ENCODE_BEGIN == phase || !componentPushed)
+                && Phase.ENCODE_END != phase;
+            if (!keepComponent) {
+                stack.removeFirstOccurrence(componentFrame);
+            }
+            if (stack.isEmpty()) {
+                stacks.remove();
+            }
+            record(new Key(clientId, String.valueOf(rendererType)), phase, elapsed, path,
+                Math.max(0, elapsed - callFrame.childNanos));
+        }
+    }
+
+    private synchronized void record(final Key key, final Phase phase, final long elapsed, final String path,
+        final long selfNanos) {
+        counts.computeIfAbsent(key, k -> new long[PHASES])[phase.ordinal()]++;
+        nanos.computeIfAbsent(key, k -> new long[PHASES])[phase.ordinal()] += elapsed;
+        collapsedStacks.merge(path, selfNanos, Long::sum);
+    }
+
+    /**
+     * @param clientId of the component
+     * @param phase    to be counted
+     * @return the number of invocations for the given component, summed over all
+     * renderer-types
+     */
+    public synchronized long getCount(final String clientId, final Phase phase) {
+        return counts.entrySet().stream().filter(entry -> entry.getKey().clientId().equals(clientId))
+            .mapToLong(entry -> entry.getValue()[phase.ordinal()]).sum();
+    }
+
+    /**
+     * @return all recorded timings in order of the first invocation, phases without
+     * invocation are omitted
+     */
+    public synchronized List<Timing> getTimings() {
+        List<Timing> timings = new ArrayList<>();
+        counts.forEach((key, phaseCounts) -> {
+            var phaseNanos = nanos.get(key);
+            for (Phase phase : Phase.values()) {
+                if (phaseCounts[phase.ordinal()] > 0) {
+                    timings.add(new Timing(key.clientId(), key.rendererType(), phase, phaseCounts[phase.ordinal()],
+                        phaseNanos[phase.ordinal()]));
+                }
+            }
+        });
+        return timings;
+    }
+
+    /**
+     * @return the summary as table, one line per component and renderer-type sorted
+     * by the summed duration, descending. Each phase is shown as count and duration
+     * in ms
+     */
+    public synchronized String createSummary() {
+        var builder = new StringBuilder("Render profile (count / ms per phase: decode, encodeBegin, "
+            + "encodeChildren, encodeEnd; total ms)");
+        counts.keySet().stream()
+            .sorted(Comparator.comparingLong((Key key) -> sum(nanos.get(key))).reversed())
+            .forEach(key -> {
+                builder.append(System.lineSeparator());
+                var phaseCounts = counts.get(key);
+                var phaseNanos = nanos.get(key);
+                for (var i = 0; i < PHASES; i++) {
+                    builder.append("%5d %9s ".formatted(phaseCounts[i], toMillis(phaseNanos[i])));
+                }
+                builder.append("%10s  %s %s".formatted(toMillis(sum(phaseNanos)), key.rendererType(),
+                    key.clientId()));
+            });
+        return builder.toString();
+    }
+
+    /**
+     * @return the recorded stacks in the collapsed format, one line per distinct
+     * stack with the self time in nanoseconds, e.g.
+     * {@code jakarta.faces.Form[form];encodeChildren;jakarta.faces.Text[form:name];encodeEnd 1200}
+     */
+    public synchronized String createCollapsedStacks() {
+        var builder = new StringBuilder();
+        collapsedStacks.forEach((path, value) -> builder.append(path).append(' ').append(value).append('\n'));
+        return builder.toString();
+    }
+
+    /**
+     * Discards all recorded invocations
+     */
+    public synchronized void reset() {
+        counts.clear();
+        nanos.clear();
+        collapsedStacks.clear();
+        stacks.remove();
+    }
+
+    private static Frame findComponentFrame(final Deque<Frame> stack) {
+        for (Frame frame : stack) {
+            if (null != frame.component) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private static Frame findCallFrame(final Deque<Frame> stack) {
+        for (Frame frame : stack) {
+            if (null == frame.component) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private static String toPath(final Deque<Frame> stack) {
+        var builder = new StringBuilder();
+        var frames = stack.descendingIterator();
+        while (frames.hasNext()) {
+            if (!builder.isEmpty()) {
+                builder.append(';');
+            }
+            builder.append(frames.next().label);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * ';' separates the frames, whitespace the value within the collapsed format
+     */
+    private static String sanitize(final String label) {
+        return label.replace(';', '_').replaceAll("\\s", "_");
+    }
+
+    private static long sum(final long[] values) {
+        var sum = 0L;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static String toMillis(final long nanoseconds) {
+        return String.format(Locale.ROOT, "%.3f", nanoseconds / 1_000_000.0);
+    }
+
+    /**
+     * Either an open component or a running call
+     */
+    @RequiredArgsConstructor
+    private static final class Frame {
+        private final String label;
+        private final UIComponent component;
+        private long childNanos;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Provides the profiling of renderers: {@link ProfilingRenderKit} wraps the
+ * {@link jakarta.faces.render.RenderKit} of the test environment and records the
+ * invocations of the {@link jakarta.faces.render.Renderer}s handed out to the
+ * components within a {@link RenderProfiler}.
+ *
+ * @author Oliver Wolff
+ */
+package de.cuioss.test.jsf.renderer.profile;
@@ -0,0 +1,343 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.ResponseWriter;
+import lombok.Getter;
+import org.apache.myfaces.test.mock.MockResponseWriter;
+import org.jdom2.Attribute;
+import org.jdom2.Comment;
+import org.jdom2.Content;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.Text;
+import org.jdom2.Verifier;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ResponseWriter} building the JDOM tree directly from the calls to
+ * {@link #startElement(String, UIComponent)},
+ * {@link #writeAttribute(String, Object, String)},
+ * {@link #writeText(Object, String)} and {@link #endElement(String)}, instead of
+ * serializing the markup and parsing it again with
+ * {@link DomUtils#htmlStringToDocument(String)}. The resulting {@link Document}
+ * has the same structure as the one created by
+ * {@link DomUtils#htmlStringToDocument(String)}, namely the rendered elements are
+ * children of the element {@code root}, see {@link DomUtils#ROOT_TEMPLATE}.
+ * <p>
+ * Output that can not be mapped onto the tree directly, e.g. markup written via
+ * {@link #write(char[], int, int)}, entities, namespace-prefixed names, duplicate
+ * attributes or unbalanced elements, switches the writer to serializing: The tree created so
+ * far is serialized and the remaining output is written by a
+ * {@link MockResponseWriter}. {@link #getDocument()} parses the result in that
+ * case, therefore it is always equivalent to the serialize-then-parse approach.
+ * </p>
+ * <p>
+ * Instances are not thread-safe and are meant to be used for a single rendering.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public class DomCapturingResponseWriter extends ResponseWriter {
+
+    private static final String CONTENT_TYPE = "text/html";
+    private static final String CHARACTER_ENCODING = "UTF-8";
+    private static final String ROOT_ELEMENT = "root";
+
+    private final Element root = new Element(ROOT_ELEMENT);
+
+    private final Deque<Element> openElements = new ArrayDeque<>();
+
+    /**
+     * The writer used after the switch to serializing, see class-documentation.
+     */
+    private StringWriter serialized;
+
+    private MockResponseWriter delegate;
+
+    /**
+     * Indicates whether the output was captured directly into the tree, or the writer
+     * had to switch to serializing, see class-documentation.
+     */
+    @Getter
+    private boolean capturedDirectly = true;
+
+    /**
+     * The length of the markup captured directly, see {@link #getOutputLength()}.
+     */
+    private long capturedLength;
+
+    /**
+     * Creates a new writer with an empty element {@code root}
+     */
+    public DomCapturingResponseWriter() {
+        openElements.push(root);
+    }
+
+    /**
+     * @return the captured output as {@link Document} with the rendered elements as
+     * children of the element {@code root}.
+     * @throws IllegalArgumentException in case the writer switched to serializing and
+     *                                  the output is not well-formed, see
+     *                                  {@link DomUtils#htmlStringToDocument(String)}
+     */
+    public Document getDocument() {
+        if (capturedDirectly) {
+            return new Document(root.clone());
+        }
+        return DomUtils.htmlStringToDocument(serialized.toString());
+    }
+
+    /**
+     * @return the number of characters of the rendered markup. For output captured
+     * directly into the tree it is summed up from the element-names,
+     * attribute-names and -values, texts and comments, without accounting for
+     * escaped characters, otherwise it is the length of the serialized markup.
+     */
+    public long getOutputLength() {
+        if (capturedDirectly) {
+            return capturedLength;
+        }
+        return serialized.getBuffer().length();
+    }
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return CHARACTER_ENCODING;
+    }
+
+    @Override
+    public void startDocument() throws IOException {
+        if (!capturedDirectly) {
+            delegate.startDocument();
+        }
+    }
+
+    @Override
+    public void endDocument() throws IOException {
+        if (!capturedDirectly) {
+            delegate.endDocument();
+        }
+    }
+
+    @Override
+    public void startElement(final String name, final UIComponent component) throws IOException {
+        requireNonNull(name);
+        if (capturedDirectly && null != Verifier.checkElementName(name)) {
+            switchToSerializing();
+        }
+        if (!capturedDirectly) {
+            delegate.startElement(name, component);
+            return;
+        }
+        var element = new Element(name);
+        currentElement().addContent(element);
+        openElements.push(element);
+        // <name>
+        capturedLength += name.length() + 2;
+    }
+
+    @Override
+    public void endElement(final String name) throws IOException {
+        requireNonNull(name);
+        if (capturedDirectly && (openElements.size() < 2 || !name.equals(currentElement().getName()))) {
+            // Unbalanced, leave the error handling to the parser
+            switchToSerializing();
+        }
+        if (!capturedDirectly) {
+            delegate.endElement(name);
+            return;
+        }
+        openElements.pop();
+        // </name>
+        capturedLength += name.length() + 3;
+    }
+
+    @Override
+    public void writeAttribute(final String name, final Object value, final String property) throws IOException {
+        requireNonNull(name);
+        if (capturedDirectly) {
+            // Like the serializing writer, null is written as 'null'
+            var stringValue = String.valueOf(value);
+            // A duplicate is left to the parser as well, which rejects it
+            if (openElements.size() < 2 || null != Verifier.checkAttributeName(name)
+                || null != Verifier.checkCharacterData(stringValue) || null != currentElement().getAttribute(name)) {
+                switchToSerializing();
+            } else {
+                currentElement().setAttribute(new Attribute(name, stringValue));
+                // name="value" separated by a blank
+                capturedLength += name.length() + stringValue.length() + 4;
+                return;
+            }
+        }
+        delegate.writeAttribute(name, value, property);
+    }
+
+    @Override
+    public void writeURIAttribute(final String name, final Object value, final String property) throws IOException {
+        if (!capturedDirectly) {
+            delegate.writeURIAttribute(name, value, property);
+            return;
+        }
+        writeAttribute(name, value, property);
+    }
+
+    @Override
+    public void writeComment(final Object comment) throws IOException {
+        requireNonNull(comment);
+        if (capturedDirectly) {
+            var text = comment.toString();
+            if (null == Verifier.checkCommentData(text)) {
+                currentElement().addContent(new Comment(text));
+                // <!--text-->
+                capturedLength += text.length() + 7;
+                return;
+            }
+            switchToSerializing();
+        }
+        delegate.writeComment(comment);
+    }
+
+    @Override
+    public void writeText(final Object text, final String property) throws IOException {
+        requireNonNull(text);
+        if (capturedDirectly) {
+            appendText(text.toString());
+            return;
+        }
+        delegate.writeText(text, property);
+    }
+
+    @Override
+    public void writeText(final char[] text, final int off, final int len) throws IOException {
+        requireNonNull(text);
+        if (capturedDirectly) {
+            appendText(new String(text, off, len));
+            return;
+        }
+        delegate.writeText(text, off, len);
+    }
+
+    @Override
+    public ResponseWriter cloneWithWriter(final Writer writer) {
+        return new MockResponseWriter(writer, CONTENT_TYPE, CHARACTER_ENCODING);
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        write(new String(cbuf, off, len));
+    }
+
+    @Override
+    public void write(final String str) throws IOException {
+        requireNonNull(str);
+        if (capturedDirectly && str.indexOf('<') < 0 && str.indexOf('&') < 0) {
+            // Plain text, no markup to be parsed
+            appendText(str);
+            return;
+        }
+        if (capturedDirectly) {
+            switchToSerializing();
+        }
+        delegate.write(str);
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        write(str.substring(off, off + len));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!capturedDirectly) {
+            delegate.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!capturedDirectly) {
+            delegate.close();
+        }
+    }
+
+    private Element currentElement() {
+        return openElements.peek();
+    }
+
+    private void appendText(final String text) throws IOException {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (null != Verifier.checkCharacterData(text)) {
+            switchToSerializing();
+            delegate.writeText(text, null);
+            return;
+        }
+        capturedLength += text.length();
+        var current = currentElement();
+        var size = current.getContentSize();
+        if (size > 0 && current.getContent(size - 1) instanceof Text previous) {
+            previous.append(text);
+        } else {
+            current.addContent(new Text(text));
+        }
+    }
+
+    /**
+     * Replays the tree created so far to a {@link MockResponseWriter}, leaving the
+     * still open elements open, and delegates the remaining output to it.
+     */
+    private void switchToSerializing() throws IOException {
+        serialized = new StringWriter();
+        delegate = new MockResponseWriter(serialized, CONTENT_TYPE, CHARACTER_ENCODING);
+        replay(root);
+        capturedDirectly = false;
+        openElements.clear();
+    }
+
+    private void replay(final Element element) throws IOException {
+        for (Content content : element.getContent()) {
+            if (content instanceof Element child) {
+                delegate.startElement(child.getName(), null);
+                for (Attribute attribute : child.getAttributes()) {
+                    delegate.writeAttribute(attribute.getName(), attribute.getValue(), null);
+                }
+                replay(child);
+                if (!openElements.contains(child)) {
+                    delegate.endElement(child.getName());
+                }
+            } else if (content instanceof Text text) {
+                delegate.writeText(text.getText(), null);
+            } else if (content instanceof Comment comment) {
+                delegate.writeComment(comment.getText());
+            }
+        }
+    }
+}
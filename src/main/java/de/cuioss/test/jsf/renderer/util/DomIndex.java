@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import lombok.Getter;
+import org.jdom2.Attribute;
+import org.jdom2.Document;
+import org.jdom2.Element;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Index over a rendered tree, created in a single pass, providing the elements by
+ * tag, id, attribute-name and class-token in document order. On top of it
+ * {@link #select(DomSelector)} evaluates precompiled CSS-selectors. Therefore, many
+ * queries can be run against one render-result without traversing the whole tree
+ * for each of them.
+ * <p>
+ * The index is a snapshot: Modifications of the tree after creating the index are
+ * not reflected. The root element itself is part of the index.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class DomIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String CLASS_ATTRIBUTE = "class";
+
+    /**
+     * The root element the index was created for
+     */
+    @Getter
+    private final Element root;
+
+    private final List<Element> elements = new ArrayList<>();
+    private final Map<String, List<Element>> byTag = new HashMap<>();
+    private final Map<String, List<Element>> byId = new HashMap<>();
+    private final Map<String, List<Element>> byAttributeName = new HashMap<>();
+    private final Map<String, List<Element>> byClassToken = new HashMap<>();
+
+    private DomIndex(final Element root) {
+        this.root = root;
+        var pending = new ArrayDeque<Element>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            var element = pending.pop();
+            index(element);
+            var children = element.getChildren();
+            // Reverse order, so the first child is processed next (document order)
+            for (var i = children.size() - 1; i >= 0; i--) {
+                pending.push(children.get(i));
+            }
+        }
+    }
+
+    /**
+     * @param root to be indexed, must not be null
+     * @return the index for the given element and its descendants
+     */
+    public static DomIndex of(final Element root) {
+        return new DomIndex(requireNonNull(root));
+    }
+
+    /**
+     * @param document to be indexed, must not be null
+     * @return the index for the root element of the given document
+     */
+    public static DomIndex of(final Document document) {
+        return of(requireNonNull(document).getRootElement());
+    }
+
+    private void index(final Element element) {
+        elements.add(element);
+        add(byTag, element.getName(), element);
+        for (Attribute attribute : element.getAttributes()) {
+            add(byAttributeName, attribute.getName(), element);
+            if ("id".equals(attribute.getName())) {
+                add(byId, attribute.getValue(), element);
+            } else if (CLASS_ATTRIBUTE.equals(attribute.getName())) {
+                for (String token : classTokens(attribute.getValue())) {
+                    add(byClassToken, token, element);
+                }
+            }
+        }
+    }
+
+    private static void add(final Map<String, List<Element>> map, final String key, final Element element) {
+        map.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
+    }
+
+    static List<String> classTokens(final String classValue) {
+        var trimmed = classValue.strip();
+        if (trimmed.isEmpty()) {
+            return List.of();
+        }
+        return List.of(WHITESPACE.split(trimmed));
+    }
+
+    /**
+     * @return all indexed elements in document order
+     */
+    public List<Element> getElements() {
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * @param tagName to be looked for
+     * @return the elements with the given name in document order, never null
+     */
+    public List<Element> byTag(final String tagName) {
+        return lookup(byTag, tagName);
+    }
+
+    /**
+     * @param id to be looked for
+     * @return the elements with the given id in document order, never null.
+     * Usually there is at most one.
+     */
+    public List<Element> byId(final String id) {
+        return lookup(byId, id);
+    }
+
+    /**
+     * @param attributeName to be looked for
+     * @return the elements providing the given attribute in document order, never
+     * null
+     */
+    public List<Element> withAttribute(final String attributeName) {
+        return lookup(byAttributeName, attributeName);
+    }
+
+    /**
+     * @param classToken a single style-class
+     * @return the elements with the given token within their attribute 'class' in
+     * document order, never null
+     */
+    public List<Element> withClass(final String classToken) {
+        return lookup(byClassToken, classToken);
+    }
+
+    /**
+     * Index-based variant of {@link DomUtils#filterForAttribute(Element, String)}
+     *
+     * @param attributeName to be looked for
+     * @return the attributes with the given name in document order, never null
+     */
+    public List<Attribute> attributes(final String attributeName) {
+        return withAttribute(attributeName).stream().map(element -> element.getAttribute(attributeName)).toList();
+    }
+
+    /**
+     * Index-based variant of
+     * {@link DomUtils#filterForAttributeContainingValue(Element, String, String)}
+     *
+     * @param attributeName      to be looked for
+     * @param attributeValuePart the string of the attribute value to be filtered
+     *                           for
+     * @return the matching attributes in document order, never null
+     */
+    public List<Attribute> attributesContaining(final String attributeName, final String attributeValuePart) {
+        return attributes(attributeName).stream().filter(a -> a.getValue().contains(attributeValuePart)).toList();
+    }
+
+    /**
+     * @param selector see {@link DomSelector#compile(String)}
+     * @return the matching elements in document order, never null
+     */
+    public List<Element> select(final String selector) {
+        return select(DomSelector.compile(selector));
+    }
+
+    /**
+     * @param selector to be evaluated, must not be null
+     * @return the matching elements in document order, never null
+     */
+    public List<Element> select(final DomSelector selector) {
+        requireNonNull(selector);
+        return selector.evaluate(this);
+    }
+
+    private static List<Element> lookup(final Map<String, List<Element>> map, final String key) {
+        var found = map.get(key);
+        return null == found ? List.of() : Collections.unmodifiableList(found);
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jdom2.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precompiled CSS-selector, evaluated against a {@link DomIndex}. Supported is
+ * the following subset:
+ * <ul>
+ * <li>type selector {@code tag} and universal selector {@code *}</li>
+ * <li>id selector {@code #id} and class selector {@code .class}</li>
+ * <li>attribute selectors {@code [attr]}, {@code [attr=value]},
+ * {@code [attr*=value]}, {@code [attr^=value]}, {@code [attr$=value]} and
+ * {@code [attr~=value]}, values may be quoted</li>
+ * <li>descendant combinator (whitespace) and child combinator {@code >}</li>
+ * <li>CSS escapes within names, e.g. {@code #form\:name} or
+ * {@code #form\3A name}</li>
+ * </ul>
+ * Example: {@code table#data > tbody tr.odd[data-row*=4]}
+ * <p>
+ * Pseudo-classes are not supported, therefore id selectors accept the
+ * {@code :} of JSF client-ids unescaped as well, e.g. {@code #form:name}.
+ * </p>
+ * <p>
+ * The candidates are taken from the index by the most selective part of the
+ * rightmost compound, namely id, class, tag or attribute, and are then
+ * verified from right to left. Instances are immutable and can be shared.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode(of = "selector")
+public final class DomSelector {
+
+    /**
+     * The source of this selector
+     */
+    @Getter
+    private final String selector;
+
+    private final List<Compound> compounds;
+
+    /**
+     * {@code true} for a child combinator, {@code false} for a descendant
+     * combinator, between compounds {@code i} and {@code i + 1}
+     */
+    private final List<Boolean> childCombinators;
+
+    private DomSelector(final String selector, final List<Compound> compounds, final List<Boolean> childCombinators) {
+        this.selector = selector;
+        this.compounds = List.copyOf(compounds);
+        this.childCombinators = List.copyOf(childCombinators);
+    }
+
+    /**
+     * @param selector to be compiled, must not be null nor blank
+     * @return the compiled selector
+     * @throws IllegalArgumentException in case the selector is not supported
+     */
+    public static DomSelector compile(final String selector) {
+        requireNonNull(selector);
+        return new Parser(selector).parse();
+    }
+
+    List<Element> evaluate(final DomIndex index) {
+        var last = compounds.getLast();
+        var lastIndex = compounds.size() - 1;
+        return last.candidates(index).stream()
+            .filter(element -> last.matches(element) && matchesLeft(element, lastIndex, index.getRoot())).toList();
+    }
+
+    /**
+     * @return {@code true} if the compounds left of the given index are matched by
+     * the ancestors of the given element
+     */
+    private boolean matchesLeft(final Element element, final int compoundIndex, final Element root) {
+        if (0 == compoundIndex) {
+            return true;
+        }
+        var previous = compounds.get(compoundIndex - 1);
+        var parent = parentWithin(element, root);
+        if (Boolean.TRUE.equals(childCombinators.get(compoundIndex - 1))) {
+            return null != parent && previous.matches(parent) && matchesLeft(parent, compoundIndex - 1, root);
+        }
+        for (var ancestor = parent; null != ancestor; ancestor = parentWithin(ancestor, root)) {
+            if (previous.matches(ancestor) && matchesLeft(ancestor, compoundIndex - 1, root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Element parentWithin(final Element element, final Element root) {
+        return element == root ? null : element.getParentElement();
+    }
+
+    @Override
+    public String toString() {
+        return selector;
+    }
+
+    private enum Operator {
+        EXISTS, EQUALS, CONTAINS, PREFIX, SUFFIX, WORD;
+
+        boolean test(final String actual, final String expected) {
+            return switch (this) {
+                case EXISTS -> true;
+                case EQUALS -> actual.equals(expected);
+                case CONTAINS -> actual.contains(expected);
+                case PREFIX -> actual.startsWith(expected);
+                case SUFFIX -> actual.endsWith(expected);
+                case WORD -> DomIndex.classTokens(actual).contains(expected);
+            };
+        }
+    }
+
+    private record AttributeCondition(String name, Operator operator, String value) {
+
+        boolean matches(final Element element) {
+            var actual = element.getAttributeValue(name);
+            return null != actual && operator.test(actual, value);
+        }
+    }
+
+    private record Compound(String tag, String id, List<String> classes, List<AttributeCondition> attributes) {
+
+        List<Element> candidates(final DomIndex index) {
+            if (null != id) {
+                return index.byId(id);
+            }
+            if (!classes.isEmpty()) {
+                return index.withClass(classes.getFirst());
+            }
+            if (null != tag) {
+                return index.byTag(tag);
+            }
+            if (!attributes.isEmpty()) {
+                return index.withAttribute(attributes.getFirst().name());
+            }
+            return index.getElements();
+        }
+
+        boolean matches(final Element element) {
+            if (null != tag && !tag.equals(element.getName())) {
+                return false;
+            }
+            if (null != id && !id.equals(element.getAttributeValue("id"))) {
+                return false;
+            }
+            if (!classes.isEmpty()) {
+                var classValue = element.getAttributeValue("class");
+                if (null == classValue) {
+                    return false;
+                }
+                var tokens = DomIndex.classTokens(classValue);
+                if (!tokens.containsAll(classes)) {
+                    return false;
+                }
+            }
+            for (AttributeCondition attribute : attributes) {
+                if (!attribute.matches(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Recursive-descent parser for the supported subset
+     */
+    private static final class Parser {
+
+        private final String source;
+        private int position;
+
+        Parser(final String source) {
+            this.source = source;
+        }
+
+        DomSelector parse() {
+            List<Compound> compounds = new ArrayList<>();
+            List<Boolean> childCombinators = new ArrayList<>();
+            skipWhitespace();
+            compounds.add(parseCompound());
+            while (position < source.length()) {
+                var hadWhitespace = skipWhitespace();
+                if (position >= source.length()) {
+                    break;
+                }
+                if ('>' == source.charAt(position)) {
+                    position++;
+                    skipWhitespace();
+                    childCombinators.add(Boolean.TRUE);
+                } else if (hadWhitespace) {
+                    childCombinators.add(Boolean.FALSE);
+                } else {
+                    throw error("unexpected character '" + source.charAt(position) + "'");
+                }
+                compounds.add(parseCompound());
+            }
+            return new DomSelector(source, compounds, childCombinators);
+        }
+
+        private Compound parseCompound() {
+            String tag = null;
+            String id = null;
+            List<String> classes = new ArrayList<>();
+            List<AttributeCondition> attributes = new ArrayList<>();
+            var start = position;
+            if (position < source.length() && '*' == source.charAt(position)) {
+                position++;
+            } else if (position < source.length() && isNameStart(source.charAt(position))) {
+                tag = parseName();
+            }
+            while (position < source.length()) {
+                var current = source.charAt(position);
+                if ('#' == current) {
+                    position++;
+                    id = parseName(true);
+                } else if ('.' == current) {
+                    position++;
+                    classes.add(parseName());
+                } else if ('[' == current) {
+                    position++;
+                    attributes.add(parseAttribute());
+                } else {
+                    break;
+                }
+            }
+            if (start == position) {
+                throw error("selector expected");
+            }
+            return new Compound(tag, id, List.copyOf(classes), List.copyOf(attributes));
+        }
+
+        private AttributeCondition parseAttribute() {
+            skipWhitespace();
+            var name = parseName();
+            skipWhitespace();
+            var operator = Operator.EXISTS;
+            String value = null;
+            if (position < source.length() && ']' != source.charAt(position)) {
+                operator = parseOperator();
+                skipWhitespace();
+                value = parseValue();
+                skipWhitespace();
+            }
+            expect(']');
+            return new AttributeCondition(name, operator, value);
+        }
+
+        private Operator parseOperator() {
+            var current = source.charAt(position);
+            if ('=' == current) {
+                position++;
+                return Operator.EQUALS;
+            }
+            var operator = switch (current) {
+                case '*' -> Operator.CONTAINS;
+                case '^' -> Operator.PREFIX;
+                case '$' -> Operator.SUFFIX;
+                case '~' -> Operator.WORD;
+                default -> throw error("unsupported attribute operator '" + current + "'");
+            };
+            position++;
+            expect('=');
+            return operator;
+        }
+
+        private String parseValue() {
+            if (position < source.length() && ('"' == source.charAt(position) || '\'' == source.charAt(position))) {
+                var quote = source.charAt(position);
+                var end = source.indexOf(quote, position + 1);
+                if (end < 0) {
+                    throw error("unterminated string");
+                }
+                var value = source.substring(position + 1, end);
+                position = end + 1;
+                return value;
+            }
+            var start = position;
+            while (position < source.length() && ']' != source.charAt(position)
+                && !Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error("attribute value expected");
+            }
+            return source.substring(start, position);
+        }
+
+        private String parseName() {
+            return parseName(false);
+        }
+
+        /**
+         * @param acceptColon whether an unescaped {@code :} is part of the name, see
+         *                    class-documentation
+         */
+        private String parseName(final boolean acceptColon) {
+            var name = new StringBuilder();
+            while (position < source.length()) {
+                var current = source.charAt(position);
+                if ('\\' == current) {
+                    position++;
+                    name.appendCodePoint(parseEscape());
+                } else if (isNameChar(current) || acceptColon && ':' == current) {
+                    name.append(current);
+                    position++;
+                } else {
+                    break;
+                }
+            }
+            if (name.isEmpty()) {
+                throw error("name expected");
+            }
+            return name.toString();
+        }
+
+        /**
+         * Parses the escape following a backslash: Up to six hex-digits, optionally
+         * terminated by a single whitespace, or any other single character.
+         */
+        private int parseEscape() {
+            if (position >= source.length()) {
+                throw error("escaped character expected");
+            }
+            var start = position;
+            while (position < source.length() && position - start < 6
+                && Character.digit(source.charAt(position), 16) >= 0) {
+                position++;
+            }
+            if (start == position) {
+                return source.charAt(position++);
+            }
+            var codePoint = Integer.parseInt(source, start, position, 16);
+            if (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+            if (!Character.isValidCodePoint(codePoint) || 0 == codePoint) {
+                throw error("invalid escape");
+            }
+            return codePoint;
+        }
+
+        private static boolean isNameStart(final char character) {
+            return isNameChar(character) || '\\' == character;
+        }
+
+        private static boolean isNameChar(final char character) {
+            return Character.isLetterOrDigit(character) || '-' == character || '_' == character;
+        }
+
+        private void expect(final char expected) {
+            if (position >= source.length() || expected != source.charAt(position)) {
+                throw error("'" + expected + "' expected");
+            }
+            position++;
+        }
+
+        private boolean skipWhitespace() {
+            var start = position;
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+            return start != position;
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(
+                "Invalid selector '%s' at position %s: %s".formatted(source, position, message));
+        }
+    }
+}
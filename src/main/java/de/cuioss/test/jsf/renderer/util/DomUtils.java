@@ -45,6 +45,12 @@ public class DomUtils {
      */
     public static final String ROOT_TEMPLATE = "<root>%s</root>";
 
+    /**
+     * Thread-confined parser, configuring a {@link SAXBuilder} is more expensive
+     * than parsing the usual render result
+     */
+    private static final ThreadLocal<SAXBuilder> SAX_BUILDER = ThreadLocal.withInitial(DomUtils::createSaxBuilder);
+
     /**
      * Creates an instance of {@link Document} for the given htmlString. It always
      * uses {@link #ROOT_TEMPLATE} as the root element.
@@ -57,17 +63,49 @@ public class DomUtils {
         requireNonNull(htmlString);
         final var wrappedInput = ROOT_TEMPLATE.formatted(htmlString);
         try (var input = IOStreams.toInputStream(wrappedInput)) {
-            var saxBuilder = new SAXBuilder();
-            saxBuilder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            saxBuilder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-            // Fully disable DOCTYPE declarations to prevent XXE (Sonar S2755).
-            saxBuilder.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            return saxBuilder.build(input);
+            return SAX_BUILDER.get().build(input);
         } catch (JDOMException | IOException e) {
+            // Do not reuse a parser that may be left in an inconsistent state
+            SAX_BUILDER.remove();
             throw new IllegalArgumentException("Unable to parse given String, due to ", e);
         }
     }
 
+    /**
+     * Variant of {@link #htmlStringToDocument(String)} for expected markup, that is
+     * parsed repeatedly, e.g. in parameterized tests. It uses
+     * {@link ParsedDocumentCache#shared()}.
+     *
+     * @param htmlString must not be null
+     * @return a private copy of the cached {@link Document}, may therefore be
+     * modified by the caller.
+     */
+    public static Document cachedHtmlStringToDocument(final String htmlString) {
+        return ParsedDocumentCache.shared().get(htmlString);
+    }
+
+    /**
+     * Lenient variant of {@link #htmlStringToDocument(String)} accepting HTML5
+     * markup, e.g. void elements without closing or boolean attributes, see
+     * {@link Html5TreeBuilder}.
+     *
+     * @param htmlString must not be null
+     * @return the created {@link Document} with the element {@code root} as the
+     * root element.
+     */
+    public static Document html5StringToDocument(final String htmlString) {
+        return Html5TreeBuilder.parse(htmlString);
+    }
+
+    private static SAXBuilder createSaxBuilder() {
+        var saxBuilder = new SAXBuilder();
+        saxBuilder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        saxBuilder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        // Fully disable DOCTYPE declarations to prevent XXE (Sonar S2755).
+        saxBuilder.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        return saxBuilder;
+    }
+
     /**
      * Extracts all attributes with the given name. The method will recursively
      * check all children as well.
@@ -76,19 +114,30 @@ public class DomUtils {
      * @param attributeName to be looked for, must not be null nor empty.
      * @return a {@link List} with the found attributes, never null but may be
      * empty.
+     * @see DomIndex#attributes(String) for running many queries against the same
+     * tree
      */
     public static List<Attribute> filterForAttribute(final Element element, final String attributeName) {
         requireNonNull(element);
         checkNotEmpty(attributeName, "attributeName");
         List<Attribute> found = new ArrayList<>();
+        collectAttributes(element, attributeName, found);
+        return found;
+    }
+
+    /**
+     * Collects into a single list, instead of copying the results of the children
+     * upward.
+     */
+    private static void collectAttributes(final Element element, final String attributeName,
+        final List<Attribute> found) {
         var current = element.getAttribute(attributeName);
         if (null != current) {
             found.add(current);
         }
         for (Element child : element.getChildren()) {
-            found.addAll(filterForAttribute(child, attributeName));
+            collectAttributes(child, attributeName, found);
         }
-        return found;
     }
 
     /**
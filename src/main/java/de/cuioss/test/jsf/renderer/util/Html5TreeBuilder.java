@@ -0,0 +1,448 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.Text;
+import org.jdom2.Verifier;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Map.entry;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Lenient parser for HTML5 markup as emitted by renderers, creating the same
+ * structure as {@link DomUtils#htmlStringToDocument(String)}: The parsed content
+ * becomes the children of an element {@code root}. Therefore, the result can be
+ * compared with {@link HtmlTreeAsserts} to the output of the other parsing methods.
+ * <p>
+ * In contrast to the XML based parsing it accepts:
+ * </p>
+ * <ul>
+ * <li>void elements without closing, e.g. {@code <input id="a">} or
+ * {@code <br>}</li>
+ * <li>boolean and unquoted attributes, e.g. {@code <input disabled value=1>}.
+ * Boolean attributes result in an empty value, as defined by HTML5, and are
+ * therefore <em>not</em> equal to {@code disabled="disabled"}</li>
+ * <li>named and numeric character references beyond the XML ones, e.g.
+ * {@code &nbsp;} or {@code &#x20AC;}. Unknown references are kept as text</li>
+ * <li>optional end tags of {@code p, li, dt, dd, option, tr, td, th, thead,
+ * tbody}, that are closed implicitly like a browser does for the common cases</li>
+ * <li>unclosed elements at the end of the input and stray end tags, the latter are
+ * ignored</li>
+ * <li>the content of {@code script} and {@code style} as raw text</li>
+ * </ul>
+ * <p>
+ * Comments, doctype declarations and processing instructions are skipped, CDATA
+ * sections are treated as text. Case is preserved for element and attribute names,
+ * end tags are matched ignoring the case. Namespace declarations ({@code xmlns})
+ * are dropped. Names that are not valid for Jdom, e.g. prefixed ones like
+ * {@code xlink:href}, result in an {@link IllegalArgumentException}.
+ * </p>
+ * <p>
+ * The input is scanned in a single pass without regular expressions or an
+ * intermediate event model, creating the Jdom nodes directly. This is not a full
+ * implementation of the HTML5 tree construction algorithm, e.g. misnested
+ * formatting elements are not reconstructed.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class Html5TreeBuilder {
+
+    /**
+     * Name of the element wrapping the parsed content, analogous to
+     * {@link DomUtils#ROOT_TEMPLATE}
+     */
+    public static final String ROOT_ELEMENT = "root";
+
+    private static final Set<String> VOID_ELEMENTS = Set.of("area", "base", "br", "col", "embed", "hr", "img",
+        "input", "link", "meta", "param", "source", "track", "wbr");
+
+    /** Content is taken as is, up to the matching end tag */
+    private static final Set<String> RAW_TEXT_ELEMENTS = Set.of("script", "style");
+
+    /** Content is text with character references, up to the matching end tag */
+    private static final Set<String> ESCAPABLE_RAW_TEXT_ELEMENTS = Set.of("textarea", "title");
+
+    private static final Set<String> CLOSING_P = Set.of("address", "article", "aside", "blockquote", "details",
+        "div", "dl", "fieldset", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hr",
+        "main", "nav", "ol", "p", "pre", "section", "table", "ul");
+
+    private static final Set<String> CLOSING_CELL = Set.of("td", "th", "tr", "thead", "tbody", "tfoot");
+
+    /**
+     * Open element (lower case) to the start tags implicitly closing it
+     */
+    private static final Map<String, Set<String>> CLOSED_BY = Map.of(
+        "p", CLOSING_P,
+        "li", Set.of("li"),
+        "dt", Set.of("dt", "dd"),
+        "dd", Set.of("dt", "dd"),
+        "option", Set.of("option", "optgroup"),
+        "tr", Set.of("tr", "thead", "tbody", "tfoot"),
+        "td", CLOSING_CELL,
+        "th", CLOSING_CELL,
+        "thead", Set.of("tbody", "tfoot"),
+        "tbody", Set.of("tbody", "tfoot"));
+
+    private static final Map<String, String> NAMED_REFERENCES = Map.ofEntries(entry("amp", "&"), entry("lt", "<"),
+        entry("gt", ">"), entry("quot", "\""), entry("apos", "'"), entry("nbsp", "\u00A0"), entry("shy", "\u00AD"),
+        entry("copy", "\u00A9"), entry("reg", "\u00AE"), entry("trade", "\u2122"), entry("deg", "\u00B0"),
+        entry("plusmn", "\u00B1"), entry("times", "\u00D7"), entry("divide", "\u00F7"), entry("middot", "\u00B7"),
+        entry("para", "\u00B6"), entry("sect", "\u00A7"), entry("laquo", "\u00AB"), entry("raquo", "\u00BB"),
+        entry("lsquo", "\u2018"), entry("rsquo", "\u2019"), entry("ldquo", "\u201C"), entry("rdquo", "\u201D"),
+        entry("ndash", "\u2013"), entry("mdash", "\u2014"), entry("hellip", "\u2026"), entry("bull", "\u2022"),
+        entry("euro", "\u20AC"), entry("auml", "\u00E4"), entry("ouml", "\u00F6"), entry("uuml", "\u00FC"),
+        entry("Auml", "\u00C4"), entry("Ouml", "\u00D6"), entry("Uuml", "\u00DC"), entry("szlig", "\u00DF"));
+
+    private static final int MAX_REFERENCE_NAME_LENGTH = 8;
+
+    private static final String XMLNS = "xmlns";
+
+    private final String input;
+    private final int length;
+    private int position;
+    private final Deque<Element> openElements = new ArrayDeque<>();
+    private final StringBuilder pendingText = new StringBuilder();
+
+    private Html5TreeBuilder(final String input) {
+        this.input = input;
+        length = input.length();
+    }
+
+    /**
+     * @param html the markup to be parsed, must not be null
+     * @return the created {@link Document} with {@link #ROOT_ELEMENT} as the root
+     * element
+     * @throws IllegalArgumentException in case the markup contains element or
+     *                                  attribute names or characters that can not
+     *                                  be represented by Jdom
+     */
+    public static Document parse(final String html) {
+        requireNonNull(html);
+        return new Html5TreeBuilder(html).build();
+    }
+
+    private Document build() {
+        var root = new Element(ROOT_ELEMENT);
+        openElements.push(root);
+        while (position < length) {
+            var next = input.charAt(position);
+            if ('<' == next) {
+                readMarkup();
+            } else if ('&' == next) {
+                position = readReference(position, pendingText);
+            } else {
+                var end = position + 1;
+                while (end < length && '<' != input.charAt(end) && '&' != input.charAt(end)) {
+                    end++;
+                }
+                pendingText.append(input, position, end);
+                position = end;
+            }
+        }
+        flushText();
+        return new Document(root);
+    }
+
+    private void readMarkup() {
+        if (input.startsWith("<!--", position)) {
+            position = skipPast("-->", position + 4);
+        } else if (input.startsWith("<![CDATA[", position)) {
+            var end = input.indexOf("]]>", position + 9);
+            pendingText.append(input, position + 9, -1 == end ? length : end);
+            position = -1 == end ? length : end + 3;
+        } else if (input.startsWith("<!", position) || input.startsWith("<?", position)) {
+            position = skipPast(">", position + 2);
+        } else if (input.startsWith("</", position) && isAsciiLetter(position + 2)) {
+            readEndTag();
+        } else if (isAsciiLetter(position + 1)) {
+            readStartTag();
+        } else {
+            pendingText.append('<');
+            position++;
+        }
+    }
+
+    private void readStartTag() {
+        var nameStart = position + 1;
+        position = scanName(nameStart);
+        var name = input.substring(nameStart, position);
+        var element = createElement(name);
+        var selfClosing = false;
+        while (true) {
+            skipWhitespace();
+            if (position >= length) {
+                break;
+            }
+            var next = input.charAt(position);
+            if ('>' == next) {
+                position++;
+                break;
+            }
+            if ('/' == next) {
+                position++;
+                if (position < length && '>' == input.charAt(position)) {
+                    selfClosing = true;
+                    position++;
+                    break;
+                }
+                continue;
+            }
+            readAttribute(element);
+        }
+        openElement(element, name.toLowerCase(Locale.ROOT), selfClosing);
+    }
+
+    private void readAttribute(final Element element) {
+        var nameStart = position;
+        while (position < length && !isWhitespace(input.charAt(position))
+            && "=>/".indexOf(input.charAt(position)) < 0) {
+            position++;
+        }
+        if (nameStart == position) {
+            // Stray '=' without name
+            position++;
+            return;
+        }
+        var name = input.substring(nameStart, position);
+        skipWhitespace();
+        var value = "";
+        if (position < length && '=' == input.charAt(position)) {
+            position++;
+            skipWhitespace();
+            value = readAttributeValue();
+        }
+        if (XMLNS.equals(name) || name.startsWith(XMLNS + ":") || null != element.getAttribute(name)) {
+            // Namespace declarations are dropped, for duplicates the first one wins
+            return;
+        }
+        var problem = Verifier.checkAttributeName(name);
+        if (null != problem) {
+            throw new IllegalArgumentException(
+                "Invalid attribute name '%s' at position %s: %s".formatted(name, nameStart, problem));
+        }
+        element.setAttribute(name, value);
+    }
+
+    private String readAttributeValue() {
+        if (position >= length) {
+            return "";
+        }
+        var quote = input.charAt(position);
+        if ('"' == quote || '\'' == quote) {
+            var start = position + 1;
+            var end = input.indexOf(quote, start);
+            end = -1 == end ? length : end;
+            position = Math.min(end + 1, length);
+            return decode(start, end);
+        }
+        var start = position;
+        while (position < length && !isWhitespace(input.charAt(position)) && '>' != input.charAt(position)) {
+            position++;
+        }
+        return decode(start, position);
+    }
+
+    private void openElement(final Element element, final String lowerCaseName, final boolean selfClosing) {
+        flushText();
+        closeImplicitly(lowerCaseName);
+        openElements.peek().addContent(element);
+        if (selfClosing || VOID_ELEMENTS.contains(lowerCaseName)) {
+            return;
+        }
+        var raw = RAW_TEXT_ELEMENTS.contains(lowerCaseName);
+        if (raw || ESCAPABLE_RAW_TEXT_ELEMENTS.contains(lowerCaseName)) {
+            readRawText(element, lowerCaseName, raw);
+            return;
+        }
+        openElements.push(element);
+    }
+
+    private void closeImplicitly(final String lowerCaseName) {
+        while (openElements.size() > 1) {
+            var closers = CLOSED_BY.get(openElements.peek().getName().toLowerCase(Locale.ROOT));
+            if (null == closers || !closers.contains(lowerCaseName)) {
+                return;
+            }
+            openElements.pop();
+        }
+    }
+
+    private void readRawText(final Element element, final String lowerCaseName, final boolean raw) {
+        var end = position;
+        while (end < length && !isEndTag(end, lowerCaseName)) {
+            end = input.indexOf('<', end + 1);
+            end = -1 == end ? length : end;
+        }
+        var content = raw ? input.substring(position, end) : decode(position, end);
+        if (!content.isEmpty()) {
+            element.addContent(new Text(content));
+        }
+        position = end >= length ? length : skipPast(">", end);
+    }
+
+    private boolean isEndTag(final int at, final String lowerCaseName) {
+        return input.regionMatches(true, at, "</" + lowerCaseName, 0, lowerCaseName.length() + 2);
+    }
+
+    private void readEndTag() {
+        var nameStart = position + 2;
+        var nameEnd = scanName(nameStart);
+        var name = input.substring(nameStart, nameEnd);
+        position = skipPast(">", nameEnd);
+        flushText();
+        var depth = 0;
+        for (Element open : openElements) {
+            if (openElements.size() - 1 == depth) {
+                // Only the root is left, stray end tag
+                return;
+            }
+            if (open.getName().equalsIgnoreCase(name)) {
+                for (var i = 0; i <= depth; i++) {
+                    openElements.pop();
+                }
+                return;
+            }
+            depth++;
+        }
+    }
+
+    /**
+     * Decodes the given range of the input, the range is returned as is, in case
+     * it does not contain a character reference.
+     */
+    private String decode(final int start, final int end) {
+        var firstReference = input.indexOf('&', start);
+        if (-1 == firstReference || firstReference >= end) {
+            return input.substring(start, end);
+        }
+        var decoded = new StringBuilder(end - start);
+        decoded.append(input, start, firstReference);
+        var current = firstReference;
+        while (current < end) {
+            if ('&' == input.charAt(current)) {
+                current = Math.min(readReference(current, decoded), end);
+            } else {
+                decoded.append(input.charAt(current++));
+            }
+        }
+        return decoded.toString();
+    }
+
+    /**
+     * Reads the character reference starting with '&amp;' at the given position
+     *
+     * @return the position after the reference, in case it is not a valid one the
+     * '&amp;' is appended as text and the position after it is returned
+     */
+    private int readReference(final int at, final StringBuilder target) {
+        var current = at + 1;
+        if (current < length && '#' == input.charAt(current)) {
+            current++;
+            var radix = 10;
+            if (current < length && ('x' == input.charAt(current) || 'X' == input.charAt(current))) {
+                radix = 16;
+                current++;
+            }
+            var digitsStart = current;
+            var codePoint = 0L;
+            while (current < length && Character.digit(input.charAt(current), radix) >= 0) {
+                codePoint = Math.min(codePoint * radix + Character.digit(input.charAt(current), radix),
+                    Integer.MAX_VALUE);
+                current++;
+            }
+            if (digitsStart == current) {
+                target.append('&');
+                return at + 1;
+            }
+            if (current < length && ';' == input.charAt(current)) {
+                current++;
+            }
+            target.appendCodePoint(Verifier.isXMLCharacter((int) codePoint) ? (int) codePoint : 0xFFFD);
+            return current;
+        }
+        var nameEnd = current;
+        while (nameEnd < length && nameEnd - current < MAX_REFERENCE_NAME_LENGTH
+            && Character.isLetterOrDigit(input.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (nameEnd < length && ';' == input.charAt(nameEnd)) {
+            var replacement = NAMED_REFERENCES.get(input.substring(current, nameEnd));
+            if (null != replacement) {
+                target.append(replacement);
+                return nameEnd + 1;
+            }
+        }
+        target.append('&');
+        return at + 1;
+    }
+
+    private Element createElement(final String name) {
+        var problem = Verifier.checkElementName(name);
+        if (null != problem) {
+            throw new IllegalArgumentException(
+                "Invalid element name '%s' at position %s: %s".formatted(name, position, problem));
+        }
+        return new Element(name);
+    }
+
+    private void flushText() {
+        if (!pendingText.isEmpty()) {
+            openElements.peek().addContent(new Text(pendingText.toString()));
+            pendingText.setLength(0);
+        }
+    }
+
+    private int scanName(final int start) {
+        var end = start;
+        while (end < length && !isWhitespace(input.charAt(end)) && '/' != input.charAt(end)
+            && '>' != input.charAt(end)) {
+            end++;
+        }
+        return end;
+    }
+
+    private void skipWhitespace() {
+        while (position < length && isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    private int skipPast(final String terminator, final int from) {
+        var end = input.indexOf(terminator, from);
+        return -1 == end ? length : end + terminator.length();
+    }
+
+    private boolean isAsciiLetter(final int at) {
+        if (at >= length) {
+            return false;
+        }
+        var candidate = input.charAt(at);
+        return candidate >= 'a' && candidate <= 'z' || candidate >= 'A' && candidate <= 'Z';
+    }
+
+    private static boolean isWhitespace(final char candidate) {
+        return ' ' == candidate || '\t' == candidate || '\n' == candidate || '\r' == candidate || '\f' == candidate;
+    }
+}
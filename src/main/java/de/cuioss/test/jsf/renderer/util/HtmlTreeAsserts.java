@@ -19,8 +19,12 @@ import lombok.experimental.UtilityClass;
 import org.jdom2.Attribute;
 import org.jdom2.Document;
 import org.jdom2.Element;
+import org.junit.jupiter.api.function.Executable;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,6 +50,12 @@ public final class HtmlTreeAsserts {
 
     private static final AttributeComparator ATTRIBUTE_COMPARATOR = new AttributeComparator();
 
+    /**
+     * Upper bound for the cells of the table used for aligning the children of a
+     * single element, see {@link #assertElementWithChildrenEquals(Element, Element, String)}
+     */
+    private static final long MAX_ALIGNMENT_CELLS = 4_000_000L;
+
     /**
      * Compares two instances of {@link Document} for equality. Attribute order is
      * not relevant, but element order is.
@@ -64,6 +74,17 @@ public final class HtmlTreeAsserts {
     /**
      * Compares two instances of {@link Element} for equality. Attribute order is
      * not relevant.It checks the children recursively as well.
+     * <p>
+     * In case the subtrees differ, all differing subtrees are reported in one
+     * failure. The children of a differing element are aligned using the longest
+     * common subsequence of their hashes, see {@link SubtreeHasher}, so a missing or
+     * additional child is reported as such, instead of as a mismatch of all
+     * following children. The hashes are only used for the alignment, aligned
+     * children are still compared element by element, so a hash-collision can not
+     * hide a difference. Therefore, the hashes do not speed up the comparison:
+     * Equal trees cost one structural walk without any hashing, differing trees
+     * additionally the hashing of the children of differing elements.
+     * </p>
      *
      * @param expected expected value
      * @param actual   the value to check against <code>expected</code>
@@ -71,30 +92,202 @@ public final class HtmlTreeAsserts {
      */
     public static void assertElementWithChildrenEquals(final Element expected, final Element actual,
         final String pointer) {
+        assertElementWithChildrenEquals(expected, actual, pointer, new SubtreeHasher());
+    }
+
+    /**
+     * Variant of {@link #assertElementWithChildrenEquals(Element, Element, String)}
+     * with the given {@link SubtreeHasher} used for aligning the children.
+     */
+    static void assertElementWithChildrenEquals(final Element expected, final Element actual, final String pointer,
+        final SubtreeHasher hasher) {
         assertNotNull(expected, EXPECTED_MUST_NOT_BE_NULL);
         assertNotNull(actual, ACTUAL_MUST_NOT_BE_NULL);
+        if (subtreeEquals(expected, actual)) {
+            return;
+        }
+        List<String> differences = new ArrayList<>();
+        collectDifferences(expected, actual, pointer, hasher, differences);
+        if (differences.isEmpty()) {
+            return;
+        }
+        if (differences.size() == 1) {
+            fail(differences.getFirst());
+        }
+        assertAll("%s: %s differences found".formatted(pointer + ">" + expected.getName(), differences.size()),
+            differences.stream().map(difference -> (Executable) () -> fail(difference)));
+    }
+
+    private static void collectDifferences(final Element expected, final Element actual, final String pointer,
+        final SubtreeHasher hasher, final List<String> differences) {
         var currentPointer = pointer + ">" + expected.getName();
-        assertElementEquals(expected, actual, currentPointer);
-        var expectedChildren = expected.getChildren();
-        var actualChildren = actual.getChildren();
+        if (!expected.getName().equals(actual.getName())) {
+            differences.add("%s: The names are not equal, expected=%s, actual=%s".formatted(currentPointer,
+                expected, actual));
+            return;
+        }
+        collectAttributeDifferences(expected, actual, currentPointer, differences);
         if (null != expected.getAttribute("id")) {
             currentPointer = currentPointer + "[" + expected.getAttribute("id").getValue() + "]";
         }
         var expectedTextChild = expected.getTextNormalize();
         var actualTextChild = actual.getTextNormalize();
-        assertEquals(expectedTextChild, actualTextChild,
-            "%s: The text content of the elements are not equal, expected=%s, actual=%s".formatted(currentPointer,
-                expectedTextChild, actualTextChild));
-        if (expectedChildren.isEmpty() && actualChildren.isEmpty()) {
-            return;
+        if (!expectedTextChild.equals(actualTextChild)) {
+            differences.add("%s: The text content of the elements are not equal, expected=%s, actual=%s"
+                .formatted(currentPointer, expectedTextChild, actualTextChild));
+        }
+        collectChildDifferences(expected.getChildren(), actual.getChildren(), currentPointer, hasher, differences);
+    }
+
+    /**
+     * Structural equality in the sense of
+     * {@link #collectDifferences(Element, Element, String, SubtreeHasher, List)},
+     * without collecting the differences
+     */
+    private static boolean subtreeEquals(final Element expected, final Element actual) {
+        if (!expected.getName().equals(actual.getName())
+            || expected.getAttributes().size() != actual.getAttributes().size()) {
+            return false;
+        }
+        for (Attribute attribute : expected.getAttributes()) {
+            if (!attribute.getValue().equals(actual.getAttributeValue(attribute.getName()))) {
+                return false;
+            }
         }
+        if (!expected.getTextNormalize().equals(actual.getTextNormalize())) {
+            return false;
+        }
+        var expectedChildren = expected.getChildren();
+        var actualChildren = actual.getChildren();
         if (expectedChildren.size() != actualChildren.size()) {
-            fail("%s: The number of children is not equal, expected=%s, actual=%s".formatted(currentPointer,
-                expectedChildren, actualChildren));
+            return false;
         }
         for (var i = 0; i < expectedChildren.size(); i++) {
-            assertElementWithChildrenEquals(expectedChildren.get(i), actualChildren.get(i), currentPointer);
+            if (!subtreeEquals(expectedChildren.get(i), actualChildren.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void collectAttributeDifferences(final Element expected, final Element actual,
+        final String pointer, final List<String> differences) {
+        Map<String, String> expectedAttributes = new TreeMap<>();
+        expected.getAttributes()
+            .forEach(attribute -> expectedAttributes.put(attribute.getName(), attribute.getValue()));
+        Map<String, String> actualAttributes = new TreeMap<>();
+        actual.getAttributes().forEach(attribute -> actualAttributes.put(attribute.getName(), attribute.getValue()));
+        if (expectedAttributes.size() != actualAttributes.size()) {
+            differences.add("%s: The number of the attributes are not equal, expected=%s, actual=%s"
+                .formatted(pointer, expectedAttributes, actualAttributes));
+        }
+        expectedAttributes.forEach((name, value) -> {
+            var actualValue = actualAttributes.get(name);
+            if (null == actualValue) {
+                differences.add("%s: The attribute '%s' is missing, expected=%s".formatted(pointer, name, value));
+            } else if (!value.equals(actualValue)) {
+                differences.add(THE_VALUES_ARE_NOT_EQUAL_EXPECTED.formatted(pointer, name, value, actualValue));
+            }
+        });
+        actualAttributes.forEach((name, value) -> {
+            if (!expectedAttributes.containsKey(name)) {
+                differences.add("%s: The attribute '%s' is not expected, actual=%s".formatted(pointer, name, value));
+            }
+        });
+    }
+
+    /**
+     * Aligns the children by the longest common subsequence of their hashes. The
+     * aligned pairs are confirmed structurally, the children between two aligned
+     * pairs are compared pairwise in case their names match, otherwise they are
+     * reported as missing / not expected.
+     */
+    private static void collectChildDifferences(final List<Element> expected, final List<Element> actual,
+        final String pointer, final SubtreeHasher hasher, final List<String> differences) {
+        if (expected.size() != actual.size()) {
+            differences.add("%s: The number of children is not equal, expected=%s, actual=%s".formatted(pointer,
+                expected.size(), actual.size()));
+        }
+        var pairs = alignChildren(expected, actual, hasher);
+        var expectedIndex = 0;
+        var actualIndex = 0;
+        for (int[] pair : pairs) {
+            collectUnalignedDifferences(expected, expectedIndex, pair[0], actual, actualIndex, pair[1], pointer, hasher,
+                differences);
+            var expectedChild = expected.get(pair[0]);
+            var actualChild = actual.get(pair[1]);
+            if (!subtreeEquals(expectedChild, actualChild)) {
+                // Equal hashes, but different subtrees
+                collectDifferences(expectedChild, actualChild, pointer, hasher, differences);
+            }
+            expectedIndex = pair[0] + 1;
+            actualIndex = pair[1] + 1;
+        }
+        collectUnalignedDifferences(expected, expectedIndex, expected.size(), actual, actualIndex, actual.size(),
+            pointer, hasher, differences);
+    }
+
+    private static void collectUnalignedDifferences(final List<Element> expected, final int expectedFrom,
+        final int expectedTo, final List<Element> actual, final int actualFrom, final int actualTo,
+        final String pointer, final SubtreeHasher hasher, final List<String> differences) {
+        var expectedIndex = expectedFrom;
+        var actualIndex = actualFrom;
+        while (expectedIndex < expectedTo && actualIndex < actualTo
+            && expected.get(expectedIndex).getName().equals(actual.get(actualIndex).getName())) {
+            collectDifferences(expected.get(expectedIndex), actual.get(actualIndex), pointer, hasher, differences);
+            expectedIndex++;
+            actualIndex++;
+        }
+        for (; expectedIndex < expectedTo; expectedIndex++) {
+            differences.add("%s: The child at position %s is missing, expected=%s".formatted(pointer, expectedIndex,
+                expected.get(expectedIndex)));
+        }
+        for (; actualIndex < actualTo; actualIndex++) {
+            differences.add("%s: The child at position %s is not expected, actual=%s".formatted(pointer, actualIndex,
+                actual.get(actualIndex)));
+        }
+    }
+
+    /**
+     * @return the index-pairs of the longest common subsequence of the children,
+     * compared by their hashes. For more than {@link #MAX_ALIGNMENT_CELLS} cells the
+     * children are aligned by position instead.
+     */
+    private static List<int[]> alignChildren(final List<Element> expected, final List<Element> actual,
+        final SubtreeHasher hasher) {
+        List<int[]> pairs = new ArrayList<>();
+        var n = expected.size();
+        var m = actual.size();
+        if ((long) n * m > MAX_ALIGNMENT_CELLS) {
+            for (var i = 0; i < Math.min(n, m); i++) {
+                if (hasher.digest(expected.get(i)).equals(hasher.digest(actual.get(i)))) {
+                    pairs.add(new int[]{i, i});
+                }
+            }
+            return pairs;
+        }
+        var lengths = new int[n + 1][m + 1];
+        for (var i = n - 1; i >= 0; i--) {
+            for (var j = m - 1; j >= 0; j--) {
+                lengths[i][j] = hasher.digest(expected.get(i)).equals(hasher.digest(actual.get(j)))
+                    ? lengths[i + 1][j + 1] + 1
+                    : Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+            }
+        }
+        var i = 0;
+        var j = 0;
+        while (i < n && j < m) {
+            if (hasher.digest(expected.get(i)).equals(hasher.digest(actual.get(j)))) {
+                pairs.add(new int[]{i, j});
+                i++;
+                j++;
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
         }
+        return pairs;
     }
 
     /**
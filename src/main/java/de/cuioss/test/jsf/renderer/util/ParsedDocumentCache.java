@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.jdom2.Document;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded cache of parsed markup, intended for expected markup that is parsed
+ * repeatedly, e.g. by parameterized renderer tests. The entries are evicted in
+ * least-recently-used order as soon as the summed length of the cached markup
+ * exceeds the configured maximum weight. Markup exceeding the maximum weight on its
+ * own is parsed but not cached.
+ * <p>
+ * The cached {@link Document}s are never handed out: {@link #get(String)} returns a
+ * copy, so callers modifying the result can not corrupt subsequent tests. Copying a
+ * tree is considerably cheaper than parsing it. The instance is thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class ParsedDocumentCache {
+
+    /**
+     * Default maximum weight, the summed length of the cached markup: 4M chars
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 4L * 1024 * 1024;
+
+    private static final ParsedDocumentCache SHARED = new ParsedDocumentCache(DEFAULT_MAX_WEIGHT);
+
+    private final long maxWeight;
+
+    private final LinkedHashMap<String, Document> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxWeight the maximum summed length of the cached markup, must be
+     *                  positive
+     */
+    public ParsedDocumentCache(final long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive, but was " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * @return the instance used by {@link DomUtils#cachedHtmlStringToDocument(String)}
+     */
+    public static ParsedDocumentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param markup to be parsed with {@link DomUtils#htmlStringToDocument(String)},
+     *               must not be null
+     * @return a copy of the parsed {@link Document}, owned by the caller
+     * @throws IllegalArgumentException if the markup can not be parsed
+     */
+    public Document get(final String markup) {
+        requireNonNull(markup);
+        synchronized (this) {
+            var cached = entries.get(markup);
+            if (null != cached) {
+                hits++;
+                return cached.clone();
+            }
+            misses++;
+        }
+        // Parsing happens outside the lock, concurrent misses for the same markup
+        // result in the same content anyway
+        var parsed = DomUtils.htmlStringToDocument(markup);
+        if (markup.length() <= maxWeight) {
+            put(markup, parsed);
+        }
+        return parsed.clone();
+    }
+
+    private synchronized void put(final String markup, final Document parsed) {
+        if (null != entries.putIfAbsent(markup, parsed)) {
+            return;
+        }
+        weight += markup.length();
+        Iterator<Map.Entry<String, Document>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().getKey().length();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes all entries, the statistics are retained.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * @return a snapshot of the current statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, evictions, entries.size(), weight);
+    }
+
+    /**
+     * Snapshot of the usage of a {@link ParsedDocumentCache}.
+     *
+     * @param hits      number of lookups served from the cache
+     * @param misses    number of lookups that needed parsing
+     * @param evictions number of entries evicted for staying within the maximum
+     *                  weight
+     * @param size      number of cached entries
+     * @param weight    summed length of the cached markup
+     */
+    public record Statistics(long hits, long misses, long evictions, int size, long weight) {
+
+        /**
+         * @return the ratio of hits to all lookups, {@code 0} if there was no lookup
+         */
+        public double hitRate() {
+            var lookups = hits + misses;
+            return 0 == lookups ? 0 : (double) hits / lookups;
+        }
+    }
+}
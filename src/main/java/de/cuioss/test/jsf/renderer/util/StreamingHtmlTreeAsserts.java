@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import lombok.experimental.UtilityClass;
+import org.jdom2.Text;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streaming variant of {@link HtmlTreeAsserts#assertHtmlTreeEquals(org.jdom2.Document, org.jdom2.Document)}:
+ * Expected and actual markup are pulled as StAX event streams in lock-step,
+ * without materializing JDOM documents. The memory needed depends on the depth of
+ * the markup and the size of the individual elements, not on the size of the
+ * whole document.
+ * <p>
+ * The semantics are the same as with {@link HtmlTreeAsserts}: Both inputs are
+ * wrapped in the element {@code root}, see {@link DomUtils#ROOT_TEMPLATE}, the
+ * element order is relevant, the attribute order is not, and the direct text of
+ * an element is compared normalized, see {@link Text#normalizeString(String)}.
+ * The messages use the same pointers, e.g. {@code >root>table[id]>tr}. In
+ * contrast to {@link HtmlTreeAsserts} the text of an element is compared after
+ * its children, because it is only complete at the end of the element.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+@UtilityClass
+public final class StreamingHtmlTreeAsserts {
+
+    private static final String THE_VALUES_ARE_NOT_EQUAL_EXPECTED = "%s: The values for attribute '%s' are not equal, expected=%s, actual=%s";
+
+    private static final String ROOT_START = "<root>";
+
+    private static final String ROOT_END = "</root>";
+
+    /**
+     * Thread-confined factory, the thread-safety of {@link XMLInputFactory} is not
+     * guaranteed, analogous to the parser of {@link DomUtils}
+     */
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal
+        .withInitial(StreamingHtmlTreeAsserts::createInputFactory);
+
+    /**
+     * Compares the given markup for equality, see class-documentation.
+     *
+     * @param expected expected markup, must not be null
+     * @param actual   the markup to check against <code>expected</code>, must not be
+     *                 null
+     * @throws IllegalArgumentException in case one of the given Strings is not
+     *                                  well-formed
+     */
+    public static void assertHtmlTreeEquals(final String expected, final String actual) {
+        assertNotNull(expected, "Expected must not be null");
+        assertNotNull(actual, "Actual must not be null");
+        assertHtmlTreeEquals(new StringReader(expected), new StringReader(actual));
+    }
+
+    /**
+     * Compares the markup provided by the given readers for equality, see
+     * class-documentation. The readers are not closed.
+     *
+     * @param expected expected markup, must not be null
+     * @param actual   the markup to check against <code>expected</code>, must not be
+     *                 null
+     * @throws IllegalArgumentException in case the markup is not well-formed
+     */
+    public static void assertHtmlTreeEquals(final Reader expected, final Reader actual) {
+        assertNotNull(expected, "Expected must not be null");
+        assertNotNull(actual, "Actual must not be null");
+        XMLStreamReader expectedStream = null;
+        XMLStreamReader actualStream = null;
+        try {
+            expectedStream = INPUT_FACTORY.get().createXMLStreamReader(new RootWrappingReader(expected));
+            actualStream = INPUT_FACTORY.get().createXMLStreamReader(new RootWrappingReader(actual));
+            compare(expectedStream, actualStream);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Unable to parse given markup, due to ", e);
+        } finally {
+            close(expectedStream);
+            close(actualStream);
+        }
+    }
+
+    private static void compare(final XMLStreamReader expected, final XMLStreamReader actual)
+        throws XMLStreamException {
+        Deque<Frame> frames = new ArrayDeque<>();
+        while (true) {
+            var expectedEvent = nextStructuralEvent(expected, frames, true);
+            var actualEvent = nextStructuralEvent(actual, frames, false);
+            if (XMLStreamConstants.END_DOCUMENT == expectedEvent && XMLStreamConstants.END_DOCUMENT == actualEvent) {
+                return;
+            }
+            var parentPointer = frames.isEmpty() ? "" : frames.peek().childPointer;
+            if (expectedEvent != actualEvent) {
+                fail("%s: The number of children is not equal, expected=%s, actual=%s".formatted(parentPointer,
+                    describe(expected, expectedEvent), describe(actual, actualEvent)));
+            }
+            if (XMLStreamConstants.START_ELEMENT == expectedEvent) {
+                frames.push(compareStartElements(expected, actual, parentPointer));
+            } else {
+                var frame = frames.pop();
+                var expectedText = Text.normalizeString(frame.expectedText.toString());
+                var actualText = Text.normalizeString(frame.actualText.toString());
+                assertEquals(expectedText, actualText,
+                    "%s: The text content of the elements are not equal, expected=%s, actual=%s"
+                        .formatted(frame.childPointer, expectedText, actualText));
+            }
+        }
+    }
+
+    private static Frame compareStartElements(final XMLStreamReader expected, final XMLStreamReader actual,
+        final String parentPointer) {
+        var expectedName = expected.getLocalName();
+        var actualName = actual.getLocalName();
+        var pointer = parentPointer + ">" + expectedName;
+        assertEquals(expectedName, actualName,
+            "%s: The names are not equal, expected=%s, actual=%s".formatted(pointer, expectedName, actualName));
+
+        var expectedAttributes = attributes(expected);
+        var actualAttributes = attributes(actual);
+        if (expectedAttributes.size() != actualAttributes.size()) {
+            fail("%s: The number of the attributes are not equal, expected=%s, actual=%s".formatted(pointer,
+                expectedAttributes, actualAttributes));
+        }
+        var actualIterator = actualAttributes.entrySet().iterator();
+        for (Map.Entry<String, String> expectedAttribute : expectedAttributes.entrySet()) {
+            var actualAttribute = actualIterator.next();
+            assertEquals(expectedAttribute.getKey(), actualAttribute.getKey(),
+                "%s: The name of the attributes are not equal, expected=%s, actual=%s".formatted(pointer,
+                    expectedAttribute, actualAttribute));
+            assertEquals(expectedAttribute.getValue(), actualAttribute.getValue(),
+                THE_VALUES_ARE_NOT_EQUAL_EXPECTED.formatted(pointer, expectedAttribute.getKey(),
+                    expectedAttribute.getValue(), actualAttribute.getValue()));
+        }
+        var id = expectedAttributes.get("id");
+        return new Frame(null == id ? pointer : pointer + "[" + id + "]");
+    }
+
+    /**
+     * Advances the given reader to the next start-element, end-element or
+     * end-document, collecting the text in between for the current element.
+     */
+    private static int nextStructuralEvent(final XMLStreamReader reader, final Deque<Frame> frames,
+        final boolean expectedSide) throws XMLStreamException {
+        while (reader.hasNext()) {
+            var event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT, XMLStreamConstants.END_ELEMENT,
+                     XMLStreamConstants.END_DOCUMENT:
+                    return event;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE:
+                    if (!frames.isEmpty()) {
+                        var frame = frames.peek();
+                        (expectedSide ? frame.expectedText : frame.actualText).append(reader.getTextCharacters(),
+                            reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                default:
+                    // Comments and processing-instructions are not compared
+                    break;
+            }
+        }
+        return XMLStreamConstants.END_DOCUMENT;
+    }
+
+    private static Map<String, String> attributes(final XMLStreamReader reader) {
+        Map<String, String> attributes = new TreeMap<>();
+        for (var i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    private static String describe(final XMLStreamReader reader, final int event) {
+        return XMLStreamConstants.START_ELEMENT == event ? "further child <" + reader.getLocalName() + ">"
+            : "no further child";
+    }
+
+    private static void close(final XMLStreamReader reader) {
+        if (null != reader) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nothing to be done, the underlying reader is not owned
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        var factory = XMLInputFactory.newFactory();
+        // Prevent XXE, analogous to DomUtils#htmlStringToDocument
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    /**
+     * The state of an element being compared: its pointer for the children and the
+     * direct text collected so far.
+     */
+    private static final class Frame {
+
+        private final String childPointer;
+        private final StringBuilder expectedText = new StringBuilder();
+        private final StringBuilder actualText = new StringBuilder();
+
+        Frame(final String childPointer) {
+            this.childPointer = childPointer;
+        }
+    }
+
+    /**
+     * Wraps the content of the given reader in {@link DomUtils#ROOT_TEMPLATE}
+     * without copying it.
+     */
+    private static final class RootWrappingReader extends Reader {
+
+        private final Reader delegate;
+        private final StringReader prefix = new StringReader(ROOT_START);
+        private final StringReader suffix = new StringReader(ROOT_END);
+        private int section;
+
+        RootWrappingReader(final Reader delegate) {
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            if (0 == length) {
+                return 0;
+            }
+            while (section < 3) {
+                var current = switch (section) {
+                    case 0 -> prefix;
+                    case 1 -> delegate;
+                    default -> suffix;
+                };
+                var read = current.read(buffer, offset, length);
+                if (read > 0) {
+                    return read;
+                }
+                section++;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            // The delegate is owned by the caller
+        }
+    }
+}
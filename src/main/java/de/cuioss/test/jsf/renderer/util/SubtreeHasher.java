@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.jdom2.Attribute;
+import org.jdom2.Element;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Computes a canonical, Merkle-style hash per subtree of a JDOM tree, consisting of
+ * the element-name, the attributes sorted by name, the normalized text, see
+ * {@link Element#getTextNormalize()}, and the hashes of the children in order.
+ * Subtrees being equal in the sense of
+ * {@link HtmlTreeAsserts#assertElementWithChildrenEquals(Element, Element, String)}
+ * therefore have equal hashes. The reverse is only likely, the hashes are not
+ * cryptographic, so they are meant for aligning subtrees, not for proving their
+ * equality. The hashes are 128 bit wide, computed once per element and cached per
+ * instance.
+ * <p>
+ * Instances are not thread-safe and meant to be used for a single comparison,
+ * because the cache refers to the elements by identity and does not notice
+ * modifications.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+class SubtreeHasher {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final AttributeComparator ATTRIBUTE_COMPARATOR = new AttributeComparator();
+
+    private final Map<Element, Digest> cache = new IdentityHashMap<>();
+
+    /**
+     * The hash of a subtree
+     *
+     * @param first  first 64 bit
+     * @param second second 64 bit
+     */
+    record Digest(long first, long second) {
+    }
+
+    /**
+     * @param element to be hashed, must not be null
+     * @return the hash of the subtree starting with the given element
+     */
+    Digest digest(final Element element) {
+        var cached = cache.get(element);
+        if (null != cached) {
+            return cached;
+        }
+        var state = new State();
+        state.add(element.getName());
+        var attributes = new ArrayList<>(element.getAttributes());
+        attributes.sort(ATTRIBUTE_COMPARATOR);
+        state.add(attributes.size());
+        for (Attribute attribute : attributes) {
+            state.add(attribute.getName());
+            state.add(attribute.getValue());
+        }
+        state.add(element.getTextNormalize());
+        var children = element.getChildren();
+        state.add(children.size());
+        for (Element child : children) {
+            var childDigest = digest(child);
+            state.add(childDigest.first());
+            state.add(childDigest.second());
+        }
+        var result = state.toDigest();
+        cache.put(element, result);
+        return result;
+    }
+
+    /**
+     * Two independent 64 bit hashes: FNV-1a and a multiplicative one finished with
+     * the SplitMix64 mixer.
+     */
+    private static final class State {
+
+        private long first = FNV_OFFSET;
+        private long second = GOLDEN_GAMMA;
+
+        void add(final String value) {
+            // The length separates adjacent values, e.g. "ab" + "c" from "a" + "bc"
+            add(value.length());
+            for (var i = 0; i < value.length(); i++) {
+                addChar(value.charAt(i));
+            }
+        }
+
+        void add(final long value) {
+            for (var shift = 0; shift < 64; shift += 16) {
+                addChar((char) (value >>> shift));
+            }
+        }
+
+        private void addChar(final char value) {
+            first = (first ^ value) * FNV_PRIME;
+            second = (second + value) * GOLDEN_GAMMA;
+            second ^= second >>> 29;
+        }
+
+        Digest toDigest() {
+            return new Digest(mix(first), mix(second));
+        }
+
+        private static long mix(final long value) {
+            var z = value;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the heap occupied by an object graph by walking its fields
+ * reflectively, without the need for an instrumentation agent. The layout of
+ * each class, saying the size of its primitive fields and its reference fields,
+ * is computed once and cached.
+ * <p>
+ * The estimation assumes a 64-bit HotSpot VM: An object header of 12 bytes and
+ * references of 4 bytes with compressed oops, otherwise 16 and 8 bytes, with
+ * objects aligned to 8 bytes. Field packing is ignored. Strings are counted
+ * including their backing array, assuming compact strings.
+ * </p>
+ * <p>
+ * Fields of JDK classes are usually not accessible without
+ * {@code --add-opens}. Such objects are counted with their shallow size, while
+ * the content of inaccessible {@link Map}s and {@link Collection}s is walked
+ * using their API, estimating the internal table or array. Classes, class
+ * loaders, threads and enum constants are not counted, because they are not
+ * owned by the graph.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class ObjectGraphSizer {
+
+    private static final int ALIGNMENT = 8;
+
+    private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<>() {
+
+        @Override
+        protected ClassLayout computeValue(final Class<?> type) {
+            return ClassLayout.of(type);
+        }
+    };
+
+    private final int headerBytes;
+
+    private final int arrayHeaderBytes;
+
+    private final int referenceBytes;
+
+    /**
+     * Assumes compressed oops, the default for heaps up to 32 GB.
+     */
+    public ObjectGraphSizer() {
+        this(true);
+    }
+
+    /**
+     * @param compressedOops whether compressed references are to be assumed
+     */
+    public ObjectGraphSizer(final boolean compressedOops) {
+        headerBytes = compressedOops ? 12 : 16;
+        arrayHeaderBytes = compressedOops ? 16 : 24;
+        referenceBytes = compressedOops ? 4 : 8;
+    }
+
+    /**
+     * @param root of the graph, may be null
+     * @return the estimated bytes of all objects reachable from the given root
+     */
+    public long sizeOf(final Object root) {
+        Map<Object, Long> reached = new IdentityHashMap<>();
+        collect(root, reached, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return reached.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @param object to be measured, must not be null
+     * @return the estimated bytes of the given object, excluding referenced
+     *         objects apart from the backing array of a {@link String}
+     */
+    public long shallowSizeOf(final Object object) {
+        var type = object.getClass();
+        if (type.isArray()) {
+            return arraySize(type.getComponentType(), Array.getLength(object));
+        }
+        if (object instanceof String string) {
+            return instanceSize(LAYOUTS.get(String.class))
+                + align(arrayHeaderBytes + (long) string.length() * (isLatin1(string) ? 1 : 2));
+        }
+        return instanceSize(LAYOUTS.get(type));
+    }
+
+    /**
+     * Adds all objects reachable from the given root that have not been visited
+     * before to the given map, together with their shallow size.
+     *
+     * @param root    of the graph, may be null
+     * @param reached receiving the newly reached objects, must be identity-based
+     * @param visited the objects already visited, must be identity-based
+     */
+    void collect(final Object root, final Map<Object, Long> reached, final Set<Object> visited) {
+        Deque<Object> pending = new ArrayDeque<>();
+        if (null != root) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            var current = pending.pop();
+            if (isExcluded(current) || !visited.add(current)) {
+                continue;
+            }
+            var size = shallowSizeOf(current);
+            var type = current.getClass();
+            if (type.isArray()) {
+                if (!type.getComponentType().isPrimitive()) {
+                    for (Object element : (Object[]) current) {
+                        pushIfPresent(pending, element);
+                    }
+                }
+            } else if (!(current instanceof String)) {
+                var layout = LAYOUTS.get(type);
+                for (Field field : layout.referenceFields()) {
+                    pushIfPresent(pending, readField(field, current));
+                }
+                if (layout.opaque()) {
+                    size += walkOpaqueContent(current, pending);
+                }
+            }
+            reached.put(current, size);
+        }
+    }
+
+    private long walkOpaqueContent(final Object current, final Deque<Object> pending) {
+        List<Object> content = new ArrayList<>();
+        try {
+            if (current instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> {
+                    content.add(key);
+                    content.add(value);
+                });
+                content.forEach(element -> pushIfPresent(pending, element));
+                var capacity = Integer.highestOneBit(Math.max(1, (int) Math.ceil(map.size() / 0.75)) * 2 - 1);
+                return arraySize(Object.class, capacity)
+                    + map.size() * align(headerBytes + 4L + 3L * referenceBytes);
+            }
+            if (current instanceof Collection<?> collection) {
+                content.addAll(collection);
+                content.forEach(element -> pushIfPresent(pending, element));
+                return arraySize(Object.class, content.size());
+            }
+        } catch (RuntimeException e) {
+            // Concurrently modified or not iterable, counted with its shallow size only
+        }
+        return 0;
+    }
+
+    private static void pushIfPresent(final Deque<Object> pending, final Object value) {
+        if (null != value) {
+            pending.push(value);
+        }
+    }
+
+    private static Object readField(final Field field, final Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static boolean isExcluded(final Object object) {
+        return object instanceof Class || object instanceof ClassLoader || object instanceof Thread
+            || object instanceof Enum;
+    }
+
+    private static boolean isLatin1(final String string) {
+        return string.chars().allMatch(character -> character < 256);
+    }
+
+    private long instanceSize(final ClassLayout layout) {
+        return align(headerBytes + layout.primitiveBytes() + (long) layout.referenceFieldCount() * referenceBytes);
+    }
+
+    private long arraySize(final Class<?> componentType, final int length) {
+        long elementBytes = componentType.isPrimitive() ? primitiveSize(componentType) : referenceBytes;
+        return align(arrayHeaderBytes + elementBytes * length);
+    }
+
+    private static long align(final long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static int primitiveSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * The cached layout of a class, including its super-classes.
+     *
+     * @param primitiveBytes      the sum of the sizes of the primitive fields
+     * @param referenceFieldCount the number of reference fields
+     * @param referenceFields     the accessible reference fields
+     * @param opaque              whether some reference fields are not accessible
+     */
+    private record ClassLayout(long primitiveBytes, int referenceFieldCount, List<Field> referenceFields,
+        boolean opaque) {
+
+        static ClassLayout of(final Class<?> type) {
+            long primitiveBytes = 0;
+            var referenceFieldCount = 0;
+            List<Field> referenceFields = new ArrayList<>();
+            var opaque = false;
+            for (Class<?> current = type; null != current; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        primitiveBytes += primitiveSize(field.getType());
+                    } else {
+                        referenceFieldCount++;
+                        if (field.trySetAccessible()) {
+                            referenceFields.add(field);
+                        } else {
+                            opaque = true;
+                        }
+                    }
+                }
+            }
+            return new ClassLayout(primitiveBytes, referenceFieldCount, List.copyOf(referenceFields), opaque);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import de.cuioss.test.jsf.session.SessionReplicationReport.AttributeReplication;
+import de.cuioss.test.jsf.util.CountingOutputStream;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks the writes of session attributes and measures what replicating them
+ * costs. A session replicated within a cluster is usually serialized after each
+ * request that has called {@link HttpSession#setAttribute(String, Object)},
+ * therefore every write counts, even if the value has not changed.
+ * <p>
+ * By default a write is redundant if the value is identical or equal to the one
+ * already present, which is cheap but flags re-setting a mutated instance as
+ * well, although that is required for replicating the change. After
+ * {@link #enableSnapshots()} a write is redundant only if the serialized form of
+ * the value equals the one of the previous write. For this comparison each
+ * subsequent write of a serializable value is serialized once and only its
+ * digest is kept.
+ * </p>
+ * <p>
+ * The writes are recorded by the session, see
+ * {@link de.cuioss.test.jsf.mocks.CuiMockHttpSession#getAttributeTracker()}, the
+ * serialized size and the time for serializing are measured on demand by
+ * {@link #createReport(HttpSession)}.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class SessionAttributeTracker {
+
+    private final Map<String, LongAdder> writes = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> redundantWrites = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> snapshots = new ConcurrentHashMap<>();
+
+    private volatile boolean snapshotsEnabled = false;
+
+    /**
+     * Records a write of an attribute.
+     *
+     * @param name          of the attribute, must not be null
+     * @param previousValue the value before the write, may be null
+     * @param value         the written value, may be null
+     */
+    public void recordWrite(final String name, final Object previousValue, final Object value) {
+        requireNonNull(name, "name must not be null");
+        writes.computeIfAbsent(name, key -> new LongAdder()).increment();
+        if (snapshotsEnabled ? isUnchangedSnapshot(name, value) : isEqual(previousValue, value)) {
+            redundantWrites.computeIfAbsent(name, key -> new LongAdder()).increment();
+        }
+    }
+
+    private static boolean isEqual(final Object previousValue, final Object value) {
+        return null != value && (previousValue == value || Objects.equals(previousValue, value));
+    }
+
+    private boolean isUnchangedSnapshot(final String name, final Object value) {
+        var snapshot = snapshot(value);
+        var previous = null == snapshot ? snapshots.remove(name) : snapshots.put(name, snapshot);
+        return null != snapshot && Arrays.equals(previous, snapshot);
+    }
+
+    /**
+     * Compares the subsequent writes by the digest of their serialized form instead
+     * of by equality, so re-setting a mutated instance is not considered redundant.
+     * As this serializes every written value, it is disabled by default. Enable it
+     * before the attributes to be compared are written, as the first write after
+     * enabling has no snapshot to be compared with.
+     */
+    public void enableSnapshots() {
+        snapshotsEnabled = true;
+    }
+
+    /**
+     * Restores the default comparison by equality and discards the snapshots.
+     */
+    public void disableSnapshots() {
+        snapshotsEnabled = false;
+        snapshots.clear();
+    }
+
+    /**
+     * @return true if writes are compared by serialized snapshot, see
+     *         {@link #enableSnapshots()}
+     */
+    public boolean isSnapshotsEnabled() {
+        return snapshotsEnabled;
+    }
+
+    /**
+     * Records the removal of an attribute, so that writing it again is not
+     * considered redundant.
+     *
+     * @param name of the attribute, must not be null
+     */
+    public void recordRemoval(final String name) {
+        requireNonNull(name, "name must not be null");
+        snapshots.remove(name);
+    }
+
+    /**
+     * @param name of the attribute
+     * @return the number of writes of the given attribute since the last
+     *         {@link #reset()}
+     */
+    public int getWrites(final String name) {
+        return count(writes, name);
+    }
+
+    /**
+     * @param name of the attribute
+     * @return the number of writes of the given attribute with a value equal to the
+     *         one already present, or serialized identically to the one of the
+     *         previous write if snapshots are enabled
+     */
+    public int getRedundantWrites(final String name) {
+        return count(redundantWrites, name);
+    }
+
+    /**
+     * Discards the recorded writes, e.g. prior to the interaction to be measured.
+     * The snapshots of the current values are retained, so the first write after
+     * the reset is compared as well.
+     */
+    public void reset() {
+        writes.clear();
+        redundantWrites.clear();
+    }
+
+    /**
+     * Serializes each attribute of the given session separately.
+     *
+     * @param session providing the attributes, must not be null
+     * @return the created report
+     */
+    public SessionReplicationReport createReport(final HttpSession session) {
+        requireNonNull(session, "session must not be null");
+        List<AttributeReplication> attributes = new ArrayList<>();
+        for (String name : Collections.list(session.getAttributeNames())) {
+            attributes.add(measure(name, session.getAttribute(name)));
+        }
+        return new SessionReplicationReport(attributes);
+    }
+
+    private AttributeReplication measure(final String name, final Object value) {
+        var counter = new CountingOutputStream();
+        var start = System.nanoTime();
+        String failure = null;
+        try (var output = new ObjectOutputStream(counter)) {
+            output.writeObject(value);
+        } catch (IOException | RuntimeException e) {
+            failure = e.toString();
+        }
+        var nanos = System.nanoTime() - start;
+        return new AttributeReplication(name, null == value ? null : value.getClass().getName(),
+            null == failure ? counter.getCount() : -1, nanos, getWrites(name), getRedundantWrites(name), failure);
+    }
+
+    private static int count(final Map<String, LongAdder> counts, final String name) {
+        var count = counts.get(name);
+        return null == count ? 0 : count.intValue();
+    }
+
+    /**
+     * @return the digest of the serialized value, {@code null} if it is null or not
+     *         serializable, in which case writes are never considered redundant
+     */
+    private static byte[] snapshot(final Object value) {
+        if (null == value) {
+            return null;
+        }
+        var digest = newDigest();
+        try (var output = new ObjectOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            output.writeObject(value);
+        } catch (IOException | RuntimeException e) {
+            // Must not break setAttribute, the report flags the attribute anyway
+            return null;
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported by every JVM", e);
+        }
+    }
+}
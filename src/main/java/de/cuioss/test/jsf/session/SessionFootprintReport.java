@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of {@link SessionFootprintSimulator}: The heap retained per session
+ * and its extrapolation to a number of users.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode
+@ToString
+public final class SessionFootprintReport {
+
+    /** The retained bytes of each simulated session. */
+    @Getter
+    private final List<Long> sessionBytes;
+
+    /** The bytes of objects reachable from more than one session. */
+    @Getter
+    private final long sharedBytes;
+
+    private final Map<String, Long> attributeBytes;
+
+    SessionFootprintReport(final List<Long> sessionBytes, final long sharedBytes,
+        final Map<String, Long> attributeBytes) {
+        this.sessionBytes = List.copyOf(sessionBytes);
+        this.sharedBytes = sharedBytes;
+        this.attributeBytes = Collections.unmodifiableMap(new LinkedHashMap<>(attributeBytes));
+    }
+
+    /**
+     * @return the number of simulated users
+     */
+    public int getUsers() {
+        return sessionBytes.size();
+    }
+
+    /**
+     * @return the average retained bytes per session
+     */
+    public long getAverageBytesPerSession() {
+        return Math.round(sessionBytes.stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    /**
+     * @return the maximum retained bytes of a single session
+     */
+    public long getMaxBytesPerSession() {
+        return sessionBytes.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    /**
+     * @return the average retained bytes per session and attribute name, largest
+     *         first
+     */
+    public Map<String, Long> getAverageBytesPerAttribute() {
+        Map<String, Long> average = new LinkedHashMap<>();
+        attributeBytes.entrySet().stream().sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .forEach(entry -> average.put(entry.getKey(), entry.getValue() / getUsers()));
+        return average;
+    }
+
+    /**
+     * @param users the number of logged-in users
+     * @return the estimated heap for the given number of users: the average per
+     *         session times users plus the shared bytes
+     */
+    public long estimateHeapBytes(final int users) {
+        return getAverageBytesPerSession() * users + sharedBytes;
+    }
+
+    /**
+     * @return the estimated heap for 1,000 users
+     */
+    public long getHeapBytesPer1kUsers() {
+        return estimateHeapBytes(1_000);
+    }
+
+    /**
+     * @return the estimated heap for 10,000 users
+     */
+    public long getHeapBytesPer10kUsers() {
+        return estimateHeapBytes(10_000);
+    }
+
+    /**
+     * @param budget in bytes
+     * @throws AssertionFailedError naming the largest attributes if the average
+     *                              session exceeds the budget
+     */
+    public void assertAverageBytesPerSessionAtMost(final long budget) {
+        var average = getAverageBytesPerSession();
+        if (average > budget) {
+            throw new AssertionFailedError(
+                "Average session of %s bytes exceeds budget of %s bytes, largest attributes: %s"
+                    .formatted(average, budget, getAverageBytesPerAttribute()),
+                budget, average);
+        }
+    }
+
+    /**
+     * @param users  the number of logged-in users
+     * @param budget in bytes
+     * @throws AssertionFailedError naming the largest attributes if the estimated
+     *                              heap exceeds the budget
+     */
+    public void assertHeapBytesAtMost(final int users, final long budget) {
+        var estimated = estimateHeapBytes(users);
+        if (estimated > budget) {
+            throw new AssertionFailedError(
+                "Estimated heap of %s bytes for %s users exceeds budget of %s bytes, largest attributes: %s"
+                    .formatted(estimated, users, budget, getAverageBytesPerAttribute()),
+                budget, estimated);
+        }
+    }
+
+    /**
+     * @return a human-readable summary including the extrapolation
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("""
+            Sessions: %s, average %s bytes, max %s bytes, shared %s bytes
+            Estimated heap: %s bytes per 1k users, %s bytes per 10k users
+            """.formatted(getUsers(), getAverageBytesPerSession(), getMaxBytesPerSession(), sharedBytes,
+            getHeapBytesPer1kUsers(), getHeapBytesPer10kUsers()));
+        getAverageBytesPerAttribute()
+            .forEach((name, bytes) -> builder.append("%10d  %s%n".formatted(bytes, name)));
+        return builder.toString();
+    }
+}
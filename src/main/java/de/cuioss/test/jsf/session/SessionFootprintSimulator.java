@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import de.cuioss.test.jsf.mocks.CuiMockHttpServletRequest;
+import de.cuioss.test.jsf.mocks.CuiMockServletContext;
+import jakarta.servlet.ServletContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Simulates a number of logged-in users, each one with its own
+ * {@link de.cuioss.test.jsf.mocks.CuiMockHttpSession} created by
+ * {@link CuiMockHttpServletRequest#getSession(boolean)} and populated by a
+ * {@link SessionInteraction}, and measures the heap retained per session using
+ * an {@link ObjectGraphSizer}.
+ * <p>
+ * Objects reachable from more than one session, like application-scoped
+ * services or cached constants, are not retained by a single session. They are
+ * reported as shared bytes and counted only once when extrapolating.
+ * </p>
+ *
+ * <pre>
+ * var report = new SessionFootprintSimulator().simulate(100, (user, request) -&gt; {
+ *     var session = request.getSession(true);
+ *     session.setAttribute("cart", new CartBean("user" + user));
+ * });
+ * report.assertHeapBytesAtMost(10_000, 512 * 1024 * 1024);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ */
+public final class SessionFootprintSimulator {
+
+    private final ServletContext servletContext;
+
+    private final ObjectGraphSizer sizer;
+
+    /**
+     * Uses a new {@link CuiMockServletContext} and an {@link ObjectGraphSizer}
+     * assuming compressed oops.
+     */
+    public SessionFootprintSimulator() {
+        this(new CuiMockServletContext(), new ObjectGraphSizer());
+    }
+
+    /**
+     * @param servletContext shared by all sessions, must not be null
+     * @param sizer          to be used for measuring, must not be null
+     */
+    public SessionFootprintSimulator(final ServletContext servletContext, final ObjectGraphSizer sizer) {
+        this.servletContext = requireNonNull(servletContext, "servletContext must not be null");
+        this.sizer = requireNonNull(sizer, "sizer must not be null");
+    }
+
+    /**
+     * @param users       the number of sessions to be created, at least 1
+     * @param interaction populating the session of each user, must not be null
+     * @return the created report
+     * @throws IllegalStateException if the interaction fails for a user
+     */
+    public SessionFootprintReport simulate(final int users, final SessionInteraction interaction) {
+        if (users < 1) {
+            throw new IllegalArgumentException("users must be at least 1, but was " + users);
+        }
+        requireNonNull(interaction, "interaction must not be null");
+
+        // Per session the objects reached first by each attribute
+        List<Map<String, Map<Object, Long>>> sessions = new ArrayList<>(users);
+        Map<Object, Integer> occurrences = new IdentityHashMap<>();
+        for (var user = 0; user < users; user++) {
+            var request = new CuiMockHttpServletRequest();
+            request.setServletContext(servletContext);
+            try {
+                interaction.interact(user, request);
+            } catch (Exception e) {
+                throw new IllegalStateException("Interaction failed for user " + user, e);
+            }
+            var attributes = collectAttributes(request);
+            attributes.values().forEach(objects -> objects.keySet()
+                .forEach(object -> occurrences.merge(object, 1, Integer::sum)));
+            sessions.add(attributes);
+        }
+
+        List<Long> sessionBytes = new ArrayList<>(users);
+        Map<String, Long> attributeBytes = new LinkedHashMap<>();
+        Map<Object, Long> shared = new IdentityHashMap<>();
+        for (Map<String, Map<Object, Long>> attributes : sessions) {
+            long retained = 0;
+            for (Map.Entry<String, Map<Object, Long>> attribute : attributes.entrySet()) {
+                long attributeRetained = 0;
+                for (Map.Entry<Object, Long> object : attribute.getValue().entrySet()) {
+                    if (occurrences.get(object.getKey()) > 1) {
+                        shared.put(object.getKey(), object.getValue());
+                    } else {
+                        attributeRetained += object.getValue();
+                    }
+                }
+                attributeBytes.merge(attribute.getKey(), attributeRetained, Long::sum);
+                retained += attributeRetained;
+            }
+            sessionBytes.add(retained);
+        }
+        return new SessionFootprintReport(sessionBytes,
+            shared.values().stream().mapToLong(Long::longValue).sum(), attributeBytes);
+    }
+
+    private Map<String, Map<Object, Long>> collectAttributes(final CuiMockHttpServletRequest request) {
+        Map<String, Map<Object, Long>> attributes = new LinkedHashMap<>();
+        var session = request.getSession(false);
+        if (null == session) {
+            return attributes;
+        }
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String name : Collections.list(session.getAttributeNames())) {
+            Map<Object, Long> reached = new IdentityHashMap<>();
+            sizer.collect(name, reached, visited);
+            sizer.collect(session.getAttribute(name), reached, visited);
+            attributes.put(name, reached);
+        }
+        return attributes;
+    }
+
+    /**
+     * Populates the session of a simulated user, e.g. by calling session-scoped
+     * beans.
+     */
+    @FunctionalInterface
+    public interface SessionInteraction {
+
+        /**
+         * @param user    the index of the simulated user, starting with 0
+         * @param request of the user, providing the session via
+         *                {@link CuiMockHttpServletRequest#getSession(boolean)}
+         * @throws Exception propagated as {@link IllegalStateException}
+         */
+        @SuppressWarnings("java:S112") // owolff: Interactions may throw anything
+        void interact(int user, CuiMockHttpServletRequest request) throws Exception;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The result of {@link SessionAttributeTracker#createReport(jakarta.servlet.http.HttpSession)}:
+ * The serialized size and serialization time per session attribute.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode
+@ToString
+public final class SessionReplicationReport {
+
+    /** The attributes of the session, largest first. */
+    @Getter
+    private final List<AttributeReplication> attributes;
+
+    SessionReplicationReport(final List<AttributeReplication> attributes) {
+        this.attributes = attributes.stream()
+            .sorted(Comparator.comparingLong(AttributeReplication::bytes).reversed()).toList();
+    }
+
+    /**
+     * @param name of the attribute
+     * @return the measurement of the attribute with the given name, if present
+     */
+    public Optional<AttributeReplication> getAttribute(final String name) {
+        return attributes.stream().filter(attribute -> attribute.name().equals(name)).findFirst();
+    }
+
+    /**
+     * @return the sum of the serialized sizes of all serializable attributes
+     */
+    public long getTotalBytes() {
+        return attributes.stream().filter(AttributeReplication::isSerializable)
+            .mapToLong(AttributeReplication::bytes).sum();
+    }
+
+    /**
+     * @return the sum of the serialization times of all attributes
+     */
+    public long getTotalSerializationNanos() {
+        return attributes.stream().mapToLong(AttributeReplication::serializationNanos).sum();
+    }
+
+    /**
+     * @return the attributes that can not be serialized and therefore not be
+     *         replicated
+     */
+    public List<AttributeReplication> getNonSerializable() {
+        return attributes.stream().filter(attribute -> !attribute.isSerializable()).toList();
+    }
+
+    /**
+     * @return the attributes that have been written with the value already present,
+     *         forcing a needless replication
+     */
+    public List<AttributeReplication> getRedundantlyWritten() {
+        return attributes.stream().filter(attribute -> attribute.redundantWrites() > 0).toList();
+    }
+
+    /**
+     * Asserts that all attributes are serializable and their serialized size does
+     * not exceed the given budget.
+     *
+     * @param budget in bytes
+     * @throws AssertionFailedError naming the non-serializable or the largest
+     *                              attributes
+     */
+    public void assertTotalBytesAtMost(final long budget) {
+        assertAllSerializable();
+        var total = getTotalBytes();
+        if (total > budget) {
+            throw new AssertionFailedError(
+                "Session attributes of %s bytes exceed budget of %s bytes, largest attributes: %s"
+                    .formatted(total, budget, describe(attributes.stream().limit(5).toList())),
+                budget, total);
+        }
+    }
+
+    /**
+     * @throws AssertionFailedError naming the attributes that are not serializable
+     */
+    public void assertAllSerializable() {
+        var nonSerializable = getNonSerializable();
+        if (!nonSerializable.isEmpty()) {
+            throw new AssertionFailedError("Session attributes are not serializable: " + nonSerializable.stream()
+                .map(attribute -> attribute.name() + " (" + attribute.failure() + ")")
+                .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * @throws AssertionFailedError naming the attributes written with an unchanged
+     *                              value
+     */
+    public void assertNoRedundantWrites() {
+        var redundant = getRedundantlyWritten();
+        if (!redundant.isEmpty()) {
+            throw new AssertionFailedError("Session attributes rewritten with unchanged value: " + redundant.stream()
+                .map(attribute -> attribute.name() + " (" + attribute.redundantWrites() + "x)")
+                .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * @return a human-readable table of the attributes, largest first
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("Session: %s bytes, serialized in %s ms%n"
+            .formatted(getTotalBytes(), millis(getTotalSerializationNanos())));
+        attributes.forEach(attribute -> builder.append("%8d  %10s ms  %3d writes  %3d redundant  %s (%s)%s%n"
+            .formatted(attribute.bytes(), millis(attribute.serializationNanos()), attribute.writes(),
+                attribute.redundantWrites(), attribute.name(), attribute.type(),
+                attribute.isSerializable() ? "" : " NOT SERIALIZABLE: " + attribute.failure())));
+        return builder.toString();
+    }
+
+    private static String millis(final long nanoseconds) {
+        return String.format(Locale.ROOT, "%.3f", nanoseconds / 1_000_000.0);
+    }
+
+    private static String describe(final List<AttributeReplication> attributes) {
+        return attributes.stream().map(attribute -> attribute.name() + " (" + attribute.bytes() + ")")
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * The measurement of a single attribute.
+     *
+     * @param name               of the attribute
+     * @param type               the fully qualified class name of the value
+     * @param bytes              the serialized size, {@code -1} if not
+     *                           serializable
+     * @param serializationNanos the time for serializing the value
+     * @param writes             the number of recorded writes
+     * @param redundantWrites    the number of writes with an unchanged value
+     * @param failure            describing why the value is not serializable,
+     *                           {@code null} if it is
+     */
+    public record AttributeReplication(String name, String type, long bytes, long serializationNanos, int writes,
+        int redundantWrites, String failure) {
+
+        /**
+         * @return whether the value could be serialized
+         */
+        public boolean isSerializable() {
+            return null == failure;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.state;
+
+import de.cuioss.test.jsf.state.PartialStateReport.StateDelta;
+import de.cuioss.test.valueobjects.property.PropertyMetadata;
+import de.cuioss.tools.property.PropertyUtil;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures the delta saved by partial state saving: A component is created, its
+ * initial state is marked, see {@link UIComponent#markInitialState()}, and the
+ * size of {@link UIComponent#saveState(FacesContext)} is measured
+ * <ul>
+ * <li>without any change, where a component supporting partial state saving
+ * saves nothing,</li>
+ * <li>for each property with a generated value applied separately and</li>
+ * <li>with all properties applied together.</li>
+ * </ul>
+ * The {@link jakarta.faces.component.StateHelper} entries found in the delta of
+ * the unchanged component are the properties stored in full, see
+ * {@link PartialStateReport#getEntriesStoredWhenUnchanged()}.
+ *
+ * @author Oliver Wolff
+ */
+@UtilityClass
+public final class PartialStateProfiler {
+
+    /** Name of the entry for state saved outside the StateHelper. */
+    public static final String OUTSIDE_STATE_HELPER = "(saveState)";
+
+    static final String UNCHANGED = "(unchanged)";
+
+    static final String ALL_PROPERTIES = "(all properties)";
+
+    /**
+     * @param componentFactory creating a new, minimal configured component for
+     *                         each measurement, must not be null
+     * @param properties       whose generated values are applied, must not be
+     *                         null
+     * @param facesContext     to be used for saving the state, must not be null
+     * @return the created report
+     * @throws IllegalArgumentException if the delta contains values that are not
+     *                                  serializable
+     */
+    public static PartialStateReport profile(final Supplier<? extends UIComponent> componentFactory,
+        final Collection<? extends PropertyMetadata> properties, final FacesContext facesContext) {
+        requireNonNull(componentFactory, "componentFactory must not be null");
+        requireNonNull(properties, "properties must not be null");
+        requireNonNull(facesContext, "facesContext must not be null");
+
+        var unchanged = markedInitialState(componentFactory);
+        var componentClass = unchanged.getClass().getName();
+        var unchangedDelta = measure(UNCHANGED, unchanged, facesContext);
+
+        List<StateDelta> propertyDeltas = new ArrayList<>();
+        var combined = markedInitialState(componentFactory);
+        for (PropertyMetadata property : properties) {
+            var value = property.next();
+            var component = markedInitialState(componentFactory);
+            PropertyUtil.writeProperty(component, property.getName(), value);
+            propertyDeltas.add(measure(property.getName(), component, facesContext));
+            PropertyUtil.writeProperty(combined, property.getName(), value);
+        }
+        return new PartialStateReport(componentClass, unchangedDelta, propertyDeltas,
+            measure(ALL_PROPERTIES, combined, facesContext));
+    }
+
+    private static UIComponent markedInitialState(final Supplier<? extends UIComponent> componentFactory) {
+        var component = requireNonNull(componentFactory.get(), "componentFactory must not return null");
+        component.markInitialState();
+        return component;
+    }
+
+    private static StateDelta measure(final String name, final UIComponent component,
+        final FacesContext facesContext) {
+        var state = component.saveState(facesContext);
+        if (null == state) {
+            return new StateDelta(name, 0, List.of());
+        }
+        var description = component.getClass().getSimpleName() + " " + name;
+        var entries = new ArrayList<String>();
+        if (ViewStateSizeProfiler.getStateHelper(component).saveState(facesContext) instanceof Object[] pairs
+            && pairs.length % 2 == 0) {
+            for (var i = 0; i < pairs.length; i += 2) {
+                entries.add(String.valueOf(pairs[i]));
+            }
+        }
+        if (entries.isEmpty()) {
+            entries.add(OUTSIDE_STATE_HELPER);
+        }
+        return new StateDelta(name, ViewStateSizeProfiler.serializedSize(state, description, false), entries);
+    }
+}
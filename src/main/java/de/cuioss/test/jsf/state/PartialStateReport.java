@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.state;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The result of {@link PartialStateProfiler}: The deltas saved by a component
+ * after its initial state has been marked.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode
+@ToString
+public final class PartialStateReport {
+
+    /** The fully qualified name of the profiled component class. */
+    @Getter
+    private final String componentClass;
+
+    /** The delta of the component without any change. */
+    @Getter
+    private final StateDelta unchangedDelta;
+
+    /** The deltas with a single property changed, in the order of the properties. */
+    @Getter
+    private final List<StateDelta> propertyDeltas;
+
+    /** The delta with all properties changed. */
+    @Getter
+    private final StateDelta combinedDelta;
+
+    PartialStateReport(final String componentClass, final StateDelta unchangedDelta,
+        final List<StateDelta> propertyDeltas, final StateDelta combinedDelta) {
+        this.componentClass = componentClass;
+        this.unchangedDelta = unchangedDelta;
+        this.propertyDeltas = List.copyOf(propertyDeltas);
+        this.combinedDelta = combinedDelta;
+    }
+
+    /**
+     * @return the entries saved although nothing changed, usually the properties
+     *         of a component breaking partial state saving, or
+     *         {@link PartialStateProfiler#OUTSIDE_STATE_HELPER} for state saved by
+     *         an overridden {@code saveState}. Empty for a well-behaved component.
+     */
+    public List<String> getEntriesStoredWhenUnchanged() {
+        return unchangedDelta.entries();
+    }
+
+    /**
+     * Asserts that nothing is saved for the component without changes.
+     *
+     * @throws AssertionFailedError naming the entries stored in full
+     */
+    public void assertNoStateWhenUnchanged() {
+        if (unchangedDelta.bytes() > 0) {
+            throw new AssertionFailedError(
+                "%s saves %s bytes without any change, breaking partial state saving, entries stored in full: %s"
+                    .formatted(componentClass, unchangedDelta.bytes(), unchangedDelta.entries()));
+        }
+    }
+
+    /**
+     * Asserts that the delta with all properties changed does not exceed the
+     * given budget.
+     *
+     * @param budget in bytes
+     * @throws AssertionFailedError naming the largest property deltas if the
+     *                              budget is exceeded
+     */
+    public void assertDeltaBytesAtMost(final long budget) {
+        if (combinedDelta.bytes() > budget) {
+            var largest = propertyDeltas.stream().sorted(Comparator.comparingLong(StateDelta::bytes).reversed())
+                .limit(5).map(delta -> delta.name() + " (" + delta.bytes() + ")")
+                .collect(Collectors.joining(", "));
+            throw new AssertionFailedError(
+                "Delta of %s with %s bytes exceeds budget of %s bytes, largest properties: %s"
+                    .formatted(componentClass, combinedDelta.bytes(), budget, largest),
+                budget, combinedDelta.bytes());
+        }
+    }
+
+    /**
+     * @return a human-readable table of the deltas
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("Partial state of %s%n".formatted(componentClass));
+        append(builder, unchangedDelta);
+        propertyDeltas.forEach(delta -> append(builder, delta));
+        append(builder, combinedDelta);
+        return builder.toString();
+    }
+
+    private static void append(final StringBuilder builder, final StateDelta delta) {
+        builder.append("%8d  %s %s%n".formatted(delta.bytes(), delta.name(), delta.entries()));
+    }
+
+    /**
+     * A measured delta.
+     *
+     * @param name    of the changed property, or a description like
+     *                {@code (unchanged)}
+     * @param bytes   the serialized size of the delta, {@code 0} if nothing is
+     *                saved
+     * @param entries the {@link jakarta.faces.component.StateHelper} keys found in
+     *                the delta
+     */
+    public record StateDelta(String name, long bytes, List<String> entries) {
+
+        /**
+         * Defensive copy
+         */
+        public StateDelta {
+            entries = List.copyOf(entries);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.state;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The result of {@link ViewStateSizeProfiler}: The size of the serialized state
+ * of a component tree and its breakdown per component and per
+ * {@link jakarta.faces.component.StateHelper} entry.
+ *
+ * @author Oliver Wolff
+ */
+@EqualsAndHashCode
+@ToString
+public final class ViewStateReport {
+
+    private static final int MAX_REPORTED_ENTRIES = 5;
+
+    /** The serialized size of the state of the whole tree. */
+    @Getter
+    private final long totalBytes;
+
+    /** The size of the state of the whole tree after gzip compression. */
+    @Getter
+    private final long compressedBytes;
+
+    /** The components of the tree in document order, transient ones excluded. */
+    @Getter
+    private final List<ComponentStateSize> components;
+
+    ViewStateReport(final long totalBytes, final long compressedBytes, final List<ComponentStateSize> components) {
+        this.totalBytes = totalBytes;
+        this.compressedBytes = compressedBytes;
+        this.components = List.copyOf(components);
+    }
+
+    /**
+     * @param clientId of the component to be looked up
+     * @return the state size of the component with the given clientId, if profiled
+     */
+    public Optional<ComponentStateSize> getComponent(final String clientId) {
+        return components.stream().filter(component -> component.clientId().equals(clientId)).findFirst();
+    }
+
+    /**
+     * @param limit the maximum number of entries
+     * @return the largest {@link StateEntrySize}s of all components, largest first,
+     *         each one prefixed with the clientId, e.g. {@code form:name#styleClass}
+     */
+    public List<StateEntrySize> getLargestEntries(final int limit) {
+        return components.stream()
+            .flatMap(component -> component.entries().stream()
+                .map(entry -> new StateEntrySize(component.clientId() + "#" + entry.name(), entry.bytes())))
+            .sorted(Comparator.comparingLong(StateEntrySize::bytes).reversed()).limit(limit).toList();
+    }
+
+    /**
+     * Asserts that the serialized state of the whole tree does not exceed the
+     * given budget.
+     *
+     * @param budget in bytes
+     * @throws AssertionFailedError naming the largest entries if the budget is
+     *                              exceeded
+     */
+    public void assertTotalBytesAtMost(final long budget) {
+        if (totalBytes > budget) {
+            throw new AssertionFailedError("View state of %s bytes exceeds budget of %s bytes, largest entries: %s"
+                .formatted(totalBytes, budget, describe(getLargestEntries(MAX_REPORTED_ENTRIES))), budget,
+                totalBytes);
+        }
+    }
+
+    /**
+     * Asserts that the serialized state of the given component, see
+     * {@link jakarta.faces.component.UIComponent#saveState(jakarta.faces.context.FacesContext)},
+     * does not exceed the given budget.
+     *
+     * @param clientId of the component
+     * @param budget   in bytes
+     * @throws AssertionFailedError naming the largest entries if the budget is
+     *                              exceeded or the component is not part of the
+     *                              report
+     */
+    public void assertComponentBytesAtMost(final String clientId, final long budget) {
+        var component = getComponent(clientId)
+            .orElseThrow(() -> new AssertionFailedError("No state found for component " + clientId));
+        if (component.bytes() > budget) {
+            throw new AssertionFailedError("State of %s with %s bytes exceeds budget of %s bytes, largest entries: %s"
+                .formatted(clientId, component.bytes(), budget,
+                    describe(component.getLargestEntries(MAX_REPORTED_ENTRIES))),
+                budget, component.bytes());
+        }
+    }
+
+    /**
+     * @return a human-readable table of the components, largest first, with their
+     *         largest entries
+     */
+    public String createSummary() {
+        var builder = new StringBuilder("View state: %s bytes, %s bytes compressed%n"
+            .formatted(totalBytes, compressedBytes));
+        components.stream().sorted(Comparator.comparingLong(ComponentStateSize::bytes).reversed())
+            .forEach(component -> {
+                builder.append("%8d  %s (%s)%n".formatted(component.bytes(), component.clientId(),
+                    component.componentClass()));
+                component.getLargestEntries(MAX_REPORTED_ENTRIES).forEach(entry -> builder
+                    .append("%8d    %s%n".formatted(entry.bytes(), entry.name())));
+            });
+        return builder.toString();
+    }
+
+    private static String describe(final List<StateEntrySize> entries) {
+        return entries.stream().map(entry -> entry.name() + " (" + entry.bytes() + ")")
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * The state size of a single component.
+     *
+     * @param clientId       of the component
+     * @param componentClass the fully qualified name of the component class
+     * @param bytes          the serialized size of the state of the component
+     * @param entries        the {@link jakarta.faces.component.StateHelper} entries
+     *                       of the component, maps broken down per key
+     */
+    public record ComponentStateSize(String clientId, String componentClass, long bytes,
+        List<StateEntrySize> entries) {
+
+        /**
+         * Defensive copy
+         */
+        public ComponentStateSize {
+            entries = List.copyOf(entries);
+        }
+
+        /**
+         * @param limit the maximum number of entries
+         * @return the largest entries, largest first
+         */
+        public List<StateEntrySize> getLargestEntries(final int limit) {
+            return entries.stream().sorted(Comparator.comparingLong(StateEntrySize::bytes).reversed())
+                .limit(limit).toList();
+        }
+    }
+
+    /**
+     * The size of a single state entry.
+     *
+     * @param name  of the entry, e.g. {@code styleClass} or
+     *              {@code attributesMap[data-test]}
+     * @param bytes the serialized size of the value
+     */
+    public record StateEntrySize(String name, long bytes) {
+    }
+}
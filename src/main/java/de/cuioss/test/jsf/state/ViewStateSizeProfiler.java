@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.state;
+
+import de.cuioss.test.jsf.state.ViewStateReport.ComponentStateSize;
+import de.cuioss.test.jsf.state.ViewStateReport.StateEntrySize;
+import de.cuioss.test.jsf.util.CountingOutputStream;
+import jakarta.faces.component.StateHelper;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures the state saved for a component tree the way client-side state saving
+ * does: {@link UIComponent#processSaveState(FacesContext)} for the whole tree,
+ * serialized with an {@link ObjectOutputStream}. In addition, the state of each
+ * component, see {@link UIComponent#saveState(FacesContext)}, is broken down into
+ * the entries of its {@link StateHelper}, e.g. {@code styleClass},
+ * {@code attributesMap[data-test]} or {@code bindings[value]} for
+ * {@link jakarta.el.ValueExpression}s. This way the attribute bloating the state
+ * can be identified, see {@link ViewStateReport#createSummary()}.
+ * <p>
+ * The sizes of components and entries are measured in isolation, each one
+ * including the serialization overhead like class descriptors. Therefore, they do
+ * not sum up to the total exactly, but are suitable for comparison. Transient
+ * components are skipped, as by state saving.
+ * </p>
+ *
+ * <pre>
+ * ViewStateSizeProfiler.profile(facesContext).assertTotalBytesAtMost(4096);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ */
+@UtilityClass
+public final class ViewStateSizeProfiler {
+
+    private static final Method GET_STATE_HELPER = resolveGetStateHelper();
+
+    /**
+     * Profiles the view-root of the given context, usually a
+     * {@link de.cuioss.test.jsf.mocks.CuiMockUIViewRoot}.
+     *
+     * @param facesContext providing the view-root, must not be null
+     * @return the created report
+     * @throws IllegalStateException    if there is no view-root
+     * @throws IllegalArgumentException if the state contains values that are not
+     *                                  serializable
+     */
+    public static ViewStateReport profile(final FacesContext facesContext) {
+        requireNonNull(facesContext, "facesContext must not be null");
+        var viewRoot = facesContext.getViewRoot();
+        if (null == viewRoot) {
+            throw new IllegalStateException("The FacesContext does not provide a view-root");
+        }
+        return profile(viewRoot, facesContext);
+    }
+
+    /**
+     * @param root         of the tree to be profiled, must not be null
+     * @param facesContext to be used for saving the state, must not be null
+     * @return the created report
+     * @throws IllegalArgumentException if the state contains values that are not
+     *                                  serializable
+     */
+    public static ViewStateReport profile(final UIComponent root, final FacesContext facesContext) {
+        requireNonNull(root, "root must not be null");
+        requireNonNull(facesContext, "facesContext must not be null");
+        var treeState = root.processSaveState(facesContext);
+        List<ComponentStateSize> components = new ArrayList<>();
+        collect(root, facesContext, components);
+        return new ViewStateReport(serializedSize(treeState, "tree of " + describe(root, facesContext), false),
+            serializedSize(treeState, "tree of " + describe(root, facesContext), true), components);
+    }
+
+    private static void collect(final UIComponent component, final FacesContext facesContext,
+        final List<ComponentStateSize> components) {
+        if (component.isTransient()) {
+            return;
+        }
+        var clientId = component.getClientId(facesContext);
+        var componentState = component.saveState(facesContext);
+        var entries = new ArrayList<StateEntrySize>();
+        var stateHelperState = getStateHelper(component).saveState(facesContext);
+        if (stateHelperState instanceof Object[] pairs && pairs.length % 2 == 0) {
+            for (var i = 0; i < pairs.length; i += 2) {
+                addEntries(String.valueOf(pairs[i]), pairs[i + 1], clientId, entries);
+            }
+        } else if (null != stateHelperState) {
+            entries.add(new StateEntrySize("stateHelper",
+                serializedSize(stateHelperState, clientId + " stateHelper", false)));
+        }
+        components.add(new ComponentStateSize(clientId, component.getClass().getName(),
+            serializedSize(componentState, clientId, false), entries));
+        component.getFacetsAndChildren().forEachRemaining(child -> collect(child, facesContext, components));
+    }
+
+    /**
+     * Maps, e.g. the attributes or value-expressions, are broken down per key
+     */
+    private static void addEntries(final String name, final Object value, final String clientId,
+        final List<StateEntrySize> entries) {
+        if (value instanceof Map<?, ?> map && !map.isEmpty()) {
+            map.forEach((key, mapValue) -> {
+                var entryName = name + "[" + key + "]";
+                entries.add(new StateEntrySize(entryName,
+                    serializedSize(mapValue, clientId + " " + entryName, false)));
+            });
+            return;
+        }
+        entries.add(new StateEntrySize(name, serializedSize(value, clientId + " " + name, false)));
+    }
+
+    /**
+     * @param value       to be serialized, may be null
+     * @param description used for the message in case it is not serializable
+     * @param compressed  whether the size after gzip compression is to be computed
+     * @return the number of bytes written by serializing the given value
+     */
+    static long serializedSize(final Object value, final String description, final boolean compressed) {
+        var counter = new CountingOutputStream();
+        try (var target = compressed ? new GZIPOutputStream(counter) : counter;
+             var output = new ObjectOutputStream(target)) {
+            output.writeObject(value);
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException(
+                "State of %s is not serializable: %s".formatted(description, e.getMessage()), e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize state of " + description, e);
+        }
+        return counter.getCount();
+    }
+
+    static StateHelper getStateHelper(final UIComponent component) {
+        try {
+            return (StateHelper) GET_STATE_HELPER.invoke(component);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to access the StateHelper of " + component.getClass(), e);
+        }
+    }
+
+    /**
+     * {@link UIComponent#getStateHelper()} is protected
+     */
+    private static Method resolveGetStateHelper() {
+        try {
+            var method = UIComponent.class.getDeclaredMethod("getStateHelper");
+            method.setAccessible(true);
+            return method;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("UIComponent#getStateHelper() not found", e);
+        }
+    }
+
+    private static String describe(final UIComponent component, final FacesContext facesContext) {
+        return component.getClass().getSimpleName() + " " + component.getClientId(facesContext);
+    }
+}
@@ -15,12 +15,22 @@
  */
 package de.cuioss.test.jsf.util;
 
+import de.cuioss.test.jsf.el.CachingExpressionFactory;
+import de.cuioss.test.jsf.el.CountingELResolver;
+import de.cuioss.test.jsf.el.CountingExpressionFactory;
+import de.cuioss.test.jsf.el.ElEvaluationCounter;
+import de.cuioss.test.jsf.mocks.CuiMockConfigurableNavigationHandler;
+import de.cuioss.test.jsf.mocks.CuiMockResourceHandler;
 import de.cuioss.test.jsf.mocks.CuiMockSearchExpressionHandler;
 import de.cuioss.test.valueobjects.util.IdentityResourceBundle;
+import jakarta.el.ELResolver;
+import jakarta.el.ExpressionFactory;
 import jakarta.faces.FactoryFinder;
 import jakarta.faces.application.Application;
 import jakarta.faces.application.ApplicationFactory;
 import jakarta.faces.application.ApplicationWrapper;
+import jakarta.faces.application.NavigationHandler;
+import jakarta.faces.application.ResourceHandler;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.search.SearchExpressionHandler;
 import jakarta.faces.context.FacesContext;
@@ -30,7 +40,11 @@ import lombok.Setter;
 import org.apache.myfaces.test.config.ResourceBundleVarNames;
 import org.apache.myfaces.test.mock.MockFacesContext;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static de.cuioss.tools.string.MoreStrings.isEmpty;
 import static java.util.Objects.requireNonNull;
@@ -38,6 +52,20 @@ import static java.util.Objects.requireNonNull;
 /**
  * An {@link ApplicationWrapper} that is capable to do more programmatic
  * configuration compared to the ones provided by myfaces-test
+ * <p>
+ * Resource bundles registered by {@link #registerResourceBundle(String, String)}
+ * are kept per application instance, in contrast to the JVM-global
+ * {@link ResourceBundleVarNames}. Therefore, tests running in parallel, each one
+ * with its own application, do not see each other's registrations. Names added to
+ * {@link ResourceBundleVarNames} directly are still considered as fallback.
+ * </p>
+ * <p>
+ * The state created on first access, like the default
+ * {@link SearchExpressionHandler}, the lazily installed mock handlers and the
+ * counting wrappers, is initialized thread-safely, so the application can be
+ * shared by concurrent requests, see
+ * {@link de.cuioss.test.jsf.concurrent.ConcurrentRequestSimulator}.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -55,9 +83,44 @@ public class ConfigurableApplication extends ApplicationWrapper {
     @Setter
     private boolean useIdentityResourceBundle = true;
 
+    private final Map<String, String> resourceBundleNames = new ConcurrentHashMap<>();
+
+    private volatile SearchExpressionHandler searchExpressionHandler;
+
+    /**
+     * If true, the mock implementations {@link CuiMockConfigurableNavigationHandler}
+     * and {@link CuiMockResourceHandler} are installed on first access, unless a
+     * handler was set explicitly before. Used by the lazy
+     * {@link JsfEnvironmentProfile}s.
+     */
+    @Getter
+    @Setter
+    private boolean installMockHandlersLazily = false;
+
+    /**
+     * If set, the {@link ExpressionFactory} and {@link ELResolver} of the application
+     * report the evaluations to it, see {@link ElEvaluationCounter#install(FacesContext)}.
+     * Defaults to {@code null}, meaning no counting.
+     */
+    @Getter
+    private volatile ElEvaluationCounter evaluationCounter;
+
+    /**
+     * If set, it replaces the {@link ExpressionFactory} of the wrapped application,
+     * e.g. a {@link CachingExpressionFactory} backed by a real Jakarta EL
+     * implementation. Defaults to {@code null}, meaning the one of myfaces-test.
+     */
     @Getter
     @Setter
-    private SearchExpressionHandler searchExpressionHandler = new CuiMockSearchExpressionHandler();
+    private volatile ExpressionFactory expressionFactory;
+
+    private volatile CountingExpressionFactory countingExpressionFactory;
+
+    private volatile CountingELResolver countingELResolver;
+
+    private volatile boolean navigationHandlerResolved = false;
+
+    private volatile boolean resourceHandlerResolved = false;
 
     /**
      * Creates a new {@link ConfigurableApplication} by loading the existing
@@ -85,14 +148,45 @@ public class ConfigurableApplication extends ApplicationWrapper {
         return application;
     }
 
+    /**
+     * Registers a {@link ResourceBundle} for this application only.
+     *
+     * @param bundleName the name of the bundle to be registered to, must not be null
+     * @param bundlePath the path to the {@link ResourceBundle}, must not be null
+     */
+    public void registerResourceBundle(final String bundleName, final String bundlePath) {
+        requireNonNull(bundleName, "bundleName must not be null");
+        requireNonNull(bundlePath, "bundlePath must not be null");
+        resourceBundleNames.put(bundleName, bundlePath);
+    }
+
     @Override
     public ResourceBundle getResourceBundle(final FacesContext ctx, final String name) {
+        var bundlePath = resourceBundleNames.get(name);
+        if (null != bundlePath) {
+            if (useIdentityResourceBundle) {
+                return new IdentityResourceBundle();
+            }
+            try {
+                return ResourceBundle.getBundle(bundlePath, determineLocale(ctx),
+                    Thread.currentThread().getContextClassLoader());
+            } catch (MissingResourceException e) {
+                return null;
+            }
+        }
         if (useIdentityResourceBundle && null != ResourceBundleVarNames.getVarName(name)) {
             return new IdentityResourceBundle();
         }
         return wrapped.getResourceBundle(ctx, name);
     }
 
+    private static Locale determineLocale(final FacesContext ctx) {
+        if (null != ctx && null != ctx.getViewRoot() && null != ctx.getViewRoot().getLocale()) {
+            return ctx.getViewRoot().getLocale();
+        }
+        return Locale.getDefault();
+    }
+
     @Override
     public String getMessageBundle() {
         if (useIdentityResourceBundle) {
@@ -101,6 +195,129 @@ public class ConfigurableApplication extends ApplicationWrapper {
         return wrapped.getMessageBundle();
     }
 
+    /**
+     * @return the configured {@link SearchExpressionHandler}, defaults to a
+     * {@link CuiMockSearchExpressionHandler} that is created on first access
+     */
+    @Override
+    public SearchExpressionHandler getSearchExpressionHandler() {
+        var handler = searchExpressionHandler;
+        if (null == handler) {
+            synchronized (this) {
+                if (null == searchExpressionHandler) {
+                    searchExpressionHandler = new CuiMockSearchExpressionHandler();
+                }
+                handler = searchExpressionHandler;
+            }
+        }
+        return handler;
+    }
+
+    @Override
+    public void setSearchExpressionHandler(final SearchExpressionHandler searchExpressionHandler) {
+        this.searchExpressionHandler = searchExpressionHandler;
+    }
+
+    @Override
+    public NavigationHandler getNavigationHandler() {
+        if (installMockHandlersLazily && !navigationHandlerResolved) {
+            synchronized (this) {
+                if (!navigationHandlerResolved) {
+                    if (!(wrapped.getNavigationHandler() instanceof CuiMockConfigurableNavigationHandler)) {
+                        wrapped.setNavigationHandler(new CuiMockConfigurableNavigationHandler());
+                    }
+                    // Published after installing, so no other thread sees the previous handler
+                    navigationHandlerResolved = true;
+                }
+            }
+        }
+        return wrapped.getNavigationHandler();
+    }
+
+    @Override
+    public synchronized void setNavigationHandler(final NavigationHandler handler) {
+        wrapped.setNavigationHandler(handler);
+        navigationHandlerResolved = true;
+    }
+
+    @Override
+    public ResourceHandler getResourceHandler() {
+        if (installMockHandlersLazily && !resourceHandlerResolved) {
+            synchronized (this) {
+                if (!resourceHandlerResolved) {
+                    if (!(wrapped.getResourceHandler() instanceof CuiMockResourceHandler)) {
+                        wrapped.setResourceHandler(new CuiMockResourceHandler());
+                    }
+                    resourceHandlerResolved = true;
+                }
+            }
+        }
+        return wrapped.getResourceHandler();
+    }
+
+    @Override
+    public synchronized void setResourceHandler(final ResourceHandler handler) {
+        wrapped.setResourceHandler(handler);
+        resourceHandlerResolved = true;
+    }
+
+    /**
+     * @param evaluationCounter to be reported to, {@code null} for disabling the
+     *                          counting
+     */
+    public synchronized void setEvaluationCounter(final ElEvaluationCounter evaluationCounter) {
+        this.evaluationCounter = evaluationCounter;
+        countingExpressionFactory = null;
+        countingELResolver = null;
+    }
+
+    @Override
+    public ExpressionFactory getExpressionFactory() {
+        var configured = expressionFactory;
+        var factory = null == configured ? wrapped.getExpressionFactory() : configured;
+        var counter = evaluationCounter;
+        if (null == counter || null == factory) {
+            return factory;
+        }
+        // Concurrent callers may each create a wrapper, all reporting to the same counter
+        var counting = countingExpressionFactory;
+        if (null == counting || counting.getWrapped() != factory) {
+            counting = new CountingExpressionFactory(factory, counter);
+            countingExpressionFactory = counting;
+        }
+        return counting;
+    }
+
+    @Override
+    public ELResolver getELResolver() {
+        var resolver = wrapped.getELResolver();
+        var counter = evaluationCounter;
+        if (null == counter || null == resolver) {
+            return resolver;
+        }
+        var counting = countingELResolver;
+        if (null == counting || counting.getWrapped() != resolver) {
+            counting = new CountingELResolver(resolver, counter);
+            countingELResolver = counting;
+        }
+        return counting;
+    }
+
+    /**
+     * In case an {@link ElEvaluationCounter} or {@link ExpressionFactory} is set, the
+     * expression is created by {@link #getExpressionFactory()}, the wrapped
+     * application would bypass it.
+     */
+    @Override
+    public <T> T evaluateExpressionGet(final FacesContext context, final String expression,
+        final Class<? extends T> expectedType) {
+        if (null == evaluationCounter && null == expressionFactory) {
+            return wrapped.evaluateExpressionGet(context, expression, expectedType);
+        }
+        var elContext = context.getELContext();
+        return getExpressionFactory().createValueExpression(elContext, expression, expectedType).getValue(elContext);
+    }
+
     /**
      * Intercept invalid argument for MyFaces Api passing null as rendererType ->
      * UiViewRoot#getComponentResources
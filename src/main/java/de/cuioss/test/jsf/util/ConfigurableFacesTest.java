@@ -103,10 +103,10 @@ public class ConfigurableFacesTest {
         requestConfigDecorator = new RequestConfigDecorator((MockFacesContext) getFacesContext(),
             (MockExternalContext) getExternalContext());
 
-        final var annotations = extractJsfTestConfiguration(getClass());
-        configureApplication(this, applicationConfigDecorator, annotations);
-        configureComponents(this, componentConfigDecorator, annotations);
-        configureRequestConfig(this, requestConfigDecorator, annotations);
+        final var configurators = instantiateConfigurations(extractJsfTestConfiguration(getClass()));
+        applyApplicationConfiguration(this, applicationConfigDecorator, configurators);
+        applyComponentConfiguration(this, componentConfigDecorator, configurators);
+        applyRequestConfiguration(this, requestConfigDecorator, configurators);
 
         // Fix for invalid set converter Id at
         // org.apache.myfaces.test.mock.MockApplication@91
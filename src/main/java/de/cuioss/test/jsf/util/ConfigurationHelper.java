@@ -19,6 +19,7 @@ import de.cuioss.test.jsf.config.*;
 import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
 import de.cuioss.test.jsf.config.decorator.RequestConfigDecorator;
+import de.cuioss.test.jsf.jfr.JsfConfigurationEvent;
 import de.cuioss.test.valueobjects.objects.impl.DefaultInstantiator;
 import de.cuioss.tools.collect.CollectionBuilder;
 import de.cuioss.tools.reflect.MoreReflection;
@@ -30,6 +31,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import static de.cuioss.test.jsf.util.SetupTimingRecorder.configurationStep;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -60,6 +62,46 @@ public final class ConfigurationHelper {
         return builder.toImmutableSet();
     }
 
+    /**
+     * Instantiates the {@link JsfTestSetup} classes referenced by the given
+     * annotations, in the order of declaration. The resulting list is meant to be
+     * passed to {@link #applyApplicationConfiguration(Object, ApplicationConfigDecorator, List)},
+     * {@link #applyComponentConfiguration(Object, ComponentConfigDecorator, List)} and
+     * {@link #applyRequestConfiguration(Object, RequestConfigDecorator, List)}, so each
+     * configuration class is instantiated only once per test.
+     *
+     * @param configurations the previously extracted annotations, must not be null
+     *                       but may be empty.
+     * @return mutable list of the created instances
+     */
+    public static List<JsfTestSetup> instantiateConfigurations(final Collection<JsfTestConfiguration> configurations) {
+        requireNonNull(configurations);
+        final List<JsfTestSetup> instances = new ArrayList<>();
+        for (final JsfTestConfiguration config : configurations) {
+            for (final Class<? extends JsfTestSetup> type : config.value()) {
+                instances.add(new DefaultInstantiator<>(type).newInstance());
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * Calls the given configure-action, recording its duration and emitting a
+     * {@link JsfConfigurationEvent}.
+     */
+    private static void configure(final SetupTimingRecorder recorder, final String phase,
+        final Class<?> configurator, final Runnable action) {
+        var event = new JsfConfigurationEvent();
+        event.begin();
+        SetupTimingRecorder.record(recorder, configurationStep(phase, configurator), action);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPhase(phase);
+            event.setConfigurator(configurator);
+            event.commit();
+        }
+    }
+
     /**
      * Instantiates the given {@link ComponentConfigurator} and calls them with the
      * given {@link ComponentConfigDecorator}. In case the given testClass instance
@@ -74,21 +116,64 @@ public final class ConfigurationHelper {
      */
     public static void configureComponents(final Object testClass, final ComponentConfigDecorator registry,
         final Collection<JsfTestConfiguration> configurations) {
+        applyComponentConfiguration(testClass, registry, instantiateConfigurations(configurations));
+    }
+
+    /**
+     * Calls the given, already instantiated, configurators with the given
+     * {@link ComponentConfigDecorator}: First the ones implementing
+     * {@link ComponentConfigurator}, followed by the testClass in case it implements
+     * {@link ComponentConfigurator}, followed by the remaining {@link JsfTestSetup}s
+     * and finally the testClass in case it is a bare {@link JsfTestSetup}.
+     *
+     * @param testClass     the actual instance of test, must not be null
+     * @param registry      to be passed the individual configurators, must not be
+     *                      null
+     * @param configurators see {@link #instantiateConfigurations(Collection)}, must
+     *                      not be null but may be empty.
+     */
+    public static void applyComponentConfiguration(final Object testClass, final ComponentConfigDecorator registry,
+        final List<JsfTestSetup> configurators) {
+        applyComponentConfiguration(testClass, registry, configurators, null);
+    }
+
+    /**
+     * Variant of {@link #applyComponentConfiguration(Object, ComponentConfigDecorator, List)}
+     * recording the duration of each individual configurator, see
+     * {@link SetupTimingRecorder#configurationStep(String, Class)}.
+     *
+     * @param testClass     the actual instance of test, must not be null
+     * @param registry      to be passed the individual configurators, must not be
+     *                      null
+     * @param configurators see {@link #instantiateConfigurations(Collection)}, must
+     *                      not be null but may be empty.
+     * @param recorder      may be null, in that case nothing is recorded
+     */
+    public static void applyComponentConfiguration(final Object testClass, final ComponentConfigDecorator registry,
+        final List<JsfTestSetup> configurators, final SetupTimingRecorder recorder) {
         requireNonNull(testClass);
         requireNonNull(registry);
-        requireNonNull(configurations);
-        final List<ComponentConfigurator> instances = getAssignableContextConfigurators(configurations,
-            ComponentConfigurator.class);
+        requireNonNull(configurators);
+        for (final JsfTestSetup configurator : configurators) {
+            if (configurator instanceof ComponentConfigurator legacy) {
+                configure(recorder, "components", legacy.getClass(), () -> legacy.configureComponents(registry));
+            }
+        }
         if (testClass instanceof ComponentConfigurator configurator) {
-            instances.add(configurator);
+            configure(recorder, "components", testClass.getClass(), () -> configurator.configureComponents(registry));
+        }
+        // LIFE-4: a type implementing a legacy interface for a different phase is
+        // still called for this phase
+        for (final JsfTestSetup configurator : configurators) {
+            if (!(configurator instanceof ComponentConfigurator)) {
+                configure(recorder, "components", configurator.getClass(),
+                    () -> configurator.configureComponents(registry));
+            }
         }
-        instances.forEach(instance -> instance.configureComponents(registry));
-        getBareJsfTestSetups(configurations, ComponentConfigurator.class)
-            .forEach(instance -> instance.configureComponents(registry));
         // LIFE-6: a test class migrated to the bare JsfTestSetup replacement (without
         // implementing the deprecated ComponentConfigurator) must still be called.
         if (!(testClass instanceof ComponentConfigurator) && testClass instanceof JsfTestSetup setup) {
-            setup.configureComponents(registry);
+            configure(recorder, "components", testClass.getClass(), () -> setup.configureComponents(registry));
         }
     }
 
@@ -106,21 +191,61 @@ public final class ConfigurationHelper {
      */
     public static void configureApplication(final Object testClass, final ApplicationConfigDecorator registry,
         final Collection<JsfTestConfiguration> configurations) {
+        applyApplicationConfiguration(testClass, registry, instantiateConfigurations(configurations));
+    }
+
+    /**
+     * Calls the given, already instantiated, configurators with the given
+     * {@link ApplicationConfigDecorator}, see
+     * {@link #applyComponentConfiguration(Object, ComponentConfigDecorator, List)}
+     * for the order.
+     *
+     * @param testClass     the actual instance of test, must not be null
+     * @param registry      to be passed the individual configurators, must not be
+     *                      null
+     * @param configurators see {@link #instantiateConfigurations(Collection)}, must
+     *                      not be null but may be empty.
+     */
+    public static void applyApplicationConfiguration(final Object testClass,
+        final ApplicationConfigDecorator registry, final List<JsfTestSetup> configurators) {
+        applyApplicationConfiguration(testClass, registry, configurators, null);
+    }
+
+    /**
+     * Variant of {@link #applyApplicationConfiguration(Object, ApplicationConfigDecorator, List)}
+     * recording the duration of each individual configurator, see
+     * {@link SetupTimingRecorder#configurationStep(String, Class)}.
+     *
+     * @param testClass     the actual instance of test, must not be null
+     * @param registry      to be passed the individual configurators, must not be
+     *                      null
+     * @param configurators see {@link #instantiateConfigurations(Collection)}, must
+     *                      not be null but may be empty.
+     * @param recorder      may be null, in that case nothing is recorded
+     */
+    public static void applyApplicationConfiguration(final Object testClass, final ApplicationConfigDecorator registry,
+        final List<JsfTestSetup> configurators, final SetupTimingRecorder recorder) {
         requireNonNull(testClass);
         requireNonNull(registry);
-        requireNonNull(configurations);
-        final List<ApplicationConfigurator> instances = getAssignableContextConfigurators(configurations,
-            ApplicationConfigurator.class);
+        requireNonNull(configurators);
+        for (final JsfTestSetup configurator : configurators) {
+            if (configurator instanceof ApplicationConfigurator legacy) {
+                configure(recorder, "application", legacy.getClass(), () -> legacy.configureApplication(registry));
+            }
+        }
         if (testClass instanceof ApplicationConfigurator configurator) {
-            instances.add(configurator);
+            configure(recorder, "application", testClass.getClass(), () -> configurator.configureApplication(registry));
+        }
+        for (final JsfTestSetup configurator : configurators) {
+            if (!(configurator instanceof ApplicationConfigurator)) {
+                configure(recorder, "application", configurator.getClass(),
+                    () -> configurator.configureApplication(registry));
+            }
         }
-        instances.forEach(instance -> instance.configureApplication(registry));
-        getBareJsfTestSetups(configurations, ApplicationConfigurator.class)
-            .forEach(instance -> instance.configureApplication(registry));
         // LIFE-6: a test class migrated to the bare JsfTestSetup replacement (without
         // implementing the deprecated ApplicationConfigurator) must still be called.
         if (!(testClass instanceof ApplicationConfigurator) && testClass instanceof JsfTestSetup setup) {
-            setup.configureApplication(registry);
+            configure(recorder, "application", testClass.getClass(), () -> setup.configureApplication(registry));
         }
     }
 
@@ -138,71 +263,60 @@ public final class ConfigurationHelper {
      */
     public static void configureRequestConfig(final Object testClass, final RequestConfigDecorator registry,
         final Collection<JsfTestConfiguration> configurations) {
-        requireNonNull(testClass);
-        requireNonNull(registry);
-        requireNonNull(configurations);
-        final List<RequestConfigurator> instances = getAssignableContextConfigurators(configurations,
-            RequestConfigurator.class);
-        if (testClass instanceof RequestConfigurator configurator) {
-            instances.add(configurator);
-        }
-        instances.forEach(instance -> instance.configureRequest(registry));
-        getBareJsfTestSetups(configurations, RequestConfigurator.class)
-            .forEach(instance -> instance.configureRequest(registry));
-        // LIFE-6: a test class migrated to the bare JsfTestSetup replacement (without
-        // implementing the deprecated RequestConfigurator) must still be called.
-        if (!(testClass instanceof RequestConfigurator) && testClass instanceof JsfTestSetup setup) {
-            setup.configureRequest(registry);
-        }
+        applyRequestConfiguration(testClass, registry, instantiateConfigurations(configurations));
     }
 
     /**
-     * @param configurations all configurators
-     * @param configurator   class to check if assignable
-     * @param <T>            target type
-     * @return list of {@link JsfTestSetup} with target type
+     * Calls the given, already instantiated, configurators with the given
+     * {@link RequestConfigDecorator}, see
+     * {@link #applyComponentConfiguration(Object, ComponentConfigDecorator, List)}
+     * for the order.
+     *
+     * @param testClass     the actual instance of test, must not be null
+     * @param registry      to be passed the individual configurators, must not be
+     *                      null
+     * @param configurators see {@link #instantiateConfigurations(Collection)}, must
+     *                      not be null but may be empty.
      */
-    @SuppressWarnings("unchecked")
-    private static <T extends JsfTestSetup> List<T> getAssignableContextConfigurators(
-        final Collection<JsfTestConfiguration> configurations, final Class<T> configurator) {
-        final List<T> instances = new ArrayList<>();
-        for (final JsfTestConfiguration config : configurations) {
-            for (final Class<? extends JsfTestSetup> type : config.value()) {
-                if (configurator.isAssignableFrom(type)) {
-                    instances.add((T) new DefaultInstantiator<>(type).newInstance());
-                }
-            }
-        }
-        return instances;
+    public static void applyRequestConfiguration(final Object testClass, final RequestConfigDecorator registry,
+        final List<JsfTestSetup> configurators) {
+        applyRequestConfiguration(testClass, registry, configurators, null);
     }
 
     /**
-     * Collects {@link JsfTestSetup} implementors that should receive the callback for a
-     * <em>single</em> configuration phase via the {@link JsfTestSetup} default methods.
-     * A type is included unless it implements the legacy sub-interface that handles this
-     * very phase ({@code legacyPhaseInterface}); that is the only case in which it would
-     * be double-dispatched. A type that implements a legacy interface for a
-     * <em>different</em> phase (e.g. an {@link ApplicationConfigurator} that also overrides
-     * {@code configureComponents}) is therefore still invoked for this phase (LIFE-4).
-     * <p>
-     * Each configured class is instantiated once per phase, so implementations must be
-     * stateless.
+     * Variant of {@link #applyRequestConfiguration(Object, RequestConfigDecorator, List)}
+     * recording the duration of each individual configurator, see
+     * {@link SetupTimingRecorder#configurationStep(String, Class)}.
      *
-     * @param configurations      the previously extracted annotations, must not be null
-     * @param legacyPhaseInterface the legacy configurator interface handling the current
-     *                             phase; implementors of it are excluded to avoid a double call
-     * @return list of {@link JsfTestSetup} instances to dispatch for the current phase
+     * @param testClass     the actual instance of test, must not be null
+     * @param registry      to be passed the individual configurators, must not be
+     *                      null
+     * @param configurators see {@link #instantiateConfigurations(Collection)}, must
+     *                      not be null but may be empty.
+     * @param recorder      may be null, in that case nothing is recorded
      */
-    private static List<JsfTestSetup> getBareJsfTestSetups(final Collection<JsfTestConfiguration> configurations,
-        final Class<? extends JsfTestSetup> legacyPhaseInterface) {
-        final List<JsfTestSetup> instances = new ArrayList<>();
-        for (final JsfTestConfiguration config : configurations) {
-            for (final Class<? extends JsfTestSetup> type : config.value()) {
-                if (!legacyPhaseInterface.isAssignableFrom(type)) {
-                    instances.add(new DefaultInstantiator<>(type).newInstance());
-                }
+    public static void applyRequestConfiguration(final Object testClass, final RequestConfigDecorator registry,
+        final List<JsfTestSetup> configurators, final SetupTimingRecorder recorder) {
+        requireNonNull(testClass);
+        requireNonNull(registry);
+        requireNonNull(configurators);
+        for (final JsfTestSetup configurator : configurators) {
+            if (configurator instanceof RequestConfigurator legacy) {
+                configure(recorder, "request", legacy.getClass(), () -> legacy.configureRequest(registry));
             }
         }
-        return instances;
+        if (testClass instanceof RequestConfigurator configurator) {
+            configure(recorder, "request", testClass.getClass(), () -> configurator.configureRequest(registry));
+        }
+        for (final JsfTestSetup configurator : configurators) {
+            if (!(configurator instanceof RequestConfigurator)) {
+                configure(recorder, "request", configurator.getClass(), () -> configurator.configureRequest(registry));
+            }
+        }
+        // LIFE-6: a test class migrated to the bare JsfTestSetup replacement (without
+        // implementing the deprecated RequestConfigurator) must still be called.
+        if (!(testClass instanceof RequestConfigurator) && testClass instanceof JsfTestSetup setup) {
+            configure(recorder, "request", testClass.getClass(), () -> setup.configureRequest(registry));
+        }
     }
 }
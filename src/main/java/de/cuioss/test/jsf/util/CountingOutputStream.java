@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.util;
+
+import lombok.Getter;
+
+import java.io.OutputStream;
+
+/**
+ * {@link OutputStream} discarding the written bytes, only counting them. Used for
+ * measuring serialized sizes without buffering the serialized form.
+ *
+ * @author Oliver Wolff
+ */
+public final class CountingOutputStream extends OutputStream {
+
+    /** The number of bytes written so far. */
+    @Getter
+    private long count;
+
+    @Override
+    public void write(final int b) {
+        count++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        count += len;
+    }
+}
@@ -27,12 +27,19 @@ import org.apache.myfaces.test.mock.MockExternalContext;
 import org.apache.myfaces.test.mock.MockFacesContext;
 import org.apache.myfaces.test.mock.MockHttpServletRequest;
 import org.apache.myfaces.test.mock.MockHttpServletResponse;
+import org.apache.myfaces.test.mock.MockHttpSession;
+import org.apache.myfaces.test.mock.MockRenderKit;
 
 /**
  * Holder for {@link JsfRuntimeSetup} that provides shorthands for accessing
  * contained JSF-Objects like {@link FacesContext}, {@link ExternalContext},
  * {@link Application}, ... and implicit accessor for objects like
  * {@link ComponentConfigDecorator},{@link ApplicationConfigDecorator} and {@link RequestConfigDecorator}
+ * <p>
+ * Depending on the {@link JsfEnvironmentProfile} of the contained
+ * {@link JsfRuntimeSetup} the expensive parts, namely render-kit and session, are
+ * created on first access via {@link #getRenderKit()} and {@link #getSession()}.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -104,4 +111,20 @@ public class JsfEnvironmentHolder {
         return runtimeSetup.getRequest();
     }
 
+    /**
+     * @return the {@link MockRenderKit} for the contained {@link JsfRuntimeSetup},
+     * created on first access if not already present
+     */
+    public MockRenderKit getRenderKit() {
+        return runtimeSetup.getRenderKit();
+    }
+
+    /**
+     * @return the {@link MockHttpSession} for the contained {@link JsfRuntimeSetup},
+     * created on first access if not already present
+     */
+    public MockHttpSession getSession() {
+        return runtimeSetup.getSession();
+    }
+
 }
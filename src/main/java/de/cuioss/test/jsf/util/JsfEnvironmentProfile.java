@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.util;
+
+/**
+ * Defines which parts of the JSF environment are created by
+ * {@link JsfRuntimeSetup}. Setup cost therefore scales with what a test actually
+ * needs. Independent of the profile the servlet-context, request, response,
+ * {@link jakarta.faces.context.ExternalContext}, lifecycle,
+ * {@link jakarta.faces.context.FacesContext} and
+ * {@link jakarta.faces.application.Application} are always present.
+ *
+ * @author Oliver Wolff
+ */
+public enum JsfEnvironmentProfile {
+
+    /**
+     * No view-root is created. Render-kit, session and the mock handlers for
+     * navigation, search-expressions and resources are created on first access.
+     * Suitable for tests needing a {@link jakarta.faces.context.FacesContext}
+     * together with its ELContext or message-queue only.
+     */
+    MINIMAL,
+
+    /**
+     * Like {@link #MINIMAL} but with a view-root. Render-kit, session and the mock
+     * handlers are created on first access.
+     */
+    STANDARD,
+
+    /**
+     * Everything is created eagerly. This is the default.
+     */
+    FULL;
+
+    /**
+     * @return true if the view-root is created
+     */
+    public boolean isProvidingViewRoot() {
+        return MINIMAL != this;
+    }
+
+    /**
+     * @return true if render-kit, session and mock handlers are created eagerly
+     */
+    public boolean isEager() {
+        return FULL == this;
+    }
+}
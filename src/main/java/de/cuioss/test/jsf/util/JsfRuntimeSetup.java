@@ -15,13 +15,19 @@
  */
 package de.cuioss.test.jsf.util;
 
+import de.cuioss.test.jsf.jfr.JsfEnvironmentEvent;
 import de.cuioss.test.jsf.mocks.*;
+import de.cuioss.test.jsf.renderer.profile.ProfilingRenderKit;
+import de.cuioss.test.jsf.renderer.profile.RenderProfiler;
+import de.cuioss.test.valueobjects.objects.impl.DefaultInstantiator;
 import de.cuioss.tools.logging.CuiLogger;
 import jakarta.faces.FactoryFinder;
 import jakarta.faces.application.Application;
 import jakarta.faces.application.ApplicationFactory;
+import jakarta.faces.application.ApplicationWrapper;
 import jakarta.faces.component.UIViewRoot;
 import jakarta.faces.lifecycle.LifecycleFactory;
+import jakarta.faces.render.RenderKit;
 import jakarta.faces.render.RenderKitFactory;
 import lombok.Getter;
 import lombok.Setter;
@@ -33,11 +39,35 @@ import org.apache.myfaces.test.mock.lifecycle.MockLifecycleFactory;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Replacement for MyFaces AbstractJsfTestCase class from the
  * org.apache.myfaces.test.base.junit4 package, where the
  * code is initially taken from
+ * <p>
+ * Besides the classic {@link #setUp()} / {@link #tearDown()} cycle an instance
+ * can be reused for several tests: {@link #suspend()} releases the per-test
+ * state but keeps the classloader and the factory registrations, and
+ * {@link #reset()} restores the state directly after {@link #setUp()} by
+ * recreating all mutable objects (servlet objects, {@link Application},
+ * render-kit, view-root, ...). The expensive parts, namely creating the
+ * classloader and the reflective {@link FactoryFinder} registration, are
+ * therefore paid only once per instance.
+ * </p>
+ * <p>
+ * Instances are thread-confined: The factories are registered for the
+ * classloader installed as thread-context classloader of the calling thread and
+ * the {@link MockFacesContext} is bound to that thread as well. Therefore, several
+ * instances can be used in parallel on different threads without interfering.
+ * </p>
+ * <p>
+ * The lifecycle operations emit a {@link JsfEnvironmentEvent} in case a Java
+ * Flight Recorder recording is active.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -73,7 +103,10 @@ public class JsfRuntimeSetup {
     @Setter
     private MockLifecycleFactory lifecycleFactory = null;
 
-    @Getter
+    /**
+     * Created lazily for profiles other than {@link JsfEnvironmentProfile#FULL}, see
+     * {@link #getRenderKit()}
+     */
     @Setter
     private MockRenderKit renderKit = null;
 
@@ -89,15 +122,86 @@ public class JsfRuntimeSetup {
     @Setter
     private CuiMockServletContext servletContext = null;
 
-    @Getter
+    /**
+     * Created lazily for profiles other than {@link JsfEnvironmentProfile#FULL}, see
+     * {@link #getSession()}
+     */
     @Setter
     private MockHttpSession session = null;
 
+    /**
+     * Determines the objects created by {@link #setUp()}, {@link #reset()} and
+     * {@link #resetRequest()}. Defaults to {@link JsfEnvironmentProfile#FULL}.
+     */
+    @Getter
+    @Setter
+    private JsfEnvironmentProfile profile = JsfEnvironmentProfile.FULL;
+
+    /**
+     * If set, the duration of the individual steps of {@link #setUp()},
+     * {@link #reset()}, {@link #resetRequest()}, {@link #suspend()} and
+     * {@link #tearDown()} is recorded. Defaults to {@code null}, meaning no timing.
+     */
+    @Getter
+    @Setter
+    private SetupTimingRecorder timingRecorder = null;
+
+    /**
+     * Determines how {@link #reset()}, {@link #suspend()} and {@link #tearDown()}
+     * clean up the JVM-global {@link ResourceBundleVarNames}. Defaults to
+     * {@code false}, meaning all names are reset, so no registration leaks into
+     * later tests. If {@code true}, only the names registered via
+     * {@link #registerResourceBundleVarName(String, String)} are released, so tests
+     * running in parallel keep their registrations. Set by the
+     * {@link de.cuioss.test.jsf.junit5.JsfSetupExtension} if parallel execution is
+     * enabled.
+     */
+    @Getter
+    @Setter
+    private boolean isolateResourceBundleVarNames = false;
+
+    /**
+     * If set, the render-kit installed by {@link #setUp()} and {@link #reset()} is
+     * wrapped into a {@link ProfilingRenderKit} reporting to it. Defaults to
+     * {@code null}, meaning no profiling. {@link #getRenderKit()} still provides the
+     * wrapped {@link MockRenderKit}.
+     */
+    @Getter
+    @Setter
+    private RenderProfiler renderProfiler = null;
+
     // Thread context class loader saved and restored after each test
     private ClassLoader threadContextClassLoader = null;
     private boolean classLoaderSet = false;
     // The URLClassLoader installed during setUp; kept so it can be closed on tearDown
     private URLClassLoader jsfClassLoader = null;
+    // The names registered via registerResourceBundleVarName, mapped to their path
+    private final Map<String, String> resourceBundleVarNames = new HashMap<>();
+
+    /**
+     * @return the {@link MockRenderKit} for
+     * {@link RenderKitFactory#HTML_BASIC_RENDER_KIT}. In case it was registered
+     * lazily, see {@link JsfEnvironmentProfile}, it is created by this call.
+     */
+    public MockRenderKit getRenderKit() {
+        if (null == renderKit && null != facesContext) {
+            // Triggers the supplier registered by setUpRenderKit()
+            CuiMockRenderKitFactory.retrieve().getRenderKit(facesContext, RenderKitFactory.HTML_BASIC_RENDER_KIT);
+        }
+        return renderKit;
+    }
+
+    /**
+     * @return the {@link MockHttpSession} of the current request. In case it was
+     * not created eagerly, see {@link JsfEnvironmentProfile}, it is created by
+     * this call.
+     */
+    public MockHttpSession getSession() {
+        if (null == session && null != request) {
+            session = (MockHttpSession) request.getSession(true);
+        }
+        return session;
+    }
 
     /**
      * <p>
@@ -105,26 +209,197 @@ public class JsfRuntimeSetup {
      * </p>
      */
     public void setUp() {
+        traced("setUp", this::doSetUp);
+    }
+
+    private void doSetUp() {
         // Set up a new thread context class loader
-        setUpClassloader();
+        timed("classloader", this::setUpClassloader);
 
         // Set up Servlet API Objects
-        setUpServletObjects();
+        timed("servletObjects", this::setUpServletObjects);
 
         // Set up JSF API Objects
-        FactoryFinder.releaseFactories();
+        timed("releaseFactories", FactoryFinder::releaseFactories);
 
-        setFactories();
+        timed("registerFactories", this::setFactories);
 
-        setUpJSFObjects();
+        timed("jsfObjects", this::setUpJSFObjects);
     }
 
     /**
      * <p>
-     * Tear down instance variables required by this test case.
+     * Tear down instance variables required by this test case. May be called from
+     * any thread, e.g. for disposing a suspended instance at the end of a test-run.
      * </p>
      */
     public void tearDown() {
+        traced("tearDown", this::doTearDown);
+    }
+
+    private void doTearDown() {
+        if (null != jsfClassLoader) {
+            // The factories are bound to the classloader of this instance, even if it was
+            // suspended or is torn down from another thread
+            installClassloader();
+        }
+        timed("tearDown.jsfObjects", this::releaseJsfObjects);
+        timed("tearDown.releaseFactories", FactoryFinder::releaseFactories);
+        releaseResourceBundleVarNames();
+
+        timed("tearDown.classloader", this::tearDownClassloader);
+    }
+
+    /**
+     * Restores the state directly after {@link #setUp()} without recreating the
+     * classloader and without re-registering the factories. All mutable objects,
+     * namely servlet objects, {@link Application}, all render-kits and lifecycles,
+     * view-root and the resource-bundle names, see
+     * {@link #isIsolateResourceBundleVarNames()}, are recreated, so a test sees the
+     * same state as after a full rebuild. In case the runtime was not set up before,
+     * this method falls back to {@link #setUp()}.
+     */
+    public void reset() {
+        traced("reset", this::doReset);
+    }
+
+    private void doReset() {
+        if (null == jsfClassLoader) {
+            // Already traced as reset
+            doSetUp();
+            return;
+        }
+        timed("reset.jsfObjects", this::releaseJsfObjects);
+        installClassloader();
+        releaseResourceBundleVarNames();
+        timed("reset.factories", this::resetFactories);
+
+        timed("servletObjects", this::setUpServletObjects);
+        timed("jsfObjects", this::setUpJSFObjects);
+    }
+
+    /**
+     * Rebuilds the request-scoped objects only, namely request, response, session,
+     * {@link MockFacesContext} and view-root, while keeping the {@link Application},
+     * the render-kit and the servlet-context together with their configuration. The
+     * context path configured via
+     * {@link de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator#setContextPath(String)}
+     * is application-wide and therefore taken over to the new request. Used for
+     * environments shared by all tests of a class.
+     */
+    public void resetRequest() {
+        traced("resetRequest", () -> timed("resetRequest", this::doResetRequest));
+    }
+
+    private void doResetRequest() {
+        var contextPath = null == request ? null : request.getContextPath();
+        if (facesContext != null) {
+            facesContext.release();
+        }
+        setUpRequest();
+        if (null != contextPath) {
+            request.setContextPath(contextPath);
+        }
+
+        setUpExternalContext();
+        setUpFacesContext();
+        if (profile.isProvidingViewRoot()) {
+            setUpView();
+        }
+        facesContext.setApplication(application);
+    }
+
+    /**
+     * Releases the per-test state and restores the original thread-context
+     * classloader, but keeps the classloader and the factory registrations of this
+     * instance alive, so it can be reactivated by calling {@link #reset()}. Use
+     * {@link #tearDown()} for finally disposing the runtime.
+     */
+    public void suspend() {
+        traced("suspend", this::doSuspend);
+    }
+
+    private void doSuspend() {
+        timed("suspend.jsfObjects", this::releaseJsfObjects);
+        releaseResourceBundleVarNames();
+        restoreClassloader();
+    }
+
+    /**
+     * Runs the given lifecycle operation and emits a {@link JsfEnvironmentEvent}
+     * for it, in case a recording is active.
+     */
+    private void traced(String operation, Runnable action) {
+        var event = new JsfEnvironmentEvent();
+        event.begin();
+        action.run();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setProfile(profile.name());
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs the given step and records its duration, in case a
+     * {@link #getTimingRecorder()} is set.
+     */
+    private void timed(String step, Runnable action) {
+        SetupTimingRecorder.record(timingRecorder, SetupTimingRecorder.RUNTIME_PREFIX + step, action);
+    }
+
+    /**
+     * Registers a resource-bundle name to the JVM-global
+     * {@link ResourceBundleVarNames}. In contrast to names added there directly, it
+     * is released again by {@link #reset()}, {@link #suspend()} and
+     * {@link #tearDown()} even if {@link #isIsolateResourceBundleVarNames()} is set.
+     * Prefer
+     * {@link ConfigurableApplication#registerResourceBundle(String, String)}, which
+     * is confined to the application of this instance.
+     *
+     * @param bundleName the name of the bundle to be registered to
+     * @param bundlePath the path to the resource-bundle
+     */
+    public void registerResourceBundleVarName(final String bundleName, final String bundlePath) {
+        requireNonNull(bundleName, "bundleName must not be null");
+        requireNonNull(bundlePath, "bundlePath must not be null");
+        synchronized (ResourceBundleVarNames.class) {
+            ResourceBundleVarNames.addVarName(bundleName, bundlePath);
+        }
+        resourceBundleVarNames.put(bundleName, bundlePath);
+    }
+
+    /**
+     * {@link ResourceBundleVarNames} is JVM-global and not thread-safe. By default
+     * all names are reset. If {@link #isIsolateResourceBundleVarNames()} is set only
+     * the names registered by this instance are released, and only if not
+     * re-registered with another path meanwhile, so tests running in parallel keep
+     * their registrations. The per-application registry of
+     * {@link ConfigurableApplication} is not affected.
+     */
+    private void releaseResourceBundleVarNames() {
+        if (!isolateResourceBundleVarNames) {
+            synchronized (ResourceBundleVarNames.class) {
+                ResourceBundleVarNames.resetNames();
+            }
+            resourceBundleVarNames.clear();
+            return;
+        }
+        if (resourceBundleVarNames.isEmpty()) {
+            return;
+        }
+        synchronized (ResourceBundleVarNames.class) {
+            resourceBundleVarNames.forEach((name, path) -> {
+                if (path.equals(ResourceBundleVarNames.getVarName(name))) {
+                    ResourceBundleVarNames.addVarName(name, null);
+                }
+            });
+        }
+        resourceBundleVarNames.clear();
+    }
+
+    private void releaseJsfObjects() {
         application = null;
         config = null;
         externalContext = null;
@@ -140,10 +415,28 @@ public class JsfRuntimeSetup {
         response = null;
         servletContext = null;
         session = null;
-        FactoryFinder.releaseFactories();
-        ResourceBundleVarNames.resetNames();
+    }
 
-        tearDownClassloader();
+    /**
+     * Resets the state held by the registered factories: The {@link Application}
+     * is replaced by a fresh instance of the same mock type, all lifecycles are
+     * replaced by a fresh default lifecycle, all render-kits are removed and a
+     * preconfigured {@link jakarta.faces.component.search.SearchExpressionContext}
+     * is dropped. The {@link RenderKitFactory#HTML_BASIC_RENDER_KIT} is registered
+     * again by {@link #setUpRenderKit()}.
+     */
+    private void resetFactories() {
+        var applicationFactory = (ApplicationFactory) FactoryFinder.getFactory(FactoryFinder.APPLICATION_FACTORY);
+        var current = applicationFactory.getApplication();
+        while (current instanceof ApplicationWrapper wrapper) {
+            current = wrapper.getWrapped();
+        }
+        applicationFactory.setApplication(new DefaultInstantiator<>(current.getClass()).newInstance());
+
+        CuiMockLifecycleFactory.retrieve().reset();
+        CuiMockRenderKitFactory.retrieve().clear();
+
+        CuiMockSearchExpressionContextFactory.retrieve().setSearchExpressionContext(null);
     }
 
     /**
@@ -154,11 +447,24 @@ public class JsfRuntimeSetup {
     private void setUpClassloader() {
         // Guard against a repeated setUp() without an intervening tearDown() overwriting
         // the saved original classloader (which could then never be restored).
+        if (classLoaderSet) {
+            return;
+        }
+        if (null == jsfClassLoader) {
+            jsfClassLoader = new URLClassLoader(new URL[0], this.getClass().getClassLoader());
+        }
+        installClassloader();
+    }
+
+    /**
+     * (Re-)installs the already created classloader as thread-context classloader.
+     * The factories registered by {@link #setFactories()} are bound to it.
+     */
+    private void installClassloader() {
         if (classLoaderSet) {
             return;
         }
         threadContextClassLoader = Thread.currentThread().getContextClassLoader();
-        jsfClassLoader = new URLClassLoader(new URL[0], this.getClass().getClassLoader());
         Thread.currentThread().setContextClassLoader(jsfClassLoader);
         classLoaderSet = true;
     }
@@ -173,7 +479,7 @@ public class JsfRuntimeSetup {
      * <li><code>setUpExternalContext();</code></li>
      * <li><code>setUpLifecycle();</code></li>
      * <li><code>setUpFacesContext();</code></li>
-     * <li><code>setUpView();</code></li>
+     * <li><code>setUpView();</code> (not for {@link JsfEnvironmentProfile#MINIMAL})</li>
      * <li><code>setUpApplication();</code></li>
      * <li><code>setUpRenderKit();</code></li>
      * </ul>
@@ -182,7 +488,9 @@ public class JsfRuntimeSetup {
         setUpExternalContext();
         setUpLifecycle();
         setUpFacesContext();
-        setUpView();
+        if (profile.isProvidingViewRoot()) {
+            setUpView();
+        }
         setUpApplication();
         setUpRenderKit();
     }
@@ -197,16 +505,28 @@ public class JsfRuntimeSetup {
      * <li><code>servletContext</code> (<code>MockServletContext</code>)</li>
      * <li><code>request</code> (<code>CuiMockHttpServletRequest</code></li>
      * <li><code>response</code> (<code>MockHttpServletResponse</code>)</li>
-     * <li><code>session</code> (<code>CuiMockHttpSession</code>)</li>
+     * <li><code>session</code> (<code>CuiMockHttpSession</code>), for {@link JsfEnvironmentProfile#FULL} only</li>
      * </ul>
      */
     private void setUpServletObjects() {
         servletContext = new CuiMockServletContext();
         config = new MockServletConfig(servletContext);
-        session = new CuiMockHttpSession(servletContext);
+        setUpRequest();
+    }
+
+    /**
+     * Creates request, response and, depending on the {@link #getProfile()}, the
+     * session. Otherwise, the session is created by
+     * {@link CuiMockHttpServletRequest#getSession(boolean)} on first access.
+     */
+    private void setUpRequest() {
         request = new CuiMockHttpServletRequest();
-        request.setHttpSession(session);
         request.setServletContext(servletContext);
+        session = null;
+        if (profile.isEager()) {
+            session = new CuiMockHttpSession(servletContext);
+            request.setHttpSession(session);
+        }
         response = new MockHttpServletResponse();
     }
 
@@ -221,8 +541,8 @@ public class JsfRuntimeSetup {
         FactoryFinder.setFactory(FactoryFinder.FACES_CONTEXT_FACTORY,
             "org.apache.myfaces.test.mock.MockFacesContextFactory");
         FactoryFinder.setFactory(FactoryFinder.LIFECYCLE_FACTORY,
-            "org.apache.myfaces.test.mock.lifecycle.MockLifecycleFactory");
-        FactoryFinder.setFactory(FactoryFinder.RENDER_KIT_FACTORY, "org.apache.myfaces.test.mock.MockRenderKitFactory");
+            CuiMockLifecycleFactory.class.getName());
+        FactoryFinder.setFactory(FactoryFinder.RENDER_KIT_FACTORY, CuiMockRenderKitFactory.class.getName());
         FactoryFinder.setFactory(FactoryFinder.EXCEPTION_HANDLER_FACTORY,
             "org.apache.myfaces.test.mock.MockExceptionHandlerFactory");
         FactoryFinder.setFactory(FactoryFinder.PARTIAL_VIEW_CONTEXT_FACTORY,
@@ -293,20 +613,29 @@ public class JsfRuntimeSetup {
     /**
      * Setup the <code>renderKit</code> variable. This is a good place to use
      * <code>ConfigParser</code> to register converters, validators, components or
-     * renderkits.
+     * renderkits. For profiles other than {@link JsfEnvironmentProfile#FULL} the
+     * render-kit is only registered to be created on first access.
      */
     private void setUpRenderKit() {
-        var renderKitFactory = (RenderKitFactory) FactoryFinder.getFactory(FactoryFinder.RENDER_KIT_FACTORY);
-        renderKit = new MockRenderKit();
-        renderKitFactory.addRenderKit(RenderKitFactory.HTML_BASIC_RENDER_KIT, renderKit);
+        var renderKitFactory = CuiMockRenderKitFactory.retrieve();
+        if (profile.isEager()) {
+            renderKit = new MockRenderKit();
+            renderKitFactory.addRenderKit(RenderKitFactory.HTML_BASIC_RENDER_KIT, profiled(renderKit));
+            return;
+        }
+        renderKit = null;
+        renderKitFactory.registerRenderKitSupplier(RenderKitFactory.HTML_BASIC_RENDER_KIT, () -> {
+            renderKit = new MockRenderKit();
+            return profiled(renderKit);
+        });
+    }
+
+    private RenderKit profiled(final MockRenderKit created) {
+        return null == renderProfiler ? created : new ProfilingRenderKit(created, renderProfiler);
     }
 
     private void tearDownClassloader() {
-        if (classLoaderSet) {
-            Thread.currentThread().setContextClassLoader(threadContextClassLoader);
-            threadContextClassLoader = null;
-            classLoaderSet = false;
-        }
+        restoreClassloader();
         if (jsfClassLoader != null) {
             try {
                 jsfClassLoader.close();
@@ -316,4 +645,12 @@ public class JsfRuntimeSetup {
             jsfClassLoader = null;
         }
     }
+
+    private void restoreClassloader() {
+        if (classLoaderSet) {
+            Thread.currentThread().setContextClassLoader(threadContextClassLoader);
+            threadContextClassLoader = null;
+            classLoaderSet = false;
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.util;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records the wall-clock time of the individual steps of setting up and tearing
+ * down a JSF test environment, see {@link JsfRuntimeSetup#setTimingRecorder(SetupTimingRecorder)}
+ * and {@link ConfigurationHelper}. Steps with the same name are accumulated, the
+ * order of the first occurrence is preserved.
+ * <p>
+ * Instances are thread-confined, like the {@link JsfRuntimeSetup} they are
+ * attached to.
+ * </p>
+ *
+ * @author Oliver Wolff
+ */
+public final class SetupTimingRecorder {
+
+    /** Prefix for the steps executed by {@link JsfRuntimeSetup}. */
+    public static final String RUNTIME_PREFIX = "runtime.";
+
+    /** Prefix for the steps executed by {@link ConfigurationHelper}. */
+    public static final String CONFIGURATION_PREFIX = "configuration.";
+
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    /**
+     * Executes the given action and records its duration.
+     *
+     * @param step   identifying the step, must not be null
+     * @param action to be executed, must not be null
+     */
+    public void record(@NonNull String step, @NonNull Runnable action) {
+        var start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            timings.merge(step, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    /**
+     * Executes the given action and records its duration.
+     *
+     * @param <T>    the type of the result
+     * @param step   identifying the step, must not be null
+     * @param action to be executed, must not be null
+     * @return the result of the action
+     */
+    public <T> T measure(@NonNull String step, @NonNull Supplier<T> action) {
+        var start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timings.merge(step, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    /**
+     * Executes the given action with the given recorder, or directly if there is
+     * no recorder.
+     *
+     * @param <T>      the type of the result
+     * @param recorder may be null
+     * @param step     identifying the step, must not be null
+     * @param action   to be executed, must not be null
+     * @return the result of the action
+     */
+    public static <T> T measure(SetupTimingRecorder recorder, String step, Supplier<T> action) {
+        return null == recorder ? action.get() : recorder.measure(step, action);
+    }
+
+    /**
+     * Executes the given action with the given recorder, or directly if there is
+     * no recorder.
+     *
+     * @param recorder may be null
+     * @param step     identifying the step, must not be null
+     * @param action   to be executed, must not be null
+     */
+    public static void record(SetupTimingRecorder recorder, String step, Runnable action) {
+        if (null == recorder) {
+            action.run();
+        } else {
+            recorder.record(step, action);
+        }
+    }
+
+    /**
+     * @param phase      of the configuration, e.g. "application"
+     * @param configurer the class of the configuring instance
+     * @return the step name for the given configuration phase and configurer
+     */
+    public static String configurationStep(String phase, Class<?> configurer) {
+        return CONFIGURATION_PREFIX + phase + "[" + configurer.getName() + "]";
+    }
+
+    /**
+     * @return {@code true} if nothing has been recorded since the last call to {@link #drain()}
+     */
+    public boolean isEmpty() {
+        return timings.isEmpty();
+    }
+
+    /**
+     * @return the recorded durations in the order of their first occurrence.
+     * The recorder is empty afterward.
+     */
+    public Map<String, Duration> drain() {
+        var result = new LinkedHashMap<String, Duration>();
+        timings.forEach((step, nanos) -> result.put(step, Duration.ofNanos(nanos)));
+        timings.clear();
+        return Collections.unmodifiableMap(result);
+    }
+}
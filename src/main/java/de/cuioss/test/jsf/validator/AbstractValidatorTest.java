@@ -16,6 +16,10 @@
 package de.cuioss.test.jsf.validator;
 
 import de.cuioss.test.generator.junit.EnableGeneratorController;
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier;
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier.Replay;
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
+import de.cuioss.test.jsf.junit5.ConcurrentAccessCondition;
 import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
 import de.cuioss.test.valueobjects.objects.ConfigurationCallBackHandler;
 import de.cuioss.test.valueobjects.objects.impl.DefaultInstantiator;
@@ -28,6 +32,11 @@ import jakarta.faces.validator.ValidatorException;
 import lombok.Getter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,6 +74,13 @@ import static org.junit.jupiter.api.Assertions.*;
  * {@link #shouldFailOnNullComponent(FacesContext)}, {@link #shouldFailOnNullFacesContext()}
  * and {@link #shouldHandleNullValue(FacesContext)}
  * </p>
+ * <h3>Concurrency-Test</h3>
+ * <p>
+ * If the test-class is annotated with {@link VerifyConcurrentAccess},
+ * {@link #shouldHandleConcurrentAccess(FacesContext, TestReporter)} replays all
+ * {@link TestItems} concurrently on the single {@link #getValidator()}
+ * instance, like JSF shares it across requests.
+ * </p>
  * <h3>Example</h3>
  *
  * <pre>
@@ -180,6 +196,40 @@ public abstract class AbstractValidatorTest<V extends Validator, T>
         }
     }
 
+    /**
+     * Replays all {@link TestItems} concurrently on the instance returned by
+     * {@link #getValidator()}, each thread with its own {@link FacesContext}, and
+     * fails on any outcome differing from the single-threaded one. The throughput
+     * per thread is published to the {@link TestReporter}. Disabled unless the
+     * test-class is annotated with {@link VerifyConcurrentAccess}, see
+     * {@link ConcurrentAccessCondition}.
+     */
+    @Test
+    @ExtendWith(ConcurrentAccessCondition.class)
+    void shouldHandleConcurrentAccess(FacesContext facesContext, TestReporter testReporter) {
+        var config = MoreReflection.extractAnnotation(getClass(), VerifyConcurrentAccess.class).orElseThrow();
+        final var items = new TestItems<T>();
+        populate(items);
+        final List<TestItem<T>> allItems = new ArrayList<>(items.allValid());
+        allItems.addAll(items.allInvalid());
+        if (allItems.isEmpty()) {
+            // Nothing to be verified
+            return;
+        }
+
+        final Validator shared = getValidator();
+        final var uiComponent = getComponent();
+        final List<Replay> replays = allItems.stream().map(item -> new Replay("validate '" + item.getTestValue() + "'",
+            context -> {
+                shared.validate(context, uiComponent, item.getTestValue());
+                return "valid";
+            })).toList();
+        var report = new SharedInstanceVerifier(facesContext).verify(config.threads(), config.iterations(),
+            replays);
+        testReporter.publishEntry("concurrentAccess", report.createSummary());
+        report.assertNoDivergence();
+    }
+
     /**
      * Populates the test-items
      *
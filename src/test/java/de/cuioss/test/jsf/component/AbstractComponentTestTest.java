@@ -17,8 +17,23 @@ package de.cuioss.test.jsf.component;
 
 import de.cuioss.test.jsf.config.component.VerifyComponentProperties;
 import jakarta.faces.component.html.HtmlInputText;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @VerifyComponentProperties(of = {"rendered", "styleClass", "style"})
 class AbstractComponentTestTest extends AbstractComponentTest<HtmlInputText> {
 
+    @Test
+    void shouldProfilePartialState(FacesContext facesContext) {
+        assertPartialStateDeltaAtMost(facesContext, 4096);
+        var report = profilePartialState(facesContext);
+        assertEquals(3, report.getPropertyDeltas().size(), "Each configured property should be measured");
+        assertEquals(List.of("styleClass"), report.getPropertyDeltas().stream()
+            .filter(delta -> "styleClass".equals(delta.name())).findFirst().orElseThrow().entries(),
+            "Only the changed property should be part of the delta");
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import de.cuioss.test.jsf.mocks.CuiMockHttpSession;
+import de.cuioss.test.jsf.mocks.CuiMockServletContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AttributeContentionProfiler")
+class AttributeContentionProfilerTest {
+
+    @Test
+    @DisplayName("Should count reads and writes per key under concurrent access")
+    void shouldCountAccesses() throws Exception {
+        var profiler = new AttributeContentionProfiler();
+        var map = new ConcurrentAttributeMap("session");
+        map.setProfiler(profiler);
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            for (var thread = 0; thread < 4; thread++) {
+                executor.submit(() -> {
+                    for (var i = 0; i < 1000; i++) {
+                        map.put("counter", i);
+                        map.get("counter");
+                    }
+                });
+            }
+        }
+
+        var access = profiler.getAccess("session", "counter").orElseThrow();
+        assertAll("Access",
+            () -> assertEquals(4000, access.reads(), "Each read should be counted"),
+            () -> assertEquals(4000, access.writes(), "Each write should be counted"),
+            () -> assertTrue(access.overlaps() <= access.total(), "Overlaps are a subset of accesses"),
+            () -> assertTrue(profiler.createSummary().contains("session:counter"), "Summary should list the key"));
+
+        profiler.reset();
+        assertTrue(profiler.getAccesses().isEmpty(), "Reset should discard the accesses");
+    }
+
+    @Test
+    @DisplayName("Should behave like a scope map regarding null")
+    void shouldHandleNull() {
+        var map = new ConcurrentAttributeMap("view");
+        map.put("key", "value");
+        map.put("key", null);
+
+        assertFalse(map.containsKey("key"), "Putting null should remove");
+        assertNull(map.get(null), "Looking up null should return null");
+        assertNull(map.remove(null), "Removing null should return null");
+    }
+
+    @Test
+    @DisplayName("Should route modifications of the entry-set through the map")
+    void shouldRecordEntrySetModifications() {
+        var profiler = new AttributeContentionProfiler();
+        var map = new ConcurrentAttributeMap("session");
+        map.put("replaced", "first");
+        map.put("cleared", "value");
+        map.put("removed", "value");
+        map.setProfiler(profiler);
+
+        assertTrue(map.containsKey("replaced"), "Existing key should be contained");
+        assertTrue(profiler.getAccess("session", "replaced").isEmpty(), "containsKey should not be recorded");
+        for (var iterator = map.entrySet().iterator(); iterator.hasNext();) {
+            var entry = iterator.next();
+            switch (entry.getKey()) {
+                case "replaced" -> entry.setValue("second");
+                case "cleared" -> entry.setValue(null);
+                default -> iterator.remove();
+            }
+        }
+
+        assertEquals(Map.of("replaced", "second"), Map.copyOf(map), "Null value and iterator should remove");
+        assertEquals(1, profiler.getAccess("session", "replaced").orElseThrow().writes(), "setValue is a write");
+        assertEquals(1, profiler.getAccess("session", "cleared").orElseThrow().writes(), "Removal is a write");
+        assertEquals(1, profiler.getAccess("session", "removed").orElseThrow().writes(), "Removal is a write");
+    }
+
+    @Test
+    @DisplayName("Should record the time blocked on the session monitor")
+    void shouldRecordBlockedTime() throws Exception {
+        var profiler = new AttributeContentionProfiler();
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        profiler.startMonitorProfiling(CuiMockHttpSession.class);
+        assertThrows(IllegalStateException.class, () -> profiler.startMonitorProfiling(CuiMockHttpSession.class));
+
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var owner = Thread.ofPlatform().start(() -> {
+            synchronized (session) {
+                locked.countDown();
+                await(release);
+            }
+        });
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        var blocked = Thread.ofPlatform().start(() -> {
+            synchronized (session) {
+                session.setAttribute("key", "value");
+            }
+        });
+        // Release the monitor only once the second thread is actually blocked on it
+        while (blocked.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        owner.join();
+        blocked.join();
+        profiler.stopMonitorProfiling();
+
+        assertTrue(profiler.getBlockedEntries(CuiMockHttpSession.class) >= 1, "Second thread should be blocked");
+        assertTrue(profiler.getBlockedNanos(CuiMockHttpSession.class) > 0, "Blocked time should be recorded");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.mocks.CuiMockHttpSession;
+import de.cuioss.test.jsf.mocks.CuiMockServletContext;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("ConcurrentRequestSimulator")
+class ConcurrentRequestSimulatorTest {
+
+    @Test
+    @DisplayName("Should run each request with its own FacesContext and the shared application")
+    void shouldIsolateRequests(FacesContext facesContext) {
+        Set<FacesContext> contexts = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        var underTest = new ConcurrentRequestSimulator(facesContext);
+
+        var report = underTest.run(50, (index, context) -> {
+            assertSame(context, FacesContext.getCurrentInstance(), "Context should be the current instance");
+            assertSame(facesContext.getApplication(), context.getApplication(), "Application should be shared");
+            assertNotNull(context.getViewRoot(), "Each request should have a view-root");
+            context.getExternalContext().getSessionMap().put("index", index);
+            contexts.add(context);
+        });
+
+        report.assertNoFailures();
+        assertEquals(50, report.getRequests());
+        assertEquals(50, contexts.size(), "Each request should have its own context");
+        assertTrue(report.getThroughputPerSecond() > 0, "Throughput should be computed");
+        assertTrue(report.getLatencyNanos(50) <= report.getLatencyNanos(99), "Percentiles should be ordered");
+        assertTrue(report.getLatencyNanos(99) <= report.getMaxLatencyNanos(), "Max should be the largest");
+        assertSame(facesContext, FacesContext.getCurrentInstance(), "Test context should stay current");
+    }
+
+    @Test
+    @DisplayName("Should share the session if configured")
+    void shouldShareSession(FacesContext facesContext) {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        var underTest = new ConcurrentRequestSimulator(facesContext);
+        underTest.setSharedSession(session);
+        underTest.setMaxConcurrency(4);
+
+        underTest.run(20, (index, context) -> context.getExternalContext().getSessionMap().put("key" + index, index))
+            .assertNoFailures();
+
+        assertEquals(20, Collections.list(session.getAttributeNames()).size(), "All requests should share it");
+    }
+
+    @Test
+    @DisplayName("Should report failed requests")
+    void shouldReportFailures(FacesContext facesContext) {
+        var report = new ConcurrentRequestSimulator(facesContext).run(10, (index, context) -> {
+            if (index % 2 == 0) {
+                throw new IllegalStateException("boom " + index);
+            }
+        });
+
+        assertEquals(5, report.getFailures().size(), "Every second request should fail");
+        assertEquals(Map.of(IllegalStateException.class.getName(), 5L), report.getFailuresByType());
+        var error = assertThrows(AssertionFailedError.class, report::assertNoFailures);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(report.createSummary().contains("10 requests"), report.createSummary());
+    }
+}
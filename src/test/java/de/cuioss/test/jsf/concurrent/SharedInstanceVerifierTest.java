@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.concurrent;
+
+import de.cuioss.test.jsf.concurrent.SharedInstanceVerifier.Replay;
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("SharedInstanceVerifier")
+class SharedInstanceVerifierTest {
+
+    @Test
+    @DisplayName("Should pass for a stateless instance")
+    void shouldPassForStatelessInstance(FacesContext facesContext) {
+        var replays = IntStream.range(0, 5)
+            .mapToObj(value -> new Replay("square " + value, context -> value * value)).toList();
+
+        var report = new SharedInstanceVerifier(facesContext).verify(4, 10, replays);
+
+        report.assertNoDivergence();
+        assertEquals(4, report.getThreadThroughput().size(), "Throughput should be reported per thread");
+        assertEquals(200, report.getOperations(), "4 threads x 10 iterations x 5 replays");
+        assertTrue(report.createSummary().contains("4 threads"), report.createSummary());
+    }
+
+    @Test
+    @DisplayName("Should detect diverging results of a shared mutable instance")
+    void shouldDetectSharedState(FacesContext facesContext) {
+        var unsafe = new UnsafeFormatter();
+        var replays = IntStream.range(0, 4)
+            .mapToObj(value -> new Replay("format " + value, context -> unsafe.format(value))).toList();
+
+        var report = new SharedInstanceVerifier(facesContext).verify(8, 20, replays);
+
+        assertFalse(report.getDivergences().isEmpty(), "Shared field should cause divergences");
+        var error = assertThrows(AssertionFailedError.class, report::assertNoDivergence);
+        assertTrue(error.getMessage().contains("not thread-safe"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should compare arrays by content and honor a given equivalence")
+    void shouldCompareByEquivalence(FacesContext facesContext) {
+        var verifier = new SharedInstanceVerifier(facesContext);
+
+        verifier.verify(2, 5, List.of(new Replay("array", context -> new int[]{1, 2}))).assertNoDivergence();
+        var sameClass = new Replay("builder", context -> new StringBuilder("value"),
+            (expected, actual) -> expected.toString().equals(actual.toString()));
+        verifier.verify(2, 5, List.of(sameClass)).assertNoDivergence();
+    }
+
+    @Test
+    @DisplayName("Should count all divergences while recording the first 100")
+    void shouldCountAllDivergences(FacesContext facesContext) {
+        var replays = List.of(new Replay("identity", context -> new Object()));
+
+        var report = new SharedInstanceVerifier(facesContext).verify(4, 50, replays);
+
+        assertEquals(200, report.getDivergenceCount(), "Each distinct instance diverges from the baseline");
+        assertEquals(100, report.getDivergences().size(), "Only the first divergences should be recorded");
+        assertTrue(report.createSummary().contains("divergences: 200"), report.createSummary());
+    }
+
+    @Test
+    @DisplayName("Should treat expected exceptions as outcome")
+    void shouldCompareExceptions(FacesContext facesContext) {
+        var replays = List.of(new Replay("fail", context -> {
+            throw new IllegalArgumentException("always");
+        }));
+
+        new SharedInstanceVerifier(facesContext).verify(2, 5, replays).assertNoDivergence();
+        var verifier = new SharedInstanceVerifier(facesContext);
+        List<Replay> empty = List.of();
+        assertThrows(IllegalArgumentException.class, () -> verifier.verify(2, 5, empty));
+    }
+
+    @Test
+    @DisplayName("Should report throughput for doubling numbers of threads")
+    void shouldReportScaling(FacesContext facesContext) {
+        var replays = List.of(new Replay("square", context -> 3 * 3));
+
+        var report = new SharedInstanceVerifier(facesContext).verifyScaling(6, 5, replays);
+
+        report.assertNoDivergence();
+        assertEquals(List.of(1, 2, 4, 6), report.levels().stream().map(SharedInstanceReport::getThreads).toList(),
+            "Threads should double up to the maximum");
+        assertEquals(1.0, report.getSpeedup(report.levels().getFirst()), 0.0001,
+            "Single thread is the reference");
+        assertTrue(report.createSummary().contains("speedup"), report.createSummary());
+        var verifier = new SharedInstanceVerifier(facesContext);
+        assertThrows(IllegalArgumentException.class, () -> verifier.verifyScaling(0, 5, replays));
+    }
+
+    /**
+     * Keeps the input in a field, like a shared SimpleDateFormat keeps its calendar
+     */
+    static class UnsafeFormatter {
+
+        private int current;
+
+        String format(int value) throws InterruptedException {
+            current = value;
+            Thread.sleep(1);
+            return "value-" + current;
+        }
+    }
+}
@@ -15,8 +15,10 @@
  */
 package de.cuioss.test.jsf.converter;
 
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
 import jakarta.faces.convert.IntegerConverter;
 
+@VerifyConcurrentAccess(threads = 4, iterations = 20)
 class AbstractConverterTestTest extends AbstractConverterTest<IntegerConverter, Integer> {
 
     @Override
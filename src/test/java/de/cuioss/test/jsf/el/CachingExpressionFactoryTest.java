@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.util.ConfigurableApplication;
+import jakarta.el.StandardELContext;
+import jakarta.faces.context.FacesContext;
+import org.apache.myfaces.test.el.MockExpressionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("CachingExpressionFactory")
+class CachingExpressionFactoryTest {
+
+    @Test
+    @DisplayName("Should cache value expressions by expression-string and expected type")
+    void shouldCacheValueExpressions(FacesContext facesContext) {
+        var factory = new CachingExpressionFactory(new MockExpressionFactory(), 10);
+        var elContext = facesContext.getELContext();
+
+        var first = factory.createValueExpression(elContext, "#{bean.name}", String.class);
+
+        assertSame(first, factory.createValueExpression(elContext, "#{bean.name}", String.class),
+            "Same expression and type should be served from the cache");
+        assertNotSame(first, factory.createValueExpression(elContext, "#{bean.name}", Object.class),
+            "Different expected type should be parsed separately");
+        assertEquals(new CachingExpressionFactory.Statistics(1, 2, 2), factory.getStatistics(),
+            "One hit and two misses expected");
+    }
+
+    @Test
+    @DisplayName("Should not share expressions between ELContexts with different mappers")
+    void shouldKeyByMappers() {
+        var wrapped = new MockExpressionFactory();
+        var factory = new CachingExpressionFactory(wrapped, 10);
+        var firstContext = new StandardELContext(wrapped);
+        var secondContext = new StandardELContext(wrapped);
+
+        var first = factory.createValueExpression(firstContext, "#{bean.name}", String.class);
+
+        assertSame(first, factory.createValueExpression(firstContext, "#{bean.name}", String.class),
+            "The same ELContext should be served from the cache");
+        assertNotSame(first, factory.createValueExpression(secondContext, "#{bean.name}", String.class),
+            "Another ELContext should not get an expression capturing foreign mappers");
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used expressions")
+    void shouldEvictLeastRecentlyUsed(FacesContext facesContext) {
+        var factory = new CachingExpressionFactory(new MockExpressionFactory(), 2);
+        var elContext = facesContext.getELContext();
+
+        var first = factory.createValueExpression(elContext, "#{a}", Object.class);
+        factory.createValueExpression(elContext, "#{b}", Object.class);
+        factory.createValueExpression(elContext, "#{a}", Object.class);
+        factory.createValueExpression(elContext, "#{c}", Object.class);
+
+        assertEquals(2, factory.getStatistics().size(), "Cache should be bounded");
+        assertSame(first, factory.createValueExpression(elContext, "#{a}", Object.class),
+            "Recently used expression should be retained");
+        factory.clear();
+        assertEquals(0, factory.getStatistics().size(), "Clear should remove all expressions");
+        assertThrows(IllegalArgumentException.class, () -> new CachingExpressionFactory(new MockExpressionFactory(), 0),
+            "Maximum size must be positive");
+    }
+
+    @Test
+    @DisplayName("Should be used by the application once set, including counting")
+    void shouldReplaceApplicationFactory(FacesContext facesContext) {
+        var application = (ConfigurableApplication) facesContext.getApplication();
+        var factory = new CachingExpressionFactory(new MockExpressionFactory(), 10);
+        application.setExpressionFactory(factory);
+
+        assertSame(factory, application.getExpressionFactory(), "The configured factory should be used");
+        var counter = ElEvaluationCounter.install(facesContext);
+        var counting = assertInstanceOf(CountingExpressionFactory.class, application.getExpressionFactory(),
+            "Counting should wrap the configured factory");
+        assertSame(factory, counting.getWrapped(), "The configured factory should be wrapped");
+        assertNotNull(counter, "Counter should be installed");
+    }
+}
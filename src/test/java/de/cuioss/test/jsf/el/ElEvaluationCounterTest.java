@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.el;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.util.ConfigurableApplication;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("ElEvaluationCounter")
+class ElEvaluationCounterTest {
+
+    private static final String EXPRESSION = "#{person.name}";
+
+    private ElEvaluationCounter counter;
+
+    @BeforeEach
+    void setUpCounter(FacesContext facesContext) {
+        facesContext.getExternalContext().getRequestMap().put("person", new Person());
+        counter = ElEvaluationCounter.install(facesContext);
+    }
+
+    @Test
+    @DisplayName("Should count expressions, properties and variables")
+    void shouldCountEvaluations(FacesContext facesContext) {
+        var elContext = facesContext.getELContext();
+        var expression = facesContext.getApplication().getExpressionFactory().createValueExpression(elContext,
+            EXPRESSION, String.class);
+
+        assertEquals("Alice", expression.getValue(elContext), "Expression should be evaluated");
+        expression.getValue(elContext);
+
+        assertAll("Counts after two evaluations",
+            () -> assertEquals(2, counter.getExpressionCount(EXPRESSION), "Expression count"),
+            () -> assertEquals(2, counter.getPropertyCount(Person.class, "name"), "Property count"),
+            () -> assertEquals(2, counter.getVariableCount("person"), "Variable count"),
+            () -> assertEquals(0, counter.getPropertyCount(Person.class, "age"), "Unused property"),
+            () -> assertTrue(counter.createSummary().contains(EXPRESSION), "Summary should list the expression"));
+        assertSame(counter, ElEvaluationCounter.install(facesContext), "Installing again should keep the counter");
+    }
+
+    @Test
+    @DisplayName("Should count evaluations triggered by components and evaluateExpressionGet")
+    void shouldCountComponentEvaluations(FacesContext facesContext) {
+        var application = facesContext.getApplication();
+        var text = new HtmlOutputText();
+        text.setValueExpression("value", application.getExpressionFactory()
+            .createValueExpression(facesContext.getELContext(), EXPRESSION, Object.class));
+
+        text.getValue();
+        text.getValue();
+        application.evaluateExpressionGet(facesContext, EXPRESSION, String.class);
+
+        assertEquals(3, counter.getExpressionCount(EXPRESSION), "All evaluations should be counted");
+        counter.assertPropertyEvaluatedAtMost(Person.class, "name", 3);
+        var error = assertThrows(AssertionFailedError.class,
+            () -> counter.assertPropertyEvaluatedAtMost(Person.class, "name", 1));
+        assertTrue(error.getMessage().contains("evaluated 3 times"), "Message should contain the count");
+
+        counter.reset();
+        assertEquals(0, counter.getExpressionCount(EXPRESSION), "Reset should discard the counts");
+    }
+
+    @Test
+    @DisplayName("Should stop counting when removed from the application")
+    void shouldDisableCounting(FacesContext facesContext) {
+        var application = (ConfigurableApplication) facesContext.getApplication();
+        application.setEvaluationCounter(null);
+
+        assertFalse(application.getExpressionFactory() instanceof CountingExpressionFactory,
+            "The factory should not be wrapped");
+        assertFalse(application.getELResolver() instanceof CountingELResolver, "The resolver should not be wrapped");
+    }
+
+    public static class Person {
+
+        public String getName() {
+            return "Alice";
+        }
+
+        public int getAge() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.jfr;
+
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.mocks.CuiMockResourceHandler;
+import de.cuioss.test.jsf.util.ConfigurationHelper;
+import de.cuioss.test.jsf.util.JsfEnvironmentHolder;
+import de.cuioss.test.jsf.util.JsfRuntimeSetup;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JFR events")
+class JsfEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("emits environment, configuration and resource lookup events while recording")
+    void shouldEmitEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            for (var name : List.of("Environment", "Configuration", "ResourceLookup")) {
+                recording.enable(JsfEvents.NAME_PREFIX + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            var setup = new JsfRuntimeSetup();
+            try {
+                setup.setUp();
+                ConfigurationHelper.applyApplicationConfiguration(new Object(),
+                    new JsfEnvironmentHolder(setup).getApplicationConfigDecorator(), List.of(new NoopSetup()));
+                new CuiMockResourceHandler().createResource("notThere", "lib");
+            } finally {
+                setup.tearDown();
+            }
+
+            recording.stop();
+            var file = tempDir.resolve("jsf.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertTrue(events.stream().anyMatch(event -> isEvent(event, "Environment")
+            && "setUp".equals(event.getString("operation"))
+            && "FULL".equals(event.getString("profile"))), "setUp event expected");
+        assertTrue(events.stream().anyMatch(event -> isEvent(event, "Environment")
+            && "tearDown".equals(event.getString("operation"))), "tearDown event expected");
+        assertTrue(events.stream().anyMatch(event -> isEvent(event, "Configuration")
+            && "application".equals(event.getString("phase"))
+            && NoopSetup.class.getName().equals(event.getClass("configurator").getName())),
+            "Configuration event expected");
+        assertTrue(events.stream().anyMatch(event -> isEvent(event, "ResourceLookup")
+            && "notThere".equals(event.getString("resourceName"))
+            && !event.getBoolean("found")), "Resource lookup event expected");
+    }
+
+    private static boolean isEvent(RecordedEvent event, String name) {
+        return (JsfEvents.NAME_PREFIX + name).equals(event.getEventType().getName());
+    }
+
+    public static class NoopSetup implements JsfTestSetup {
+    }
+}
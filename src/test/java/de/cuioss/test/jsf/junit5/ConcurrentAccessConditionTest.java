@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.EventStatistics;
+
+import java.util.function.Consumer;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@DisplayName("ConcurrentAccessCondition")
+class ConcurrentAccessConditionTest {
+
+    @Test
+    @DisplayName("Should disable the test without reporting it as aborted")
+    void shouldDisableWithoutAnnotation() {
+        assertStatistics(NotAnnotatedFixture.class, stats -> stats.started(0).skipped(1).aborted(0));
+    }
+
+    @Test
+    @DisplayName("Should enable the test if the class or a super-class is annotated")
+    void shouldEnableWithAnnotation() {
+        assertStatistics(AnnotatedFixture.class, stats -> stats.started(1).succeeded(1).skipped(0));
+        assertStatistics(InheritingFixture.class, stats -> stats.started(1).succeeded(1).skipped(0));
+    }
+
+    private static void assertStatistics(Class<?> fixture, Consumer<EventStatistics> statistics) {
+        EngineTestKit.engine("junit-jupiter").selectors(selectClass(fixture)).execute().testEvents()
+            .assertStatistics(statistics);
+    }
+
+    /**
+     * Run via {@link EngineTestKit} only
+     */
+    static class NotAnnotatedFixture {
+
+        @Test
+        @ExtendWith(ConcurrentAccessCondition.class)
+        void shouldRunConcurrently() {
+            // Only the condition is of interest
+        }
+    }
+
+    /**
+     * Run via {@link EngineTestKit} only
+     */
+    @VerifyConcurrentAccess
+    static class AnnotatedFixture extends NotAnnotatedFixture {
+    }
+
+    /**
+     * Run via {@link EngineTestKit} only
+     */
+    static class InheritingFixture extends AnnotatedFixture {
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.JsfTestConfiguration;
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.RequestConfigDecorator;
+import de.cuioss.test.jsf.defaults.BasicApplicationConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsfConfigurationPlan")
+class JsfConfigurationPlanTest {
+
+    @Test
+    @DisplayName("Should cache the plan per class")
+    void shouldCachePlan() {
+        assertSame(JsfConfigurationPlan.forClass(Annotated.class), JsfConfigurationPlan.forClass(Annotated.class),
+            "The plan should be resolved only once per class");
+    }
+
+    @Test
+    @DisplayName("Should resolve the settings of the closest annotations")
+    void shouldResolveClosestSettings() {
+        var outer = JsfConfigurationPlan.forClass(Annotated.class);
+        assertFalse(outer.isUseIdentityResourceBundle(), "Identity flag of the class should be used");
+        assertTrue(outer.isReuseRuntime(), "Reuse flag of the class should be used");
+        assertEquals(JsfEnvironmentLifecycle.PER_METHOD, outer.getLifecycle(), "Default lifecycle expected");
+        assertEquals(2, outer.getConfiguratorCount(), "Both configurations should be resolved");
+
+        var inner = JsfConfigurationPlan.forClass(Annotated.Inner.class);
+        assertTrue(inner.isUseIdentityResourceBundle(), "Identity flag of the nested class should win");
+        assertEquals(JsfEnvironmentLifecycle.PER_CLASS, inner.getLifecycle(),
+            "Lifecycle of the nested class should win");
+        assertEquals(2, inner.getConfiguratorCount(), "Configurations of the enclosing class should be inherited");
+
+        var plain = JsfConfigurationPlan.forClass(String.class);
+        assertFalse(plain.isUseIdentityResourceBundle(), "Without annotation identity should be off");
+        assertEquals(0, plain.getConfiguratorCount(), "Without annotation there is no configuration");
+    }
+
+    @Test
+    @DisplayName("Should instantiate configurators in declaration order")
+    void shouldInstantiateInOrder() {
+        var plan = JsfConfigurationPlan.forClass(Annotated.class);
+        var first = plan.instantiateConfigurators();
+        var second = plan.instantiateConfigurators();
+
+        assertInstanceOf(BasicApplicationConfiguration.class, first.get(0), "Declaration order should be kept");
+        assertInstanceOf(CountingSetup.class, first.get(1), "Declaration order should be kept");
+        assertNotSame(first.get(0), second.get(0), "Each call should provide fresh instances");
+        CountingSetup.INSTANCES.set(0);
+    }
+
+    @Nested
+    @EnableJsfEnvironment
+    @JsfTestConfiguration(CountingSetup.class)
+    @DisplayName("used by JsfSetupExtension")
+    class UsedByExtension {
+
+        @Test
+        @DisplayName("Should instantiate each configurator once per test for all phases")
+        void shouldInstantiateOncePerTest() {
+            assertEquals(1, CountingSetup.INSTANCES.getAndSet(0), "One instance expected for all phases");
+            assertEquals(3, CountingSetup.PHASES.getAndSet(0), "All three phases should be called");
+        }
+    }
+
+    public static class CountingSetup implements JsfTestSetup {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+        static final AtomicInteger PHASES = new AtomicInteger();
+
+        public CountingSetup() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void configureApplication(ApplicationConfigDecorator applicationConfig) {
+            PHASES.incrementAndGet();
+        }
+
+        @Override
+        public void configureComponents(ComponentConfigDecorator componentConfig) {
+            PHASES.incrementAndGet();
+        }
+
+        @Override
+        public void configureRequest(RequestConfigDecorator requestConfig) {
+            PHASES.incrementAndGet();
+        }
+    }
+
+    @EnableJsfEnvironment(useIdentityResourceBundle = false, reuseRuntime = true)
+    @JsfTestConfiguration(BasicApplicationConfiguration.class)
+    @JsfTestConfiguration(CountingSetup.class)
+    static class Annotated {
+
+        @EnableJsfEnvironment(lifecycle = JsfEnvironmentLifecycle.PER_CLASS)
+        class Inner {
+        }
+    }
+}
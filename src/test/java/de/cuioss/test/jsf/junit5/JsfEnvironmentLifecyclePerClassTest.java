@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.JsfTestConfiguration;
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.RequestConfigDecorator;
+import de.cuioss.test.jsf.defaults.BasicApplicationConfiguration;
+import jakarta.faces.application.Application;
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.IntegerConverter;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies {@link JsfEnvironmentLifecycle#PER_CLASS}: application- and
+ * component-configuration are shared by all test-methods, the request-scoped
+ * state is rebuilt for each of them.
+ */
+@JsfTestConfiguration(BasicApplicationConfiguration.class)
+@JsfTestConfiguration(JsfEnvironmentLifecyclePerClassTest.CountingSetup.class)
+@EnableJsfEnvironment(lifecycle = JsfEnvironmentLifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("JsfSetupExtension with class-scoped environment")
+class JsfEnvironmentLifecyclePerClassTest {
+
+    private static final String CONVERTER_ID = "perClass.converter";
+
+    private static Application firstApplication;
+
+    /**
+     * Counts the invocations of the different configuration-phases.
+     */
+    public static class CountingSetup implements JsfTestSetup {
+
+        static final AtomicInteger APPLICATION_CALLS = new AtomicInteger();
+        static final AtomicInteger REQUEST_CALLS = new AtomicInteger();
+
+        @Override
+        public void configureApplication(ApplicationConfigDecorator applicationConfig) {
+            APPLICATION_CALLS.incrementAndGet();
+        }
+
+        @Override
+        public void configureRequest(RequestConfigDecorator requestConfig) {
+            REQUEST_CALLS.incrementAndGet();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should provide a configured environment")
+    void shouldProvideConfiguredEnvironment(FacesContext facesContext, ExternalContext externalContext,
+        ComponentConfigDecorator componentConfig) {
+        assertEquals(BasicApplicationConfiguration.FIREFOX,
+            externalContext.getRequestHeaderMap().get(BasicApplicationConfiguration.USER_AGENT),
+            "User-Agent header should match the configured value");
+        firstApplication = facesContext.getApplication();
+
+        componentConfig.registerConverter(IntegerConverter.class, CONVERTER_ID);
+        externalContext.getRequestMap().put("polluted", Boolean.TRUE);
+        externalContext.getSessionMap().put("polluted", Boolean.TRUE);
+        facesContext.getViewRoot().setViewId("/polluted.xhtml");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should share the application but rebuild the request-scoped state")
+    void shouldShareApplicationOnly(FacesContext facesContext, ExternalContext externalContext) {
+        assertSame(firstApplication, facesContext.getApplication(), "The application should be shared");
+        assertNotNull(facesContext.getApplication().createConverter(CONVERTER_ID),
+            "Component registrations should be shared");
+        assertEquals(1, CountingSetup.APPLICATION_CALLS.get(), "Application should be configured once");
+        assertEquals(2, CountingSetup.REQUEST_CALLS.get(), "Request should be configured per method");
+
+        assertEquals(BasicApplicationConfiguration.FIREFOX,
+            externalContext.getRequestHeaderMap().get(BasicApplicationConfiguration.USER_AGENT),
+            "Request configuration should be applied again");
+        assertFalse(externalContext.getRequestMap().containsKey("polluted"), "Request should be fresh");
+        assertFalse(externalContext.getSessionMap().containsKey("polluted"), "Session should be fresh");
+        assertEquals("/viewId", facesContext.getViewRoot().getViewId(), "View-root should be fresh");
+        assertSame(facesContext, FacesContext.getCurrentInstance(), "The new FacesContext should be current");
+    }
+
+    @Test
+    @DisplayName("Should reject method-level configuration")
+    void shouldRejectMethodLevelConfiguration() throws NoSuchMethodException {
+        var plainMethod = MethodLevelSamples.class.getDeclaredMethod("plain");
+        assertDoesNotThrow(() -> JsfSetupExtension.rejectMethodLevelConfiguration(plainMethod),
+            "A method without configuration should be accepted");
+
+        var configured = MethodLevelSamples.class.getDeclaredMethod("configured");
+        assertThrows(ExtensionConfigurationException.class,
+            () -> JsfSetupExtension.rejectMethodLevelConfiguration(configured),
+            "Method-level @JsfTestConfiguration should be rejected");
+
+        var enabled = MethodLevelSamples.class.getDeclaredMethod("enabled");
+        assertThrows(ExtensionConfigurationException.class,
+            () -> JsfSetupExtension.rejectMethodLevelConfiguration(enabled),
+            "Method-level @EnableJsfEnvironment should be rejected");
+    }
+
+    @Nested
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    @DisplayName("combined with a shared test-instance")
+    class WithSharedTestInstance {
+
+        private Application application;
+
+        @RepeatedTest(2)
+        @DisplayName("Should provide a usable environment for each repetition")
+        void shouldProvideEnvironment(FacesContext facesContext) {
+            assertNotNull(facesContext.getViewRoot(), "View-root should be available");
+            if (null == application) {
+                application = facesContext.getApplication();
+            }
+            assertSame(application, facesContext.getApplication(), "The application should be shared");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class MethodLevelSamples {
+
+        void plain() {
+            // sample only
+        }
+
+        @JsfTestConfiguration(BasicApplicationConfiguration.class)
+        void configured() {
+            // sample only
+        }
+
+        @EnableJsfEnvironment(useIdentityResourceBundle = false)
+        void enabled() {
+            // sample only
+        }
+    }
+}
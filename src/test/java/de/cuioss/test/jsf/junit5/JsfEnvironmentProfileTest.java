@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.mocks.CuiMockConfigurableNavigationHandler;
+import de.cuioss.test.jsf.mocks.CuiMockResourceHandler;
+import de.cuioss.test.jsf.mocks.CuiMockSearchExpressionHandler;
+import de.cuioss.test.jsf.util.JsfEnvironmentHolder;
+import de.cuioss.test.jsf.util.JsfEnvironmentProfile;
+import jakarta.faces.application.Application;
+import jakarta.faces.application.FacesMessage;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment(profile = JsfEnvironmentProfile.MINIMAL)
+@DisplayName("JsfSetupExtension with MINIMAL profile")
+class JsfEnvironmentProfileTest {
+
+    @Test
+    @DisplayName("Should provide FacesContext, ELContext and message queue")
+    void shouldProvideFacesContext(FacesContext facesContext) {
+        assertNotNull(facesContext.getELContext(), "ELContext should be available");
+        facesContext.addMessage(null, new FacesMessage("message"));
+        assertTrue(facesContext.getMessages().hasNext(), "Message queue should be available");
+        assertNull(facesContext.getViewRoot(), "No view-root should be created");
+    }
+
+    @Test
+    @DisplayName("Should install the mock handlers on first access")
+    void shouldInstallHandlersLazily(Application application) {
+        assertInstanceOf(CuiMockConfigurableNavigationHandler.class, application.getNavigationHandler(),
+            "Navigation handler should be installed on access");
+        assertInstanceOf(CuiMockResourceHandler.class, application.getResourceHandler(),
+            "Resource handler should be installed on access");
+        assertInstanceOf(CuiMockSearchExpressionHandler.class, application.getSearchExpressionHandler(),
+            "Search-expression handler should be installed on access");
+    }
+
+    @Test
+    @DisplayName("Should create render-kit and session on first access")
+    void shouldCreateExpensivePartsLazily(JsfEnvironmentHolder environment) {
+        assertNull(environment.getRequest().getSession(false), "No session should be created upfront");
+        assertNotNull(environment.getSession(), "Session should be created on access");
+        assertNotNull(environment.getRenderKit(), "Render-kit should be created on access");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.config.JsfTestConfiguration;
+import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.RequestConfigDecorator;
+import de.cuioss.test.jsf.defaults.BasicApplicationConfiguration;
+import de.cuioss.test.jsf.mocks.CuiMockLifecycleFactory;
+import de.cuioss.test.jsf.mocks.CuiMockRenderKitFactory;
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.IntegerConverter;
+import jakarta.faces.lifecycle.LifecycleFactory;
+import org.apache.myfaces.test.mock.MockRenderKit;
+import org.apache.myfaces.test.mock.lifecycle.MockLifecycle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that a reused runtime, see {@link EnableJsfEnvironment#reuseRuntime()},
+ * provides the same isolation between tests as a full rebuild. Every repetition
+ * verifies that nothing leaked from the previous one and pollutes the environment
+ * afterwards, so the result does not depend on the execution order.
+ */
+@JsfTestConfiguration(BasicApplicationConfiguration.class)
+@EnableJsfEnvironment(reuseRuntime = true)
+@DisplayName("JsfSetupExtension with reused runtime")
+class JsfRuntimeReuseTest {
+
+    private static final String CONVERTER_ID = "reuse.converter";
+    private static final String BUNDLE_NAME = "reuseBundle";
+    private static final String RENDER_KIT_ID = "reuse.renderKit";
+    private static final String LIFECYCLE_ID = "reuse.lifecycle";
+
+    @RepeatedTest(2)
+    @DisplayName("Should provide a fresh state while reusing the runtime")
+    void shouldProvideFreshState(FacesContext facesContext, ExternalContext externalContext,
+        ComponentConfigDecorator componentConfig, ApplicationConfigDecorator applicationConfig,
+        RequestConfigDecorator requestConfig) {
+        var application = facesContext.getApplication();
+        assertEquals(BasicApplicationConfiguration.FIREFOX,
+            externalContext.getRequestHeaderMap().get(BasicApplicationConfiguration.USER_AGENT),
+            "The configuration should be applied");
+        assertFalse(toList(application.getConverterIds()).contains(CONVERTER_ID),
+            "Converter should not leak into the next test");
+        assertNull(application.getResourceBundle(facesContext, BUNDLE_NAME),
+            "Resource bundle should not leak into the next test");
+        assertFalse(toList(CuiMockRenderKitFactory.retrieve().getRenderKitIds()).contains(RENDER_KIT_ID),
+            "Render-kit should not leak into the next test");
+        assertEquals(List.of(LifecycleFactory.DEFAULT_LIFECYCLE),
+            toList(CuiMockLifecycleFactory.retrieve().getLifecycleIds()),
+            "Only the default lifecycle should be registered");
+        assertEquals("/viewId", facesContext.getViewRoot().getViewId(), "View-root should be fresh");
+        assertFalse(externalContext.getSessionMap().containsKey("polluted"), "Session should be fresh");
+        assertFalse(externalContext.getRequestMap().containsKey("polluted"), "Request should be fresh");
+
+        componentConfig.registerConverter(IntegerConverter.class, CONVERTER_ID);
+        applicationConfig.registerResourceBundle(BUNDLE_NAME, "de.cuioss.reuse");
+        CuiMockRenderKitFactory.retrieve().addRenderKit(RENDER_KIT_ID, new MockRenderKit());
+        CuiMockLifecycleFactory.retrieve().addLifecycle(LIFECYCLE_ID, new MockLifecycle());
+        requestConfig.setViewId("/polluted.xhtml");
+        externalContext.getSessionMap().put("polluted", Boolean.TRUE);
+        externalContext.getRequestMap().put("polluted", Boolean.TRUE);
+
+        assertNotNull(application.getResourceBundle(facesContext, BUNDLE_NAME),
+            "Resource bundle should be registered to the application of this test");
+    }
+
+    private static List<String> toList(Iterator<String> iterator) {
+        var result = new ArrayList<String>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import org.apache.myfaces.test.config.ResourceBundleVarNames;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Runs {@link ParallelFixture} with {@code junit.jupiter.execution.parallel.enabled}:
+ * One test registers a resource-bundle name to the JVM-global
+ * {@link ResourceBundleVarNames} and waits until the other one, running on another
+ * thread, has been torn down by the {@link JsfSetupExtension}. The registration must
+ * survive that.
+ */
+@DisplayName("JsfSetupExtension under parallel execution")
+class JsfSetupExtensionParallelTest {
+
+    private static final String BUNDLE_NAME = "parallelFallback";
+    private static final String BUNDLE_PATH = "de.cuioss.test.jsf.parallel";
+
+    private static volatile CountDownLatch registered;
+    private static volatile CountDownLatch tornDown;
+
+    @Test
+    @DisplayName("Should keep the registrations of tests running on other threads")
+    void shouldKeepRegistrationsOfParallelTests() {
+        registered = new CountDownLatch(1);
+        tornDown = new CountDownLatch(1);
+        try {
+            var results = EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(ParallelFixture.class))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+                .execute();
+
+            var failures = results.testEvents().failed().stream()
+                .map(event -> event.getRequiredPayload(TestExecutionResult.class).getThrowable()
+                    .map(Throwable::toString).orElse(event.toString()))
+                .toList();
+            assertTrue(failures.isEmpty(), () -> "Tests running in parallel interfered: " + failures);
+            assertEquals(2, results.testEvents().succeeded().count(), "Both tests should have been run");
+        } finally {
+            registered = null;
+            tornDown = null;
+        }
+    }
+
+    /**
+     * Run via {@link EngineTestKit} only, the latches are provided by the enclosing
+     * test. {@link TornDownSignal} is registered first, therefore its
+     * {@link AfterEachCallback} runs after the one of the {@link JsfSetupExtension}.
+     */
+    @ExtendWith(TornDownSignal.class)
+    @EnableJsfEnvironment
+    static class ParallelFixture {
+
+        @Test
+        void holdRegistration() throws InterruptedException {
+            assumeTrue(null != tornDown, "Only run by JsfSetupExtensionParallelTest");
+            ResourceBundleVarNames.addVarName(BUNDLE_NAME, BUNDLE_PATH);
+            try {
+                registered.countDown();
+                assertTrue(tornDown.await(30, SECONDS), "The other test should have been torn down");
+                assertEquals(BUNDLE_PATH, ResourceBundleVarNames.getVarName(BUNDLE_NAME),
+                    "The registration should survive the tear-down of the other test");
+            } finally {
+                ResourceBundleVarNames.addVarName(BUNDLE_NAME, null);
+            }
+        }
+
+        @Test
+        void finishWhileOtherHolds() throws InterruptedException {
+            assumeTrue(null != registered, "Only run by JsfSetupExtensionParallelTest");
+            assertTrue(registered.await(30, SECONDS), "The other test should run in parallel");
+        }
+    }
+
+    /**
+     * Signals the tear-down of {@link ParallelFixture#finishWhileOtherHolds()}.
+     */
+    static class TornDownSignal implements AfterEachCallback {
+
+        @Override
+        public void afterEach(ExtensionContext context) {
+            var latch = tornDown;
+            if (null != latch && "finishWhileOtherHolds".equals(context.getRequiredTestMethod().getName())) {
+                latch.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import de.cuioss.test.jsf.component.ComponentTestHelper;
+import de.cuioss.test.jsf.component.ValueExpressionPropertyContract;
+import de.cuioss.test.jsf.el.CachingExpressionFactory;
+import de.cuioss.test.jsf.support.componentproperty.MultiValuedComponent;
+import de.cuioss.test.valueobjects.objects.RuntimeProperties;
+import de.cuioss.test.valueobjects.objects.impl.BeanInstantiator;
+import de.cuioss.test.valueobjects.objects.impl.DefaultInstantiator;
+import jakarta.faces.context.FacesContext;
+import org.apache.myfaces.test.el.MockExpressionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment(useRealExpressionLanguage = true)
+@DisplayName("EnableJsfEnvironment with the real expression language")
+class RealExpressionLanguageTest {
+
+    @Test
+    @DisplayName("Should evaluate expressions with the Jakarta EL implementation of the classpath")
+    void shouldEvaluateWithRealImplementation(FacesContext facesContext) {
+        var factory = assertInstanceOf(CachingExpressionFactory.class,
+            facesContext.getApplication().getExpressionFactory(), "Expressions should be cached");
+        assertFalse(factory.getWrapped() instanceof MockExpressionFactory,
+            "The real implementation should be wrapped");
+
+        facesContext.getExternalContext().getRequestMap().put("greeting", "Hello");
+        var expression = factory.createValueExpression(facesContext.getELContext(),
+            "#{greeting.concat(' World')}", String.class);
+
+        assertEquals("Hello World", expression.getValue(facesContext.getELContext()),
+            "Method invocation should be evaluated by the real implementation");
+        assertSame(expression, factory.createValueExpression(facesContext.getELContext(),
+            "#{greeting.concat(' World')}", String.class), "Parsed expression should be cached");
+    }
+
+    @Test
+    @DisplayName("Should set top-level identifiers within the value-expression contract")
+    void shouldPassValueExpressionContract(FacesContext facesContext) {
+        var properties = ComponentTestHelper.filterPropertyMetadata(MultiValuedComponent.class,
+            new MultiValuedComponent());
+        var instantiator = new BeanInstantiator<>(new DefaultInstantiator<>(MultiValuedComponent.class),
+            new RuntimeProperties(properties));
+        var contract = new ValueExpressionPropertyContract<>(instantiator, properties, facesContext);
+
+        assertDoesNotThrow(contract::assertContract,
+            "Value-expression contract should hold with the real expression language");
+    }
+
+    @Test
+    @DisplayName("Should provide a new cache for each environment")
+    void shouldScopeCacheToEnvironment() {
+        var first = CachingExpressionFactory.forEnvironment();
+        var second = CachingExpressionFactory.forEnvironment();
+
+        assertNotSame(first, second, "Each environment should get its own cache");
+        assertSame(first.getWrapped(), second.getWrapped(), "The implementation should be looked up once");
+    }
+
+    @Test
+    @DisplayName("Should report a missing implementation as configuration error")
+    void shouldReportMissingImplementation() {
+        var thrown = assertThrows(ExtensionConfigurationException.class,
+            () -> JsfSetupExtension.realExpressionFactory(true, () -> {
+                throw new IllegalStateException("No Jakarta EL implementation found");
+            }), "A missing implementation should fail the configuration");
+
+        assertEquals("No Jakarta EL implementation found", thrown.getMessage(), "Cause should be reported");
+        assertNull(JsfSetupExtension.realExpressionFactory(false, () -> fail("Should not be looked up")),
+            "Mock expression language should be used if disabled");
+    }
+}
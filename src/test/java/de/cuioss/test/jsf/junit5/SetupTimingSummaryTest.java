@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.junit5;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SetupTimingSummary")
+class SetupTimingSummaryTest {
+
+    @Test
+    @DisplayName("aggregates the timings sorted by total duration")
+    void shouldAggregateSortedByTotal() {
+        var summary = new SetupTimingSummary();
+        summary.add(Map.of("fast", Duration.ofMillis(1), "slow", Duration.ofMillis(10)));
+        summary.add(Map.of("slow", Duration.ofMillis(20)));
+
+        var lines = summary.createReport().lines().toList();
+        assertEquals(3, lines.size(), "Header plus one line per step");
+        assertTrue(lines.get(1).endsWith("slow"), "Slowest step first: " + lines);
+        assertTrue(lines.get(1).contains("30.000"), "Total of slow: " + lines);
+        assertTrue(lines.get(1).contains(" 2 "), "Count of slow: " + lines);
+        assertTrue(lines.get(2).endsWith("fast"), "Fastest step last: " + lines);
+        assertDoesNotThrow(summary::close);
+    }
+
+    @Test
+    @DisplayName("formats nanoseconds as milliseconds")
+    void shouldFormatMillis() {
+        assertEquals("1.500", SetupTimingSummary.toMillis(1_500_000));
+    }
+}
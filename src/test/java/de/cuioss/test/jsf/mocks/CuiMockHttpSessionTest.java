@@ -15,11 +15,21 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.concurrent.AttributeContentionProfiler;
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionBindingListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("CuiMockHttpSession")
 class CuiMockHttpSessionTest {
@@ -46,4 +56,197 @@ class CuiMockHttpSessionTest {
         session.setMaxInactiveInterval(42);
         assertEquals(42, session.getMaxInactiveInterval(), "maxInactiveInterval should be configurable");
     }
+
+    @Test
+    @DisplayName("Should report serialized size and writes per attribute")
+    void shouldReportReplication() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        var large = new ArrayList<>(List.of("x".repeat(2048)));
+        session.setAttribute("large", large);
+        session.setAttribute("large", large);
+        session.setAttribute("small", "value");
+
+        var report = session.createReplicationReport();
+
+        var largeAttribute = report.getAttribute("large").orElseThrow();
+        assertAll("Large attribute",
+            () -> assertTrue(largeAttribute.bytes() > 2048, "Serialized size should contain the content"),
+            () -> assertEquals(2, largeAttribute.writes(), "Both writes should be recorded"),
+            () -> assertEquals(1, largeAttribute.redundantWrites(), "Unchanged rewrite should be redundant"),
+            () -> assertEquals("large", report.getAttributes().getFirst().name(), "Largest should be first"));
+        assertEquals(List.of(largeAttribute), report.getRedundantlyWritten());
+        assertThrows(AssertionFailedError.class, report::assertNoRedundantWrites);
+        assertDoesNotThrow(() -> report.assertTotalBytesAtMost(20 * 1024));
+        var error = assertThrows(AssertionFailedError.class, () -> report.assertTotalBytesAtMost(1024));
+        assertTrue(error.getMessage().contains("large"), error.getMessage());
+
+        session.getAttributeTracker().reset();
+        assertEquals(0, session.createReplicationReport().getAttribute("large").orElseThrow().writes(),
+            "Reset should discard the writes");
+    }
+
+    @Test
+    @DisplayName("Should compare writes by equality unless snapshots are enabled")
+    void shouldDetectRedundantWritesByEquality() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        var cart = new ArrayList<>(List.of("first"));
+        session.setAttribute("cart", cart);
+        cart.add("second");
+        session.setAttribute("cart", cart);
+
+        assertFalse(session.getAttributeTracker().isSnapshotsEnabled(), "Snapshots should be disabled by default");
+        assertEquals(1, session.createReplicationReport().getAttribute("cart").orElseThrow().redundantWrites(),
+            "Without snapshots the identical instance should be considered redundant");
+    }
+
+    @Test
+    @DisplayName("Should not consider re-setting a mutated instance redundant")
+    void shouldDetectRedundantWritesBySnapshot() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        session.getAttributeTracker().enableSnapshots();
+        var cart = new ArrayList<>(List.of("first"));
+        session.setAttribute("cart", cart);
+        cart.add("second");
+        session.setAttribute("cart", cart);
+        session.setAttribute("copy", new ArrayList<>(List.of("first")));
+        session.setAttribute("copy", new ArrayList<>(List.of("first")));
+        session.setAttribute("removed", "value");
+        session.removeAttribute("removed");
+        session.setAttribute("removed", "value");
+
+        var report = session.createReplicationReport();
+
+        assertEquals(0, report.getAttribute("cart").orElseThrow().redundantWrites(),
+            "Re-setting a mutated instance is required for replication");
+        assertEquals(1, report.getAttribute("copy").orElseThrow().redundantWrites(),
+            "An equal copy should be redundant");
+        assertEquals(0, report.getAttribute("removed").orElseThrow().redundantWrites(),
+            "Writing after a removal should not be redundant");
+    }
+
+    @Test
+    @DisplayName("Should flag non-serializable attributes")
+    void shouldFlagNonSerializable() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        session.setAttribute("bean", new Object());
+
+        var report = session.createReplicationReport();
+
+        assertEquals(1, report.getNonSerializable().size(), "Object is not serializable");
+        assertFalse(report.getAttribute("bean").orElseThrow().isSerializable());
+        assertThrows(AssertionFailedError.class, () -> report.assertTotalBytesAtMost(Long.MAX_VALUE),
+            "Non-serializable attributes should fail the budget");
+        assertTrue(report.createSummary().contains("NOT SERIALIZABLE"), "Summary should flag the attribute");
+    }
+
+    @Test
+    @DisplayName("Should store attributes safely for concurrent requests")
+    void shouldHandleConcurrentAccess() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        var profiler = new AttributeContentionProfiler();
+        session.setContentionProfiler(profiler);
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var thread = 0; thread < 8; thread++) {
+                var prefix = "thread" + thread;
+                executor.submit(() -> {
+                    for (var i = 0; i < 100; i++) {
+                        session.setAttribute(prefix + i, i);
+                        Collections.list(session.getAttributeNames());
+                    }
+                });
+            }
+        }
+
+        assertEquals(800, Collections.list(session.getAttributeNames()).size(), "No write should be lost");
+        assertEquals(1, profiler.getAccess("session", "thread0" + 1).orElseThrow().writes());
+    }
+
+    @Test
+    @DisplayName("Should notify attribute listeners")
+    void shouldNotifyListeners() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        List<String> events = new CopyOnWriteArrayList<>();
+        session.addAttributeListener(new HttpSessionAttributeListener() {
+
+            @Override
+            public void attributeAdded(HttpSessionBindingEvent event) {
+                events.add("added:" + event.getName());
+            }
+
+            @Override
+            public void attributeReplaced(HttpSessionBindingEvent event) {
+                events.add("replaced:" + event.getName() + "=" + event.getValue());
+            }
+
+            @Override
+            public void attributeRemoved(HttpSessionBindingEvent event) {
+                events.add("removed:" + event.getName());
+            }
+        });
+
+        session.setAttribute("key", "first");
+        session.setAttribute("key", "second");
+        session.setAttribute("key", null);
+
+        assertEquals(List.of("added:key", "replaced:key=first", "removed:key"), events);
+        assertNull(session.getAttribute("key"), "Null should remove the attribute");
+    }
+
+    @Test
+    @DisplayName("Should bind and unbind values implementing HttpSessionBindingListener")
+    void shouldNotifyBindingListeners() {
+        var session = new CuiMockHttpSession(new CuiMockServletContext());
+        List<String> events = new CopyOnWriteArrayList<>();
+        var first = new BoundValue("first", events);
+        var second = new BoundValue("second", events);
+
+        session.setAttribute("key", first);
+        session.setAttribute("key", first);
+        session.setAttribute("key", second);
+        session.removeAttribute("key");
+
+        assertEquals(List.of("bound:first", "bound:second", "unbound:first", "unbound:second"), events,
+            "Rebinding the same instance should not notify");
+    }
+
+    @Test
+    @DisplayName("Should unbind all attributes with notification on invalidate")
+    void shouldNotifyOnInvalidate() {
+        var servletContext = new CuiMockServletContext();
+        var session = new CuiMockHttpSession(servletContext);
+        List<String> events = new CopyOnWriteArrayList<>();
+        servletContext.addListener(new HttpSessionAttributeListener() {
+
+            @Override
+            public void attributeAdded(HttpSessionBindingEvent event) {
+                events.add("added:" + event.getName());
+            }
+
+            @Override
+            public void attributeRemoved(HttpSessionBindingEvent event) {
+                events.add("removed:" + event.getName());
+            }
+        });
+        session.setAttribute("bean", new BoundValue("bean", events));
+
+        session.invalidate();
+
+        assertEquals(List.of("bound:bean", "added:bean", "unbound:bean", "removed:bean"), events,
+            "Listeners registered at the servlet context should be notified on invalidate");
+        assertThrows(IllegalStateException.class, session::invalidate, "Invalidating twice should be rejected");
+    }
+
+    private record BoundValue(String name, List<String> events) implements HttpSessionBindingListener {
+
+        @Override
+        public void valueBound(HttpSessionBindingEvent event) {
+            events.add("bound:" + name);
+        }
+
+        @Override
+        public void valueUnbound(HttpSessionBindingEvent event) {
+            events.add("unbound:" + name);
+        }
+    }
 }
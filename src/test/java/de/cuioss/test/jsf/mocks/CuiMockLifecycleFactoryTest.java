@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.mocks;
+
+import jakarta.faces.lifecycle.LifecycleFactory;
+import org.apache.myfaces.test.mock.lifecycle.MockLifecycle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CuiMockLifecycleFactory")
+class CuiMockLifecycleFactoryTest {
+
+    private static final String LIFECYCLE_ID = "custom";
+
+    @Test
+    @DisplayName("Should provide the default lifecycle only")
+    void shouldProvideDefaultLifecycle() {
+        var factory = new CuiMockLifecycleFactory();
+
+        assertNotNull(factory.getLifecycle(LifecycleFactory.DEFAULT_LIFECYCLE), "Default lifecycle should exist");
+        assertEquals(List.of(LifecycleFactory.DEFAULT_LIFECYCLE), ids(factory),
+            "Only the default lifecycle should be registered");
+        assertThrows(IllegalArgumentException.class, () -> factory.getLifecycle(LIFECYCLE_ID),
+            "Unknown lifecycles should be rejected");
+    }
+
+    @Test
+    @DisplayName("Should register a lifecycle once only")
+    void shouldAddLifecycle() {
+        var factory = new CuiMockLifecycleFactory();
+        var lifecycle = new MockLifecycle();
+
+        factory.addLifecycle(LIFECYCLE_ID, lifecycle);
+
+        assertSame(lifecycle, factory.getLifecycle(LIFECYCLE_ID), "The registered lifecycle should be returned");
+        var other = new MockLifecycle();
+        assertThrows(IllegalArgumentException.class, () -> factory.addLifecycle(LIFECYCLE_ID, other),
+            "A lifecycle id should be registered once only");
+    }
+
+    @Test
+    @DisplayName("Should restore a fresh default lifecycle on reset")
+    void shouldReset() {
+        var factory = new CuiMockLifecycleFactory();
+        var defaultLifecycle = factory.getLifecycle(LifecycleFactory.DEFAULT_LIFECYCLE);
+        factory.addLifecycle(LIFECYCLE_ID, new MockLifecycle());
+
+        factory.reset();
+
+        assertEquals(List.of(LifecycleFactory.DEFAULT_LIFECYCLE), ids(factory),
+            "Custom lifecycles should be removed");
+        assertNotSame(defaultLifecycle, factory.getLifecycle(LifecycleFactory.DEFAULT_LIFECYCLE),
+            "The default lifecycle should be replaced");
+    }
+
+    private static List<String> ids(CuiMockLifecycleFactory factory) {
+        var ids = new ArrayList<String>();
+        factory.getLifecycleIds().forEachRemaining(ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.mocks;
+
+import org.apache.myfaces.test.mock.MockRenderKit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CuiMockRenderKitFactory")
+class CuiMockRenderKitFactoryTest {
+
+    private static final String RENDER_KIT_ID = "HTML_BASIC";
+
+    @Test
+    @DisplayName("Should replace an already registered render-kit")
+    void shouldReplaceRenderKit() {
+        var factory = new CuiMockRenderKitFactory();
+        var first = new MockRenderKit();
+        var second = new MockRenderKit();
+
+        factory.addRenderKit(RENDER_KIT_ID, first);
+        factory.addRenderKit(RENDER_KIT_ID, second);
+
+        assertSame(second, factory.getRenderKit(null, RENDER_KIT_ID), "The latter render-kit should win");
+        assertNull(factory.getRenderKit(null, "unknown"), "Unknown ids should resolve to null");
+    }
+
+    @Test
+    @DisplayName("Should create a lazily registered render-kit once on first access")
+    void shouldCreateLazily() {
+        var factory = new CuiMockRenderKitFactory();
+        var created = new AtomicInteger();
+        factory.registerRenderKitSupplier(RENDER_KIT_ID, () -> {
+            created.incrementAndGet();
+            return new MockRenderKit();
+        });
+
+        var ids = new ArrayList<String>();
+        factory.getRenderKitIds().forEachRemaining(ids::add);
+        assertEquals(0, created.get(), "The render-kit should not be created upfront");
+        assertTrue(ids.contains(RENDER_KIT_ID), "The lazy render-kit should be listed");
+
+        var renderKit = factory.getRenderKit(null, RENDER_KIT_ID);
+        assertNotNull(renderKit, "The render-kit should be created on access");
+        assertSame(renderKit, factory.getRenderKit(null, RENDER_KIT_ID), "The render-kit should be cached");
+        assertEquals(1, created.get(), "The render-kit should be created exactly once");
+    }
+
+    @Test
+    @DisplayName("Should remove all render-kits on clear")
+    void shouldClear() {
+        var factory = new CuiMockRenderKitFactory();
+        factory.addRenderKit(RENDER_KIT_ID, new MockRenderKit());
+        factory.registerRenderKitSupplier("lazy", MockRenderKit::new);
+
+        factory.clear();
+
+        assertFalse(factory.getRenderKitIds().hasNext(), "No render-kit should be left");
+        assertNull(factory.getRenderKit(null, RENDER_KIT_ID), "The eager render-kit should be removed");
+        assertNull(factory.getRenderKit(null, "lazy"), "The lazy render-kit should be removed");
+    }
+
+    @Test
+    @DisplayName("Should reject null arguments")
+    void shouldRejectNull() {
+        var factory = new CuiMockRenderKitFactory();
+        var renderKit = new MockRenderKit();
+        assertThrows(NullPointerException.class, () -> factory.addRenderKit(null, renderKit),
+            "renderKitId must not be null");
+        assertThrows(NullPointerException.class, () -> factory.addRenderKit(RENDER_KIT_ID, null),
+            "renderKit must not be null");
+        assertThrows(NullPointerException.class, () -> factory.registerRenderKitSupplier(RENDER_KIT_ID, null),
+            "supplier must not be null");
+    }
+}
@@ -15,10 +15,14 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import jakarta.servlet.ServletContextAttributeEvent;
+import jakarta.servlet.ServletContextAttributeListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,6 +47,37 @@ class CuiMockServletContextTest {
             () -> assertNull(context.getSessionCookieConfig(), "Session cookie config should be null"));
     }
 
+    @Test
+    @DisplayName("Should notify attribute listeners registered like a container does")
+    void shouldNotifyRegisteredListeners() {
+        var context = new CuiMockServletContext();
+        List<String> events = new CopyOnWriteArrayList<>();
+        context.addListener(new ServletContextAttributeListener() {
+
+            @Override
+            public void attributeAdded(ServletContextAttributeEvent event) {
+                events.add("added:" + event.getName());
+            }
+
+            @Override
+            public void attributeReplaced(ServletContextAttributeEvent event) {
+                events.add("replaced:" + event.getName() + "=" + event.getValue());
+            }
+
+            @Override
+            public void attributeRemoved(ServletContextAttributeEvent event) {
+                events.add("removed:" + event.getName());
+            }
+        });
+
+        context.setAttribute("key", "first");
+        context.setAttribute("key", "second");
+        context.removeAttribute("key");
+
+        assertEquals(List.of("added:key", "replaced:key=first", "removed:key"), events,
+            "Listener registered via addListener should be notified");
+    }
+
     @Test
     @DisplayName("Should reject adding a JSP file")
     void shouldRejectAddJspFile() {
@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.jsf.mocks;
 
+import de.cuioss.test.jsf.concurrent.AttributeContentionProfiler;
 import jakarta.faces.component.html.HtmlInputText;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,4 +48,19 @@ class CuiMockUIViewRootTest {
 
         assertSame(component, root.findComponent("expr"), "Registered component must be resolvable");
     }
+
+    @Test
+    @DisplayName("Should record accesses of the view map")
+    void shouldProfileViewMap() {
+        var root = new CuiMockUIViewRoot();
+        var profiler = new AttributeContentionProfiler();
+        root.setContentionProfiler(profiler);
+
+        root.getViewMap().put("bean", "value");
+        root.getViewMap().get("bean");
+
+        var access = profiler.getAccess("view", "bean").orElseThrow();
+        assertEquals(1, access.reads(), "Read should be recorded");
+        assertEquals(1, access.writes(), "Write should be recorded");
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer;
+
+import de.cuioss.test.jsf.config.renderer.VerifyComponentRendererConfig;
+import de.cuioss.test.jsf.mocks.CuiMockRenderer;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.html.HtmlInputText;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@VerifyComponentRendererConfig(renderAttributeAssertsTogether = true)
+@DisplayName("AbstractComponentRendererTest rendering all attribute asserts together")
+class AbstractComponentRendererTestSingleRenderTest extends AbstractComponentRendererTest<CuiMockRenderer> {
+
+    @Override
+    protected UIComponent getComponent() {
+        return new HtmlInputText();
+    }
+
+    @Test
+    @DisplayName("Should read the single render mode from the configuration")
+    void shouldHandleConfigAnnotation() {
+        assertTrue(isRenderAttributeAssertsTogether(), "Single render mode should be enabled when configured");
+    }
+
+    @Test
+    @DisplayName("Should render combinable asserts together and 'rendered' separately")
+    void shouldGroupAsserts() {
+        var groups = groupRendererAttributeAsserts(List.of(CommonRendererAsserts.ID, CommonRendererAsserts.RENDERED,
+            CommonRendererAsserts.STYLE, CommonRendererAsserts.STYLE_CLASS, CommonRendererAsserts.PASSTHROUGH));
+
+        assertEquals(List.of(List.of(CommonRendererAsserts.ID, CommonRendererAsserts.STYLE,
+            CommonRendererAsserts.STYLE_CLASS, CommonRendererAsserts.PASSTHROUGH),
+            List.of(CommonRendererAsserts.RENDERED)), groups, "Only 'rendered' should be rendered separately");
+    }
+
+    @Test
+    @DisplayName("Should separate combinable asserts using the same attribute")
+    void shouldSeparateSameAttribute() {
+        var groups = groupRendererAttributeAsserts(List.of(CommonRendererAsserts.STYLE, CommonRendererAsserts.STYLE));
+
+        assertEquals(2, groups.size(), "Asserts on the same attribute must not share a rendering");
+    }
+}
@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.jsf.renderer;
 
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
 import de.cuioss.test.jsf.config.renderer.VetoRenderAttributeAssert;
 import de.cuioss.test.jsf.mocks.CuiMockRenderer;
 import jakarta.faces.component.UIComponent;
@@ -33,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @VetoRenderAttributeAssert({CommonRendererAsserts.PASSTHROUGH, CommonRendererAsserts.STYLE,
     CommonRendererAsserts.STYLE_CLASS})
+@VerifyConcurrentAccess(threads = 4, iterations = 10)
 @DisplayName("AbstractComponentRendererTest")
 class AbstractComponentRendererTestTest extends AbstractComponentRendererTest<CuiMockRenderer> {
 
@@ -61,6 +63,17 @@ class AbstractComponentRendererTestTest extends AbstractComponentRendererTest<Cu
             "No form renderer should be registered when wrapping is disabled");
     }
 
+    @Test
+    @DisplayName("Should render the same client-id in each concurrent replay")
+    void shouldAssignStableIds(FacesContext facesContext) {
+        var first = createConcurrentlyRenderedComponent();
+        var second = createConcurrentlyRenderedComponent();
+
+        assertNotSame(first, second, "Each replay should render its own component");
+        assertEquals(first.getClientId(facesContext), second.getClientId(facesContext),
+            "Client-ids should not depend on the counter of the view-root");
+    }
+
     @Test
     @DisplayName("Should leave the component without a parent when not nested in a form")
     void shouldNotBeNestedInForm() {
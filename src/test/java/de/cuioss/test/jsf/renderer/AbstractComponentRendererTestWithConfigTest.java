@@ -21,6 +21,7 @@ import de.cuioss.test.jsf.mocks.CuiMockRenderer;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.html.HtmlForm;
 import jakarta.faces.component.html.HtmlInputText;
+import jakarta.faces.context.FacesContext;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -58,4 +59,16 @@ class AbstractComponentRendererTestWithConfigTest extends AbstractComponentRende
         assertNotNull(wrapped.getParent(), "Wrapped component should have a parent");
         assertEquals(HtmlForm.class, wrapped.getParent().getClass(), "Parent should be an HtmlForm");
     }
+
+    @Test
+    @DisplayName("Should assign stable ids to the component and a fixed id to the form")
+    void shouldAssignStableIdsWithinSubtree(FacesContext facesContext) {
+        var first = createConcurrentlyRenderedComponent();
+        var second = createConcurrentlyRenderedComponent();
+
+        assertEquals("form", first.getParent().getId(), "The wrapping form should get a fixed id");
+        assertEquals("concurrent0", first.getId(), "The component should get an id derived from its subtree");
+        assertEquals(first.getClientId(facesContext), second.getClientId(facesContext),
+            "Client-ids should not depend on the counter of the view-root");
+    }
 }
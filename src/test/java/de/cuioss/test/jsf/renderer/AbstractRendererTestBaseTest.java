@@ -51,6 +51,8 @@ class AbstractRendererTestBaseTest extends AbstractRendererTestBase<CuiMockRende
             "String-based render assertion should succeed");
         assertDoesNotThrow(() -> assertRenderResult(component, DomUtils.htmlStringToDocument(RENDER_RESULT), facesContext),
             "Document-based render assertion should succeed");
+        assertDoesNotThrow(() -> assertStreamedRenderResult(component, RENDER_RESULT, facesContext),
+            "Streaming render assertion should succeed");
     }
 
     @Test
@@ -16,6 +16,7 @@
 package de.cuioss.test.jsf.renderer;
 
 import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.renderer.util.DomIndex;
 import de.cuioss.test.jsf.renderer.util.DomUtils;
 import de.cuioss.tools.property.PropertyUtil;
 import jakarta.faces.component.html.HtmlInputText;
@@ -125,6 +126,11 @@ class CommonRendererAssertsTest {
         var textOnly = DomUtils.htmlStringToDocument("plain text output").getRootElement();
         assertThrows(AssertionError.class, () -> CommonRendererAsserts.RENDERED.assertAttributeSet(textOnly),
             "Bare text output must fail the not-rendered assertion");
+
+        assertDoesNotThrow(() -> CommonRendererAsserts.RENDERED.assertAttributeSet(DomIndex.of(
+            DomUtils.htmlStringToDocument(EMPTY_ELEMENT))), "The indexed variant should check the output as well");
+        assertThrows(AssertionError.class, () -> CommonRendererAsserts.RENDERED.assertAttributeSet(DomIndex.of(
+            DomUtils.htmlStringToDocument(NESTED_DIV))), "The indexed variant should fail on child elements");
     }
 
     private static void verifyContract(final RendererAttributeAssert attributeAssert, final String positiveHtml,
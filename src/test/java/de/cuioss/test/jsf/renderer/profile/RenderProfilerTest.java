@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.profile;
+
+import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import de.cuioss.test.jsf.renderer.profile.RenderProfiler.Phase;
+import jakarta.faces.component.html.HtmlForm;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.context.FacesContext;
+import org.apache.myfaces.test.mock.MockResponseWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("RenderProfiler")
+class RenderProfilerTest {
+
+    private HtmlForm form;
+
+    @BeforeEach
+    void setUpComponents(FacesContext facesContext, ComponentConfigDecorator componentConfig) {
+        componentConfig.registerMockRenderer(HtmlForm.COMPONENT_FAMILY, "jakarta.faces.Form")
+            .registerMockRenderer(HtmlOutputText.COMPONENT_FAMILY, "jakarta.faces.Text");
+        facesContext.setResponseWriter(new MockResponseWriter(new StringWriter(), "text/html", "UTF-8"));
+        form = new HtmlForm();
+        form.setId("form");
+        var text = new HtmlOutputText();
+        text.setId("text");
+        text.setValue("value");
+        form.getChildren().add(text);
+    }
+
+    @Test
+    @DisplayName("Should count and time the renderer calls per component")
+    void shouldRecordInvocations(FacesContext facesContext) throws IOException {
+        var profiler = RenderProfiler.install(facesContext);
+
+        form.encodeAll(facesContext);
+        form.encodeAll(facesContext);
+
+        assertAll("Recorded invocations",
+            () -> assertEquals(2, profiler.getCount("form", Phase.ENCODE_BEGIN), "Form should be encoded twice"),
+            () -> assertEquals(2, profiler.getCount("form:text", Phase.ENCODE_END), "Text should be encoded twice"),
+            () -> assertEquals(0, profiler.getCount("form", Phase.DECODE), "Nothing should be decoded"),
+            () -> assertEquals(4, profiler.getTimings().size(), "Begin and end for two components"),
+            () -> assertTrue(profiler.createSummary().contains("jakarta.faces.Text form:text"),
+                "Summary should list the text component"));
+        assertSame(profiler, RenderProfiler.install(facesContext), "Installing again should keep the profiler");
+    }
+
+    @Test
+    @DisplayName("Should create collapsed stacks reflecting the component tree")
+    void shouldCreateCollapsedStacks(FacesContext facesContext) throws IOException {
+        var profiler = RenderProfiler.install(facesContext);
+
+        form.encodeAll(facesContext);
+
+        var lines = profiler.createCollapsedStacks().lines().map(line -> line.substring(0, line.lastIndexOf(' ')))
+            .toList();
+        assertEquals(List.of("jakarta.faces.Form[form];encodeBegin",
+            "jakarta.faces.Form[form];jakarta.faces.Text[form:text];encodeBegin",
+            "jakarta.faces.Form[form];jakarta.faces.Text[form:text];encodeEnd",
+            "jakarta.faces.Form[form];encodeEnd"), lines, "Stacks should be nested by component");
+        assertTrue(profiler.createCollapsedStacks().lines()
+            .allMatch(line -> line.substring(line.lastIndexOf(' ') + 1).matches("\\d+")),
+            "Each stack should end with the self time");
+
+        profiler.reset();
+        assertTrue(profiler.getTimings().isEmpty(), "Reset should discard the invocations");
+    }
+
+    @Test
+    @DisplayName("Should profile decode")
+    void shouldProfileDecode(FacesContext facesContext) {
+        var profiler = RenderProfiler.install(facesContext);
+
+        form.processDecodes(facesContext);
+        // The children of a form are only decoded if it is submitted
+        form.getChildren().getFirst().processDecodes(facesContext);
+
+        assertEquals(1, profiler.getCount("form", Phase.DECODE), "Form should be decoded once");
+        assertEquals(1, profiler.getCount("form:text", Phase.DECODE), "Text should be decoded once");
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.apache.myfaces.test.mock.MockResponseWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static de.cuioss.test.jsf.renderer.util.DomUtils.htmlStringToDocument;
+import static de.cuioss.test.jsf.renderer.util.HtmlTreeAsserts.assertHtmlTreeEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DomCapturingResponseWriter")
+class DomCapturingResponseWriterTest {
+
+    @Test
+    @DisplayName("Should build the tree directly from element, attribute and text calls")
+    void shouldCaptureDirectly() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("div", null);
+        writer.writeAttribute("id", "outer", null);
+        writer.writeText("a < b", null);
+        writer.startElement("span", null);
+        writer.writeURIAttribute("data-url", "/x?a=1&b=2", null);
+        writer.endElement("span");
+        writer.write(" more");
+        writer.endElement("div");
+        writer.startElement("br", null);
+        writer.endElement("br");
+
+        assertTrue(writer.isCapturedDirectly(), "Output should be captured without parsing");
+        var document = writer.getDocument();
+        assertEquals("root", document.getRootElement().getName(), "Root element should be the wrapper");
+        assertHtmlTreeEquals(
+            htmlStringToDocument("<div id=\"outer\">a &lt; b<span data-url=\"/x?a=1&amp;b=2\"/> more</div><br/>"),
+            document);
+    }
+
+    @Test
+    @DisplayName("Should count the length of the captured markup")
+    void shouldCountOutputLength() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("p", null);
+        writer.writeAttribute("id", "a", null);
+        writer.writeText("text", null);
+        writer.writeComment("note");
+        writer.endElement("p");
+
+        assertTrue(writer.isCapturedDirectly(), "Output should be captured without parsing");
+        assertEquals("<p id=\"a\">text<!--note--></p>".length(), writer.getOutputLength(),
+            "Length should match the markup");
+
+        writer.write("<b>bold</b>");
+        assertFalse(writer.isCapturedDirectly(), "Raw markup should switch to serializing");
+        assertTrue(writer.getOutputLength() > "<p id=\"a\">text</p><b>".length(),
+            "Length should be taken from the serialized markup");
+    }
+
+    @Test
+    @DisplayName("Should merge adjacent text")
+    void shouldMergeText() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("p", null);
+        writer.writeText("Hello", null);
+        writer.writeText(" World".toCharArray(), 0, 6);
+        writer.endElement("p");
+
+        var paragraph = writer.getDocument().getRootElement().getChildren().getFirst();
+        assertEquals(1, paragraph.getContentSize(), "Adjacent text should be merged");
+        assertEquals("Hello World", paragraph.getText());
+    }
+
+    @Test
+    @DisplayName("Should fall back to parsing on raw markup")
+    void shouldFallBackOnRawMarkup() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("div", null);
+        writer.writeAttribute("class", "outer", null);
+        writer.startElement("span", null);
+        writer.writeText("text", null);
+        writer.endElement("span");
+        writer.write("<b>bold</b>");
+        writer.endElement("div");
+
+        assertFalse(writer.isCapturedDirectly(), "Raw markup should switch to serializing");
+        assertHtmlTreeEquals(htmlStringToDocument("<div class=\"outer\"><span>text</span><b>bold</b></div>"),
+            writer.getDocument());
+    }
+
+    @Test
+    @DisplayName("Should keep an open start-tag when falling back")
+    void shouldKeepOpenStartTag() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("div", null);
+        writer.writeAttribute("id", "first", null);
+        writer.writeAttribute("xml:lang", "en", null);
+        writer.endElement("div");
+
+        assertFalse(writer.isCapturedDirectly(), "Prefixed attribute should switch to serializing");
+        var div = writer.getDocument().getRootElement().getChildren().getFirst();
+        assertEquals("first", div.getAttributeValue("id"));
+        assertEquals(2, div.getAttributes().size(), "Both attributes should be present");
+    }
+
+    @Test
+    @DisplayName("Should report unbalanced elements like parsing does")
+    void shouldFailOnUnbalancedElements() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("a", null);
+        writer.endElement("b");
+
+        assertFalse(writer.isCapturedDirectly(), "Unbalanced element should switch to serializing");
+        assertThrows(IllegalArgumentException.class, writer::getDocument,
+            "Malformed output should raise an IllegalArgumentException");
+    }
+
+    @Test
+    @DisplayName("Should report duplicate attributes like parsing does")
+    void shouldFailOnDuplicateAttributes() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("div", null);
+        writer.writeAttribute("id", "first", null);
+        writer.writeAttribute("id", "second", null);
+        writer.endElement("div");
+
+        assertFalse(writer.isCapturedDirectly(), "Duplicate attribute should switch to serializing");
+        assertThrows(IllegalArgumentException.class, writer::getDocument,
+            "Duplicate attributes should raise an IllegalArgumentException");
+    }
+
+    @Test
+    @DisplayName("Should write a null attribute value like serializing does")
+    void shouldWriteNullAttributeValue() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("div", null);
+        writer.writeAttribute("title", null, null);
+        writer.endElement("div");
+
+        var serialized = new StringWriter();
+        var serializing = new MockResponseWriter(serialized, "text/html", "UTF-8");
+        serializing.startElement("div", null);
+        serializing.writeAttribute("title", null, null);
+        serializing.endElement("div");
+
+        assertTrue(writer.isCapturedDirectly(), "A null value should be captured directly");
+        assertHtmlTreeEquals(htmlStringToDocument(serialized.toString()), writer.getDocument());
+        assertEquals("null", writer.getDocument().getRootElement().getChildren().getFirst().getAttributeValue("title"),
+            "A null value should be written as 'null'");
+    }
+
+    @Test
+    @DisplayName("Should return independent documents")
+    void shouldReturnIndependentDocuments() throws IOException {
+        var writer = new DomCapturingResponseWriter();
+        writer.startElement("div", null);
+        writer.endElement("div");
+
+        var first = writer.getDocument();
+        first.getRootElement().removeContent();
+        assertEquals(1, writer.getDocument().getRootElement().getContentSize(),
+            "Modifying a returned document must not affect the writer");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.jdom2.Attribute;
+import org.jdom2.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.cuioss.test.jsf.renderer.util.DomUtils.htmlStringToDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DomIndex")
+class DomIndexTest {
+
+    static final String MARKUP = "<div id=\"outer\" class=\"panel  main\" style=\"a\">"
+        + "<span class=\"label\" style=\"b\">x</span>"
+        + "<div id=\"inner\" class=\"panel\"><span title=\"t\">y</span></div>"
+        + "</div>";
+
+    private final DomIndex index = DomIndex.of(htmlStringToDocument(MARKUP));
+
+    @Test
+    @DisplayName("Should index by tag, id, attribute and class-token in document order")
+    void shouldIndex() {
+        assertAll("index",
+            () -> assertEquals("root", index.getRoot().getName()),
+            () -> assertEquals(5, index.getElements().size(), "root plus four elements"),
+            () -> assertEquals(List.of("outer", "inner"), ids(index.byTag("div"))),
+            () -> assertEquals(1, index.byId("inner").size()),
+            () -> assertEquals(2, index.withAttribute("style").size()),
+            () -> assertEquals(List.of("outer", "inner"), ids(index.withClass("panel"))),
+            () -> assertEquals(1, index.withClass("main").size()),
+            () -> assertTrue(index.byTag("table").isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Should provide the same attributes as DomUtils")
+    void shouldAgreeWithDomUtils() {
+        var root = index.getRoot();
+        assertEquals(values(DomUtils.filterForAttribute(root, "style")), values(index.attributes("style")));
+        assertEquals(values(DomUtils.filterForAttributeContainingValue(root, "class", "pan")),
+            values(index.attributesContaining("class", "pan")));
+    }
+
+    private static List<String> ids(final List<Element> elements) {
+        return elements.stream().map(element -> element.getAttributeValue("id")).toList();
+    }
+
+    private static List<String> values(final List<Attribute> attributes) {
+        return attributes.stream().map(Attribute::getValue).toList();
+    }
+}
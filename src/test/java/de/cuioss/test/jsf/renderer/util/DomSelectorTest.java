@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static de.cuioss.test.jsf.renderer.util.DomUtils.htmlStringToDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DomSelector")
+class DomSelectorTest {
+
+    private final DomIndex index = DomIndex.of(htmlStringToDocument(DomIndexTest.MARKUP));
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("Should select the matching elements")
+    @CsvSource(delimiter = '|', value = {
+        "div | 2",
+        "* | 5",
+        "#inner | 1",
+        "div.panel.main | 1",
+        ".panel span | 2",
+        "#outer > span | 1",
+        "root > div > div > span[title] | 1",
+        "div div span | 1",
+        "span[style*=b] | 1",
+        "[class~=label] | 1",
+        "div[class^=\"panel\"] | 2",
+        "div[id$=er] | 2",
+        "div[id=\"inner\"] | 1",
+        "section span | 0"
+    })
+    void shouldSelect(final String selector, final int expectedCount) {
+        assertEquals(expectedCount, index.select(selector).size(), selector);
+    }
+
+    @Test
+    @DisplayName("Should return the elements in document order and be reusable")
+    void shouldBeReusable() {
+        var selector = DomSelector.compile("div > span");
+        var found = index.select(selector);
+        assertEquals(2, found.size());
+        assertEquals("x", found.getFirst().getText());
+        assertEquals(found, index.select(selector), "A compiled selector should be reusable");
+        assertEquals("div > span", selector.toString());
+        assertEquals(1, index.select("span[title='t']").size(), "Single-quoted values should be supported");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Should select JSF client-ids")
+    @ValueSource(strings = {"#form:name", "#form\\:name", "#form\\3A name", "#form\\00003aname",
+        "form > input#form\\:name", "[id=\"form:name\"]"})
+    void shouldSelectClientIds(final String selector) {
+        var clientIds = DomIndex.of(htmlStringToDocument(
+            "<form id=\"form\"><input id=\"form:name\"/><input id=\"form:other\"/></form>"));
+
+        var found = clientIds.select(selector);
+
+        assertEquals(1, found.size(), selector);
+        assertEquals("form:name", found.getFirst().getAttributeValue("id"), selector);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should reject unsupported selectors")
+    @ValueSource(strings = {"", " ", "div >", "div[", "div[id|=x]", "div:first-child", "a, b", "[id='x]", "#a\\",
+        "#\\0"})
+    void shouldRejectUnsupportedSelectors(final String selector) {
+        assertThrows(IllegalArgumentException.class, () -> DomSelector.compile(selector));
+    }
+}
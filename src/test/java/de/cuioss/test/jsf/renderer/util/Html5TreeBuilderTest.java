@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static de.cuioss.test.jsf.renderer.util.HtmlTreeAsserts.assertHtmlTreeEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Html5TreeBuilder")
+class Html5TreeBuilderTest {
+
+    @ParameterizedTest
+    @DisplayName("Should create the same tree as DomUtils for well-formed markup")
+    @ValueSource(strings = {"<div id=\"a\" class=\"b\"><span>text &amp; more</span><br/></div>",
+        "plain &lt;text&gt;", "<ul><li>1</li><li title='x'>2</li></ul>", "<p>a<![CDATA[<b>]]>c</p><!-- comment -->",
+        "<svg viewBox=\"0 0 1 1\"><rect/></svg>", ""})
+    void shouldMatchXmlParsing(final String markup) {
+        assertHtmlTreeEquals(DomUtils.htmlStringToDocument(markup), Html5TreeBuilder.parse(markup));
+    }
+
+    @Test
+    @DisplayName("Should accept void elements, boolean and unquoted attributes")
+    void shouldHandleVoidElementsAndAttributes() {
+        var root = Html5TreeBuilder.parse("<div><input id=a disabled value = 'x y'><br>text</div>").getRootElement();
+
+        var div = root.getChildren().getFirst();
+        var input = div.getChild("input");
+        assertAll("Parsed void element",
+            () -> assertEquals(Html5TreeBuilder.ROOT_ELEMENT, root.getName(), "Root should be the wrapper"),
+            () -> assertEquals(2, div.getChildren().size(), "input and br should be siblings"),
+            () -> assertEquals("a", input.getAttributeValue("id"), "Unquoted value"),
+            () -> assertEquals("", input.getAttributeValue("disabled"), "Boolean attribute should be empty"),
+            () -> assertEquals("x y", input.getAttributeValue("value"), "Quoted value with whitespace"),
+            () -> assertTrue(input.getChildren().isEmpty(), "Void element should not have children"),
+            () -> assertEquals("text", div.getText(), "Text should belong to the div"));
+    }
+
+    @Test
+    @DisplayName("Should decode named and numeric character references")
+    void shouldDecodeReferences() {
+        var root = Html5TreeBuilder.parse("a&nbsp;b&#x20AC;&#8364;&uuml;&unknown; &amp <i title=\"&quot;&lt;\"/>")
+            .getRootElement();
+
+        assertEquals("a\u00A0b\u20AC\u20AC\u00FC&unknown; &amp ", root.getText(),
+            "References should be decoded, unknown ones kept");
+        assertEquals("\"<", root.getChild("i").getAttributeValue("title"), "Attribute value should be decoded");
+    }
+
+    @Test
+    @DisplayName("Should close optional end tags implicitly")
+    void shouldCloseImplicitly() {
+        assertHtmlTreeEquals(
+            DomUtils.htmlStringToDocument("<ul><li>1</li><li>2</li></ul>"
+                + "<table><tr><td>a</td><td>b</td></tr><tr><td>c</td></tr></table><p>x</p><div/>"),
+            Html5TreeBuilder.parse("<ul><li>1<li>2</ul><table><tr><td>a<td>b<tr><td>c</table><p>x<div></div>"));
+    }
+
+    @Test
+    @DisplayName("Should tolerate unclosed elements, stray end tags and mixed case end tags")
+    void shouldBeLenientRegardingStructure() {
+        assertHtmlTreeEquals(DomUtils.htmlStringToDocument("<div><span>a</span>b<b>c</b></div>"),
+            Html5TreeBuilder.parse("<!DOCTYPE html><div><span>a</SPAN></em>b<b>c"));
+    }
+
+    @Test
+    @DisplayName("Should take script content as raw text")
+    void shouldReadRawText() {
+        var root = Html5TreeBuilder.parse("<script>if (a < b && c) { x = '</div>'; }</script><textarea>&lt;</textarea>")
+            .getRootElement();
+
+        assertEquals("if (a < b && c) { x = '</div>'; }", root.getChild("script").getText(),
+            "Script content should not be parsed");
+        assertEquals("<", root.getChild("textarea").getText(), "Textarea content should be decoded");
+    }
+
+    @Test
+    @DisplayName("Should drop namespace declarations and reject names not representable by Jdom")
+    void shouldHandleNames() {
+        var root = Html5TreeBuilder.parse("<html xmlns=\"http://www.w3.org/1999/xhtml\"><body/></html>")
+            .getRootElement();
+
+        assertTrue(root.getChild("html").getAttributes().isEmpty(), "xmlns should be dropped");
+        assertThrows(IllegalArgumentException.class, () -> Html5TreeBuilder.parse("<use xlink:href=\"#a\"/>"),
+            "Prefixed attribute names are not supported");
+        assertThrows(NullPointerException.class, () -> Html5TreeBuilder.parse(null), "Null input must be rejected");
+    }
+}
@@ -21,6 +21,9 @@ import org.jdom2.Element;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.opentest4j.MultipleFailuresError;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -183,6 +186,69 @@ class HtmlTreeAssertsTest {
             assertThrows(AssertionError.class, () -> HtmlTreeAsserts.assertHtmlTreeEquals(expected, actual),
                 "Differing text content should trigger an assertion error");
         }
+
+        @Test
+        @DisplayName("Should report all differing subtrees in one failure")
+        void shouldReportAllDifferences() {
+            var expected = DomUtils.htmlStringToDocument(
+                "<ul id=\"list\"><li>1</li><li class=\"a\">2</li><li>3</li></ul>");
+            var actual = DomUtils.htmlStringToDocument(
+                "<ul id=\"list\"><li>one</li><li class=\"b\">2</li><li>3</li></ul>");
+
+            var error = assertThrows(MultipleFailuresError.class,
+                () -> HtmlTreeAsserts.assertHtmlTreeEquals(expected, actual));
+            assertEquals(2, error.getFailures().size(), "Both differing items should be reported: " + error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a missing child instead of a mismatch of the following children")
+        void shouldAlignChildren() {
+            var expected = DomUtils.htmlStringToDocument("<ul><li>1</li><li>2</li><li>3</li></ul>");
+            var actual = DomUtils.htmlStringToDocument("<ul><li>1</li><li>3</li></ul>");
+
+            var error = assertThrows(MultipleFailuresError.class,
+                () -> HtmlTreeAsserts.assertHtmlTreeEquals(expected, actual));
+            var messages = error.getFailures().stream().map(Throwable::getMessage).toList();
+            assertEquals(List.of(">root>ul: The number of children is not equal, expected=3, actual=2",
+                ">root>ul: The child at position 1 is missing, expected=[Element: <li/>]"), messages);
+        }
+    }
+
+    @Nested
+    @DisplayName("when hashes collide")
+    class WhenHashesCollide {
+
+        /**
+         * Provides the same hash for each subtree, so all children are aligned
+         */
+        private final SubtreeHasher collidingHasher = new SubtreeHasher() {
+
+            @Override
+            Digest digest(final Element element) {
+                return new Digest(0, 0);
+            }
+        };
+
+        @Test
+        @DisplayName("Should compare aligned subtrees element by element")
+        void shouldNotTrustEqualHashes() {
+            var expected = DomUtils.htmlStringToDocument("<ul><li>1</li><li>2</li></ul>").getRootElement();
+            var actual = DomUtils.htmlStringToDocument("<ul><li>1</li><li>two</li></ul>").getRootElement();
+
+            var error = assertThrows(AssertionError.class,
+                () -> HtmlTreeAsserts.assertElementWithChildrenEquals(expected, actual, "", collidingHasher));
+            assertTrue(error.getMessage().contains("expected=2, actual=two"), error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should pass for equal subtrees")
+        void shouldPassForEqualTrees() {
+            var expected = DomUtils.htmlStringToDocument("<ul><li>1</li><li>2</li></ul>").getRootElement();
+            var actual = DomUtils.htmlStringToDocument("<ul><li>1</li><li>2</li></ul>").getRootElement();
+
+            assertDoesNotThrow(
+                () -> HtmlTreeAsserts.assertElementWithChildrenEquals(expected, actual, "", collidingHasher));
+        }
     }
 
     private static Document createDocumentWithRoot() {
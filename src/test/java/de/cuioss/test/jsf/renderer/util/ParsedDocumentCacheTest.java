@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.jdom2.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static de.cuioss.test.jsf.renderer.util.HtmlTreeAsserts.assertHtmlTreeEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParsedDocumentCache")
+class ParsedDocumentCacheTest {
+
+    private static final String MARKUP = "<div id=\"a\"><span>text</span></div>";
+
+    @Test
+    @DisplayName("Should serve repeated markup from the cache and count hits and misses")
+    void shouldCountHitsAndMisses() {
+        var cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_WEIGHT);
+
+        var first = cache.get(MARKUP);
+        var second = cache.get(MARKUP);
+
+        assertHtmlTreeEquals(DomUtils.htmlStringToDocument(MARKUP), first);
+        assertHtmlTreeEquals(first, second);
+        var statistics = cache.getStatistics();
+        assertAll("Statistics after two lookups",
+            () -> assertEquals(1, statistics.hits(), "Second lookup should be a hit"),
+            () -> assertEquals(1, statistics.misses(), "First lookup should be a miss"),
+            () -> assertEquals(1, statistics.size(), "One entry should be cached"),
+            () -> assertEquals(MARKUP.length(), statistics.weight(), "Weight should be the markup length"),
+            () -> assertEquals(0.5, statistics.hitRate(), "Hit rate should be one half"));
+    }
+
+    @Test
+    @DisplayName("Should protect cached documents against modification by callers")
+    void shouldReturnCopies() {
+        var cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_WEIGHT);
+
+        var first = cache.get(MARKUP);
+        first.getRootElement().getChildren().getFirst().setAttribute("id", "modified");
+        first.getRootElement().addContent(new Element("p"));
+
+        assertNotSame(first, cache.get(MARKUP), "Every lookup should return its own copy");
+        assertHtmlTreeEquals(DomUtils.htmlStringToDocument(MARKUP), cache.get(MARKUP));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entries when exceeding the maximum weight")
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new ParsedDocumentCache(12);
+
+        cache.get("<a/><b/>");
+        cache.get("<i/>");
+        cache.get("<a/><b/>");
+        cache.get("<p/>");
+
+        var statistics = cache.getStatistics();
+        assertEquals(1, statistics.evictions(), "One entry should be evicted");
+        assertEquals(2, statistics.size(), "Two entries should remain");
+        cache.get("<a/><b/>");
+        assertEquals(2, cache.getStatistics().hits(), "Recently used entry should have been retained");
+        cache.get("<i/>");
+        assertEquals(4, cache.getStatistics().misses(), "Least recently used entry should have been evicted");
+    }
+
+    @Test
+    @DisplayName("Should parse but not cache markup exceeding the maximum weight")
+    void shouldNotCacheOversizedMarkup() {
+        var cache = new ParsedDocumentCache(5);
+
+        assertNotNull(cache.get(MARKUP), "Oversized markup should still be parsed");
+        assertEquals(0, cache.getStatistics().size(), "Oversized markup should not be cached");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments and invalid markup")
+    void shouldRejectInvalidInput() {
+        var cache = new ParsedDocumentCache(10);
+
+        assertThrows(IllegalArgumentException.class, () -> new ParsedDocumentCache(0),
+            "Maximum weight must be positive");
+        assertThrows(IllegalArgumentException.class, () -> cache.get("<a></b>"), "Invalid markup must be rejected");
+        assertEquals("a", DomUtils.htmlStringToDocument("<a/>").getRootElement().getChildren().getFirst().getName(),
+            "Parser should be usable after a failed parse");
+    }
+}
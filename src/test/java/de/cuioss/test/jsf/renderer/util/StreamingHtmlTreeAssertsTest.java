@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.io.StringReader;
+
+import static de.cuioss.test.jsf.renderer.util.StreamingHtmlTreeAsserts.assertHtmlTreeEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamingHtmlTreeAsserts")
+class StreamingHtmlTreeAssertsTest {
+
+    private static final String TABLE = "<table id=\"data\" class=\"grid\"><tr><td>1</td><td>  two\n words </td></tr></table>";
+
+    @Nested
+    @DisplayName("when markup is equal")
+    class EqualMarkup {
+
+        @Test
+        @DisplayName("Should treat identical markup as equal")
+        void shouldAcceptIdenticalMarkup() {
+            assertDoesNotThrow(() -> assertHtmlTreeEquals(TABLE, TABLE), "Identical markup should be equal");
+        }
+
+        @Test
+        @DisplayName("Should ignore attribute order, whitespace differences and comments")
+        void shouldIgnoreAttributeOrderAndWhitespace() {
+            var actual = "<table class=\"grid\" id=\"data\"><!-- rows --><tr><td>1</td><td>two words</td></tr></table>";
+            assertDoesNotThrow(() -> assertHtmlTreeEquals(TABLE, actual));
+        }
+
+        @Test
+        @DisplayName("Should accept readers and multiple top-level elements")
+        void shouldAcceptReaders() {
+            assertDoesNotThrow(() -> assertHtmlTreeEquals(new StringReader("<br/><hr/>"),
+                new StringReader("<br></br><hr/>")));
+        }
+
+        @Test
+        @DisplayName("Should agree with HtmlTreeAsserts")
+        void shouldAgreeWithHtmlTreeAsserts() {
+            var markup = "<div id=\"a\">x<span title=\"t\">y</span>z</div>";
+            HtmlTreeAsserts.assertHtmlTreeEquals(DomUtils.htmlStringToDocument(markup),
+                DomUtils.htmlStringToDocument(markup));
+            assertDoesNotThrow(() -> assertHtmlTreeEquals(markup, markup));
+        }
+    }
+
+    @Nested
+    @DisplayName("when markup differs")
+    class DifferentMarkup {
+
+        @Test
+        @DisplayName("Should report a different attribute value with pointer")
+        void shouldReportAttributeValue() {
+            var actual = TABLE.replace("<td>1</td>", "<td headers=\"x\">1</td>");
+            var error = assertThrows(AssertionFailedError.class, () -> assertHtmlTreeEquals(TABLE, actual));
+            assertTrue(error.getMessage().startsWith(">root>table[data]>tr>td: The number of the attributes"),
+                error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a different text with pointer")
+        void shouldReportText() {
+            var actual = TABLE.replace("<td>1</td>", "<td>2</td>");
+            var error = assertThrows(AssertionFailedError.class, () -> assertHtmlTreeEquals(TABLE, actual));
+            assertTrue(error.getMessage().startsWith(">root>table[data]>tr>td: The text content"),
+                error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a missing child with the pointer of the parent")
+        void shouldReportMissingChild() {
+            var actual = TABLE.replace("<td>  two\n words </td>", "");
+            var error = assertThrows(AssertionFailedError.class, () -> assertHtmlTreeEquals(TABLE, actual));
+            assertTrue(error.getMessage().startsWith(">root>table[data]>tr: The number of children is not equal"),
+                error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a different element name")
+        void shouldReportName() {
+            var error = assertThrows(AssertionFailedError.class,
+                () -> assertHtmlTreeEquals("<div/>", "<span/>"));
+            assertTrue(error.getMessage().startsWith(">root>div: The names are not equal"), error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should fail with an IllegalArgumentException on malformed markup")
+        void shouldRejectMalformedMarkup() {
+            assertThrows(IllegalArgumentException.class, () -> assertHtmlTreeEquals("<a></b>", "<a></a>"));
+        }
+    }
+}
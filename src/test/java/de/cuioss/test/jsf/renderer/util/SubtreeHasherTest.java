@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.renderer.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static de.cuioss.test.jsf.renderer.util.DomUtils.htmlStringToDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SubtreeHasher")
+class SubtreeHasherTest {
+
+    private final SubtreeHasher hasher = new SubtreeHasher();
+
+    @Test
+    @DisplayName("Should ignore attribute order and whitespace differences")
+    void shouldHashCanonically() {
+        var first = htmlStringToDocument("<div id=\"a\" class=\"b\">  some   text<span/></div>").getRootElement();
+        var second = htmlStringToDocument("<div class=\"b\" id=\"a\">some text <span></span></div>").getRootElement();
+        assertEquals(hasher.digest(first), hasher.digest(second));
+    }
+
+    @Test
+    @DisplayName("Should distinguish name, attributes, text and child order")
+    void shouldDistinguishDifferences() {
+        var reference = hasher.digest(htmlStringToDocument("<div id=\"a\">x<b/><i/></div>").getRootElement());
+        assertAll("differing subtrees",
+            () -> assertNotEquals(reference,
+                hasher.digest(htmlStringToDocument("<p id=\"a\">x<b/><i/></p>").getRootElement())),
+            () -> assertNotEquals(reference,
+                hasher.digest(htmlStringToDocument("<div id=\"b\">x<b/><i/></div>").getRootElement())),
+            () -> assertNotEquals(reference,
+                hasher.digest(htmlStringToDocument("<div id=\"a\">y<b/><i/></div>").getRootElement())),
+            () -> assertNotEquals(reference,
+                hasher.digest(htmlStringToDocument("<div id=\"a\">x<i/><b/></div>").getRootElement())),
+            () -> assertNotEquals(
+                hasher.digest(htmlStringToDocument("<div a=\"bc\"/>").getRootElement()),
+                hasher.digest(htmlStringToDocument("<div ab=\"c\"/>").getRootElement())));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ObjectGraphSizer")
+class ObjectGraphSizerTest {
+
+    private final ObjectGraphSizer underTest = new ObjectGraphSizer();
+
+    @Test
+    @DisplayName("Should compute aligned shallow sizes")
+    void shouldComputeShallowSizes() {
+        assertEquals(16, underTest.shallowSizeOf(new Object()), "Header should be aligned");
+        assertEquals(96, underTest.shallowSizeOf(new long[10]), "Array header plus elements");
+        assertEquals(24, underTest.shallowSizeOf(new Object[2]), "Compressed references");
+        var uncompressed = new ObjectGraphSizer(false);
+        assertEquals(16, uncompressed.shallowSizeOf(new Object()));
+        assertEquals(40, uncompressed.shallowSizeOf(new Object[2]), "Uncompressed references");
+        assertTrue(underTest.shallowSizeOf("x".repeat(100)) > underTest.shallowSizeOf("x"),
+            "String should include its content");
+        assertTrue(underTest.shallowSizeOf("\u20ac".repeat(100)) > underTest.shallowSizeOf("x".repeat(100)),
+            "Non-latin content should take two bytes per character");
+    }
+
+    @Test
+    @DisplayName("Should count shared and cyclic references once")
+    void shouldHandleSharedReferences() {
+        var content = new long[100];
+        var once = new Holder(content, null);
+        var twice = new Holder(content, content);
+        assertEquals(underTest.sizeOf(once), underTest.sizeOf(twice), "Shared array should be counted once");
+
+        var cyclic = new Holder(null, null);
+        cyclic.next = cyclic;
+        assertEquals(underTest.shallowSizeOf(cyclic), underTest.sizeOf(cyclic), "Cycle should terminate");
+        assertEquals(0, underTest.sizeOf(null), "null should be empty");
+    }
+
+    @Test
+    @DisplayName("Should walk the content of JDK collections")
+    void shouldWalkCollections() {
+        var content = "x".repeat(1000);
+        var map = new HashMap<String, Object>();
+        map.put("key", new ArrayList<>(List.of(content)));
+
+        assertTrue(underTest.sizeOf(map) > 1000, "Map content should be counted");
+        assertEquals(0, underTest.sizeOf(Thread.State.NEW), "Enum constants should be skipped");
+    }
+
+    static class Holder {
+
+        final Object first;
+
+        Object next;
+
+        Holder(Object first, Object next) {
+            this.first = first;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SessionFootprintSimulator")
+class SessionFootprintSimulatorTest {
+
+    private static final List<String> SHARED = List.of("x".repeat(500));
+
+    private final SessionFootprintSimulator underTest = new SessionFootprintSimulator();
+
+    @Test
+    @DisplayName("Should measure retained bytes per session and extrapolate")
+    void shouldMeasureSessions() {
+        var report = underTest.simulate(10, (user, request) -> {
+            var session = request.getSession(true);
+            session.setAttribute("cart", new ArrayList<>(List.of("item".repeat(250) + user)));
+            session.setAttribute("catalog", SHARED);
+        });
+
+        assertAll("Report",
+            () -> assertEquals(10, report.getUsers(), "Each user should have a session"),
+            () -> assertTrue(report.getAverageBytesPerSession() > 1000, "Cart should be retained"),
+            () -> assertTrue(report.getSharedBytes() > 500, "Catalog should be shared"),
+            () -> assertEquals(0L, report.getAverageBytesPerAttribute().get("catalog"),
+                "Shared catalog should not be retained by a session"),
+            () -> assertEquals("cart", report.getAverageBytesPerAttribute().keySet().iterator().next(),
+                "Cart should be the largest attribute"),
+            () -> assertEquals(report.getAverageBytesPerSession() * 1000 + report.getSharedBytes(),
+                report.getHeapBytesPer1kUsers(), "Extrapolation should count shared bytes once"),
+            () -> assertTrue(report.createSummary().contains("cart"), "Summary should list the attributes"));
+        assertDoesNotThrow(() -> report.assertHeapBytesAtMost(10_000, 100L * 1024 * 1024));
+        var error = assertThrows(AssertionFailedError.class, () -> report.assertAverageBytesPerSessionAtMost(100));
+        assertTrue(error.getMessage().contains("cart"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should handle users without session and failing interactions")
+    void shouldHandleEdgeCases() {
+        assertEquals(0, underTest.simulate(2, (user, request) -> {
+        }).getMaxBytesPerSession(), "Users without session should retain nothing");
+        assertThrows(IllegalStateException.class, () -> underTest.simulate(1, (user, request) -> {
+            throw new IllegalArgumentException("boom");
+        }));
+        assertThrows(IllegalArgumentException.class, () -> underTest.simulate(0, (user, request) -> {
+        }));
+    }
+}
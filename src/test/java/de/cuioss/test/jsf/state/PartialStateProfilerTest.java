@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.state;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import jakarta.faces.component.UIOutput;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("PartialStateProfiler")
+class PartialStateProfilerTest {
+
+    @Test
+    @DisplayName("Should save nothing for an unchanged standard component")
+    void shouldHandleWellBehavedComponent(FacesContext facesContext) {
+        var report = PartialStateProfiler.profile(HtmlOutputText::new, List.of(), facesContext);
+
+        assertEquals(0, report.getUnchangedDelta().bytes(), "Nothing should be saved");
+        assertTrue(report.getEntriesStoredWhenUnchanged().isEmpty(), "No entry should be flagged");
+        assertDoesNotThrow(report::assertNoStateWhenUnchanged);
+        assertDoesNotThrow(() -> report.assertDeltaBytesAtMost(0));
+    }
+
+    @Test
+    @DisplayName("Should flag state saved outside the StateHelper")
+    void shouldFlagOverriddenSaveState(FacesContext facesContext) {
+        var report = PartialStateProfiler.profile(FullStateComponent::new, List.of(), facesContext);
+
+        assertTrue(report.getUnchangedDelta().bytes() > 0, "The full state should be saved");
+        assertEquals(List.of(PartialStateProfiler.OUTSIDE_STATE_HELPER), report.getEntriesStoredWhenUnchanged());
+        var error = assertThrows(AssertionFailedError.class, report::assertNoStateWhenUnchanged);
+        assertTrue(error.getMessage().contains(PartialStateProfiler.OUTSIDE_STATE_HELPER), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should flag StateHelper entries stored although unchanged")
+    void shouldFlagEagerStateHelperEntries(FacesContext facesContext) {
+        var report = PartialStateProfiler.profile(EagerStateHelperComponent::new, List.of(), facesContext);
+
+        assertEquals(List.of("label"), report.getEntriesStoredWhenUnchanged());
+        assertThrows(AssertionFailedError.class, () -> report.assertDeltaBytesAtMost(0));
+        assertTrue(report.createSummary().contains("label"), "Summary should name the entry");
+    }
+
+    /**
+     * Saves its field regardless of the initial state being marked
+     */
+    public static class FullStateComponent extends UIOutput {
+
+        private String label = "label";
+
+        @Override
+        public Object saveState(FacesContext context) {
+            return new Object[]{super.saveState(context), label};
+        }
+
+        @Override
+        public void restoreState(FacesContext context, Object state) {
+            var values = (Object[]) state;
+            super.restoreState(context, values[0]);
+            label = (String) values[1];
+        }
+    }
+
+    /**
+     * Writes its field to the StateHelper on every save
+     */
+    public static class EagerStateHelperComponent extends UIOutput {
+
+        private final String label = "label";
+
+        @Override
+        public Object saveState(FacesContext context) {
+            getStateHelper().put("label", label);
+            return super.saveState(context);
+        }
+    }
+}
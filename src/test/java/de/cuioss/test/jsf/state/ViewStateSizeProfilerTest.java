@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.state;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import jakarta.faces.component.html.HtmlForm;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("ViewStateSizeProfiler")
+class ViewStateSizeProfilerTest {
+
+    private static final String BLOATED = "bloated-style-class ".repeat(100);
+
+    private HtmlForm form;
+
+    private HtmlOutputText text;
+
+    @BeforeEach
+    void setUpComponents() {
+        form = new HtmlForm();
+        form.setId("form");
+        text = new HtmlOutputText();
+        text.setId("text");
+        text.setValue("value");
+        form.getChildren().add(text);
+    }
+
+    @Test
+    @DisplayName("Should report the size per component and entry")
+    void shouldReportSizes(FacesContext facesContext) {
+        text.setStyleClass(BLOATED);
+
+        var report = ViewStateSizeProfiler.profile(form, facesContext);
+
+        assertAll("Report",
+            () -> assertTrue(report.getTotalBytes() > BLOATED.length(), "Total should contain the style class"),
+            () -> assertTrue(report.getCompressedBytes() < report.getTotalBytes(),
+                "Repeated content should be compressible"),
+            () -> assertEquals(2, report.getComponents().size(), "Form and text should be reported"),
+            () -> assertTrue(report.getComponent("form:text").orElseThrow().bytes() > BLOATED.length(),
+                "Text should carry the style class"),
+            () -> assertEquals("form:text#styleClass", report.getLargestEntries(1).getFirst().name(),
+                "Style class should be the largest entry"),
+            () -> assertTrue(report.createSummary().contains("styleClass"),
+                "Summary should name the bloating entry"));
+    }
+
+    @Test
+    @DisplayName("Should assert state-size budgets")
+    void shouldAssertBudgets(FacesContext facesContext) {
+        text.setStyleClass(BLOATED);
+        var report = ViewStateSizeProfiler.profile(form, facesContext);
+
+        assertDoesNotThrow(() -> report.assertTotalBytesAtMost(report.getTotalBytes()));
+        var totalError = assertThrows(AssertionFailedError.class, () -> report.assertTotalBytesAtMost(100));
+        assertTrue(totalError.getMessage().contains("form:text#styleClass"),
+            "Message should name the bloating entry: " + totalError.getMessage());
+        var componentError = assertThrows(AssertionFailedError.class,
+            () -> report.assertComponentBytesAtMost("form:text", 100));
+        assertTrue(componentError.getMessage().contains("styleClass"),
+            "Message should name the bloating entry: " + componentError.getMessage());
+        assertThrows(AssertionFailedError.class, () -> report.assertComponentBytesAtMost("unknown", 100));
+    }
+
+    @Test
+    @DisplayName("Should skip transient components and profile the view-root")
+    void shouldHandleViewRoot(FacesContext facesContext) {
+        text.setTransient(true);
+        facesContext.getViewRoot().getChildren().add(form);
+
+        var report = ViewStateSizeProfiler.profile(facesContext);
+
+        assertTrue(report.getComponent("form").isPresent(), "Form should be reported");
+        assertTrue(report.getComponent("form:text").isEmpty(), "Transient text should be skipped");
+    }
+
+    @Test
+    @DisplayName("Should name non-serializable state")
+    void shouldFailOnNonSerializableState(FacesContext facesContext) {
+        text.getAttributes().put("notSerializable", new Object());
+
+        var error = assertThrows(IllegalArgumentException.class,
+            () -> ViewStateSizeProfiler.profile(form, facesContext));
+        assertTrue(error.getMessage().contains("not serializable"), error.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.util;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import jakarta.faces.context.FacesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableJsfEnvironment
+@DisplayName("ConfigurableApplication")
+class ConfigurableApplicationTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    @DisplayName("Should create the lazily initialized state once under concurrent access")
+    void shouldInitializeLazilyOnce(FacesContext facesContext) throws Exception {
+        var underTest = new ConfigurableApplication(facesContext.getApplication());
+        underTest.setInstallMockHandlersLazily(true);
+        Set<Object> handlers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(THREADS)) {
+            for (var thread = 0; thread < THREADS; thread++) {
+                executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    handlers.add(underTest.getSearchExpressionHandler());
+                    handlers.add(underTest.getNavigationHandler());
+                    handlers.add(underTest.getResourceHandler());
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(3, handlers.size(), "Each handler should be created once and seen by all threads");
+    }
+}
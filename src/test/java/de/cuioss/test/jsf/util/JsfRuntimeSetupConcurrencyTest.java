@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.util;
+
+import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
+import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import de.cuioss.test.valueobjects.util.IdentityResourceBundle;
+import jakarta.faces.FactoryFinder;
+import jakarta.faces.application.ApplicationFactory;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.IntegerConverter;
+import jakarta.faces.render.RenderKitFactory;
+import org.apache.myfaces.test.mock.MockFacesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test proving that several {@link JsfRuntimeSetup} instances used in
+ * parallel on different threads do not interfere: Each thread configures its
+ * environment, waits for all others to do the same and verifies that it only sees
+ * its own state.
+ */
+@DisplayName("JsfRuntimeSetup under parallel execution")
+class JsfRuntimeSetupConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 25;
+    private static final String BUNDLE_NAME = "msgs";
+
+    @Test
+    @DisplayName("Should isolate environments running in parallel")
+    void shouldIsolateParallelEnvironments() throws Exception {
+        var barrier = new CyclicBarrier(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (var thread = 0; thread < THREADS; thread++) {
+                var threadIndex = thread;
+                futures.add(executor.submit(() -> runIterations(threadIndex, barrier, failures)));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(failures.isEmpty(), () -> "Cross-talk detected: " + failures);
+    }
+
+    private static void runIterations(int threadIndex, CyclicBarrier barrier, Queue<Throwable> failures) {
+        var originalClassLoader = Thread.currentThread().getContextClassLoader();
+        for (var iteration = 0; iteration < ITERATIONS; iteration++) {
+            var setup = new JsfRuntimeSetup();
+            try {
+                setup.setUp();
+                var application = ConfigurableApplication.createWrapAndRegister(
+                    (MockFacesContext) setup.getFacesContext());
+                application.setUseIdentityResourceBundle(true);
+                setup.setApplication(application);
+
+                var ownConverterId = "converter." + threadIndex;
+                var ownBundle = "de.cuioss.test.jsf.bundle." + threadIndex;
+                new ComponentConfigDecorator(application, setup.getFacesContext())
+                    .registerConverter(IntegerConverter.class, ownConverterId);
+                new ApplicationConfigDecorator(application, setup.getFacesContext())
+                    .registerResourceBundle(BUNDLE_NAME + threadIndex, ownBundle);
+                setup.getSession().setAttribute("owner", threadIndex);
+
+                barrier.await(30, TimeUnit.SECONDS);
+
+                verifyIsolation(setup, application, threadIndex, ownConverterId);
+
+                barrier.await(30, TimeUnit.SECONDS);
+            } catch (BrokenBarrierException | TimeoutException e) {
+                failures.add(e);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.add(e);
+                return;
+            } catch (RuntimeException | AssertionError e) {
+                failures.add(e);
+                barrier.reset();
+                return;
+            } finally {
+                setup.tearDown();
+            }
+            if (originalClassLoader != Thread.currentThread().getContextClassLoader()) {
+                failures.add(new AssertionError("Thread-context classloader not restored for thread " + threadIndex));
+                return;
+            }
+        }
+    }
+
+    private static void verifyIsolation(JsfRuntimeSetup setup, ConfigurableApplication application,
+        int threadIndex, String ownConverterId) {
+        assertSame(setup.getFacesContext(), FacesContext.getCurrentInstance(),
+            "FacesContext must be confined to thread " + threadIndex);
+        var factory = (ApplicationFactory) FactoryFinder.getFactory(FactoryFinder.APPLICATION_FACTORY);
+        assertSame(application, factory.getApplication(),
+            "ApplicationFactory must provide the application of thread " + threadIndex);
+        var renderKitFactory = (RenderKitFactory) FactoryFinder.getFactory(FactoryFinder.RENDER_KIT_FACTORY);
+        assertSame(setup.getRenderKit(),
+            renderKitFactory.getRenderKit(setup.getFacesContext(), RenderKitFactory.HTML_BASIC_RENDER_KIT),
+            "RenderKitFactory must provide the render-kit of thread " + threadIndex);
+        assertEquals(threadIndex, setup.getSession().getAttribute("owner"),
+            "Session must belong to thread " + threadIndex);
+
+        var converterIds = new ArrayList<String>();
+        application.getConverterIds().forEachRemaining(converterIds::add);
+        assertTrue(converterIds.contains(ownConverterId), "Own converter must be registered");
+        assertInstanceOf(IdentityResourceBundle.class,
+            application.getResourceBundle(setup.getFacesContext(), BUNDLE_NAME + threadIndex),
+            "Own resource bundle must be registered");
+        for (var other = 0; other < THREADS; other++) {
+            if (other != threadIndex) {
+                assertFalse(converterIds.contains("converter." + other),
+                    "Converter of thread " + other + " leaked into thread " + threadIndex);
+                assertNull(application.getResourceBundle(setup.getFacesContext(), BUNDLE_NAME + other),
+                    "Resource bundle of thread " + other + " leaked into thread " + threadIndex);
+            }
+        }
+    }
+}
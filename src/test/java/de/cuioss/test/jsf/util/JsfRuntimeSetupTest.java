@@ -15,15 +15,25 @@
  */
 package de.cuioss.test.jsf.util;
 
+import de.cuioss.test.jsf.mocks.CuiMockRenderKitFactory;
+import de.cuioss.test.jsf.renderer.profile.ProfilingRenderKit;
+import de.cuioss.test.jsf.renderer.profile.RenderProfiler;
+import jakarta.faces.convert.IntegerConverter;
+import jakarta.faces.render.RenderKitFactory;
+import org.apache.myfaces.test.config.ResourceBundleVarNames;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Direct unit test for {@link JsfRuntimeSetup} covering the setup/teardown lifecycle
  * and the LIFE-8 hardening: a repeated {@code setUp()} without an intervening
- * {@code tearDown()} must not overwrite the saved thread-context classloader.
+ * {@code tearDown()} must not overwrite the saved thread-context classloader, as
+ * well as the reuse cycle {@code suspend()} / {@code reset()}.
  */
 @DisplayName("JsfRuntimeSetup")
 class JsfRuntimeSetupTest {
@@ -54,4 +64,195 @@ class JsfRuntimeSetupTest {
         assertSame(originalClassLoader, Thread.currentThread().getContextClassLoader(),
             "tearDown should restore the original thread-context classloader");
     }
+
+    @Test
+    @DisplayName("Should release only own resource bundle names if isolated")
+    void shouldReleaseOnlyOwnResourceBundleNamesIfIsolated() {
+        var setup = new JsfRuntimeSetup();
+        setup.setIsolateResourceBundleVarNames(true);
+        try {
+            setup.setUp();
+            setup.registerResourceBundleVarName("msgs", "de.cuioss.messages");
+            ResourceBundleVarNames.addVarName("foreignMsgs", "de.cuioss.foreign");
+
+            setup.reset();
+
+            assertNull(ResourceBundleVarNames.getVarName("msgs"), "reset should drop own resource bundle names");
+            assertEquals("de.cuioss.foreign", ResourceBundleVarNames.getVarName("foreignMsgs"),
+                "reset should keep names registered by others, e.g. tests running in parallel");
+        } finally {
+            setup.tearDown();
+            ResourceBundleVarNames.addVarName("foreignMsgs", null);
+        }
+    }
+
+    @Test
+    @DisplayName("reset restores a fresh state while keeping classloader and factories")
+    void shouldResetToFreshState() {
+        var originalClassLoader = Thread.currentThread().getContextClassLoader();
+        var setup = new JsfRuntimeSetup();
+        try {
+            setup.setUp();
+            var jsfClassLoader = Thread.currentThread().getContextClassLoader();
+            var renderKitFactory = CuiMockRenderKitFactory.retrieve();
+            var firstApplication = setup.getApplication();
+            var firstRenderKit = setup.getRenderKit();
+
+            setup.getApplication().addConverter("test.converter", IntegerConverter.class.getName());
+            setup.getSession().setAttribute("key", "value");
+            setup.getFacesContext().getViewRoot().setViewId("/changed.xhtml");
+            ResourceBundleVarNames.addVarName("msgs", "de.cuioss.messages");
+
+            setup.suspend();
+            assertNull(setup.getFacesContext(), "suspend should release the FacesContext");
+            assertSame(originalClassLoader, Thread.currentThread().getContextClassLoader(),
+                "suspend should restore the original thread-context classloader");
+
+            setup.reset();
+            assertSame(jsfClassLoader, Thread.currentThread().getContextClassLoader(),
+                "reset should reinstall the very same classloader");
+            assertSame(renderKitFactory, CuiMockRenderKitFactory.retrieve(),
+                "reset should keep the factory registrations");
+            assertNotSame(firstApplication, setup.getApplication(), "reset should create a new Application");
+            assertNotSame(firstRenderKit, setup.getRenderKit(), "reset should create a new RenderKit");
+            assertSame(setup.getRenderKit(),
+                renderKitFactory.getRenderKit(setup.getFacesContext(), RenderKitFactory.HTML_BASIC_RENDER_KIT),
+                "The new RenderKit should be registered");
+            assertFalse(Collections.list(setup.getSession().getAttributeNames()).contains("key"),
+                "reset should provide a fresh session");
+            var converterIds = new ArrayList<String>();
+            setup.getApplication().getConverterIds().forEachRemaining(converterIds::add);
+            assertFalse(converterIds.contains("test.converter"), "reset should drop registered converters");
+            assertEquals("/viewId", setup.getFacesContext().getViewRoot().getViewId(),
+                "reset should provide a fresh view-root");
+            assertNull(ResourceBundleVarNames.getVarName("msgs"),
+                "reset should drop registered resource bundle names");
+        } finally {
+            setup.tearDown();
+        }
+        assertSame(originalClassLoader, Thread.currentThread().getContextClassLoader(),
+            "tearDown should restore the original thread-context classloader");
+    }
+
+    @Test
+    @DisplayName("tearDown disposes a suspended runtime from another thread")
+    void shouldTearDownSuspendedRuntimeFromOtherThread() throws Exception {
+        var setup = new JsfRuntimeSetup();
+        var originalClassLoader = Thread.currentThread().getContextClassLoader();
+        setup.setUp();
+        var jsfClassLoader = Thread.currentThread().getContextClassLoader();
+        setup.suspend();
+
+        var disposer = new Thread(setup::tearDown);
+        disposer.setContextClassLoader(originalClassLoader);
+        disposer.start();
+        disposer.join();
+
+        assertSame(originalClassLoader, disposer.getContextClassLoader(),
+            "tearDown should restore the thread-context classloader of the disposing thread");
+        assertSame(originalClassLoader, Thread.currentThread().getContextClassLoader(),
+            "The classloader of the calling thread should not be touched");
+        setup.reset();
+        assertNotSame(jsfClassLoader, Thread.currentThread().getContextClassLoader(),
+            "The classloader should have been closed, reset should therefore set up a new one");
+        setup.tearDown();
+    }
+
+    @Test
+    @DisplayName("reset on a runtime that was never set up falls back to setUp")
+    void shouldResetWithoutSetUp() {
+        var setup = new JsfRuntimeSetup();
+        try {
+            setup.reset();
+            assertNotNull(setup.getFacesContext(), "FacesContext should be created");
+        } finally {
+            setup.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("resetRequest rebuilds the request-scoped state only")
+    void shouldResetRequestOnly() {
+        var setup = new JsfRuntimeSetup();
+        try {
+            setup.setUp();
+            var application = setup.getApplication();
+            var renderKit = setup.getRenderKit();
+            var servletContext = setup.getServletContext();
+            var facesContext = setup.getFacesContext();
+            setup.getRequest().setContextPath("/app");
+            setup.getRequest().setAttribute("key", "value");
+
+            setup.resetRequest();
+
+            assertSame(application, setup.getApplication(), "The application should be kept");
+            assertSame(application, setup.getFacesContext().getApplication(),
+                "The new FacesContext should use the kept application");
+            assertSame(renderKit, setup.getRenderKit(), "The render-kit should be kept");
+            assertSame(servletContext, setup.getServletContext(), "The servlet-context should be kept");
+            assertNotSame(facesContext, setup.getFacesContext(), "A new FacesContext should be created");
+            assertNull(setup.getRequest().getAttribute("key"), "A new request should be created");
+            assertEquals("/app", setup.getRequest().getContextPath(), "The context path should be taken over");
+        } finally {
+            setup.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("MINIMAL profile creates view-root-less environment with lazy render-kit and session")
+    void shouldHonorMinimalProfile() {
+        var setup = new JsfRuntimeSetup();
+        setup.setProfile(JsfEnvironmentProfile.MINIMAL);
+        try {
+            setup.setUp();
+
+            assertNotNull(setup.getFacesContext(), "FacesContext should be created");
+            assertNotNull(setup.getFacesContext().getELContext(), "ELContext should be available");
+            assertNull(setup.getFacesContext().getViewRoot(), "No view-root should be created");
+            assertNull(setup.getRequest().getSession(false), "No session should be created upfront");
+
+            var renderKit = setup.getRenderKit();
+            assertNotNull(renderKit, "The render-kit should be created on first access");
+            assertSame(renderKit, setup.getRenderKit(), "The render-kit should be created once");
+
+            var session = setup.getSession();
+            assertNotNull(session, "The session should be created on first access");
+            assertSame(session, setup.getRequest().getSession(false), "The session should belong to the request");
+        } finally {
+            setup.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("STANDARD profile provides a view-root")
+    void shouldHonorStandardProfile() {
+        var setup = new JsfRuntimeSetup();
+        setup.setProfile(JsfEnvironmentProfile.STANDARD);
+        try {
+            setup.setUp();
+            assertNotNull(setup.getFacesContext().getViewRoot(), "A view-root should be created");
+            assertSame(setup.getRenderKit(), setup.getFacesContext().getRenderKit(),
+                "The lazily created render-kit should be used by the FacesContext");
+        } finally {
+            setup.tearDown();
+        }
+    }
+
+    @Test
+    @DisplayName("A configured RenderProfiler wraps the installed render-kit")
+    void shouldWrapRenderKitForProfiling() {
+        var setup = new JsfRuntimeSetup();
+        var profiler = new RenderProfiler();
+        setup.setRenderProfiler(profiler);
+        try {
+            setup.setUp();
+            var installed = setup.getFacesContext().getRenderKit();
+            assertInstanceOf(ProfilingRenderKit.class, installed, "The render-kit should be wrapped");
+            assertSame(profiler, ((ProfilingRenderKit) installed).getProfiler(), "The profiler should be used");
+            assertSame(setup.getRenderKit(), ((ProfilingRenderKit) installed).getWrapped(),
+                "getRenderKit should provide the wrapped MockRenderKit");
+        } finally {
+            setup.tearDown();
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.jsf.util;
+
+import de.cuioss.test.jsf.config.JsfTestSetup;
+import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SetupTimingRecorder")
+class SetupTimingRecorderTest {
+
+    @Test
+    @DisplayName("accumulates steps in the order of first occurrence and is empty after drain")
+    void shouldAccumulateAndDrain() {
+        var recorder = new SetupTimingRecorder();
+        assertTrue(recorder.isEmpty(), "A new recorder should be empty");
+
+        recorder.record("first", () -> {
+        });
+        assertEquals("result", recorder.measure("second", () -> "result"), "measure should return the result");
+        recorder.record("first", () -> {
+        });
+
+        var timings = recorder.drain();
+        assertEquals(List.of("first", "second"), List.copyOf(timings.keySet()), "Order of first occurrence");
+        assertFalse(timings.get("first").isNegative(), "Duration must not be negative");
+        assertTrue(recorder.isEmpty(), "drain should empty the recorder");
+    }
+
+    @Test
+    @DisplayName("records the step even if the action fails")
+    void shouldRecordFailingStep() {
+        var recorder = new SetupTimingRecorder();
+        assertThrows(IllegalStateException.class, () -> recorder.record("failing", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertTrue(recorder.drain().containsKey("failing"), "Failing step should be recorded");
+    }
+
+    @Test
+    @DisplayName("runs the action without recorder")
+    void shouldRunWithoutRecorder() {
+        var executed = new boolean[1];
+        SetupTimingRecorder.record(null, "step", () -> executed[0] = true);
+        assertTrue(executed[0], "Action should be executed");
+        assertEquals(Duration.ZERO, SetupTimingRecorder.measure(null, "step", () -> Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("JsfRuntimeSetup records its individual steps")
+    void shouldRecordRuntimeSteps() {
+        var recorder = new SetupTimingRecorder();
+        var setup = new JsfRuntimeSetup();
+        setup.setTimingRecorder(recorder);
+        try {
+            setup.setUp();
+            setup.resetRequest();
+        } finally {
+            setup.tearDown();
+        }
+        var steps = recorder.drain().keySet();
+        assertAll("runtime steps",
+            () -> assertTrue(steps.contains("runtime.classloader"), "classloader: " + steps),
+            () -> assertTrue(steps.contains("runtime.registerFactories"), "registerFactories: " + steps),
+            () -> assertTrue(steps.contains("runtime.jsfObjects"), "jsfObjects: " + steps),
+            () -> assertTrue(steps.contains("runtime.resetRequest"), "resetRequest: " + steps),
+            () -> assertTrue(steps.contains("runtime.tearDown.classloader"), "tearDown: " + steps));
+    }
+
+    @Test
+    @DisplayName("ConfigurationHelper attributes the duration to the configuring class")
+    void shouldAttributeConfigurators() {
+        var recorder = new SetupTimingRecorder();
+        var setup = new JsfRuntimeSetup();
+        try {
+            setup.setUp();
+            var environment = new JsfEnvironmentHolder(setup);
+            ConfigurationHelper.applyApplicationConfiguration(new Object(),
+                environment.getApplicationConfigDecorator(), List.of(new SlowSetup()), recorder);
+        } finally {
+            setup.tearDown();
+        }
+        var timings = recorder.drain();
+        var step = SetupTimingRecorder.configurationStep("application", SlowSetup.class);
+        assertEquals("configuration.application[" + SlowSetup.class.getName() + "]", step);
+        assertTrue(timings.containsKey(step), "Configurator should be recorded: " + timings);
+    }
+
+    public static class SlowSetup implements JsfTestSetup {
+
+        @Override
+        public void configureApplication(ApplicationConfigDecorator applicationConfig) {
+            applicationConfig.getMockNavigationHandler();
+        }
+    }
+}
@@ -15,8 +15,10 @@
  */
 package de.cuioss.test.jsf.validator;
 
+import de.cuioss.test.jsf.config.VerifyConcurrentAccess;
 import jakarta.faces.validator.LengthValidator;
 
+@VerifyConcurrentAccess(threads = 4, iterations = 20)
 class AbstractValidatorTestTest extends AbstractValidatorTest<LengthValidator, String> {
 
     @Override